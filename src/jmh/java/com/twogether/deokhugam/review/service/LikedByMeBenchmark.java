@@ -0,0 +1,128 @@
+package com.twogether.deokhugam.review.service;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 리뷰 목록 한 페이지(50건)의 likedByMe 판별 비용 비교
+ * <p>
+ * query: 기존 방식대로 페이지마다 review_like를 (user_id, review_id IN (...))으로 조회
+ * cached: 사용자 좋아요 집합({@link LikedReviewSet})에서 이진 탐색
+ * <p>
+ * DB는 같은 프로세스의 H2 인메모리라 네트워크 왕복이 없으므로, 실제 PostgreSQL 대비 query 쪽 비용은 낮게 나온다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LikedByMeBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    // 요청 사용자가 좋아요한 리뷰 수
+    @Param({"10", "1000", "10000"})
+    public int likesPerUser;
+
+    private Connection connection;
+    private PreparedStatement pageQuery;
+    private LikedReviewSet likedSet;
+    private UUID userId;
+    private List<UUID> page;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:liked_by_me;MODE=PostgreSQL");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                CREATE TABLE review_like (
+                    review_id UUID NOT NULL,
+                    user_id UUID NOT NULL,
+                    liked BOOLEAN NOT NULL,
+                    PRIMARY KEY (review_id, user_id)
+                )
+                """);
+            statement.execute("CREATE INDEX idx_review_like_user ON review_like (user_id, review_id)");
+        }
+
+        Random random = new Random(42);
+        userId = new UUID(random.nextLong(), random.nextLong());
+        List<UUID> likedIds = new ArrayList<>();
+        try (PreparedStatement insert =
+                 connection.prepareStatement("INSERT INTO review_like (review_id, user_id, liked) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < likesPerUser; i++) {
+                UUID reviewId = new UUID(random.nextLong(), random.nextLong());
+                likedIds.add(reviewId);
+                insert.setObject(1, reviewId);
+                insert.setObject(2, userId);
+                insert.setBoolean(3, true);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        likedSet = LikedReviewSet.of(likedIds);
+
+        // 페이지의 절반은 좋아요한 리뷰, 절반은 아닌 리뷰
+        page = new ArrayList<>();
+        Collections.shuffle(likedIds, random);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page.add(i % 2 == 0 && i / 2 < likedIds.size()
+                ? likedIds.get(i / 2)
+                : new UUID(random.nextLong(), random.nextLong()));
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(PAGE_SIZE, "?"));
+        pageQuery = connection.prepareStatement(
+            "SELECT review_id, liked FROM review_like WHERE user_id = ? AND review_id IN (" + placeholders + ")");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        pageQuery.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public Map<UUID, Boolean> query() throws SQLException {
+        pageQuery.setObject(1, userId);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            pageQuery.setObject(i + 2, page.get(i));
+        }
+        Map<UUID, Boolean> result = new HashMap<>();
+        try (ResultSet rs = pageQuery.executeQuery()) {
+            while (rs.next()) {
+                result.put(rs.getObject(1, UUID.class), rs.getBoolean(2));
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Map<UUID, Boolean> cached() {
+        Map<UUID, Boolean> result = new HashMap<>();
+        for (UUID reviewId : page) {
+            result.put(reviewId, likedSet.contains(reviewId));
+        }
+        return result;
+    }
+}
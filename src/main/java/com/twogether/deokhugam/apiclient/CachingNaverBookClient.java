@@ -0,0 +1,388 @@
+package com.twogether.deokhugam.apiclient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.twogether.deokhugam.book.dto.NaverBookDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * ISBN 도서 정보 조회 결과를 캐시하는 {@link NaverBookClient} 데코레이터
+ * <p>
+ * 조회 순서는 메모리(Caffeine, 크기 제한) → 디스크(ISBN별 JSON 파일, 재시작 후에도 유지) → 네이버 API 이다.
+ * 표지 이미지(Base64)까지 함께 보관하므로 같은 ISBN은 TTL 동안 네이버 검색/이미지 다운로드를 다시 하지 않는다.
+ * 검색 결과가 없는 ISBN은 더 짧은 TTL로 "없음"을 캐시하고, 연결 실패 등 예외는 캐시하지 않는다.
+ * 같은 ISBN을 동시에 조회하면 한 요청만 네이버를 호출하고 나머지는 그 결과를 함께 받는다.
+ * 디스크 캐시는 주기적으로 만료 파일을 지우고, 전체 크기/파일 수 상한을 넘으면 먼저 만료될 파일부터 지운다.
+ */
+@Slf4j
+@Primary
+@Component
+public class CachingNaverBookClient implements NaverBookClient {
+
+    // 디스크 파일 이름으로 쓰므로 ISBN 형식의 키만 캐시 (그 외 입력은 그대로 위임)
+    private static final Pattern CACHEABLE_ISBN = Pattern.compile("[0-9Xx-]{10,17}");
+    private static final String FILE_SUFFIX = ".json";
+
+    private final NaverBookClient delegate;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final Path cacheDir;
+    private final long diskMaxBytes;
+    private final int diskMaxEntries;
+    private final Cache<String, CacheEntry> memory;
+    private final ConcurrentMap<String, CompletableFuture<CacheEntry>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter memoryHits;
+    private final Counter diskHits;
+    private final Counter sharedHits;
+    private final Counter upstreamCalls;
+    private final AtomicLong diskBytes = new AtomicLong();
+    private final AtomicLong diskEntries = new AtomicLong();
+
+    @Autowired
+    public CachingNaverBookClient(
+        NaverBookClientImpl delegate,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${naver.cache.memory-max-size:64MB}") DataSize memoryMaxSize,
+        @Value("${naver.cache.ttl:7d}") Duration ttl,
+        @Value("${naver.cache.negative-ttl:1h}") Duration negativeTtl,
+        @Value("${naver.cache.dir:${java.io.tmpdir}/deokhugam-naver-cache}") String cacheDir,
+        @Value("${naver.cache.disk-max-size:1GB}") DataSize diskMaxSize,
+        @Value("${naver.cache.disk-max-entries:50000}") int diskMaxEntries
+    ) {
+        this(delegate, objectMapper, meterRegistry, memoryMaxSize, ttl, negativeTtl, Path.of(cacheDir),
+            diskMaxSize, diskMaxEntries, Clock.systemUTC());
+    }
+
+    CachingNaverBookClient(
+        NaverBookClient delegate,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        DataSize memoryMaxSize,
+        Duration ttl,
+        Duration negativeTtl,
+        Path cacheDir,
+        DataSize diskMaxSize,
+        int diskMaxEntries,
+        Clock clock
+    ) {
+        this.delegate = delegate;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+        this.cacheDir = cacheDir;
+        this.diskMaxBytes = diskMaxSize.toBytes();
+        this.diskMaxEntries = diskMaxEntries;
+        this.memory = Caffeine.newBuilder()
+            .maximumWeight(memoryMaxSize.toBytes())
+            .weigher((String isbn, CacheEntry entry) -> entry.weight())
+            .expireAfter(new EntryExpiry(clock))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memory, "naver.book.by-isbn");
+
+        // naver.book.lookups{source}: 히트율 = (memory + disk + shared) / 전체
+        this.memoryHits = meterRegistry.counter("naver.book.lookups", "source", "memory");
+        this.diskHits = meterRegistry.counter("naver.book.lookups", "source", "disk");
+        this.sharedHits = meterRegistry.counter("naver.book.lookups", "source", "shared");
+        this.upstreamCalls = meterRegistry.counter("naver.book.lookups", "source", "upstream");
+        meterRegistry.gauge("naver.book.disk-cache.bytes", diskBytes);
+        meterRegistry.gauge("naver.book.disk-cache.entries", diskEntries);
+
+        initCacheDir();
+    }
+
+    @Override
+    public NaverBookDto fetchInfoByIsbn(String isbn) {
+        if (isbn == null || !CACHEABLE_ISBN.matcher(isbn).matches()) {
+            return delegate.fetchInfoByIsbn(isbn);
+        }
+
+        CacheEntry cached = memory.getIfPresent(isbn);
+        if (cached != null) {
+            memoryHits.increment();
+            return cached.book();
+        }
+
+        CompletableFuture<CacheEntry> mine = new CompletableFuture<>();
+        CompletableFuture<CacheEntry> running = inFlight.putIfAbsent(isbn, mine);
+        if (running != null) {
+            sharedHits.increment();
+            return await(running).book();
+        }
+
+        try {
+            CacheEntry entry = load(isbn);
+            mine.complete(entry);
+            return entry.book();
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(isbn, mine);
+        }
+    }
+
+    /**
+     * 일괄 등록은 ISBN마다 한 번만 조회하고 표지도 내려받지 않으므로 캐시를 거치지 않고 위임
+     */
+    @Override
+    public NaverBookDto fetchMetadataByIsbn(String isbn) {
+        return delegate.fetchMetadataByIsbn(isbn);
+    }
+
+    @Override
+    public <T> T streamCoverImage(String imageUrl, CoverImageHandler<T> handler) {
+        return delegate.streamCoverImage(imageUrl, handler);
+    }
+
+    @Override
+    public String extractIsbnFromImage(byte[] imageBytes, String filename, String contentType) {
+        return delegate.extractIsbnFromImage(imageBytes, filename, contentType);
+    }
+
+    private CacheEntry load(String isbn) {
+        // 메모리 확인과 inFlight 등록 사이에 다른 요청이 적재를 마친 경우
+        CacheEntry loaded = memory.getIfPresent(isbn);
+        if (loaded != null) {
+            memoryHits.increment();
+            return loaded;
+        }
+
+        CacheEntry entry = readDisk(isbn);
+        if (entry != null) {
+            diskHits.increment();
+        } else {
+            upstreamCalls.increment();
+            NaverBookDto book = delegate.fetchInfoByIsbn(isbn);
+            Duration entryTtl = book != null ? ttl : negativeTtl;
+            entry = new CacheEntry(book, clock.millis() + entryTtl.toMillis());
+            writeDisk(isbn, entry);
+        }
+        memory.put(isbn, entry);
+        return entry;
+    }
+
+    private CacheEntry await(CompletableFuture<CacheEntry> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // 먼저 조회한 요청이 받은 예외(NaverBookException 등)를 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private CacheEntry readDisk(String isbn) {
+        Path file = fileOf(isbn);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            CacheEntry entry = objectMapper.readValue(file.toFile(), CacheEntry.class);
+            if (entry.isExpired(clock.millis())) {
+                Files.deleteIfExists(file);
+                return null;
+            }
+            return entry;
+        } catch (IOException e) {
+            log.warn("[CachingNaverBookClient] 디스크 캐시 읽기 실패, 삭제 후 다시 조회: isbn={}, 오류={}", isbn, e.getMessage());
+            deleteQuietly(file);
+            return null;
+        }
+    }
+
+    private void writeDisk(String isbn, CacheEntry entry) {
+        Path file = fileOf(isbn);
+        Path temp = null;
+        try {
+            // 임시 파일에 쓴 뒤 교체해 읽는 쪽이 쓰다 만 파일을 보지 않도록 함
+            temp = Files.createTempFile(cacheDir, isbn, ".tmp");
+            objectMapper.writeValue(temp.toFile(), entry);
+            // 정리 작업이 파일을 열지 않고 만료 여부를 판단하도록 수정 시각을 만료 시각으로 둠
+            Files.setLastModifiedTime(temp, FileTime.fromMillis(entry.expiresAt()));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // 디스크 캐시는 보조 수단이므로 실패해도 조회 결과는 그대로 반환
+            log.warn("[CachingNaverBookClient] 디스크 캐시 쓰기 실패: isbn={}, 오류={}", isbn, e.getMessage());
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    /**
+     * 캐시 디렉터리를 만들고, 이전 실행에서 남은 만료 항목과 임시 파일을 정리한다.
+     */
+    private void initCacheDir() {
+        try {
+            Files.createDirectories(cacheDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("네이버 도서 캐시 디렉터리를 만들 수 없습니다: " + cacheDir, e);
+        }
+        sweep(true);
+        log.info("[CachingNaverBookClient] 디스크 캐시 준비 완료: dir={}, 파일={}, 크기={}B",
+            cacheDir, diskEntries.get(), diskBytes.get());
+    }
+
+    /**
+     * 디스크 캐시 주기 정리: 만료 파일을 지우고, 상한(disk-max-size, disk-max-entries)을 넘으면 먼저 만료될 파일부터 지운다.
+     */
+    @Scheduled(fixedDelayString = "${naver.cache.disk-sweep-interval:PT10M}",
+        initialDelayString = "${naver.cache.disk-sweep-interval:PT10M}")
+    public void sweepDisk() {
+        sweep(false);
+    }
+
+    private void sweep(boolean removeTempFiles) {
+        long now = clock.millis();
+        List<DiskFile> live = new ArrayList<>();
+        int expired = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheDir)) {
+            for (Path file : files) {
+                if (!file.getFileName().toString().endsWith(FILE_SUFFIX)) {
+                    // 쓰는 중일 수 있는 임시 파일은 시작 시에만 이전 실행의 잔여물로 보고 지움
+                    if (removeTempFiles) {
+                        deleteQuietly(file);
+                    }
+                    continue;
+                }
+                BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                } catch (IOException e) {
+                    // 조회 중 만료되어 먼저 지워진 파일
+                    continue;
+                }
+                long expiresAt = attributes.lastModifiedTime().toMillis();
+                if (expiresAt <= now) {
+                    deleteQuietly(file);
+                    expired++;
+                } else {
+                    live.add(new DiskFile(file, expiresAt, attributes.size()));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("[CachingNaverBookClient] 디스크 캐시 정리 실패: 오류={}", e.getMessage());
+            return;
+        }
+
+        long totalBytes = live.stream().mapToLong(DiskFile::size).sum();
+        int remaining = live.size();
+        int evicted = 0;
+        if (totalBytes > diskMaxBytes || remaining > diskMaxEntries) {
+            // 같은 TTL끼리는 만료가 빠른 파일이 가장 오래된 파일이고, 짧은 TTL의 "없음" 항목은 다시 조회해도 저렴함
+            live.sort(Comparator.comparingLong(DiskFile::expiresAt));
+            for (DiskFile file : live) {
+                if (totalBytes <= diskMaxBytes && remaining <= diskMaxEntries) {
+                    break;
+                }
+                deleteQuietly(file.path());
+                totalBytes -= file.size();
+                remaining--;
+                evicted++;
+            }
+        }
+        diskBytes.set(totalBytes);
+        diskEntries.set(remaining);
+        if (expired > 0 || evicted > 0) {
+            log.info("[CachingNaverBookClient] 디스크 캐시 정리: 만료={}, 상한 초과 삭제={}, 남은 파일={}, 크기={}B",
+                expired, evicted, remaining, totalBytes);
+        }
+    }
+
+    private Path fileOf(String isbn) {
+        return cacheDir.resolve(isbn + FILE_SUFFIX);
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("캐시 파일 삭제 실패: file={}", file);
+        }
+    }
+
+    /**
+     * @param book      조회 결과 (검색 결과가 없으면 null)
+     * @param expiresAt 만료 시각 (epoch millis)
+     */
+    record CacheEntry(NaverBookDto book, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+
+        /**
+         * 메모리 사용량 근사치 (대부분 Base64 표지 이미지)
+         */
+        int weight() {
+            if (book == null) {
+                return 64;
+            }
+            String thumbnail = book.thumbnailImage();
+            String description = book.description();
+            return 512 + (thumbnail != null ? thumbnail.length() : 0) + (description != null ? description.length() * 2 : 0);
+        }
+    }
+
+    private record DiskFile(Path path, long expiresAt, long size) {
+    }
+
+    /**
+     * 항목별 만료 시각(양성/음성 TTL이 다름)을 그대로 메모리 캐시 만료로 사용
+     */
+    private record EntryExpiry(Clock clock) implements Expiry<String, CacheEntry> {
+
+        @Override
+        public long expireAfterCreate(String isbn, CacheEntry entry, long currentTime) {
+            return Math.max(0, Duration.ofMillis(entry.expiresAt() - clock.millis()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String isbn, CacheEntry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(isbn, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String isbn, CacheEntry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
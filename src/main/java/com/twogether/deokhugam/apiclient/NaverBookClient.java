@@ -1,11 +1,46 @@
 package com.twogether.deokhugam.apiclient;
 
 import com.twogether.deokhugam.book.dto.NaverBookDto;
+import com.twogether.deokhugam.book.exception.NaverBookException;
+import com.twogether.deokhugam.common.exception.ErrorCode;
+import java.io.IOException;
+import java.io.InputStream;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface NaverBookClient {
     NaverBookDto fetchInfoByIsbn(String isbn);
-    String extractIsbnFromImage(MultipartFile image);
-}
 
+    /**
+     * 표지 이미지를 내려받지 않고 도서 정보만 조회 (thumbnailImage는 null, thumbnailSourceUrl에 표지 URL)
+     */
+    NaverBookDto fetchMetadataByIsbn(String isbn);
+
+    /**
+     * 표지 이미지 응답 본문을 메모리에 모으지 않고 handler에 스트림으로 전달
+     * @return handler의 반환값
+     */
+    <T> T streamCoverImage(String imageUrl, CoverImageHandler<T> handler);
+
+    /**
+     * 이미 메모리에 읽어 둔 이미지에서 ISBN 추출 (비동기 OCR 작업 등 요청이 끝난 뒤 처리하는 경우)
+     */
+    String extractIsbnFromImage(byte[] imageBytes, String filename, String contentType);
 
+    default String extractIsbnFromImage(MultipartFile image) {
+        try {
+            return extractIsbnFromImage(image.getBytes(), image.getOriginalFilename(), image.getContentType());
+        } catch (IOException e) {
+            throw new NaverBookException(ErrorCode.INVALID_IMAGE_FILE, e);
+        }
+    }
+
+    @FunctionalInterface
+    interface CoverImageHandler<T> {
+        /**
+         * @param body          응답 본문 (handler가 반환하면 닫힘)
+         * @param contentLength Content-Length, 없으면 -1
+         * @param contentType   Content-Type, 없으면 null
+         */
+        T handle(InputStream body, long contentLength, String contentType) throws IOException;
+    }
+}
@@ -2,12 +2,21 @@ package com.twogether.deokhugam.apiclient;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twogether.deokhugam.apiclient.barcode.Ean13BarcodeDecoder;
 import com.twogether.deokhugam.apiclient.dto.NaverBookItem;
+import com.twogether.deokhugam.apiclient.http.ExternalApiEndpoint;
+import com.twogether.deokhugam.apiclient.http.ExternalApiRejectedException;
 import com.twogether.deokhugam.apiclient.dto.NaverBookSearchResponse;
 import com.twogether.deokhugam.book.dto.NaverBookDto;
 import com.twogether.deokhugam.book.exception.NaverBookException;
 import com.twogether.deokhugam.common.exception.ErrorCode;
+import com.twogether.deokhugam.storage.thumbnail.ThumbnailResizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Base64;
@@ -15,23 +24,26 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
 @Component
@@ -49,14 +61,37 @@ public class NaverBookClientImpl implements NaverBookClient {
     @Value("${naver.api.ocr-url}")
     private String ocrUrl;
 
-    private final RestTemplate restTemplate;
-
-    public NaverBookClientImpl(RestTemplateBuilder restTemplateBuilder) {
-        this.restTemplate = restTemplateBuilder.build();
+    private final ExternalApiEndpoint searchEndpoint;
+    private final ExternalApiEndpoint imageEndpoint;
+    private final ExternalApiEndpoint ocrEndpoint;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public NaverBookClientImpl(
+        @Qualifier("naverSearchEndpoint") ExternalApiEndpoint searchEndpoint,
+        @Qualifier("naverImageEndpoint") ExternalApiEndpoint imageEndpoint,
+        @Qualifier("naverOcrEndpoint") ExternalApiEndpoint ocrEndpoint,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this.searchEndpoint = searchEndpoint;
+        this.imageEndpoint = imageEndpoint;
+        this.ocrEndpoint = ocrEndpoint;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
     public NaverBookDto fetchInfoByIsbn(String isbn) {
+        return searchByIsbn(isbn, item -> toDto(item, isbn, downloadImageAsBase64(item.image()), null));
+    }
+
+    @Override
+    public NaverBookDto fetchMetadataByIsbn(String isbn) {
+        return searchByIsbn(isbn, item -> toDto(item, isbn, null, item.image()));
+    }
+
+    private NaverBookDto searchByIsbn(String isbn, Function<NaverBookItem, NaverBookDto> mapper) {
         log.info("[NaverBookClient] ISBN으로 책 정보 가져오기 요청 : isbn = {}", isbn);
         if(isbn == null || isbn.isEmpty()){
             throw new NaverBookException(ErrorCode.INVALID_ISBN);
@@ -73,12 +108,12 @@ public class NaverBookClientImpl implements NaverBookClient {
         long requestTime = System.currentTimeMillis();
 
             try {
-                ResponseEntity<NaverBookSearchResponse> response = restTemplate.exchange(
+                ResponseEntity<NaverBookSearchResponse> response = searchEndpoint.call(restTemplate -> restTemplate.exchange(
                     url,
                     HttpMethod.GET,
                     entity,
                     NaverBookSearchResponse.class
-                );
+                ));
                 long elapsedTime = System.currentTimeMillis() - requestTime;
                 log.debug("네이버 책 API에서 정보 가져오기 성공 : Status = {}, 응답시간 = {}", response.getStatusCode(), elapsedTime);
 
@@ -89,39 +124,146 @@ public class NaverBookClientImpl implements NaverBookClient {
 
                 List<NaverBookItem> items = body.items();
 
-                var item = items.get(0);
-                return new NaverBookDto(
-                    item.title(),
-                    item.author(),
-                    item.description(),
-                    item.publisher(),
-                    parseDate(item.pubdate()),
-                    isbn,
-                    downloadImageAsBase64(item.image())
-                );
+                return mapper.apply(items.get(0));
+            } catch (ExternalApiRejectedException e) {
+                log.warn("[NaverBookClient] 네이버 책 API 호출 거절 : reason = {}", e.getReason());
+                throw new NaverBookException(ErrorCode.NAVER_API_UNAVAILABLE, e);
+            } catch (NaverBookException e) {
+                // 표지 다운로드 실패 등 이미 분류된 오류는 연결 실패로 덮어쓰지 않음
+                throw e;
             } catch (Exception e) {
-                throw new NaverBookException(ErrorCode.NAVER_API_CONNECTION_FAILED);
+                throw new NaverBookException(ErrorCode.NAVER_API_CONNECTION_FAILED, e);
             }
     }
+    private NaverBookDto toDto(NaverBookItem item, String isbn, String thumbnailImage, String thumbnailSourceUrl) {
+        return new NaverBookDto(
+            item.title(),
+            item.author(),
+            item.description(),
+            item.publisher(),
+            parseDate(item.pubdate()),
+            isbn,
+            thumbnailImage,
+            thumbnailSourceUrl
+        );
+    }
+
     private String downloadImageAsBase64(String imageUrl) {
         log.debug("썸네일 이미지 다운로드 요청 : imageUrl = {}", imageUrl);
         try {
-            ResponseEntity<byte[]> response = restTemplate
-                .getForEntity(imageUrl, byte[].class);
+            ResponseEntity<byte[]> response = imageEndpoint.call(restTemplate -> restTemplate
+                .getForEntity(imageUrl, byte[].class));
 
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
                 log.debug("썸네일 이미지 가져오기 성공 : Status = {}",response.getStatusCode());
                 return Base64.getEncoder().encodeToString(response.getBody());
             }
         } catch (Exception e) {
-            throw new NaverBookException(ErrorCode.NAVER_API_THUMBNAIL_NOT_FOUND);
+            throw new NaverBookException(ErrorCode.NAVER_API_THUMBNAIL_NOT_FOUND, e);
         }
 
       return null;
     }
+
+    @Override
+    public <T> T streamCoverImage(String imageUrl, CoverImageHandler<T> handler) {
+        log.debug("썸네일 이미지 스트리밍 요청 : imageUrl = {}", imageUrl);
+        if (imageUrl == null || imageUrl.isBlank()) {
+            throw new NaverBookException(ErrorCode.NAVER_API_THUMBNAIL_NOT_FOUND);
+        }
+
+        // 연결과 응답 헤더 수신까지만 서킷 브레이커로 보호하고, 본문 처리(저장소 업로드 등)는 밖에서 수행해
+        // handler 실패가 네이버 이미지 서버 장애로 집계되지 않도록 함
+        ClientHttpResponse response;
+        try {
+            response = imageEndpoint.call(restTemplate -> openImage(restTemplate, imageUrl));
+        } catch (ExternalApiRejectedException e) {
+            log.warn("[NaverBookClient] 네이버 이미지 다운로드 거절 : reason = {}", e.getReason());
+            throw new NaverBookException(ErrorCode.NAVER_API_UNAVAILABLE, e);
+        } catch (Exception e) {
+            throw new NaverBookException(ErrorCode.NAVER_API_THUMBNAIL_NOT_FOUND, e);
+        }
+        return handleImage(response, handler);
+    }
+
+    /**
+     * 이미지 요청을 보내고 응답 헤더까지 받은 뒤, 본문을 읽지 않은 응답을 그대로 반환 (호출한 쪽에서 닫음)
+     */
+    private static ClientHttpResponse openImage(RestTemplate restTemplate, String imageUrl) {
+        URI uri = restTemplate.getUriTemplateHandler().expand(imageUrl);
+        try {
+            ClientHttpResponse response = restTemplate.getRequestFactory().createRequest(uri, HttpMethod.GET).execute();
+            try {
+                ResponseErrorHandler errorHandler = restTemplate.getErrorHandler();
+                if (errorHandler.hasError(response)) {
+                    errorHandler.handleError(uri, HttpMethod.GET, response);
+                }
+            } catch (IOException | RuntimeException e) {
+                response.close();
+                throw e;
+            }
+            return response;
+        } catch (IOException e) {
+            throw new ResourceAccessException("표지 이미지 요청 실패 : " + e.getMessage(), e);
+        }
+    }
+
+    private static <T> T handleImage(ClientHttpResponse response, CoverImageHandler<T> handler) {
+        try (response) {
+            HttpHeaders headers = response.getHeaders();
+            MediaType contentType = headers.getContentType();
+            return handler.handle(response.getBody(), headers.getContentLength(),
+                contentType != null ? contentType.toString() : null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
-    public String extractIsbnFromImage(MultipartFile image) {
-        log.info("[NaverBookClient] 이미지에서 ISBN 추출 요청 : 이미지 = {}", image.getOriginalFilename());
+    public String extractIsbnFromImage(byte[] imageBytes, String filename, String contentType) {
+        log.info("[NaverBookClient] 이미지에서 ISBN 추출 요청 : 이미지 = {}", filename);
+        // 대부분의 사진에는 바코드가 있으므로 먼저 서버에서 직접 읽고, 실패할 때만 CLOVA OCR 호출
+        String barcodeIsbn = readBarcode(imageBytes);
+        if (barcodeIsbn != null) {
+            return barcodeIsbn;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return extractIsbnByOcr(imageBytes, filename, contentType);
+        } finally {
+            sample.stop(meterRegistry.timer("isbn.extract.duration", "path", "ocr"));
+        }
+    }
+
+    /**
+     * 사진 속 EAN-13 바코드에서 ISBN을 읽는다.
+     * isbn.extract.barcode{result=hit|miss}로 로컬 인식률을 기록한다.
+     *
+     * @return 978/979로 시작하는 ISBN-13, 읽지 못하면 null
+     */
+    private String readBarcode(byte[] imageBytes) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String isbn = null;
+        try {
+            BufferedImage decoded = ThumbnailResizer.decode(imageBytes);
+            isbn = Ean13BarcodeDecoder.decode(decoded)
+                .filter(code -> code.startsWith("978") || code.startsWith("979"))
+                .orElse(null);
+        } catch (IOException | RuntimeException e) {
+            log.debug("바코드 인식용 이미지 디코딩 실패 : {}", e.getMessage());
+        } finally {
+            sample.stop(meterRegistry.timer("isbn.extract.duration", "path", "barcode"));
+        }
+
+        meterRegistry.counter("isbn.extract.barcode", "result", isbn != null ? "hit" : "miss").increment();
+        if (isbn != null) {
+            log.info("바코드에서 ISBN 추출 성공 : isbn = {}", isbn);
+        }
+        return isbn;
+    }
+
+    private String extractIsbnByOcr(byte[] imageBytes, String filename, String contentType) {
         try {
             // OCR 요청 메시지 구성
             Map<String, Object> message = new HashMap<>();
@@ -131,7 +273,6 @@ public class NaverBookClientImpl implements NaverBookClient {
 
             Map<String, Object> imageMap = new HashMap<>();
             imageMap.put("name", "image");
-            String contentType = image.getContentType();
             String format = contentType != null && contentType.startsWith("image/") ? contentType.substring(6) : "jpg";
             imageMap.put("format",format);
 
@@ -144,18 +285,21 @@ public class NaverBookClientImpl implements NaverBookClient {
 
             // multipart body 생성
             MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("message", new ObjectMapper().writeValueAsString(message));
-            body.add("file", new MultipartInputResource(image));
+            body.add("message", objectMapper.writeValueAsString(message));
+            body.add("file", new NamedByteArrayResource(imageBytes, filename));
 
             HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
 
             // OCR 요청
             ResponseEntity<String> response;
-            log.debug("CLOVA OCR API 호출 : image = {}", image.getOriginalFilename());
+            log.debug("CLOVA OCR API 호출 : image = {}", filename);
             long requestTime = System.currentTimeMillis(); // 요청시간 기록
             try {
-                response = restTemplate.postForEntity(ocrUrl, requestEntity, String.class);
-            }catch (RestClientException ex) {
+                response = ocrEndpoint.call(restTemplate -> restTemplate.postForEntity(ocrUrl, requestEntity, String.class));
+            } catch (ExternalApiRejectedException ex) {
+                log.warn("[NaverBookClient] CLOVA OCR API 호출 거절 : reason = {}", ex.getReason());
+                throw new NaverBookException(ErrorCode.NAVER_API_UNAVAILABLE, ex);
+            } catch (RestClientException ex) {
                 throw new NaverBookException(ErrorCode.NAVER_API_CONNECTION_FAILED);
             }
             long elapsedTime = System.currentTimeMillis() - requestTime; // 응답시간 기록
@@ -184,7 +328,7 @@ public class NaverBookClientImpl implements NaverBookClient {
     private String parseIsbnFromOcrJson(String jsonText) {
         log.debug("응답으로부터 ISBN 추출 시작 : parseIsbnFromOcrJson");
         try {
-            JsonNode root = new ObjectMapper().readTree(jsonText);
+            JsonNode root = objectMapper.readTree(jsonText);
             JsonNode fields = root.path("images").get(0).path("fields");
 
             StringBuilder allDigits = new StringBuilder();
@@ -217,12 +361,15 @@ public class NaverBookClientImpl implements NaverBookClient {
         }
     }
 
-    private static class MultipartInputResource extends ByteArrayResource {
+    /**
+     * 업로드 바이트 배열을 복사하지 않고 파일 이름만 붙여 multipart 파트로 전송
+     */
+    private static class NamedByteArrayResource extends ByteArrayResource {
         private final String filename;
 
-        public MultipartInputResource(MultipartFile file) throws IOException {
-            super(file.getBytes());
-            this.filename = file.getOriginalFilename();
+        public NamedByteArrayResource(byte[] bytes, String filename) {
+            super(bytes);
+            this.filename = filename;
         }
 
         @Override
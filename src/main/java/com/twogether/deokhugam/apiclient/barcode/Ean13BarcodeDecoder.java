@@ -0,0 +1,280 @@
+package com.twogether.deokhugam.apiclient.barcode;
+
+import java.awt.image.BufferedImage;
+import java.util.Optional;
+
+/**
+ * 이미지에서 EAN-13 바코드(ISBN-13)를 읽는 디코더
+ * <p>
+ * 이미지 가운데부터 바깥쪽으로 가로/세로 여러 줄을 샘플링해 다음 순서로 처리한다.
+ * <ol>
+ *   <li>이동 평균 임계값으로 밝기를 흑/백으로 이진화하고 막대/공백 폭(run)을 구한다.</li>
+ *   <li>시작 가드(101) · 숫자 6개 · 중앙 가드(01010) · 숫자 6개 · 끝 가드(101), 총 59개 run을 찾는다.</li>
+ *   <li>숫자마다 4개 run을 자기 폭 합계로 7모듈 정규화해 L/G/R 패턴과 비교하므로 원근 왜곡에 강하다.</li>
+ *   <li>왼쪽 숫자의 L/G 패리티 조합으로 첫 자리를 복원하고 체크섬을 검증한다.</li>
+ * </ol>
+ * 뒤집힌 이미지는 run 순서를 거꾸로 읽어, 90도 회전된 이미지는 세로 줄로 처리한다.
+ */
+public final class Ean13BarcodeDecoder {
+
+    // L 패턴 폭 (공백부터 시작). R 패턴은 폭이 같고 막대부터 시작, G 패턴은 L 패턴을 뒤집은 것
+    private static final int[][] L_PATTERNS = {
+        {3, 2, 1, 1}, {2, 2, 2, 1}, {2, 1, 2, 2}, {1, 4, 1, 1}, {1, 1, 3, 2},
+        {1, 2, 3, 1}, {1, 1, 1, 4}, {1, 3, 1, 2}, {1, 2, 1, 3}, {3, 1, 1, 2}
+    };
+    // 첫 자리 숫자별 왼쪽 6자리의 패리티 (1 = G 패턴, 최상위 비트가 첫 번째 숫자)
+    private static final int[] FIRST_DIGIT_ENCODINGS = {0x00, 0x0B, 0x0D, 0x0E, 0x13, 0x19, 0x1C, 0x15, 0x16, 0x1A};
+
+    private static final int RUN_COUNT = 59;
+    private static final int MODULE_COUNT = 95;
+    private static final int SCAN_LINES = 24;
+    private static final float MAX_DIGIT_ERROR = 1.6f;
+    private static final float MAX_GUARD_ERROR = 0.7f;
+    private static final float MIN_QUIET_ZONE_MODULES = 3f;
+    private static final int THRESHOLD_BIAS = 4;
+
+    private Ean13BarcodeDecoder() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * @return 체크섬까지 맞는 13자리 숫자, 찾지 못하면 빈 값
+     */
+    public static Optional<String> decode(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] argb = new int[Math.max(width, height)];
+
+        for (int i = 0; i < SCAN_LINES; i++) {
+            int y = scanPosition(i, height);
+            image.getRGB(0, y, width, 1, argb, 0, width);
+            Optional<String> result = decodeLine(argb, width);
+            if (result.isPresent()) {
+                return result;
+            }
+        }
+        for (int i = 0; i < SCAN_LINES; i++) {
+            int x = scanPosition(i, width);
+            image.getRGB(x, 0, 1, height, argb, 0, 1);
+            Optional<String> result = decodeLine(argb, height);
+            if (result.isPresent()) {
+                return result;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 가운데 줄부터 위/아래로 번갈아 가며 바깥쪽 줄을 고른다.
+     */
+    private static int scanPosition(int index, int length) {
+        int step = Math.max(1, length / (SCAN_LINES + 1));
+        int offset = ((index + 1) / 2) * (index % 2 == 0 ? 1 : -1);
+        return Math.min(length - 1, Math.max(0, length / 2 + offset * step));
+    }
+
+    private static Optional<String> decodeLine(int[] argb, int length) {
+        int[] runs = toRuns(binarize(argb, length));
+        if (runs.length < RUN_COUNT + 1) {
+            return Optional.empty();
+        }
+        Optional<String> forward = findBarcode(runs);
+        if (forward.isPresent()) {
+            return forward;
+        }
+        return findBarcode(reverse(runs));
+    }
+
+    /**
+     * 주변 평균보다 어두운 픽셀을 막대(true)로 본다. (조명이 고르지 않은 사진 대응)
+     */
+    private static boolean[] binarize(int[] argb, int length) {
+        int[] luminance = new int[length];
+        long[] prefix = new long[length + 1];
+        for (int i = 0; i < length; i++) {
+            int rgb = argb[i];
+            luminance[i] = (((rgb >> 16) & 0xFF) * 299 + ((rgb >> 8) & 0xFF) * 587 + (rgb & 0xFF) * 114) / 1000;
+            prefix[i + 1] = prefix[i] + luminance[i];
+        }
+
+        int radius = Math.max(8, length / 32);
+        boolean[] dark = new boolean[length];
+        for (int i = 0; i < length; i++) {
+            int from = Math.max(0, i - radius);
+            int to = Math.min(length, i + radius + 1);
+            long mean = (prefix[to] - prefix[from]) / (to - from);
+            dark[i] = luminance[i] < mean - THRESHOLD_BIAS;
+        }
+        return dark;
+    }
+
+    /**
+     * 흑/백 전환 지점 사이의 폭 목록. 짝수 인덱스가 공백(밝음)이 되도록 밝은 run으로 시작한다.
+     */
+    private static int[] toRuns(boolean[] dark) {
+        int[] runs = new int[dark.length + 1];
+        int count = 0;
+        boolean current = false;
+        int width = 0;
+        for (boolean pixel : dark) {
+            if (pixel == current) {
+                width++;
+            } else {
+                runs[count++] = width;
+                current = pixel;
+                width = 1;
+            }
+        }
+        runs[count++] = width;
+        int[] result = new int[count];
+        System.arraycopy(runs, 0, result, 0, count);
+        return result;
+    }
+
+    private static int[] reverse(int[] runs) {
+        // 밝은 run으로 시작하는 규칙을 유지하기 위해 마지막이 막대 run이면 폭 0인 공백을 앞에 둔다
+        boolean endsDark = runs.length % 2 == 0;
+        int[] reversed = new int[runs.length + (endsDark ? 1 : 0)];
+        int offset = endsDark ? 1 : 0;
+        for (int i = 0; i < runs.length; i++) {
+            reversed[offset + i] = runs[runs.length - 1 - i];
+        }
+        return reversed;
+    }
+
+    private static Optional<String> findBarcode(int[] runs) {
+        // 홀수 인덱스 = 막대 run, 시작 가드의 첫 막대 후보
+        for (int start = 1; start + RUN_COUNT <= runs.length; start += 2) {
+            String result = tryDecode(runs, start);
+            if (result != null) {
+                return Optional.of(result);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String tryDecode(int[] runs, int start) {
+        int total = 0;
+        for (int i = start; i < start + RUN_COUNT; i++) {
+            total += runs[i];
+        }
+        float module = (float) total / MODULE_COUNT;
+        if (module < 1f) {
+            return null;
+        }
+
+        if (runs[start - 1] < module * MIN_QUIET_ZONE_MODULES) {
+            return null;
+        }
+        int end = start + RUN_COUNT;
+        if (end < runs.length && runs[end] < module * MIN_QUIET_ZONE_MODULES) {
+            return null;
+        }
+        if (!isGuard(runs, start, 3, module) || !isGuard(runs, start + 27, 5, module)
+            || !isGuard(runs, start + 56, 3, module)) {
+            return null;
+        }
+
+        int[] digits = new int[13];
+        int parity = 0;
+        for (int d = 0; d < 6; d++) {
+            int offset = start + 3 + d * 4;
+            if (!hasDigitWidth(runs, offset, module)) {
+                return null;
+            }
+            float[] lError = new float[1];
+            float[] gError = new float[1];
+            int l = matchDigit(runs, offset, false, lError);
+            int g = matchDigit(runs, offset, true, gError);
+            if (l < 0 && g < 0) {
+                return null;
+            }
+            if (g >= 0 && (l < 0 || gError[0] < lError[0])) {
+                digits[d + 1] = g;
+                parity |= 1 << (5 - d);
+            } else {
+                digits[d + 1] = l;
+            }
+        }
+        for (int d = 0; d < 6; d++) {
+            int offset = start + 32 + d * 4;
+            if (!hasDigitWidth(runs, offset, module)) {
+                return null;
+            }
+            int r = matchDigit(runs, offset, false, new float[1]);
+            if (r < 0) {
+                return null;
+            }
+            digits[d + 7] = r;
+        }
+
+        digits[0] = firstDigit(parity);
+        if (digits[0] < 0 || !isValidChecksum(digits)) {
+            return null;
+        }
+
+        StringBuilder result = new StringBuilder(13);
+        for (int digit : digits) {
+            result.append(digit);
+        }
+        return result.toString();
+    }
+
+    private static boolean isGuard(int[] runs, int offset, int count, float module) {
+        for (int i = offset; i < offset + count; i++) {
+            if (Math.abs(runs[i] / module - 1f) > MAX_GUARD_ERROR) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasDigitWidth(int[] runs, int offset, float module) {
+        int width = runs[offset] + runs[offset + 1] + runs[offset + 2] + runs[offset + 3];
+        return Math.abs(width / module - 7f) <= 2f;
+    }
+
+    /**
+     * 4개 run을 7모듈로 정규화해 가장 가까운 숫자 패턴을 찾는다.
+     *
+     * @param reversed true면 G 패턴(L 패턴을 뒤집은 것)과 비교
+     * @param error    가장 가까운 패턴과의 오차를 담아 반환
+     * @return 숫자, 오차가 허용 범위를 넘으면 -1
+     */
+    private static int matchDigit(int[] runs, int offset, boolean reversed, float[] error) {
+        float width = runs[offset] + runs[offset + 1] + runs[offset + 2] + runs[offset + 3];
+        int best = -1;
+        float bestError = MAX_DIGIT_ERROR;
+        for (int digit = 0; digit < L_PATTERNS.length; digit++) {
+            int[] pattern = L_PATTERNS[digit];
+            float sum = 0f;
+            for (int k = 0; k < 4; k++) {
+                float modules = runs[offset + k] * 7f / width;
+                sum += Math.abs(modules - pattern[reversed ? 3 - k : k]);
+            }
+            if (sum < bestError) {
+                bestError = sum;
+                best = digit;
+            }
+        }
+        error[0] = bestError;
+        return best;
+    }
+
+    private static int firstDigit(int parity) {
+        for (int digit = 0; digit < FIRST_DIGIT_ENCODINGS.length; digit++) {
+            if (FIRST_DIGIT_ENCODINGS[digit] == parity) {
+                return digit;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isValidChecksum(int[] digits) {
+        int sum = 0;
+        for (int i = 0; i < 13; i++) {
+            sum += (i % 2 == 0) ? digits[i] : digits[i] * 3;
+        }
+        return sum % 10 == 0;
+    }
+}
@@ -0,0 +1,115 @@
+package com.twogether.deokhugam.apiclient.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.Getter;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 외부 API 엔드포인트 하나에 대한 호출 보호막
+ * <p>
+ * 엔드포인트별로 타임아웃이 설정된 RestTemplate을 감싸고, 다음 순서로 호출한다.
+ * <ol>
+ *   <li>벌크헤드: 동시 호출 수가 maxConcurrentCalls를 넘으면 maxWait만큼만 기다린 뒤 거절</li>
+ *   <li>서킷 브레이커: OPEN 상태면 호출 없이 즉시 거절</li>
+ * </ol>
+ * 외부 API가 느려져도 요청 스레드가 무한정 묶이지 않도록 하기 위함이다.
+ * 4xx 응답은 상대 서버가 정상 응답한 것이므로 서킷 실패로 세지 않는다.
+ * <p>
+ * 메트릭: external.api.latency{endpoint,outcome}(히스토그램), external.api.rejected{endpoint,reason},
+ * external.api.in_flight{endpoint}, external.api.circuit.state{endpoint} (0=CLOSED, 1=OPEN, 2=HALF_OPEN)
+ */
+public class ExternalApiEndpoint {
+
+    @Getter
+    private final String name;
+    private final RestTemplate restTemplate;
+    private final Semaphore bulkhead;
+    private final Duration maxWait;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final Counter bulkheadRejected;
+    private final Counter circuitRejected;
+
+    public ExternalApiEndpoint(
+        String name,
+        RestTemplate restTemplate,
+        int maxConcurrentCalls,
+        Duration maxWait,
+        CircuitBreaker circuitBreaker,
+        MeterRegistry meterRegistry
+    ) {
+        this.name = name;
+        this.restTemplate = restTemplate;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.maxWait = maxWait;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+        this.bulkheadRejected = meterRegistry.counter("external.api.rejected", "endpoint", name, "reason", "bulkhead");
+        this.circuitRejected = meterRegistry.counter("external.api.rejected", "endpoint", name, "reason", "circuit_open");
+        Gauge.builder("external.api.in_flight", bulkhead, b -> maxConcurrentCalls - b.availablePermits())
+            .tag("endpoint", name)
+            .register(meterRegistry);
+        Gauge.builder("external.api.circuit.state", circuitBreaker, cb -> cb.getState().ordinal())
+            .tag("endpoint", name)
+            .register(meterRegistry);
+    }
+
+    /**
+     * @throws ExternalApiRejectedException 동시 호출 수 초과 또는 서킷 OPEN으로 호출하지 않은 경우
+     */
+    public <T> T call(Function<RestTemplate, T> request) {
+        if (!acquireBulkhead()) {
+            bulkheadRejected.increment();
+            throw new ExternalApiRejectedException(name, "bulkhead");
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.release();
+            circuitRejected.increment();
+            throw new ExternalApiRejectedException(name, "circuit_open");
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            T result = request.apply(restTemplate);
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (HttpClientErrorException e) {
+            circuitBreaker.onSuccess();
+            outcome = "client_error";
+            throw e;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            outcome = "failure";
+            throw e;
+        } finally {
+            bulkhead.release();
+            sample.stop(Timer.builder("external.api.latency")
+                .tag("endpoint", name)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
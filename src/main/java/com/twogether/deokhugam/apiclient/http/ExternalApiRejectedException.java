@@ -0,0 +1,19 @@
+package com.twogether.deokhugam.apiclient.http;
+
+import lombok.Getter;
+
+/**
+ * 외부 API를 호출하지 않고 즉시 거절한 경우 (동시 호출 수 초과 또는 서킷 OPEN)
+ */
+@Getter
+public class ExternalApiRejectedException extends RuntimeException {
+
+    private final String endpoint;
+    private final String reason;
+
+    public ExternalApiRejectedException(String endpoint, String reason) {
+        super("외부 API 호출 거절: endpoint=" + endpoint + ", reason=" + reason);
+        this.endpoint = endpoint;
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,39 @@
+package com.twogether.deokhugam.book.batch.processor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ItemProcessor;
+
+/**
+ * ISBN 파일 한 줄을 정규화한다.
+ * 하이픈/공백을 제거한 뒤 ISBN-10 또는 ISBN-13 형식이 아니면 null을 반환해 걸러낸다(빈 줄, '#' 주석 포함).
+ */
+@Slf4j
+public class IsbnNormalizeProcessor implements ItemProcessor<String, String> {
+
+    private static final Pattern ISBN_PATTERN = Pattern.compile("\\d{9}[\\dX]|\\d{13}");
+
+    private final Counter invalidCounter;
+
+    public IsbnNormalizeProcessor(MeterRegistry meterRegistry) {
+        this.invalidCounter = meterRegistry.counter("batch.book_import.items", "result", "invalid");
+    }
+
+    @Override
+    public String process(String line) {
+        String trimmed = line.strip();
+        if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+            return null;
+        }
+
+        String isbn = trimmed.replaceAll("[\\s-]", "").toUpperCase();
+        if (!ISBN_PATTERN.matcher(isbn).matches()) {
+            log.warn("[IsbnNormalizeProcessor] 잘못된 ISBN 형식 제외: {}", trimmed);
+            invalidCounter.increment();
+            return null;
+        }
+        return isbn;
+    }
+}
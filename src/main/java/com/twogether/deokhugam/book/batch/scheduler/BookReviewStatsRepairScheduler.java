@@ -0,0 +1,53 @@
+package com.twogether.deokhugam.book.batch.scheduler;
+
+import com.twogether.deokhugam.book.repository.BookRepository;
+import com.twogether.deokhugam.book.service.BookCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도서 리뷰 통계 복구 스케줄러
+ * <p>
+ * 평소에는 리뷰 작성/수정/삭제 시 증감분만 반영하므로, 주기적으로 리뷰 테이블 기준으로 다시 계산해
+ * 어긋난 도서(review_count, rating_sum)만 바로잡는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "batch.book-review-stats-repair.enabled", havingValue = "true")
+public class BookReviewStatsRepairScheduler {
+
+    private final BookRepository bookRepository;
+    private final BookCache bookCache;
+    private final Counter repairedCounter;
+
+    public BookReviewStatsRepairScheduler(BookRepository bookRepository, BookCache bookCache,
+        MeterRegistry meterRegistry) {
+        this.bookRepository = bookRepository;
+        this.bookCache = bookCache;
+        this.repairedCounter = Counter.builder("book.review-stats.repaired")
+            .description("리뷰 통계 복구 작업에서 다시 계산된 도서 수")
+            .register(meterRegistry);
+    }
+
+    @Transactional
+    @Scheduled(cron = "${batch.book-review-stats-repair.cron:0 30 3 * * *}")
+    public void repairReviewStats() {
+        log.info("[BookReviewStatsRepairScheduler] 도서 리뷰 통계 복구 시작");
+
+        int repaired = bookRepository.recalculateAllReviewStats();
+        repairedCounter.increment(repaired);
+
+        if (repaired > 0) {
+            // 어떤 도서가 바뀌었는지 알 수 없으므로 단건 조회 캐시 전체를 비움
+            bookCache.invalidateAll();
+            log.warn("[BookReviewStatsRepairScheduler] 리뷰 통계가 어긋난 도서 {}건 재계산", repaired);
+        } else {
+            log.info("[BookReviewStatsRepairScheduler] 도서 리뷰 통계 복구 완료: 불일치 없음");
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.twogether.deokhugam.book.batch.scheduler;
+
+import com.twogether.deokhugam.book.repository.BookRepository;
+import com.twogether.deokhugam.storage.S3ImageStorage;
+import com.twogether.deokhugam.storage.StorageDeletionQueue;
+import com.twogether.deokhugam.storage.StorageDeletionQueue.Entry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 썸네일 삭제 대기열 처리 스케줄러
+ * <p>
+ * 대기열에서 최대 1000건씩 꺼내 아직 도서가 참조하는 이미지(내용 해시 키 공유, 삭제 후 재등록 등)는 건너뛰고,
+ * 나머지는 DeleteObjects 요청 한 번으로 삭제한다. 실패한 키는 대기열에 남겨 점점 긴 간격으로 다시 시도한다.
+ * 참조 확인부터 삭제까지는 대기열 행을 잠근 채 진행해, 그 사이 같은 키로 저장되는 도서(삭제 취소)와 겹치지 않게 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "batch.storage-deletion.enabled", havingValue = "true")
+public class BookThumbnailDeletionScheduler {
+
+    private final StorageDeletionQueue deletionQueue;
+    private final S3ImageStorage s3ImageStorage;
+    private final BookRepository bookRepository;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter deletedCounter;
+    private final Counter failedCounter;
+    private final Counter skippedCounter;
+    private final Timer deleteTimer;
+
+    public BookThumbnailDeletionScheduler(
+        StorageDeletionQueue deletionQueue,
+        S3ImageStorage s3ImageStorage,
+        BookRepository bookRepository,
+        MeterRegistry meterRegistry,
+        @Value("${batch.storage-deletion.batch-size:1000}") int batchSize,
+        @Value("${batch.storage-deletion.max-batches-per-run:20}") int maxBatchesPerRun
+    ) {
+        this.deletionQueue = deletionQueue;
+        this.s3ImageStorage = s3ImageStorage;
+        this.bookRepository = bookRepository;
+        this.batchSize = Math.min(batchSize, S3ImageStorage.MAX_DELETE_BATCH_SIZE);
+        this.maxBatchesPerRun = maxBatchesPerRun;
+
+        Gauge.builder("storage.deletion.backlog", backlog, AtomicLong::get)
+            .description("S3 삭제 대기열에 남아 있는 키 수")
+            .register(meterRegistry);
+        // storage.deletion.objects{result}: 처리량 = deleted 증가율
+        this.deletedCounter = meterRegistry.counter("storage.deletion.objects", "result", "deleted");
+        this.failedCounter = meterRegistry.counter("storage.deletion.objects", "result", "failed");
+        this.skippedCounter = meterRegistry.counter("storage.deletion.objects", "result", "referenced");
+        this.deleteTimer = Timer.builder("storage.deletion.batch")
+            .description("DeleteObjects 일괄 삭제 소요 시간")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${batch.storage-deletion.interval:PT30S}")
+    public void drain() {
+        int batches = 0;
+        while (batches < maxBatchesPerRun) {
+            List<Entry> entries = deletionQueue.claim(batchSize);
+            if (entries.isEmpty()) {
+                break;
+            }
+            process(entries);
+            batches++;
+            if (entries.size() < batchSize) {
+                break;
+            }
+        }
+        backlog.set(deletionQueue.backlog());
+        if (batches > 0) {
+            log.info("[BookThumbnailDeletionScheduler] 썸네일 삭제 대기열 처리: 묶음={}, 남은 항목={}", batches, backlog.get());
+        }
+    }
+
+    void process(List<Entry> claimed) {
+        // 꺼낸 뒤 도서 저장으로 취소된 항목은 빼고, 남은 행을 잠근 상태에서 참조 확인과 삭제를 진행
+        deletionQueue.withLocked(claimed, this::deleteUnreferenced);
+    }
+
+    private void deleteUnreferenced(List<Entry> entries) {
+        Set<String> referenced = ThumbnailReferences.referencedKeys(
+            entries.stream().map(Entry::objectKey).toList(), s3ImageStorage, bookRepository);
+
+        List<Entry> done = new ArrayList<>();
+        List<Entry> targets = new ArrayList<>();
+        for (Entry entry : entries) {
+            (referenced.contains(entry.objectKey()) ? done : targets).add(entry);
+        }
+        skippedCounter.increment(done.size());
+
+        List<Entry> failed = new ArrayList<>();
+        if (!targets.isEmpty()) {
+            Set<String> failedKeys = new HashSet<>(deleteTimer.record(
+                () -> s3ImageStorage.deleteObjects(targets.stream().map(Entry::objectKey).toList())));
+            for (Entry entry : targets) {
+                (failedKeys.contains(entry.objectKey()) ? failed : done).add(entry);
+            }
+        }
+
+        deletionQueue.complete(done);
+        deletionQueue.retryLater(failed);
+        deletedCounter.increment(targets.size() - failed.size());
+        failedCounter.increment(failed.size());
+        if (!failed.isEmpty()) {
+            log.warn("[BookThumbnailDeletionScheduler] S3 삭제 실패 {}건 재시도 예약 (최대 시도 횟수={})",
+                failed.size(), failed.stream().mapToInt(Entry::attempts).max().orElse(0));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.twogether.deokhugam.book.batch.scheduler;
+
+import com.twogether.deokhugam.book.repository.BookRepository;
+import com.twogether.deokhugam.storage.S3ImageStorage;
+import com.twogether.deokhugam.storage.StorageDeletionQueue;
+import com.twogether.deokhugam.storage.StoredObject;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고아 썸네일 정리 스케줄러
+ * <p>
+ * bookThumbnail/ 경로를 목록 페이지(최대 1000건) 단위로 훑어 어떤 도서도 참조하지 않는 원본/축소본을 삭제 대기열에 넣는다.
+ * 직접 업로드 후 아직 도서 등록 요청이 오지 않은 이미지를 지우지 않도록 유예 시간보다 오래된 객체만 대상으로 하며,
+ * 실제 삭제 직전에 {@link BookThumbnailDeletionScheduler}가 참조 여부를 한 번 더 확인한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "batch.thumbnail-orphan-sweep.enabled", havingValue = "true")
+public class BookThumbnailOrphanSweepScheduler {
+
+    private static final String THUMBNAIL_FOLDER = "bookThumbnail/";
+
+    private final S3ImageStorage s3ImageStorage;
+    private final BookRepository bookRepository;
+    private final StorageDeletionQueue deletionQueue;
+    private final Duration gracePeriod;
+    private final Counter scannedCounter;
+    private final Counter orphanCounter;
+
+    public BookThumbnailOrphanSweepScheduler(
+        S3ImageStorage s3ImageStorage,
+        BookRepository bookRepository,
+        StorageDeletionQueue deletionQueue,
+        MeterRegistry meterRegistry,
+        @Value("${batch.thumbnail-orphan-sweep.grace-period:1d}") Duration gracePeriod
+    ) {
+        this.s3ImageStorage = s3ImageStorage;
+        this.bookRepository = bookRepository;
+        this.deletionQueue = deletionQueue;
+        this.gracePeriod = gracePeriod;
+        this.scannedCounter = meterRegistry.counter("storage.orphan-sweep.objects", "result", "scanned");
+        this.orphanCounter = meterRegistry.counter("storage.orphan-sweep.objects", "result", "orphan");
+    }
+
+    @Scheduled(cron = "${batch.thumbnail-orphan-sweep.cron:0 0 5 * * *}")
+    public void sweep() {
+        log.info("[BookThumbnailOrphanSweepScheduler] 고아 썸네일 정리 시작");
+        Instant cutoff = Instant.now().minus(gracePeriod);
+        AtomicLong scanned = new AtomicLong();
+        AtomicLong orphans = new AtomicLong();
+
+        s3ImageStorage.listObjects(THUMBNAIL_FOLDER, page -> {
+            scanned.addAndGet(page.size());
+            List<StoredObject> candidates = page.stream()
+                .filter(object -> object.lastModified() == null || object.lastModified().isBefore(cutoff))
+                .toList();
+            if (candidates.isEmpty()) {
+                return;
+            }
+            List<String> orphanKeys = findOrphanKeys(candidates);
+            deletionQueue.enqueue(orphanKeys);
+            orphans.addAndGet(orphanKeys.size());
+        });
+
+        scannedCounter.increment(scanned.get());
+        orphanCounter.increment(orphans.get());
+        log.info("[BookThumbnailOrphanSweepScheduler] 고아 썸네일 정리 완료: 조회={}, 삭제 대기열 등록={}",
+            scanned.get(), orphans.get());
+    }
+
+    private List<String> findOrphanKeys(List<StoredObject> candidates) {
+        List<String> keys = candidates.stream().map(StoredObject::key).toList();
+        // 페이지당 원본/축소본 각각 한 번의 IN 조회로 참조 중인 키만 가져옴
+        Set<String> referenced = ThumbnailReferences.referencedKeys(keys, s3ImageStorage, bookRepository);
+        return keys.stream()
+            .filter(key -> !referenced.contains(key))
+            .toList();
+    }
+}
@@ -0,0 +1,57 @@
+package com.twogether.deokhugam.book.batch.scheduler;
+
+import com.twogether.deokhugam.book.repository.BookRepository;
+import com.twogether.deokhugam.storage.S3ImageStorage;
+import com.twogether.deokhugam.storage.thumbnail.ThumbnailSize;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 썸네일 키 중 아직 도서(논리삭제 포함)가 참조하는 키를 찾는다. (삭제 대기열 처리와 고아 썸네일 정리에서 공통 사용)
+ * <p>
+ * 원본은 공개 URL 전체로 비교한다. 같은 내용이라도 hash.png와 hash.jpg는 별개 객체라 한쪽만 참조될 수 있다.
+ * 축소본은 원본 확장자와 관계없이 같은 경로(hash_w240.jpg)에 만들어지므로 확장자를 뺀 기준 경로로 비교한다.
+ */
+final class ThumbnailReferences {
+
+    private ThumbnailReferences() {
+    }
+
+    static Set<String> referencedKeys(Collection<String> keys, S3ImageStorage s3ImageStorage,
+        BookRepository bookRepository) {
+        Map<String, String> originalUrls = new HashMap<>();
+        Map<String, String> variantBaseUrls = new HashMap<>();
+        for (String key : keys) {
+            if (ThumbnailSize.isVariantPath(key)) {
+                variantBaseUrls.put(key, s3ImageStorage.publicUrl(ThumbnailSize.basePath(key)));
+            } else {
+                originalUrls.put(key, s3ImageStorage.publicUrl(key));
+            }
+        }
+
+        // 원본/축소본마다 한 번의 IN 조회
+        Set<String> referenced = new HashSet<>();
+        if (!originalUrls.isEmpty()) {
+            collect(originalUrls, bookRepository.findReferencedThumbnailUrls(new HashSet<>(originalUrls.values())),
+                referenced);
+        }
+        if (!variantBaseUrls.isEmpty()) {
+            collect(variantBaseUrls,
+                bookRepository.findReferencedThumbnailBases(new HashSet<>(variantBaseUrls.values())), referenced);
+        }
+        return referenced;
+    }
+
+    private static void collect(Map<String, String> urlsByKey, List<String> referencedUrls, Set<String> referenced) {
+        Set<String> urls = new HashSet<>(referencedUrls);
+        urlsByKey.forEach((key, url) -> {
+            if (urls.contains(url)) {
+                referenced.add(key);
+            }
+        });
+    }
+}
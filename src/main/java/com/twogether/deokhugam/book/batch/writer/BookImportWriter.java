@@ -0,0 +1,298 @@
+package com.twogether.deokhugam.book.batch.writer;
+
+import com.twogether.deokhugam.apiclient.NaverBookClient;
+import com.twogether.deokhugam.book.dto.NaverBookDto;
+import com.twogether.deokhugam.book.exception.NaverBookException;
+import com.twogether.deokhugam.book.repository.BookRepository;
+import com.twogether.deokhugam.common.exception.ErrorCode;
+import com.twogether.deokhugam.book.service.BookCountService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Date;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * ISBN 청크 단위 도서 일괄 등록
+ * <p>
+ * 1. 청크의 ISBN을 한 번의 IN 쿼리로 조회해 이미 등록된 도서를 제외한다.
+ * 2. 남은 ISBN은 lookupConcurrency 개의 스레드로 네이버 API를 병렬 조회한다. 조회 결과가 없거나 등록할 수 없는 데이터는
+ *    건너뛰고 집계만 하며, 일시적 오류(서킷 OPEN, 동시 호출 초과, 연결 실패/5xx)는 청크를 실패시켜 Step의 재시도에 맡긴다.
+ *    재시도를 모두 소진하면 Step이 실패하고, 재시작하면 마지막으로 커밋된 청크 다음부터 다시 조회한다.
+ * 3. 조회된 도서는 JDBC 배치 INSERT 한 번으로 저장하고, 표지 업로드는 커밋 이후 {@link BookThumbnailUploader}에 넘긴다.
+ * <p>
+ * 결과 건수는 청크 단위로 모았다가 쓰기가 끝난 뒤 StepExecution의 ExecutionContext에 더해 청크 커밋과 함께 저장되므로
+ * 재시작 후에도 이어서 집계된다. 청크가 롤백되면 더한 건수를 되돌려 재시도/재시작 때 두 번 세지 않는다.
+ */
+@Slf4j
+public class BookImportWriter implements ItemWriter<String>, StepExecutionListener, ChunkListener {
+
+    public static final String IMPORTED = "imported";
+    public static final String DUPLICATE = "duplicate";
+    public static final String NOT_FOUND = "not_found";
+    public static final String FAILED = "failed";
+
+    private static final String INSERT_SQL = """
+        INSERT INTO books (id, title, author, description, publisher, published_date, isbn,
+                           review_count, rating, rating_sum, created_at, updated_at, is_deleted)
+        VALUES (?, ?, ?, ?, ?, ?, ?, 0, 0, 0, ?, ?, false)
+        ON CONFLICT DO NOTHING
+        """;
+
+    private final BookRepository bookRepository;
+    private final NaverBookClient naverBookClient;
+    private final JdbcTemplate jdbcTemplate;
+    private final BookThumbnailUploader thumbnailUploader;
+    private final BookCountService bookCountService;
+    private final MeterRegistry meterRegistry;
+    private final int lookupConcurrency;
+
+    private ExecutorService lookupExecutor;
+    private StepExecution stepExecution;
+    // 현재 청크에서 ExecutionContext에 더한 건수 (커밋되면 비우고, 롤백되면 되돌림)
+    private Map<String, Long> uncommitted = Map.of();
+
+    public BookImportWriter(
+        BookRepository bookRepository,
+        NaverBookClient naverBookClient,
+        JdbcTemplate jdbcTemplate,
+        BookThumbnailUploader thumbnailUploader,
+        BookCountService bookCountService,
+        MeterRegistry meterRegistry,
+        int lookupConcurrency
+    ) {
+        this.bookRepository = bookRepository;
+        this.naverBookClient = naverBookClient;
+        this.jdbcTemplate = jdbcTemplate;
+        this.thumbnailUploader = thumbnailUploader;
+        this.bookCountService = bookCountService;
+        this.meterRegistry = meterRegistry;
+        this.lookupConcurrency = lookupConcurrency;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        this.stepExecution = stepExecution;
+        this.lookupExecutor = Executors.newFixedThreadPool(lookupConcurrency, new CustomizableThreadFactory("book-import-lookup-"));
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        lookupExecutor.shutdownNow();
+        ExecutionContext context = stepExecution.getExecutionContext();
+        log.info("[BookImportWriter] 도서 일괄 등록 종료: 등록={}, 중복={}, 미조회={}, 실패={}",
+            context.getLong(IMPORTED, 0), context.getLong(DUPLICATE, 0),
+            context.getLong(NOT_FOUND, 0), context.getLong(FAILED, 0));
+        return stepExecution.getExitStatus();
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        uncommitted.forEach((result, count) ->
+            meterRegistry.counter("batch.book_import.items", "result", result).increment(count));
+        uncommitted = Map.of();
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        // 같은 청크가 재시도되거나 재시작 때 다시 처리되므로 롤백된 건수는 빼 둠
+        ExecutionContext executionContext = stepExecution.getExecutionContext();
+        uncommitted.forEach((result, count) ->
+            executionContext.putLong(result, executionContext.getLong(result, 0) - count));
+        uncommitted = Map.of();
+    }
+
+    @Override
+    public void write(Chunk<? extends String> chunk) {
+        Map<String, Long> counts = new ConcurrentHashMap<>();
+        Set<String> isbns = new LinkedHashSet<>(chunk.getItems());
+        bookRepository.findExistingIsbns(isbns).forEach(isbns::remove);
+        // 청크 안에서 반복된 ISBN도 중복으로 집계
+        count(counts, DUPLICATE, chunk.size() - isbns.size());
+
+        List<CompletableFuture<NaverBookDto>> lookups = isbns.stream()
+            .map(isbn -> CompletableFuture.supplyAsync(() -> lookup(isbn, counts), lookupExecutor))
+            .toList();
+
+        List<NaverBookDto> found = join(lookups);
+        if (!found.isEmpty()) {
+            List<ImportedBook> inserted = insert(found);
+            count(counts, IMPORTED, inserted.size());
+            count(counts, DUPLICATE, found.size() - inserted.size());
+
+            if (!inserted.isEmpty()) {
+                bookCountService.invalidate();
+                uploadThumbnailsAfterCommit(inserted);
+            }
+        }
+        merge(counts);
+    }
+
+    /**
+     * @return 등록할 수 있는 도서 정보. 조회 결과가 없거나 필수 값이 빠졌거나 등록할 수 없는 데이터면 null
+     * @throws RuntimeException 일시적 오류 등 건너뛰면 안 되는 실패 (청크를 실패시켜 재시도)
+     */
+    private NaverBookDto lookup(String isbn, Map<String, Long> counts) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "found";
+        try {
+            // 표지는 등록 후 업로더가 원본 URL에서 S3로 바로 스트리밍하므로 여기서는 내려받지 않음
+            NaverBookDto dto = naverBookClient.fetchMetadataByIsbn(isbn);
+            if (dto == null || dto.title() == null || dto.publishedDate() == null) {
+                result = NOT_FOUND;
+                count(counts, NOT_FOUND, 1);
+                return null;
+            }
+            return dto;
+        } catch (NaverBookException e) {
+            if (isTransient(e)) {
+                result = "error";
+                log.warn("[BookImportWriter] 네이버 도서 조회 일시적 실패, 청크 재시도: isbn={}, 오류={}", isbn, e.getMessage());
+                throw e;
+            }
+            log.warn("[BookImportWriter] 등록할 수 없는 ISBN 건너뜀: isbn={}, 오류={}", isbn, e.getMessage());
+            result = FAILED;
+            count(counts, FAILED, 1);
+            return null;
+        } catch (RuntimeException e) {
+            result = "error";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("batch.book_import.lookup", "result", result));
+        }
+    }
+
+    /**
+     * 네이버 API 쪽 사정으로 실패해 나중에 다시 조회하면 성공할 수 있는 오류
+     * (서킷 OPEN/동시 호출 초과로 거절, 연결 실패·타임아웃·5xx 응답)
+     */
+    private static boolean isTransient(NaverBookException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        return errorCode == ErrorCode.NAVER_API_UNAVAILABLE || errorCode == ErrorCode.NAVER_API_CONNECTION_FAILED;
+    }
+
+    /**
+     * 모든 조회가 끝날 때까지 기다려 결과를 모은다. (실패한 청크의 조회가 다음 청크 집계에 섞이지 않도록)
+     * 건너뛸 수 없는 실패가 있으면 첫 번째 예외를 던져 청크를 롤백한다.
+     */
+    private static List<NaverBookDto> join(List<CompletableFuture<NaverBookDto>> lookups) {
+        List<NaverBookDto> found = new ArrayList<>(lookups.size());
+        RuntimeException failure = null;
+        for (CompletableFuture<NaverBookDto> lookup : lookups) {
+            try {
+                NaverBookDto dto = lookup.join();
+                if (dto != null) {
+                    found.add(dto);
+                }
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return found;
+    }
+
+    private List<ImportedBook> insert(List<NaverBookDto> books) {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<ImportedBook> rows = books.stream()
+            .map(dto -> new ImportedBook(UUID.randomUUID(), dto))
+            .toList();
+
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            NaverBookDto dto = row.dto();
+            ps.setObject(1, row.id());
+            ps.setString(2, truncate(dto.title(), 255));
+            ps.setString(3, truncate(nullToEmpty(dto.author()), 100));
+            ps.setString(4, nullToEmpty(dto.description()));
+            ps.setString(5, truncate(nullToEmpty(dto.publisher()), 100));
+            ps.setDate(6, Date.valueOf(dto.publishedDate()));
+            ps.setString(7, dto.isbn());
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+
+        // 다른 요청이 같은 ISBN을 먼저 등록한 경우 ON CONFLICT로 0건 처리됨
+        List<ImportedBook> inserted = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            int count = counts[0][i];
+            if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                inserted.add(rows.get(i));
+            }
+        }
+        return inserted;
+    }
+
+    private void uploadThumbnailsAfterCommit(List<ImportedBook> inserted) {
+        Runnable upload = () -> inserted.stream()
+            .filter(row -> row.dto().thumbnailSourceUrl() != null && !row.dto().thumbnailSourceUrl().isBlank())
+            .forEach(row -> thumbnailUploader.uploadAsync(row.id(), row.dto().thumbnailSourceUrl()));
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            upload.run();
+            return;
+        }
+        // 롤백된 청크의 도서에 대해서는 업로드하지 않음
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                upload.run();
+            }
+        });
+    }
+
+    private static void count(Map<String, Long> counts, String result, long count) {
+        if (count > 0) {
+            counts.merge(result, count, Long::sum);
+        }
+    }
+
+    /**
+     * 쓰기가 끝난 청크의 건수를 ExecutionContext에 더함
+     * 청크 트랜잭션 안에서 리더 위치와 함께 저장되고, 이후 커밋에 실패하면 afterChunkError에서 되돌린다.
+     */
+    private void merge(Map<String, Long> counts) {
+        ExecutionContext context = stepExecution.getExecutionContext();
+        counts.forEach((result, count) -> context.putLong(result, context.getLong(result, 0) + count));
+        uncommitted = counts;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private record ImportedBook(UUID id, NaverBookDto dto) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.twogether.deokhugam.book.batch.writer;
+
+import com.twogether.deokhugam.apiclient.NaverBookClient;
+import com.twogether.deokhugam.book.service.BookCache;
+import com.twogether.deokhugam.book.service.BookThumbnailPipeline;
+import com.twogether.deokhugam.storage.S3ImageStorage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일괄 등록된 도서의 표지를 별도 스레드에서 S3에 올리고 thumbnail_url을 채운다.
+ * <p>
+ * 네이버 표지 응답 본문을 byte[]/Base64로 모으지 않고 S3 업로드 요청 본문으로 바로 흘려보낸다.
+ * 대기열이 가득 차면 호출한 배치 스레드가 직접 업로드해(CallerRunsPolicy) 동시에 진행되는 다운로드 수를 제한한다.
+ * 업로드에 실패한 도서는 썸네일 없이 남으며 도서 수정 API로 다시 등록할 수 있다.
+ */
+@Slf4j
+@Component
+public class BookThumbnailUploader {
+
+    private static final String THUMBNAIL_FOLDER = "bookThumbnail/";
+
+    private final NaverBookClient naverBookClient;
+    private final S3ImageStorage s3ImageStorage;
+    private final JdbcTemplate jdbcTemplate;
+    private final BookCache bookCache;
+    private final BookThumbnailPipeline bookThumbnailPipeline;
+    private final ThreadPoolExecutor executor;
+    private final Counter uploadedCounter;
+    private final Counter failedCounter;
+
+    public BookThumbnailUploader(
+        NaverBookClient naverBookClient,
+        S3ImageStorage s3ImageStorage,
+        JdbcTemplate jdbcTemplate,
+        BookCache bookCache,
+        BookThumbnailPipeline bookThumbnailPipeline,
+        MeterRegistry meterRegistry,
+        @Value("${batch.book-import.thumbnail-concurrency:4}") int concurrency,
+        @Value("${batch.book-import.thumbnail-queue-capacity:200}") int queueCapacity
+    ) {
+        this.naverBookClient = naverBookClient;
+        this.s3ImageStorage = s3ImageStorage;
+        this.jdbcTemplate = jdbcTemplate;
+        this.bookCache = bookCache;
+        this.bookThumbnailPipeline = bookThumbnailPipeline;
+        this.executor = new ThreadPoolExecutor(
+            concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("book-thumbnail-"),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        this.uploadedCounter = meterRegistry.counter("batch.book_import.thumbnails", "result", "uploaded");
+        this.failedCounter = meterRegistry.counter("batch.book_import.thumbnails", "result", "failed");
+        meterRegistry.gauge("batch.book_import.thumbnails.queued", executor, e -> e.getQueue().size());
+    }
+
+    /**
+     * @param coverUrl 네이버가 제공하는 표지 원본 URL
+     */
+    public void uploadAsync(UUID bookId, String coverUrl) {
+        executor.execute(() -> upload(bookId, coverUrl));
+    }
+
+    private void upload(UUID bookId, String coverUrl) {
+        try {
+            String imageUrl = naverBookClient.streamCoverImage(coverUrl, (body, contentLength, contentType) ->
+                s3ImageStorage.uploadImage(body, contentLength, imageContentType(contentType), THUMBNAIL_FOLDER));
+
+            // 그 사이 사용자가 직접 썸네일을 등록했다면 덮어쓰지 않음
+            int updated = jdbcTemplate.update("UPDATE books SET thumbnail_url = ? WHERE id = ? AND thumbnail_url IS NULL",
+                imageUrl, bookId);
+            bookCache.invalidate(bookId);
+            uploadedCounter.increment();
+            if (updated > 0) {
+                bookThumbnailPipeline.submit(bookId, imageUrl);
+            }
+        } catch (Exception e) {
+            log.warn("[BookThumbnailUploader] 표지 업로드 실패: bookId={}, 오류={}", bookId, e.getMessage());
+            failedCounter.increment();
+        }
+    }
+
+    /**
+     * 네이버 이미지 서버가 image/* 가 아닌 타입(application/octet-stream 등)을 주면 JPEG로 간주
+     */
+    private String imageContentType(String contentType) {
+        if (contentType == null || !contentType.startsWith("image/")) {
+            return "image/jpeg";
+        }
+        int parameters = contentType.indexOf(';');
+        return parameters > 0 ? contentType.substring(0, parameters).trim() : contentType;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("[BookThumbnailUploader] 종료 시점에 남은 표지 업로드 {}건 취소", executor.shutdownNow().size());
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.twogether.deokhugam.book.controller;
 import com.twogether.deokhugam.book.dto.BookDto;
 import com.twogether.deokhugam.book.dto.request.BookCreateRequest;
 import com.twogether.deokhugam.book.dto.request.BookUpdateRequest;
+import com.twogether.deokhugam.book.dto.request.ThumbnailUploadRequest;
 import com.twogether.deokhugam.book.dto.response.BookPageResponse;
+import com.twogether.deokhugam.book.dto.response.ThumbnailUploadResponse;
 import com.twogether.deokhugam.common.exception.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -23,6 +25,30 @@ import org.springframework.web.multipart.MultipartFile;
 @Tag(name = "도서 관리", description = "도서 등록, 수정, 조회, 삭제 및 ISBN조회를 위한 외부 API")
 public interface BookApi {
 
+	@Operation(summary = "썸네일 직접 업로드 URL 발급",
+		description = "이미지를 서버를 거치지 않고 저장소에 직접 PUT 할 수 있는 URL을 발급합니다. "
+			+ "업로드 후 응답의 thumbnailKey를 도서 등록/수정 요청(bookData)의 thumbnailKey로 전달하세요.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "201", description = "발급 성공",
+			content = @Content(schema = @Schema(implementation = ThumbnailUploadResponse.class),
+				examples = @ExampleObject(value = """
+                    {
+                      "thumbnailKey": "bookThumbnail/1a2b3c4d_20250711_103022.jpeg",
+                      "uploadUrl": "https://bucket.s3.ap-northeast-2.amazonaws.com/bookThumbnail/1a2b3c4d_20250711_103022.jpeg?X-Amz-Signature=...",
+                      "headers": {
+                        "content-type": "image/jpeg",
+                        "content-length": "204800"
+                      },
+                      "expiresAt": "2025-07-11T10:40:22Z"
+                    }
+                    """))),
+		@ApiResponse(responseCode = "400", description = "지원하지 않는 이미지 형식이거나 5MB 초과",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	ResponseEntity<ThumbnailUploadResponse> createThumbnailUpload(
+		@Parameter(description = "업로드할 이미지 정보", required = true) ThumbnailUploadRequest request
+	);
+
 	@Operation(summary = "도서 등록", description = "새로운 도서를 등록합니다.")
 	@ApiResponses(value = {
 		@ApiResponse(responseCode = "201", description = "등록 성공",
@@ -136,9 +162,11 @@ public interface BookApi {
 		@Parameter(description = "검색어 (제목 | 저자 | ISBN)",example = "자바") String keyword,
 		@Parameter(description = "정렬 기준(title | publishedDate | rating | reviewCount)", schema = @Schema(defaultValue = "title", example = "title")) String orderBy,
 		@Parameter(description = "정렬 방향", schema = @Schema(implementation =SortDirection.class, defaultValue = "DESC", example = "DESC")) String direction,
-		@Parameter(description = "커서 기반 페이징을 위한 커서 값") String cursor,
+		@Parameter(description = "이전 응답의 nextCursor 값 (정렬 키, 생성 시각, id를 담은 불투명 문자열)") String cursor,
 		@Parameter(description = "보조 커서 (created At)") Instant after,
-		@Parameter(description = "페이지당 조회 개수(기본값: 30)") int limit
+		@Parameter(description = "페이지당 조회 개수(기본값: 30)") int limit,
+		@Parameter(description = "전체 개수(totalElements) 포함 여부. false면 COUNT 쿼리를 생략하고 null 반환", schema = @Schema(defaultValue = "true")) boolean includeTotal,
+		@Parameter(description = "응답 필드 범위 (summary: 설명 제외, full: 전체)", schema = @Schema(allowableValues = {"summary", "full"}, defaultValue = "full")) String view
 	);
 
 	@Operation(summary = "도서 상세 조회", description = "도서의 상세 정보를 조회합니다.")
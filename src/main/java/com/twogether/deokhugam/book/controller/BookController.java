@@ -3,8 +3,11 @@ package com.twogether.deokhugam.book.controller;
 import com.twogether.deokhugam.book.dto.BookDto;
 import com.twogether.deokhugam.book.dto.request.BookCreateRequest;
 import com.twogether.deokhugam.book.dto.request.BookUpdateRequest;
+import com.twogether.deokhugam.book.dto.request.ThumbnailUploadRequest;
 import com.twogether.deokhugam.book.dto.response.BookPageResponse;
+import com.twogether.deokhugam.book.dto.response.ThumbnailUploadResponse;
 import com.twogether.deokhugam.book.service.BookService;
+import com.twogether.deokhugam.common.dto.ListView;
 import java.time.Instant;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +22,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
@@ -31,6 +35,19 @@ import org.springframework.web.multipart.MultipartFile;
 public class BookController implements BookApi{
 	private final BookService bookService;
 
+	/** 썸네일 직접 업로드 URL 발급
+	 * 입력 :
+	 * ThumbnailUploadRequest
+	 * 출력 :
+	 * ThumbnailUploadResponse
+	 */
+	@PostMapping(value = "/thumbnail-uploads", consumes = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<ThumbnailUploadResponse> createThumbnailUpload(
+		@Validated @RequestBody ThumbnailUploadRequest request)
+	{
+		return ResponseEntity.status(HttpStatus.CREATED).body(bookService.createThumbnailUpload(request));
+	}
+
 	/** 도서 등록
 	 * 입력 :
 	 * BookCreateRequest
@@ -85,9 +102,11 @@ public class BookController implements BookApi{
 		@RequestParam(defaultValue = "DESC") String direction,
 		@RequestParam(required = false) String cursor,
 		@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) Instant after,
-		@RequestParam(defaultValue = "30") int limit
+		@RequestParam(defaultValue = "30") int limit,
+		@RequestParam(defaultValue = "true") boolean includeTotal,
+		@RequestParam(required = false) String view
 	) {
-		BookPageResponse<BookDto> result = bookService.getAllSorted(keyword,orderBy,direction,cursor,after,limit);
+		BookPageResponse<BookDto> result = bookService.getAllSorted(keyword,orderBy,direction,cursor,after,limit,includeTotal,ListView.from(view));
 		return ResponseEntity.status(HttpStatus.OK).body(result);
 	}
 	/** 도서 조회
@@ -0,0 +1,56 @@
+package com.twogether.deokhugam.book.controller;
+
+import com.twogether.deokhugam.book.dto.response.BookImportJobResponse;
+import com.twogether.deokhugam.common.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.multipart.MultipartFile;
+
+@Tag(name = "도서 관리")
+public interface BookImportApi {
+
+	@Operation(summary = "ISBN 파일로 도서 일괄 등록",
+		description = "한 줄에 하나씩 ISBN이 적힌 텍스트 파일을 받아 배치 작업으로 등록합니다. 작업은 비동기로 실행되며 실행 id를 반환합니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "202", description = "일괄 등록 작업 시작",
+			content = @Content(schema = @Schema(implementation = BookImportJobResponse.class))),
+		@ApiResponse(responseCode = "400", description = "비어 있거나 읽을 수 없는 파일",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	ResponseEntity<BookImportJobResponse> startImport(
+		@Parameter(description = "ISBN 목록 파일 (UTF-8, 한 줄에 하나, '#'으로 시작하는 줄은 무시)", required = true)
+		MultipartFile file
+	);
+
+	@Operation(summary = "도서 일괄 등록 진행 상황 조회",
+		description = "읽은 줄 수, 등록/중복/미조회/실패 건수와 처리 속도를 조회합니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "조회 성공",
+			content = @Content(schema = @Schema(implementation = BookImportJobResponse.class))),
+		@ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	ResponseEntity<BookImportJobResponse> getImport(
+		@Parameter(description = "일괄 등록 실행 id", required = true) Long executionId
+	);
+
+	@Operation(summary = "도서 일괄 등록 재시작",
+		description = "실패하거나 중단된 작업을 마지막으로 저장된 지점부터 이어서 실행합니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "202", description = "재시작 성공",
+			content = @Content(schema = @Schema(implementation = BookImportJobResponse.class))),
+		@ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+		@ApiResponse(responseCode = "409", description = "재시작할 수 없는 상태",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	ResponseEntity<BookImportJobResponse> restartImport(
+		@Parameter(description = "재시작할 실행 id", required = true) Long executionId
+	);
+}
@@ -0,0 +1,38 @@
+package com.twogether.deokhugam.book.controller;
+
+import com.twogether.deokhugam.book.dto.response.BookImportJobResponse;
+import com.twogether.deokhugam.book.service.BookImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping("/api/books/import")
+@RequiredArgsConstructor
+public class BookImportController implements BookImportApi {
+
+    private final BookImportService bookImportService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<BookImportJobResponse> startImport(@RequestPart("file") MultipartFile file) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(bookImportService.startImport(file));
+    }
+
+    @GetMapping("/{executionId}")
+    public ResponseEntity<BookImportJobResponse> getImport(@PathVariable Long executionId) {
+        return ResponseEntity.ok(bookImportService.getImport(executionId));
+    }
+
+    @PostMapping("/{executionId}/restart")
+    public ResponseEntity<BookImportJobResponse> restartImport(@PathVariable Long executionId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(bookImportService.restartImport(executionId));
+    }
+}
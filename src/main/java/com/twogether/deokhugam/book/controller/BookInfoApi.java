@@ -1,6 +1,7 @@
 package com.twogether.deokhugam.book.controller;
 
 import com.twogether.deokhugam.book.dto.NaverBookDto;
+import com.twogether.deokhugam.book.dto.response.IsbnOcrJobResponse;
 import com.twogether.deokhugam.common.exception.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,6 +11,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.multipart.MultipartFile;
@@ -72,11 +75,54 @@ public interface BookInfoApi {
                       "status": 400
                     }
                     """))),
+		@ApiResponse(responseCode = "429", description = "처리 대기 중인 요청이 너무 많음",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
 		@ApiResponse(responseCode = "500", description = "서버 내부 오류로 처리 실패",
 			content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
 	})
-	ResponseEntity<String> getIsbnFromOcr(
+	CompletableFuture<ResponseEntity<String>> getIsbnFromOcr(
 		@Parameter(description = "책 표지 이미지 파일", required = true)
 		@RequestParam("image") MultipartFile image
 	);
+
+	@Operation(summary = "이미지 기반 ISBN 인식 작업 등록",
+		description = "책 표지 이미지를 업로드하고 작업 ID를 바로 반환합니다. 결과는 작업 조회 API로 확인합니다. "
+			+ "같은 이미지를 이미 처리했다면 COMPLETED 상태로 바로 반환합니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "202", description = "작업 등록 성공",
+			content = @Content(schema = @Schema(implementation = IsbnOcrJobResponse.class),
+				examples = @ExampleObject(value = """
+                    {
+                      "jobId": "3fa85f64-5717-4562-b3fc-2c963f66afa6",
+                      "status": "PENDING"
+                    }
+                    """))),
+		@ApiResponse(responseCode = "400", description = "잘못된 이미지 파일",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+		@ApiResponse(responseCode = "429", description = "처리 대기 중인 요청이 너무 많음",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	ResponseEntity<IsbnOcrJobResponse> submitOcrJob(
+		@Parameter(description = "책 표지 이미지 파일", required = true)
+		@RequestParam("image") MultipartFile image
+	);
+
+	@Operation(summary = "이미지 기반 ISBN 인식 작업 조회",
+		description = "작업 상태(PENDING, RUNNING, COMPLETED, FAILED)와 추출된 ISBN 또는 실패 사유를 조회합니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "조회 성공",
+			content = @Content(schema = @Schema(implementation = IsbnOcrJobResponse.class),
+				examples = @ExampleObject(value = """
+                    {
+                      "jobId": "3fa85f64-5717-4562-b3fc-2c963f66afa6",
+                      "status": "COMPLETED",
+                      "isbn": "9788960777330"
+                    }
+                    """))),
+		@ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음 (만료 포함)",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	ResponseEntity<IsbnOcrJobResponse> getOcrJob(
+		@Parameter(description = "작업 ID", required = true) UUID jobId
+	);
 }
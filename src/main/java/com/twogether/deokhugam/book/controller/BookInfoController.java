@@ -2,13 +2,18 @@ package com.twogether.deokhugam.book.controller;
 
 import com.twogether.deokhugam.apiclient.NaverBookClient;
 import com.twogether.deokhugam.book.dto.NaverBookDto;
+import com.twogether.deokhugam.book.dto.response.IsbnOcrJobResponse;
 import com.twogether.deokhugam.book.exception.NaverBookException;
+import com.twogether.deokhugam.book.service.IsbnOcrJobService;
 import com.twogether.deokhugam.common.exception.ErrorCode;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -21,6 +26,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class BookInfoController implements BookInfoApi {
 
     private final NaverBookClient naverBookClient;
+    private final IsbnOcrJobService isbnOcrJobService;
 
     @GetMapping(value = "/info")
     public ResponseEntity<NaverBookDto> getBookInfo(@RequestParam("isbn") String isbn) {
@@ -34,20 +40,22 @@ public class BookInfoController implements BookInfoApi {
         return ResponseEntity.status(HttpStatus.OK).body(dto);
     }
 
+    /**
+     * 작업 스레드 풀에서 처리되는 동안 요청 스레드를 반환하고, 완료되면 ISBN 문자열로 응답
+     */
     @PostMapping(value = "/isbn/ocr", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<String> getIsbnFromOcr(@RequestParam("image") MultipartFile bookImage){
-    if (bookImage.isEmpty() || bookImage.getSize() == 0){
-        throw new NaverBookException(ErrorCode.INVALID_IMAGE_FILE);
+    public CompletableFuture<ResponseEntity<String>> getIsbnFromOcr(@RequestParam("image") MultipartFile bookImage) {
+        return isbnOcrJobService.extractIsbn(bookImage)
+            .thenApply(isbn -> ResponseEntity.status(HttpStatus.OK).body(isbn));
     }
-    // 이미지 타입 검증
-    String contentType = bookImage.getContentType();
-    if (contentType==null || !contentType.startsWith("image/")){
-        throw new NaverBookException(ErrorCode.INVALID_IMAGE_FILE);
+
+    @PostMapping(value = "/isbn/ocr/jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<IsbnOcrJobResponse> submitOcrJob(@RequestParam("image") MultipartFile bookImage) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(isbnOcrJobService.submit(bookImage));
     }
-    String result = naverBookClient.extractIsbnFromImage(bookImage);
-        if (result == null) {
-            throw new NaverBookException(ErrorCode.NAVER_OCR_ISBN_NOT_FOUND);
-        }
-    return ResponseEntity.status(HttpStatus.OK).body(result);
+
+    @GetMapping("/isbn/ocr/jobs/{jobId}")
+    public ResponseEntity<IsbnOcrJobResponse> getOcrJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(isbnOcrJobService.getJob(jobId));
     }
 }
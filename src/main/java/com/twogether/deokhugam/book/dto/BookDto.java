@@ -1,5 +1,6 @@
 package com.twogether.deokhugam.book.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
@@ -8,7 +9,8 @@ public record BookDto(
     UUID id,
     String title,
     String author,
-    String description,
+    // 목록 summary 조회에서는 조회하지 않으므로 응답에서 제외
+    @JsonInclude(JsonInclude.Include.NON_NULL) String description,
     String publisher,
     LocalDate publishedDate,
     String isbn,
@@ -16,5 +18,15 @@ public record BookDto(
     int reviewCount,
     double rating,
     Instant createdAt,
-    Instant updatedAt
-) {}
+    Instant updatedAt,
+    // 목록/카드용 축소본 URL (변환 전이면 응답에서 제외)
+    @JsonInclude(JsonInclude.Include.NON_NULL) ThumbnailVariants thumbnailVariants
+) {
+
+    public BookDto(UUID id, String title, String author, String description, String publisher,
+        LocalDate publishedDate, String isbn, String thumbnailUrl, int reviewCount, double rating,
+        Instant createdAt, Instant updatedAt) {
+        this(id, title, author, description, publisher, publishedDate, isbn, thumbnailUrl, reviewCount, rating,
+            createdAt, updatedAt, null);
+    }
+}
@@ -1,7 +1,12 @@
 package com.twogether.deokhugam.book.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.time.LocalDate;
 
+/**
+ * @param thumbnailImage     Base64로 인코딩한 표지 이미지 (도서 정보 조회 API 응답용, 메타데이터만 조회하면 null)
+ * @param thumbnailSourceUrl 네이버가 제공하는 표지 원본 URL (서버 내부에서 표지를 스트리밍할 때만 사용)
+ */
 public record NaverBookDto(
     String title,
     String author,
@@ -9,5 +14,12 @@ public record NaverBookDto(
     String publisher,
     LocalDate publishedDate,
     String isbn,
-    String thumbnailImage
-) {}
+    String thumbnailImage,
+    @JsonIgnore String thumbnailSourceUrl
+) {
+
+    public NaverBookDto(String title, String author, String description, String publisher,
+        LocalDate publishedDate, String isbn, String thumbnailImage) {
+        this(title, author, description, publisher, publishedDate, isbn, thumbnailImage, null);
+    }
+}
@@ -0,0 +1,27 @@
+package com.twogether.deokhugam.book.dto;
+
+import com.twogether.deokhugam.storage.thumbnail.ThumbnailSize;
+
+/**
+ * 도서 썸네일 축소본 URL (가로 96/240/480px JPEG)
+ */
+public record ThumbnailVariants(
+    String small,
+    String medium,
+    String large
+) {
+
+    /**
+     * 변환이 끝난 도서만 축소본 URL을 가진다. 변환 전이거나 썸네일이 없으면 null
+     */
+    public static ThumbnailVariants of(String thumbnailUrl, boolean ready) {
+        if (!ready || thumbnailUrl == null) {
+            return null;
+        }
+        return new ThumbnailVariants(
+            ThumbnailSize.SMALL.variantPath(thumbnailUrl),
+            ThumbnailSize.MEDIUM.variantPath(thumbnailUrl),
+            ThumbnailSize.LARGE.variantPath(thumbnailUrl)
+        );
+    }
+}
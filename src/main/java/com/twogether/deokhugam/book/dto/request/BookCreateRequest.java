@@ -27,5 +27,16 @@ public record BookCreateRequest(
 
     @Pattern(regexp = "^$|(\\d{9}[\\dXx])|(\\d{13})$", message = "유효한 ISBN 형식이 아닙니다.")
     @Nullable
-    String isbn // optional
-) {}
\ No newline at end of file
+    String isbn, // optional
+
+    // 직접 업로드(POST /api/books/thumbnail-uploads)로 올린 썸네일의 키 (thumbnailImage 파트와 함께 쓰지 않음)
+    @Size(max = 255)
+    @Nullable
+    String thumbnailKey
+) {
+
+    public BookCreateRequest(String title, String author, String description, String publisher,
+        LocalDate publishedDate, String isbn) {
+        this(title, author, description, publisher, publishedDate, isbn, null);
+    }
+}
\ No newline at end of file
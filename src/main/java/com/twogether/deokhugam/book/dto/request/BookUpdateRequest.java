@@ -1,5 +1,6 @@
 package com.twogether.deokhugam.book.dto.request;
 
+import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -21,5 +22,16 @@ public record BookUpdateRequest(
 
     @NotNull
     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
-    LocalDate publishedDate
-) {}
+    LocalDate publishedDate,
+
+    // 직접 업로드(POST /api/books/thumbnail-uploads)로 올린 새 썸네일의 키 (thumbnailImage 파트와 함께 쓰지 않음)
+    @Size(max = 255)
+    @Nullable
+    String thumbnailKey
+) {
+
+    public BookUpdateRequest(String title, String author, String description, String publisher,
+        LocalDate publishedDate) {
+        this(title, author, description, publisher, publishedDate, null);
+    }
+}
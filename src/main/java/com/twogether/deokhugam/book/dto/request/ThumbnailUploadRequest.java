@@ -0,0 +1,16 @@
+package com.twogether.deokhugam.book.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * @param contentType   업로드할 이미지 MIME 타입 (image/jpeg, image/png, image/webp)
+ * @param contentLength 업로드할 파일 크기 (바이트)
+ */
+public record ThumbnailUploadRequest(
+    @NotBlank(message = "이미지 타입은 필수 입력 사항입니다.")
+    String contentType,
+
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    long contentLength
+) {}
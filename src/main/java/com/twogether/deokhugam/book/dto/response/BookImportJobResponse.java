@@ -0,0 +1,18 @@
+package com.twogether.deokhugam.book.dto.response;
+
+import java.time.LocalDateTime;
+
+public record BookImportJobResponse(
+    Long executionId,
+    String status,
+    String exitCode,
+    long readCount,
+    long importedCount,
+    long duplicateCount,
+    long notFoundCount,
+    long failedCount,
+    long invalidCount,
+    double itemsPerSecond,
+    LocalDateTime startTime,
+    LocalDateTime endTime
+) {}
@@ -8,6 +8,6 @@ public record BookPageResponse<T>(
     String nextCursor,
     Instant nextAfter,
     int size,
-    long totalElements,
+    Long totalElements,
     boolean hasNext
 ) {}
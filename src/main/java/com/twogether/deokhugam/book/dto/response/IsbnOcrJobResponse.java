@@ -0,0 +1,18 @@
+package com.twogether.deokhugam.book.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.UUID;
+
+/**
+ * @param status    PENDING, RUNNING, COMPLETED, FAILED
+ * @param isbn      COMPLETED일 때 추출된 ISBN
+ * @param errorCode FAILED일 때 실패 사유 (예: NAVER_OCR_ISBN_NOT_FOUND)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record IsbnOcrJobResponse(
+    UUID jobId,
+    String status,
+    String isbn,
+    String errorCode,
+    String message
+) {}
@@ -0,0 +1,23 @@
+package com.twogether.deokhugam.book.dto.response;
+
+import com.twogether.deokhugam.storage.PresignedUpload;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * @param thumbnailKey 업로드가 끝난 뒤 도서 등록/수정 요청의 thumbnailKey로 전달할 값
+ * @param uploadUrl    이미지를 PUT 할 URL
+ * @param headers      PUT 요청에 그대로 포함해야 하는 헤더
+ * @param expiresAt    uploadUrl 만료 시각
+ */
+public record ThumbnailUploadResponse(
+    String thumbnailKey,
+    String uploadUrl,
+    Map<String, String> headers,
+    Instant expiresAt
+) {
+
+    public static ThumbnailUploadResponse from(PresignedUpload upload) {
+        return new ThumbnailUploadResponse(upload.key(), upload.uploadUrl(), upload.headers(), upload.expiresAt());
+    }
+}
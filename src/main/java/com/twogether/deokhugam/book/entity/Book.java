@@ -1,6 +1,7 @@
 package com.twogether.deokhugam.book.entity;
 
 import com.twogether.deokhugam.book.dto.BookDto;
+import com.twogether.deokhugam.book.dto.ThumbnailVariants;
 import com.twogether.deokhugam.book.dto.request.BookCreateRequest;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -15,6 +16,7 @@ import java.util.UUID;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -50,10 +52,14 @@ public class Book {
     @Column(name = "isbn", length = 13)
     private String isbn;
 
-    @Setter
     @Column(name = "thumbnail_url", columnDefinition = "TEXT")
     private String thumbnailUrl;
 
+    // 현재 thumbnail_url의 축소본(96/240/480px) 생성 완료 여부: 썸네일 변환 작업이 완료 후 true로 변경
+    @Column(name = "thumbnail_variants_ready", nullable = false)
+    @ColumnDefault("false")
+    private Boolean thumbnailVariantsReady = false;
+
     @Setter
     @Column(name = "review_count", nullable = false)
     private Integer reviewCount;
@@ -62,6 +68,11 @@ public class Book {
     @Column(name = "rating", nullable = false)
     private Float rating;
 
+    // 활성 리뷰 평점 합계: 리뷰 작성/수정/삭제 시 증감분만 반영해 rating = ratingSum / reviewCount 를 O(1)로 갱신
+    @Column(name = "rating_sum", nullable = false)
+    @ColumnDefault("0")
+    private Long ratingSum = 0L;
+
     @Column(name = "created_at", nullable = false)
     @CreatedDate
     private Instant createdAt;
@@ -74,6 +85,11 @@ public class Book {
     @Column(name = "is_deleted", nullable = false)
     private Boolean isDeleted = false;
 
+    // 검색 전용 컬럼: title|author|isbn 을 소문자로 합친 DB 생성 컬럼 (PostgreSQL은 pg_trgm GIN 인덱스 사용)
+    @Column(name = "search_text", insertable = false, updatable = false,
+        columnDefinition = "TEXT GENERATED ALWAYS AS (LOWER(title || '|' || author || '|' || COALESCE(isbn, '')))")
+    private String searchText;
+
     public Book(UUID id, String title, String author, String description, String publisher,
         LocalDate publishedDate) {
         this.id = id;
@@ -121,7 +137,16 @@ public class Book {
             this.reviewCount,
             this.rating,
             this.createdAt,
-            this.updatedAt
+            this.updatedAt,
+            ThumbnailVariants.of(this.thumbnailUrl, Boolean.TRUE.equals(this.thumbnailVariantsReady))
         );
     }
+
+    /**
+     * 썸네일이 바뀌면 이전 썸네일의 축소본은 더 이상 유효하지 않음
+     */
+    public void setThumbnailUrl(String thumbnailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+        this.thumbnailVariantsReady = false;
+    }
 }
@@ -0,0 +1,10 @@
+package com.twogether.deokhugam.book.exception;
+
+import com.twogether.deokhugam.common.exception.ErrorCode;
+
+public class InvalidBookCursorException extends BookException {
+	public InvalidBookCursorException(Throwable cause) {
+		super(ErrorCode.INVALID_CURSOR, cause);
+	}
+
+}
@@ -1,215 +1,98 @@
 package com.twogether.deokhugam.book.repository;
 
 import com.twogether.deokhugam.book.entity.Book;
-import java.time.Instant;
-import java.time.LocalDate;
+import com.twogether.deokhugam.book.repository.custom.BookRepositoryCustom;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface BookRepository extends JpaRepository<Book, UUID> {
+public interface BookRepository extends JpaRepository<Book, UUID>, BookRepositoryCustom {
 	boolean existsByIsbn(String isbn);
-	//키워드 없음
+
+	// 수정용: 저장소 I/O가 끝난 뒤 트랜잭션 안에서 최신 행을 잠그고 다시 읽음 (리뷰 통계 증감 UPDATE는 커밋까지 대기)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT b FROM Book b WHERE b.id = :id")
+	Optional<Book> findByIdForUpdate(@Param("id") UUID id);
+
+	/**
+	 * 주어진 썸네일 원본 공개 URL 중 도서(논리삭제 포함)가 아직 참조하는 것만 반환한다.
+	 * 확장자까지 전체 URL로 비교하므로 같은 해시의 hash.png와 hash.jpg는 서로 다른 객체로 본다. (idx_books_thumbnail_url 사용)
+	 */
+	@Query("SELECT DISTINCT b.thumbnailUrl FROM Book b WHERE b.thumbnailUrl IN :urls")
+	List<String> findReferencedThumbnailUrls(@Param("urls") Collection<String> urls);
+
+	/**
+	 * 주어진 썸네일 기준 경로(확장자를 뺀 공개 URL) 중 도서(논리삭제 포함)가 아직 참조하는 것만 반환한다.
+	 * 축소본(_w240.jpg 등)은 원본 확장자와 관계없이 같은 경로에 만들어지므로 축소본의 참조 확인에만 쓰며,
+	 * idx_books_thumbnail_base 식 인덱스를 사용한다.
+	 */
+	@Query(value = """
+    SELECT DISTINCT regexp_replace(b.thumbnail_url, '\\.[^./]*$', '')
+    FROM books b
+    WHERE b.thumbnail_url IS NOT NULL
+      AND regexp_replace(b.thumbnail_url, '\\.[^./]*$', '') IN (:bases)
+""", nativeQuery = true)
+	List<String> findReferencedThumbnailBases(@Param("bases") Collection<String> bases);
+
+	// 일괄 등록용: 주어진 ISBN 중 이미 등록된 것만 한 번의 IN 조회로 반환
+	@Query("SELECT b.isbn FROM Book b WHERE b.isbn IN :isbns")
+	List<String> findExistingIsbns(@Param("isbns") Collection<String> isbns);
+	// 검색 패턴(SearchPatternUtil)이 null이면 전체 조회, 있으면 search_text 트라이그램 인덱스로 부분일치 검색
 	@Query("""
     SELECT COUNT(b) FROM Book b
     WHERE b.isDeleted = false
-      AND (:keyword IS NULL OR
-           LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-           LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-           LOWER(b.isbn) LIKE LOWER(CONCAT('%', :keyword, '%')))
+      AND (:pattern IS NULL OR b.searchText LIKE :pattern ESCAPE '\\')
 """)
-	long countByKeyword(@Param("keyword") String keyword);
+	long countBySearchPattern(@Param("pattern") String pattern);
 
-	//title기준 DESC 정렬 쿼리
-	@Query("""
-    SELECT b FROM Book b
-    WHERE b.isDeleted = false
-      AND (:keyword IS NULL OR
-           LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-           LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-           LOWER(b.isbn) LIKE LOWER(CONCAT('%', :keyword, '%')))
-      AND (:cursorTitle IS NULL OR
-            (b.title < :cursorTitle OR (b.title = :cursorTitle AND b.createdAt < :after)))
-    ORDER BY b.title DESC, b.createdAt DESC
-""")
-	List<Book> findPageByTitleDesc(
-		@Param("keyword") String keyword,
-		@Param("cursorTitle") String cursorTitle,
-		@Param("after") Instant after,
-		Pageable pageable
-	);
-	//title기준 ASC정렬 쿼리
-	@Query("""
-    SELECT b FROM Book b
-    WHERE b.isDeleted = false
-      AND (:keyword IS NULL OR
-           LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-           LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-           LOWER(b.isbn) LIKE LOWER(CONCAT('%', :keyword, '%')))
-      AND (:cursorTitle IS NULL OR
-            (b.title > :cursorTitle OR (b.title = :cursorTitle AND b.createdAt > :after)))
-    ORDER BY b.title ASC, b.createdAt ASC
-""")
-	List<Book> findPageByTitleAsc(
-		@Param("keyword") String keyword,
-		@Param("cursorTitle") String cursorTitle,
-		@Param("after") Instant after,
-		Pageable pageable
-	);
-	//publishedDate기준 DESC 정렬 쿼리
-	@Query("""
-    SELECT b FROM Book b
-    WHERE b.isDeleted = false
-      AND (:keyword IS NULL OR
-           LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-           LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-           LOWER(b.isbn) LIKE LOWER(CONCAT('%', :keyword, '%')))
-      AND (:cursorDate IS NULL OR
-            (b.publishedDate < :cursorDate OR (b.publishedDate = :cursorDate AND b.createdAt < :after)))
-    ORDER BY b.publishedDate DESC, b.createdAt DESC
-""")
-	List<Book> findPageByPublishedDateDesc(
-		@Param("keyword") String keyword,
-		@Param("cursorDate") LocalDate cursorDate,
-		@Param("after") Instant after,
-		Pageable pageable
-	);
-	//publishedDate기준 ASC정렬 쿼리
-	@Query("""
-    SELECT b FROM Book b
-    WHERE b.isDeleted = false
-      AND (:keyword IS NULL OR
-           LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-           LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-           LOWER(b.isbn) LIKE LOWER(CONCAT('%', :keyword, '%')))
-      AND (:cursorDate IS NULL OR
-            (b.publishedDate > :cursorDate OR (b.publishedDate = :cursorDate AND b.createdAt > :after)))
-    ORDER BY b.publishedDate ASC, b.createdAt ASC
-""")
-	List<Book> findPageByPublishedDateAsc(
-		@Param("keyword") String keyword,
-		@Param("cursorDate") LocalDate cursorDate,
-		@Param("after") Instant after,
-		Pageable pageable
-	);
-	//rating기준 DESC 정렬 쿼리
-	@Query("""
-    SELECT b FROM Book b
-    WHERE b.isDeleted = false
-      AND (:keyword IS NULL OR
-           LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-           LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-           LOWER(b.isbn) LIKE LOWER(CONCAT('%', :keyword, '%')))
-      AND (:cursorRating IS NULL OR
-            (b.rating < :cursorRating OR (b.rating = :cursorRating AND b.createdAt < :after)))
-    ORDER BY b.rating DESC, b.createdAt DESC
-""")
-	List<Book> findPageByRatingDesc(
-		@Param("keyword") String keyword,
-		@Param("cursorRating") Float cursorRating,
-		@Param("after") Instant after,
-		Pageable pageable
-	);
-	//rating기준 ASC정렬 쿼리
-	@Query("""
-    SELECT b FROM Book b
-    WHERE b.isDeleted = false
-      AND (:keyword IS NULL OR
-           LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-           LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-           LOWER(b.isbn) LIKE LOWER(CONCAT('%', :keyword, '%')))
-      AND (:cursorRating IS NULL OR
-            (b.rating > :cursorRating OR (b.rating = :cursorRating AND b.createdAt > :after)))
-    ORDER BY b.rating ASC, b.createdAt ASC
-""")
-	List<Book> findPageByRatingAsc(
-		@Param("keyword") String keyword,
-		@Param("cursorRating") Float cursorRating,
-		@Param("after") Instant after,
-		Pageable pageable
-	);
-	//reviewCount기준 DESC 정렬 쿼리
-	@Query("""
-    SELECT b FROM Book b
-    WHERE b.isDeleted = false
-      AND (:keyword IS NULL OR
-           LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-           LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-           LOWER(b.isbn) LIKE LOWER(CONCAT('%', :keyword, '%')))
-      AND (:cursorReviewCount IS NULL OR
-            (b.reviewCount < :cursorReviewCount OR (b.reviewCount = :cursorReviewCount AND b.createdAt < :after)))
-    ORDER BY b.reviewCount DESC, b.createdAt DESC
-""")
-	List<Book> findPageByReviewCountDesc(
-		@Param("keyword") String keyword,
-		@Param("cursorReviewCount") Integer cursorReviewCount,
-		@Param("after") Instant after,
-		Pageable pageable
-	);
-	//reviewCount기준 ASC정렬 쿼리
-	@Query("""
-    SELECT b FROM Book b
-    WHERE b.isDeleted = false
-      AND (:keyword IS NULL OR
-           LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-           LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-           LOWER(b.isbn) LIKE LOWER(CONCAT('%', :keyword, '%')))
-      AND (:cursorReviewCount IS NULL OR
-            (b.reviewCount > :cursorReviewCount OR (b.reviewCount = :cursorReviewCount AND b.createdAt > :after)))
-    ORDER BY b.reviewCount ASC, b.createdAt ASC
-""")
-	List<Book> findPageByReviewCountAsc(
-		@Param("keyword") String keyword,
-		@Param("cursorReviewCount") Integer cursorReviewCount,
-		@Param("after") Instant after,
-		Pageable pageable
-	);
-	//기본 createdAt기준 DESC정렬 쿼리
-	@Query("""
-    SELECT b FROM Book b
-    WHERE b.isDeleted = false
-      AND (:keyword IS NULL OR
-           LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-           LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-           LOWER(b.isbn) LIKE LOWER(CONCAT('%', :keyword, '%')))
-      AND (:after IS NULL OR b.createdAt < :after)
-    ORDER BY b.createdAt DESC
-""")
-	List<Book> findBooksByKeywordAndAfter(
-		@Param("keyword") String keyword,
-		@Param("after") Instant after,
-		Pageable pageable
-	);
-	//기본 createdAt기준 ASC정렬 쿼리
+	/**
+	 * 리뷰 작성/수정/삭제 시 증감분만 반영해 리뷰 수, 평점 합계, 평균 평점을 한 번의 UPDATE로 갱신한다.
+	 * SET 절의 우변은 모두 갱신 전 값을 읽으므로 평균은 갱신 후 합계/개수로 직접 계산한다.
+	 */
+	@Modifying
 	@Query("""
-    SELECT b FROM Book b
-    WHERE b.isDeleted = false
-      AND (:keyword IS NULL OR
-           LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-           LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
-           LOWER(b.isbn) LIKE LOWER(CONCAT('%', :keyword, '%')))
-      AND (:after IS NULL OR b.createdAt > :after)
-    ORDER BY b.createdAt ASC
+    UPDATE Book b SET
+        b.reviewCount = b.reviewCount + :countDelta,
+        b.ratingSum = b.ratingSum + :ratingDelta,
+        b.rating = CASE WHEN b.reviewCount + :countDelta > 0
+            THEN CAST(b.ratingSum + :ratingDelta AS double) / (b.reviewCount + :countDelta)
+            ELSE 0.0 END
+    WHERE b.id = :bookId
 """)
-	List<Book> findBooksByKeywordAndAfterAsc(
-		@Param("keyword") String keyword,
-		@Param("after") Instant after,
-		Pageable pageable
-	);
+	int applyReviewStatsDelta(@Param("bookId") UUID bookId,
+		@Param("countDelta") int countDelta,
+		@Param("ratingDelta") long ratingDelta);
 
+	// 복구용: 특정 도서의 리뷰 통계를 리뷰 테이블 기준으로 다시 계산
 	@Modifying
 	@Query("""
-    UPDATE Book b SET 
+    UPDATE Book b SET
     	b.reviewCount = (SELECT COUNT(r) FROM Review r WHERE r.book.id = :bookId AND r.isDeleted = false),
+    	b.ratingSum = (SELECT COALESCE(SUM(r.rating), 0) FROM Review r WHERE r.book.id = :bookId AND r.isDeleted = false),
         b.rating = (SELECT COALESCE(AVG(r.rating * 1.0), 0) FROM Review r WHERE r.book.id = :bookId AND r.isDeleted = false)
     WHERE b.id = :bookId
 """)
 	void updateBookReviewStats(@Param("bookId") UUID bookId);
 
+	// 복구용: 증분 값이 리뷰 테이블과 어긋난 도서만 골라 전체 재계산 (갱신된 도서 수 반환)
+	@Modifying
+	@Query("""
+    UPDATE Book b SET
+    	b.reviewCount = (SELECT COUNT(r) FROM Review r WHERE r.book.id = b.id AND r.isDeleted = false),
+    	b.ratingSum = (SELECT COALESCE(SUM(r.rating), 0) FROM Review r WHERE r.book.id = b.id AND r.isDeleted = false),
+        b.rating = (SELECT COALESCE(AVG(r.rating * 1.0), 0) FROM Review r WHERE r.book.id = b.id AND r.isDeleted = false)
+    WHERE b.reviewCount <> (SELECT COUNT(r) FROM Review r WHERE r.book.id = b.id AND r.isDeleted = false)
+       OR b.ratingSum <> (SELECT COALESCE(SUM(r.rating), 0) FROM Review r WHERE r.book.id = b.id AND r.isDeleted = false)
+""")
+	int recalculateAllReviewStats();
+
 }
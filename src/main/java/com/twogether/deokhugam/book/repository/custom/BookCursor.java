@@ -0,0 +1,35 @@
+package com.twogether.deokhugam.book.repository.custom;
+
+import com.twogether.deokhugam.book.dto.BookDto;
+import com.twogether.deokhugam.book.exception.InvalidBookCursorException;
+import com.twogether.deokhugam.common.util.CursorCodec;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 도서 목록 커서 (정렬 키, createdAt, id)
+ * id까지 포함하므로 정렬 키와 생성 시각이 같은 도서가 여러 권이어도 페이지 경계에서 누락/중복이 없다.
+ */
+public record BookCursor(
+    Object sortValue,
+    Instant createdAt,
+    UUID id
+) {
+
+    public static BookCursor of(BookDto book, BookSortField sortField) {
+        return new BookCursor(sortField.extract(book), book.createdAt(), book.id());
+    }
+
+    public static BookCursor decode(String cursor, BookSortField sortField) {
+        try {
+            String[] parts = CursorCodec.decode(cursor, 3);
+            return new BookCursor(sortField.parse(parts[0]), Instant.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (RuntimeException e) {
+            throw new InvalidBookCursorException(e);
+        }
+    }
+
+    public String encode() {
+        return CursorCodec.encode(String.valueOf(sortValue), createdAt.toString(), id.toString());
+    }
+}
@@ -0,0 +1,14 @@
+package com.twogether.deokhugam.book.repository.custom;
+
+import com.twogether.deokhugam.book.dto.BookDto;
+import java.util.List;
+
+public interface BookRepositoryCustom {
+
+    /**
+     * 키셋(seek) 페이지네이션 조회
+     * hasNext 판단을 위해 limit + 1건까지 조회한다.
+     * 엔티티 대신 DTO로 바로 조회하며, view에 따라 SELECT 절의 컬럼이 달라진다.
+     */
+    List<BookDto> findBooksWithCursor(BookSearchCondition condition);
+}
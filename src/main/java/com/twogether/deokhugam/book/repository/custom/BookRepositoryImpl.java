@@ -0,0 +1,150 @@
+package com.twogether.deokhugam.book.repository.custom;
+
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.twogether.deokhugam.book.dto.BookDto;
+import com.twogether.deokhugam.book.dto.ThumbnailVariants;
+import com.twogether.deokhugam.book.entity.QBook;
+import com.twogether.deokhugam.common.util.SearchPatternUtil;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 도서 목록 키셋(seek) 페이지네이션 엔진
+ * <p>
+ * 모든 정렬 기준을 (정렬 키, createdAt, id) 순서의 단일 쿼리로 처리한다.
+ * PostgreSQL에서는 같은 컬럼 순서의 부분 복합 인덱스(WHERE is_deleted = false)를 따라
+ * 정방향/역방향 인덱스 스캔으로 limit + 1건만 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookRepositoryImpl implements BookRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+    private final QBook book = QBook.book;
+
+    @Override
+    public List<BookDto> findBooksWithCursor(BookSearchCondition condition) {
+        // summary 조회는 description(TEXT)을 SELECT 절에서 제외해 DB에서 읽지도, 응답에 싣지도 않음
+        boolean summary = condition.view().isSummary();
+        List<Expression<?>> columns = new ArrayList<>(List.of(
+            book.id, book.title, book.author, book.publisher, book.publishedDate, book.isbn,
+            book.thumbnailUrl, book.thumbnailVariantsReady, book.reviewCount, book.rating, book.createdAt,
+            book.updatedAt));
+        if (!summary) {
+            columns.add(book.description);
+        }
+
+        return queryFactory
+            .select(columns.toArray(Expression[]::new))
+            .from(book)
+            .where(
+                book.isDeleted.isFalse(),
+                searchPatternLike(condition.searchPattern()),
+                cursorCondition(condition)
+            )
+            .orderBy(orderSpecifiers(condition.sortField(), condition.ascending()))
+            .limit(condition.limit() + 1L)
+            .fetch()
+            .stream()
+            .map(row -> new BookDto(
+                row.get(book.id),
+                row.get(book.title),
+                row.get(book.author),
+                summary ? null : row.get(book.description),
+                row.get(book.publisher),
+                row.get(book.publishedDate),
+                row.get(book.isbn),
+                row.get(book.thumbnailUrl),
+                row.get(book.reviewCount),
+                row.get(book.rating),
+                row.get(book.createdAt),
+                row.get(book.updatedAt),
+                ThumbnailVariants.of(row.get(book.thumbnailUrl), Boolean.TRUE.equals(row.get(book.thumbnailVariantsReady)))
+            ))
+            .toList();
+    }
+
+    private BooleanExpression searchPatternLike(String searchPattern) {
+        return searchPattern != null ? book.searchText.like(searchPattern, SearchPatternUtil.ESCAPE_CHAR) : null;
+    }
+
+    private OrderSpecifier<?>[] orderSpecifiers(BookSortField sortField, boolean ascending) {
+        Order order = ascending ? Order.ASC : Order.DESC;
+        if (sortField == BookSortField.CREATED_AT) {
+            return new OrderSpecifier<?>[]{
+                new OrderSpecifier<>(order, book.createdAt),
+                new OrderSpecifier<>(order, book.id)
+            };
+        }
+        return new OrderSpecifier<?>[]{
+            new OrderSpecifier<>(order, sortKey(sortField)),
+            new OrderSpecifier<>(order, book.createdAt),
+            new OrderSpecifier<>(order, book.id)
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Comparable<?>> ComparableExpression<T> sortKey(BookSortField sortField) {
+        return (ComparableExpression<T>) switch (sortField) {
+            case TITLE -> book.title;
+            case PUBLISHED_DATE -> book.publishedDate;
+            case RATING -> Expressions.asComparable(book.rating);
+            case REVIEW_COUNT -> Expressions.asComparable(book.reviewCount);
+            case CREATED_AT -> book.createdAt;
+        };
+    }
+
+    /**
+     * 이전 페이지 마지막 도서 이후의 행만 남기는 조건
+     * (k, t, id) > (k0, t0, id0) 를 풀어 쓴 형태이며, 앞에 k >= k0 범위 조건을 두어 인덱스 탐색 시작점으로 쓰게 한다.
+     */
+    private BooleanExpression cursorCondition(BookSearchCondition condition) {
+        boolean asc = condition.ascending();
+        BookCursor cursor = condition.cursor();
+
+        if (cursor == null) {
+            // 커서 없이 after만 전달된 경우: 기존과 같이 createdAt 정렬에서만 보조 커서로 사용
+            if (condition.after() != null && condition.sortField() == BookSortField.CREATED_AT) {
+                return asc ? book.createdAt.gt(condition.after()) : book.createdAt.lt(condition.after());
+            }
+            return null;
+        }
+
+        BooleanExpression tieBreak = createdAtAndIdAfter(cursor, asc);
+        if (condition.sortField() == BookSortField.CREATED_AT) {
+            BooleanExpression bound = asc ? book.createdAt.goe(cursor.createdAt()) : book.createdAt.loe(cursor.createdAt());
+            return bound.and(tieBreak);
+        }
+
+        return seek(sortKey(condition.sortField()), cursor.sortValue(), tieBreak, asc);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Comparable<?>> BooleanExpression seek(
+        ComparableExpression<T> key, Object cursorValue, BooleanExpression tieBreak, boolean asc
+    ) {
+        T value = (T) cursorValue;
+        BooleanExpression bound = asc ? key.goe(value) : key.loe(value);
+        BooleanExpression after = asc
+            ? key.gt(value).or(key.eq(value).and(tieBreak))
+            : key.lt(value).or(key.eq(value).and(tieBreak));
+        return bound.and(after);
+    }
+
+    private BooleanExpression createdAtAndIdAfter(BookCursor cursor, boolean asc) {
+        Instant createdAt = cursor.createdAt();
+        return asc
+            ? book.createdAt.gt(createdAt).or(book.createdAt.eq(createdAt).and(book.id.gt(cursor.id())))
+            : book.createdAt.lt(createdAt).or(book.createdAt.eq(createdAt).and(book.id.lt(cursor.id())));
+    }
+}
@@ -0,0 +1,22 @@
+package com.twogether.deokhugam.book.repository.custom;
+
+import com.twogether.deokhugam.common.dto.ListView;
+import java.time.Instant;
+
+/**
+ * 도서 목록 조회 조건
+ *
+ * @param searchPattern search_text 부분일치 패턴 (null이면 검색 조건 없음)
+ * @param cursor        이전 페이지 마지막 도서의 커서 (null이면 첫 페이지)
+ * @param after         커서 없이 createdAt 기준으로만 이어서 조회할 때 사용하는 보조 커서
+ * @param view          SUMMARY면 description 컬럼을 조회하지 않음
+ */
+public record BookSearchCondition(
+    String searchPattern,
+    BookSortField sortField,
+    boolean ascending,
+    BookCursor cursor,
+    Instant after,
+    int limit,
+    ListView view
+) { }
@@ -0,0 +1,52 @@
+package com.twogether.deokhugam.book.repository.custom;
+
+import com.twogether.deokhugam.book.dto.BookDto;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.function.Function;
+
+/**
+ * 도서 목록 정렬 기준
+ * 커서에 담기는 정렬 키 값의 추출(extract)과 문자열 역변환(parse)을 함께 정의한다.
+ */
+public enum BookSortField {
+    TITLE("title", BookDto::title, value -> value),
+    PUBLISHED_DATE("publishedDate", BookDto::publishedDate, LocalDate::parse),
+    // rating 컬럼은 REAL이므로 커서 값도 float로 비교
+    RATING("rating", book -> (float) book.rating(), Float::valueOf),
+    REVIEW_COUNT("reviewCount", BookDto::reviewCount, Integer::valueOf),
+    CREATED_AT("createdAt", BookDto::createdAt, Instant::parse);
+
+    private final String paramName;
+    private final Function<BookDto, Object> extractor;
+    private final Function<String, Object> parser;
+
+    BookSortField(String paramName, Function<BookDto, Object> extractor, Function<String, Object> parser) {
+        this.paramName = paramName;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    /**
+     * API의 orderBy 값으로 정렬 기준을 찾는다. 알 수 없는 값은 기존과 같이 createdAt 정렬
+     */
+    public static BookSortField from(String orderBy) {
+        for (BookSortField field : values()) {
+            if (field.paramName.equals(orderBy)) {
+                return field;
+            }
+        }
+        return CREATED_AT;
+    }
+
+    public Object extract(BookDto book) {
+        return extractor.apply(book);
+    }
+
+    /**
+     * @throws RuntimeException 정렬 키 형식이 맞지 않는 경우 (DateTimeParseException, NumberFormatException)
+     */
+    public Object parse(String value) {
+        return parser.apply(value);
+    }
+}
@@ -0,0 +1,45 @@
+package com.twogether.deokhugam.book.service;
+
+import com.twogether.deokhugam.book.dto.BookDto;
+import com.twogether.deokhugam.book.entity.Book;
+import com.twogether.deokhugam.book.repository.BookRepository;
+import com.twogether.deokhugam.common.cache.EntitySnapshotCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도서 단건 조회 캐시
+ * 도서 id별 BookDto 스냅샷을 보관하고, 도서 수정/삭제 및 리뷰 통계 변경 시 해당 도서만 무효화한다.
+ */
+@Component
+public class BookCache {
+
+    private final BookRepository bookRepository;
+    private final EntitySnapshotCache<UUID, BookDto> cache;
+
+    public BookCache(
+        BookRepository bookRepository,
+        MeterRegistry meterRegistry,
+        @Value("${cache.entity.book.max-size:10000}") long maxSize,
+        @Value("${cache.entity.book.ttl:10m}") Duration ttl
+    ) {
+        this.bookRepository = bookRepository;
+        this.cache = new EntitySnapshotCache<>("book.by-id", maxSize, ttl, meterRegistry);
+    }
+
+    public Optional<BookDto> find(UUID bookId) {
+        return cache.get(bookId, id -> bookRepository.findById(id).map(Book::toDto));
+    }
+
+    public void invalidate(UUID bookId) {
+        cache.invalidate(bookId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
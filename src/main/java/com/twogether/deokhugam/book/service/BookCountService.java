@@ -0,0 +1,43 @@
+package com.twogether.deokhugam.book.service;
+
+import com.twogether.deokhugam.book.repository.BookRepository;
+import com.twogether.deokhugam.common.cache.TotalCountCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도서 목록 totalElements 캐시
+ * 검색 패턴별 COUNT 결과를 보관하고, 도서 등록/수정/삭제 시 무효화한다.
+ */
+@Component
+public class BookCountService {
+
+    // Caffeine은 null 키를 허용하지 않으므로 "검색어 없음"을 빈 문자열로 표현
+    private static final String NO_KEYWORD = "";
+
+    private final BookRepository bookRepository;
+    private final TotalCountCache<String> countCache;
+
+    public BookCountService(
+        BookRepository bookRepository,
+        MeterRegistry meterRegistry,
+        @Value("${cache.total-count.max-size:10000}") long maxSize,
+        @Value("${cache.total-count.ttl:60s}") Duration ttl
+    ) {
+        this.bookRepository = bookRepository;
+        this.countCache = new TotalCountCache<>("book.total-count", maxSize, ttl, meterRegistry);
+    }
+
+    public long count(String searchPattern) {
+        return countCache.get(
+            searchPattern != null ? searchPattern : NO_KEYWORD,
+            key -> bookRepository.countBySearchPattern(key.isEmpty() ? null : key)
+        );
+    }
+
+    public void invalidate() {
+        countCache.invalidateAll();
+    }
+}
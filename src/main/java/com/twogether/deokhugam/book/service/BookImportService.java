@@ -0,0 +1,156 @@
+package com.twogether.deokhugam.book.service;
+
+import com.twogether.deokhugam.book.batch.writer.BookImportWriter;
+import com.twogether.deokhugam.book.dto.response.BookImportJobResponse;
+import com.twogether.deokhugam.book.exception.BookException;
+import com.twogether.deokhugam.common.exception.ErrorCode;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 도서 일괄 등록 Job 실행/조회/재시작
+ * <p>
+ * 스케줄러가 쓰는 동기 JobLauncher와 달리 별도 스레드에서 Job을 실행해 요청은 실행 id만 받고 바로 반환된다.
+ * 업로드 파일은 work-dir에 저장하며, 재시작 시 같은 파일을 다시 읽어야 하므로 완료될 때까지 보관한다.
+ */
+@Slf4j
+@Service
+public class BookImportService {
+
+    private final Job bookImportJob;
+    private final JobExplorer jobExplorer;
+    private final TaskExecutorJobLauncher asyncJobLauncher;
+    private final Path workDir;
+
+    public BookImportService(
+        Job bookImportJob,
+        JobRepository jobRepository,
+        JobExplorer jobExplorer,
+        @Value("${batch.book-import.work-dir:${java.io.tmpdir}/deokhugam-import}") String workDir
+    ) throws Exception {
+        this.bookImportJob = bookImportJob;
+        this.jobExplorer = jobExplorer;
+        this.workDir = Path.of(workDir);
+
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("book-import-");
+        // 동시에 여러 파일을 올려도 네이버 API 호출량이 늘지 않도록 한 번에 하나의 Job만 실행
+        taskExecutor.setConcurrencyLimit(1);
+        this.asyncJobLauncher = new TaskExecutorJobLauncher();
+        this.asyncJobLauncher.setJobRepository(jobRepository);
+        this.asyncJobLauncher.setTaskExecutor(taskExecutor);
+        this.asyncJobLauncher.afterPropertiesSet();
+    }
+
+    public BookImportJobResponse startImport(MultipartFile isbnFile) {
+        if (isbnFile == null || isbnFile.isEmpty()) {
+            throw new BookException(ErrorCode.INVALID_IMPORT_FILE);
+        }
+
+        Path inputFile = workDir.resolve(UUID.randomUUID() + ".txt");
+        try {
+            Files.createDirectories(workDir);
+            isbnFile.transferTo(inputFile);
+        } catch (IOException e) {
+            throw new BookException(ErrorCode.INVALID_IMPORT_FILE, e);
+        }
+
+        JobParameters jobParameters = new JobParametersBuilder()
+            .addString("inputFile", inputFile.toAbsolutePath().toString())
+            .addString("originalFilename", String.valueOf(isbnFile.getOriginalFilename()), false)
+            .toJobParameters();
+
+        log.info("[BookImportService] 도서 일괄 등록 시작: 파일={}, 크기={}", isbnFile.getOriginalFilename(), isbnFile.getSize());
+        return toResponse(launch(jobParameters));
+    }
+
+    public BookImportJobResponse getImport(Long executionId) {
+        return toResponse(findExecution(executionId));
+    }
+
+    public BookImportJobResponse restartImport(Long executionId) {
+        JobExecution previous = findExecution(executionId);
+        if (previous.getStatus() != BatchStatus.FAILED && previous.getStatus() != BatchStatus.STOPPED) {
+            throw new BookException(ErrorCode.BOOK_IMPORT_NOT_RESTARTABLE);
+        }
+
+        log.info("[BookImportService] 도서 일괄 등록 재시작: 이전 실행 id={}", executionId);
+        // 같은 JobParameters로 실행하면 같은 JobInstance의 마지막 커밋 지점부터 이어서 처리
+        return toResponse(launch(previous.getJobParameters()));
+    }
+
+    private JobExecution launch(JobParameters jobParameters) {
+        try {
+            return asyncJobLauncher.run(bookImportJob, jobParameters);
+        } catch (JobExecutionAlreadyRunningException | JobInstanceAlreadyCompleteException
+                 | JobRestartException | JobParametersInvalidException e) {
+            throw new BookException(ErrorCode.BOOK_IMPORT_NOT_RESTARTABLE, e);
+        }
+    }
+
+    private JobExecution findExecution(Long executionId) {
+        JobExecution execution = jobExplorer.getJobExecution(executionId);
+        if (execution == null || !bookImportJob.getName().equals(execution.getJobInstance().getJobName())) {
+            throw new BookException(ErrorCode.BOOK_IMPORT_NOT_FOUND);
+        }
+        return execution;
+    }
+
+    private BookImportJobResponse toResponse(JobExecution execution) {
+        long read = 0;
+        long filtered = 0;
+        long imported = 0;
+        long duplicate = 0;
+        long notFound = 0;
+        long failed = 0;
+        for (StepExecution step : execution.getStepExecutions()) {
+            read += step.getReadCount();
+            filtered += step.getFilterCount();
+            imported += step.getExecutionContext().getLong(BookImportWriter.IMPORTED, 0);
+            duplicate += step.getExecutionContext().getLong(BookImportWriter.DUPLICATE, 0);
+            notFound += step.getExecutionContext().getLong(BookImportWriter.NOT_FOUND, 0);
+            failed += step.getExecutionContext().getLong(BookImportWriter.FAILED, 0);
+        }
+
+        LocalDateTime start = execution.getStartTime();
+        LocalDateTime end = execution.getEndTime() != null ? execution.getEndTime() : LocalDateTime.now();
+        double seconds = start != null ? Duration.between(start, end).toMillis() / 1000.0 : 0;
+
+        return new BookImportJobResponse(
+            execution.getId(),
+            execution.getStatus().name(),
+            execution.getExitStatus().getExitCode(),
+            read,
+            imported,
+            duplicate,
+            notFound,
+            failed,
+            // 처리기에서 걸러진 줄 = 잘못된 ISBN + 빈 줄/주석
+            filtered,
+            seconds > 0 ? read / seconds : 0,
+            start,
+            execution.getEndTime()
+        );
+    }
+}
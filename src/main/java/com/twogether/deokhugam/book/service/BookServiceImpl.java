@@ -3,34 +3,66 @@ package com.twogether.deokhugam.book.service;
 import com.twogether.deokhugam.book.dto.BookDto;
 import com.twogether.deokhugam.book.dto.request.BookCreateRequest;
 import com.twogether.deokhugam.book.dto.request.BookUpdateRequest;
+import com.twogether.deokhugam.book.dto.request.ThumbnailUploadRequest;
 import com.twogether.deokhugam.book.dto.response.BookPageResponse;
+import com.twogether.deokhugam.book.dto.response.ThumbnailUploadResponse;
 import com.twogether.deokhugam.book.entity.Book;
 import com.twogether.deokhugam.book.exception.BookNotFoundException;
 import com.twogether.deokhugam.book.exception.DuplicatedIsbnException;
 import com.twogether.deokhugam.book.repository.BookRepository;
+import com.twogether.deokhugam.book.repository.custom.BookCursor;
+import com.twogether.deokhugam.book.repository.custom.BookSearchCondition;
+import com.twogether.deokhugam.book.repository.custom.BookSortField;
+import com.twogether.deokhugam.common.dto.ListView;
+import com.twogether.deokhugam.common.util.SearchPatternUtil;
+import com.twogether.deokhugam.review.repository.ReviewRepository;
 import com.twogether.deokhugam.storage.S3ImageStorage;
+import com.twogether.deokhugam.storage.StorageDeletionQueue;
+import com.twogether.deokhugam.storage.thumbnail.ThumbnailSize;
 import jakarta.annotation.Nullable;
 import java.time.Instant;
-import java.time.LocalDate;
-import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+/**
+ * 등록/수정은 S3 업로드나 업로드 확인(HEAD) 같은 저장소 네트워크 I/O를 포함하므로 메서드 전체를 트랜잭션으로 묶지 않는다.
+ * 조회·저장은 각 Repository 호출의 짧은 트랜잭션에서 처리해, 업로드가 느려도 커넥션 풀의 커넥션을 붙잡지 않는다.
+ * 수정은 I/O가 끝난 뒤 짧은 트랜잭션에서 도서를 잠그고 다시 읽어, 요청으로 바뀐 필드만 반영한다.
+ * 더 이상 쓰지 않는 썸네일은 직접 지우지 않고 삭제 대기열(storage_deletion_queue)에 등록해 백그라운드에서 일괄 삭제하며,
+ * 도서가 새로 참조하는 썸네일이 대기열에 있으면 도서 저장과 같은 트랜잭션에서 취소한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class BookServiceImpl implements BookService {
 
+    private static final String THUMBNAIL_FOLDER = "bookThumbnail/";
+
     private final BookRepository bookRepository;
     private final S3ImageStorage s3ImageStorage;
+    private final BookCountService bookCountService;
+    private final BookCache bookCache;
+    private final BookThumbnailPipeline bookThumbnailPipeline;
+    private final StorageDeletionQueue storageDeletionQueue;
+    private final ReviewRepository reviewRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public ThumbnailUploadResponse createThumbnailUpload(ThumbnailUploadRequest request) {
+        log.info("[BookServiceImpl] 썸네일 직접 업로드 URL 발급 요청 : contentType={}, size={}",
+            request.contentType(), request.contentLength());
+        // 서명은 로컬에서 계산하므로 DB와 S3 어느 쪽에도 접속하지 않음
+        return ThumbnailUploadResponse.from(
+            s3ImageStorage.presignUpload(THUMBNAIL_FOLDER, request.contentType(), request.contentLength()));
+    }
 
     @Override
     public BookDto registerBook(BookCreateRequest request)
@@ -42,7 +74,17 @@ public class BookServiceImpl implements BookService {
             throw new DuplicatedIsbnException();
         }
         Book book = Book.of(request);
-        BookDto registeredBook = bookRepository.save(book).toDto();
+        // 클라이언트가 직접 업로드한 썸네일이 있으면 업로드 여부만 확인하고 URL을 기록
+        String imageUrl = null;
+        if (request.thumbnailKey() != null && !request.thumbnailKey().isBlank()) {
+            imageUrl = s3ImageStorage.confirmUpload(THUMBNAIL_FOLDER, request.thumbnailKey());
+            book.setThumbnailUrl(imageUrl);
+        }
+        BookDto registeredBook = save(book, imageUrl);
+        bookCountService.invalidate();
+        if (imageUrl != null) {
+            submitThumbnailVariants(registeredBook.id(), imageUrl);
+        }
         log.info("도서 등록 성공 : 도서제목={}", registeredBook.title());
 
         return registeredBook;
@@ -61,10 +103,14 @@ public class BookServiceImpl implements BookService {
 	    String imageUrl;
         log.debug("S3에 썸네일 이미지 업로드 요청: {}",thumbnailImg.getOriginalFilename());
 
-		imageUrl = s3ImageStorage.uploadImage(thumbnailImg, "bookThumbnail/");
+		imageUrl = s3ImageStorage.uploadImage(thumbnailImg, THUMBNAIL_FOLDER);
 
 	    book.setThumbnailUrl(imageUrl);
-        BookDto registeredBook = bookRepository.save(book).toDto();
+        BookDto registeredBook = save(book, imageUrl);
+        restoreThumbnailIfDeleted(imageUrl, thumbnailImg);
+        bookCountService.invalidate();
+        // 목록용 축소본은 커밋 이후 별도 스레드에서 생성
+        submitThumbnailVariants(registeredBook.id(), imageUrl);
 
         log.info("도서 등록 성공 : {}", registeredBook.title());
 
@@ -72,69 +118,30 @@ public class BookServiceImpl implements BookService {
     }
 
     @Override
-    public List<BookDto> getAllBooks() {
-        log.info("[BookServiceImpl] 모든 도서 리스트 조회 요청.");
-        List<BookDto> result = bookRepository.findAll().stream().filter(book -> !book.getIsDeleted()).map(Book::toDto).toList();
-        log.info("모든 도서 리스트 조회 성공: 전체 도서 수량={}" , result.size());
-        return result;
-    }
-    @Override
+    @Transactional(readOnly = true)
     public BookPageResponse<BookDto> getAllSorted(
         String keyword,
         String orderBy,
         String direction,
         String cursor,
         Instant after,
-        int limit
+        int limit,
+        boolean includeTotal,
+        ListView view
     ) {
         log.info("[BookServiceImpl] 도서목록 정렬조회 요청 : 검색어={}",keyword);
         log.debug("정렬기준={}, 정렬방향={}",orderBy,direction);
-        String kw = (keyword == null || keyword.isBlank()) ? "" : keyword;
-
-        // 페이징용 Pageable 생성
-        Pageable pageable = PageRequest.of(0, limit + 1);
-
-
-        List<Book> results;
+        // 검색어 → search_text 부분일치 패턴 (없으면 null로 검색 조건 생략)
+        String kw = SearchPatternUtil.toContainsPattern(keyword);
+        BookSortField sortField = BookSortField.from(orderBy);
         boolean isAsc = "asc".equalsIgnoreCase(direction);
-        switch (orderBy) {
-            case "title" -> {
-                results = isAsc
-                    ? bookRepository.findPageByTitleAsc(kw, cursor, after, pageable)
-                    : bookRepository.findPageByTitleDesc(kw, cursor, after, pageable);
-            }
-            case "publishedDate" -> {
-                LocalDate cursorDate = null;
-                if (cursor != null) {
-                    try {
-                        cursorDate = LocalDate.parse(cursor);
-                    } catch (DateTimeParseException e) {
-                        throw new IllegalArgumentException("잘못된 날짜 형식입니다: " + cursor, e);
-                    }
-                }
-                results = isAsc
-                    ? bookRepository.findPageByPublishedDateAsc(kw, cursorDate, after, pageable)
-                    : bookRepository.findPageByPublishedDateDesc(kw, cursorDate, after, pageable);
-            }
-            case "rating" -> {
-                Float cursorRating = (cursor != null) ? Float.parseFloat(cursor) : null;
-                results = isAsc
-                    ? bookRepository.findPageByRatingAsc(kw, cursorRating, after, pageable)
-                    : bookRepository.findPageByRatingDesc(kw, cursorRating, after, pageable);
-            }
-            case "reviewCount" -> {
-                Integer cursorReviewCount = (cursor != null) ? Integer.parseInt(cursor) : null;
-                results = isAsc
-                    ? bookRepository.findPageByReviewCountAsc(kw, cursorReviewCount, after, pageable)
-                    : bookRepository.findPageByReviewCountDesc(kw, cursorReviewCount, after, pageable);
-            }
-            default -> {
-                results = isAsc
-                    ? bookRepository.findBooksByKeywordAndAfterAsc(kw, after, pageable)
-                    : bookRepository.findBooksByKeywordAndAfter(kw, after, pageable);
-            }
-        }
-        log.debug("Pageable 쿼리 조회 성공 : pagesize={}", pageable.getPageSize());
+        // 커서 (정렬 키, createdAt, id) 디코딩 - 형식이 잘못되면 INVALID_CURSOR
+        BookCursor bookCursor = (cursor == null || cursor.isBlank()) ? null : BookCursor.decode(cursor, sortField);
+
+        List<BookDto> results = bookRepository.findBooksWithCursor(
+            new BookSearchCondition(kw, sortField, isAsc, bookCursor, after, limit, view)
+        );
+        log.debug("키셋 페이지 조회 성공 : 조회 건수={}", results.size());
         boolean hasNext = results.size() > limit;
         if (hasNext) {
             results = results.subList(0, limit);
@@ -145,27 +152,17 @@ public class BookServiceImpl implements BookService {
         Instant nextAfter = null;
 
         if (hasNext && !results.isEmpty()) {
-            Book last = results.get(results.size() - 1);
-            nextAfter = last.getCreatedAt();
-
-            // 모든 정렬 기준에서 커서를 String으로 반환
-            Object cursorValue = switch (orderBy) {
-                case "title" -> last.getTitle();
-                case "publishedDate" -> last.getPublishedDate();
-                case "rating" -> last.getRating();
-                case "reviewCount" -> last.getReviewCount();
-                default -> last.getCreatedAt();  // fallback
-            };
-
-            nextCursor = (cursorValue != null) ? cursorValue.toString() : null;
+            BookDto last = results.get(results.size() - 1);
+            nextAfter = last.createdAt();
+            nextCursor = BookCursor.of(last, sortField).encode();
         }
 
-        //전체 목록 카운트
-        long totalCount = bookRepository.countByKeyword(kw);
+        // 전체 목록 카운트 (includeTotal=false면 COUNT 쿼리 생략, 캐시 우선 조회)
+        Long totalCount = includeTotal ? bookCountService.count(kw) : null;
 
         // 결과값 생성
         BookPageResponse<BookDto> resultPage = new BookPageResponse<>(
-            results.stream().map(Book::toDto).toList(),
+            results,
             nextCursor,
             nextAfter,
             results.size(),
@@ -179,9 +176,8 @@ public class BookServiceImpl implements BookService {
     @Override
     public BookDto getBookbyId(UUID bookId) {
         log.info("[BookServiceImpl] 도서정보 단일조회 요청 : BookId={}", bookId);
-        Book targetbook = bookRepository.findById(bookId)
+        BookDto result = bookCache.find(bookId)
             .orElseThrow(BookNotFoundException::new);
-        BookDto result = targetbook.toDto();
         log.info("도서정보 단일조회 성공 : title={}",result.title());
         return result;
     }
@@ -189,30 +185,72 @@ public class BookServiceImpl implements BookService {
 
     public BookDto updateBook(UUID bookId, BookUpdateRequest request, @Nullable MultipartFile thumbnailImg) {
         log.info("[BookServiceImpl] 도서정보 수정 요청 : BookId={}",bookId);
-        Book targetbook = bookRepository.findById(bookId)
+        // 없는 도서면 업로드 전에 실패 (이 엔티티는 트랜잭션이 끝나 분리된 상태이므로 수정/저장에 쓰지 않음)
+        bookRepository.findById(bookId)
             .orElseThrow(BookNotFoundException::new);
 
-        targetbook.setTitle(request.title());
-        targetbook.setAuthor(request.author());
-        targetbook.setDescription(request.description());
-        targetbook.setPublisher(request.publisher());
-        targetbook.setPublishedDate(request.publishedDate());
-
-
+        // 업로드 중에는 트랜잭션을 열지 않아 커넥션을 점유하지 않음
+        String imageUrl = null;
         if (thumbnailImg != null && !thumbnailImg.isEmpty()) {
             log.debug("S3 썸네일 교체 요청");
-            String imageUrl = s3ImageStorage.uploadImage(thumbnailImg, "bookThumbnail/");
-            targetbook.setThumbnailUrl(imageUrl);
-            log.debug("S3 썸네일 교체 성공: url={}", imageUrl);
+            imageUrl = s3ImageStorage.uploadImage(thumbnailImg, THUMBNAIL_FOLDER);
+        } else if (request.thumbnailKey() != null && !request.thumbnailKey().isBlank()) {
+            log.debug("직접 업로드된 썸네일로 교체 요청: key={}", request.thumbnailKey());
+            imageUrl = s3ImageStorage.confirmUpload(THUMBNAIL_FOLDER, request.thumbnailKey());
         } else {
             log.debug("S3 썸네일 변경 없음.");
         }
-        BookDto result = bookRepository.save(targetbook).toDto();
+
+        // 트랜잭션 안에서 도서를 잠그고 다시 읽어 수정한 필드만 반영
+        // (리뷰 통계/논리삭제/축소본 준비 여부 등 그 사이 바뀐 값을 업로드 전 값으로 덮어쓰지 않음)
+        String newImageUrl = imageUrl;
+        UpdatedBook updated = transactionTemplate.execute(status -> {
+            if (newImageUrl != null) {
+                cancelThumbnailDeletion(newImageUrl);
+            }
+            Book book = bookRepository.findByIdForUpdate(bookId)
+                .orElseThrow(BookNotFoundException::new);
+            boolean titleChanged = !Objects.equals(book.getTitle(), request.title());
+            String replacedUrl = book.getThumbnailUrl();
+
+            book.setTitle(request.title());
+            book.setAuthor(request.author());
+            book.setDescription(request.description());
+            book.setPublisher(request.publisher());
+            book.setPublishedDate(request.publishedDate());
+            if (newImageUrl != null) {
+                book.setThumbnailUrl(newImageUrl);
+            }
+
+            // 리뷰에 비정규화된 도서 제목/썸네일은 도서 수정과 같은 트랜잭션에서 일괄 갱신 (리뷰 조회는 읽기만 함)
+            if (titleChanged || (newImageUrl != null && !newImageUrl.equals(replacedUrl))) {
+                int updatedReviews = reviewRepository.updateBookInfo(bookId, book.getTitle(), book.getThumbnailUrl());
+                log.debug("리뷰 도서 정보 반영: BookId={}, 리뷰 수={}", bookId, updatedReviews);
+            }
+            return new UpdatedBook(book.toDto(), replacedUrl);
+        });
+        BookDto result = updated.dto();
+        String replacedUrl = updated.replacedThumbnailUrl();
+        if (imageUrl != null && thumbnailImg != null && !thumbnailImg.isEmpty()) {
+            restoreThumbnailIfDeleted(imageUrl, thumbnailImg);
+        }
+        if (imageUrl != null) {
+            submitThumbnailVariants(bookId, imageUrl);
+            log.debug("S3 썸네일 교체 성공: url={}", imageUrl);
+            // 교체된 이전 썸네일 정리 (등록이 누락되더라도 고아 썸네일 정리 작업이 다시 찾아냄)
+            if (replacedUrl != null && !replacedUrl.equals(imageUrl)) {
+                enqueueThumbnailDeletion(replacedUrl);
+            }
+        }
+        // 제목/저자 변경으로 검색 결과 건수가 달라질 수 있음
+        bookCountService.invalidate();
+        bookCache.invalidate(bookId);
         log.info("도서정보 수정 성공: BookId={}",bookId);
         return result;
     }
 
     @Override
+    @Transactional
     public void deleteBook(UUID bookId){
         log.info("[BookServiceImpl] 도서정보 논리삭제 요청 : BookId={}", bookId);
         // 책 존재 확인 및 조회
@@ -221,10 +259,13 @@ public class BookServiceImpl implements BookService {
         // 논리삭제 체크 활성화
         book.setIsDeleted(true);
         bookRepository.save(book);
+        bookCountService.invalidate();
+        bookCache.invalidate(bookId);
         log.info("도서정보 논리삭제 성공 : BookId={}", bookId);
     }
 
     @Override
+    @Transactional
     public void deleteBookHard(UUID bookId){
         log.info("[BookServiceImpl] 도서정보 물리삭제 요청 : BookId={}", bookId);
         // 책 존재 확인 및 조회
@@ -232,11 +273,88 @@ public class BookServiceImpl implements BookService {
             .orElseThrow(BookNotFoundException::new);
         // 썸네일 URL 추출
         String thumbnailUrl = book.getThumbnailUrl();
-        //s3 썸네일 삭제
-        log.debug("S3 연동 썸네일 삭제 요청");
-        s3ImageStorage.deleteImage(thumbnailUrl);
 
         bookRepository.deleteById(bookId);
+        // s3 썸네일은 같은 트랜잭션에서 삭제 대기열에만 등록 (S3 요청은 커밋 이후 백그라운드에서 일괄 처리)
+        // 같은 이미지(내용 해시 키)를 쓰는 다른 도서가 있는지는 실제 삭제 직전에 확인
+        if (thumbnailUrl != null) {
+            enqueueThumbnailDeletion(thumbnailUrl);
+        }
+        bookCountService.invalidate();
+        bookCache.invalidate(bookId);
         log.info("도서정보 물리삭제 성공 : BookId={}",bookId);
     }
+
+    /**
+     * 도서 저장과 썸네일 삭제 취소를 한 트랜잭션으로 처리
+     */
+    private BookDto save(Book book, @Nullable String thumbnailUrl) {
+        return transactionTemplate.execute(status -> {
+            if (thumbnailUrl != null) {
+                cancelThumbnailDeletion(thumbnailUrl);
+            }
+            return bookRepository.save(book).toDto();
+        });
+    }
+
+    /**
+     * 썸네일 원본과 축소본 키를 삭제 대기열에 등록 (축소본이 아직 없어도 없는 키는 삭제 시 무시됨)
+     */
+    private void enqueueThumbnailDeletion(String thumbnailUrl) {
+        List<String> keys = thumbnailKeys(thumbnailUrl);
+        if (keys.isEmpty()) {
+            log.debug("이 저장소의 썸네일이 아니므로 삭제 생략: url={}", thumbnailUrl);
+            return;
+        }
+        storageDeletionQueue.enqueue(keys);
+        log.debug("썸네일 삭제 대기열 등록: key={}", keys.get(0));
+    }
+
+    /**
+     * 도서 저장이 커밋된 뒤, 올린 썸네일이 그 사이 삭제되었으면 요청 파일로 다시 올림
+     * 내용 해시 키는 삭제 대기 중인 키일 수 있다. 삭제 작업이 취소보다 먼저 행을 잠갔거나(취소는 삭제가 끝날 때까지 대기),
+     * 다른 인스턴스의 존재 확인 인덱스가 이미 지운 키를 있다고 판단해 PUT을 생략했을 수 있으므로 커밋 후 한 번 더 확인한다.
+     */
+    private void restoreThumbnailIfDeleted(String imageUrl, MultipartFile thumbnailImg) {
+        if (s3ImageStorage.restoreIfMissing(imageUrl, thumbnailImg)) {
+            log.warn("저장 중 삭제된 썸네일을 다시 업로드: url={}", imageUrl);
+        }
+    }
+
+    /**
+     * 도서가 새로 참조하는 썸네일이 삭제 대기 중이면 취소 (도서 저장과 같은 트랜잭션에서 호출)
+     * 같은 이미지는 같은 내용 해시 키를 쓰므로, 삭제된 도서의 썸네일을 다른 도서가 다시 올리면 PUT 없이 그 키를 재사용한다.
+     */
+    private void cancelThumbnailDeletion(String thumbnailUrl) {
+        List<String> keys = thumbnailKeys(thumbnailUrl);
+        if (!keys.isEmpty()) {
+            storageDeletionQueue.cancel(keys);
+        }
+    }
+
+    /**
+     * 이 저장소 썸네일의 원본과 축소본 키 (외부 URL이면 빈 목록)
+     */
+    private List<String> thumbnailKeys(String thumbnailUrl) {
+        String key;
+        try {
+            key = s3ImageStorage.keyOf(thumbnailUrl);
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+        List<String> keys = new ArrayList<>();
+        keys.add(key);
+        for (ThumbnailSize size : ThumbnailSize.values()) {
+            keys.add(size.variantPath(key));
+        }
+        return keys;
+    }
+
+    private void submitThumbnailVariants(UUID bookId, String imageUrl) {
+        // 축소본 작업은 업로드된 원본을 저장소에서 다시 읽으므로 요청 파일을 메모리에 붙잡아 두지 않음
+        bookThumbnailPipeline.submit(bookId, imageUrl);
+    }
+
+    private record UpdatedBook(BookDto dto, String replacedThumbnailUrl) {
+    }
 }
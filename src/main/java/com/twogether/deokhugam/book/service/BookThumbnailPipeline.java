@@ -0,0 +1,146 @@
+package com.twogether.deokhugam.book.service;
+
+import com.twogether.deokhugam.storage.ImageObjectStorage;
+import com.twogether.deokhugam.storage.thumbnail.ThumbnailResizer;
+import com.twogether.deokhugam.storage.thumbnail.ThumbnailSize;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 도서 썸네일 축소본 생성 파이프라인
+ * <p>
+ * 원본 업로드가 끝난 뒤 요청 스레드와 분리된 고정 크기 스레드 풀에서 저장소의 원본을 읽어 decode → resize → encode → upload 순서로
+ * {@link ThumbnailSize}별 JPEG 변환본을 만들고, 모두 올라가면 books.thumbnail_variants_ready를 true로 바꾼다.
+ * 대기열이 가득 차면 작업을 버리며(원본 썸네일은 그대로 사용 가능), 단계별 소요 시간은 thumbnail.stage 타이머로 기록한다.
+ */
+@Slf4j
+@Component
+public class BookThumbnailPipeline {
+
+    private final ImageObjectStorage imageStorage;
+    private final JdbcTemplate jdbcTemplate;
+    private final BookCache bookCache;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+
+    public BookThumbnailPipeline(
+        ImageObjectStorage imageStorage,
+        JdbcTemplate jdbcTemplate,
+        BookCache bookCache,
+        MeterRegistry meterRegistry,
+        @Value("${thumbnail.pipeline.concurrency:2}") int concurrency,
+        @Value("${thumbnail.pipeline.queue-capacity:100}") int queueCapacity
+    ) {
+        this.imageStorage = imageStorage;
+        this.jdbcTemplate = jdbcTemplate;
+        this.bookCache = bookCache;
+        this.meterRegistry = meterRegistry;
+        this.executor = new ThreadPoolExecutor(
+            concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("book-thumbnail-variant-")
+        );
+        meterRegistry.gauge("thumbnail.pipeline.queued", executor, e -> e.getQueue().size());
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 작업을 넣는다. (롤백된 도서의 변환본을 만들지 않도록)
+     *
+     * 대기 중인 작업이 원본 바이트를 들고 있지 않도록 처리할 때 저장소에서 원본을 다시 읽는다.
+     *
+     * @param thumbnailUrl 업로드가 끝난 원본 썸네일의 공개 URL
+     */
+    public void submit(UUID bookId, String thumbnailUrl) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(bookId, thumbnailUrl);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(bookId, thumbnailUrl);
+            }
+        });
+    }
+
+    private void enqueue(UUID bookId, String thumbnailUrl) {
+        try {
+            executor.execute(() -> process(bookId, thumbnailUrl));
+        } catch (RejectedExecutionException e) {
+            log.warn("[BookThumbnailPipeline] 대기열이 가득 차 축소본 생성을 건너뜀: bookId={}", bookId);
+            meterRegistry.counter("thumbnail.pipeline.jobs", "result", "rejected").increment();
+        }
+    }
+
+    void process(UUID bookId, String thumbnailUrl) {
+        String result = "completed";
+        try {
+            String originalKey = imageStorage.keyOf(thumbnailUrl);
+            BufferedImage original = timed("decode", () -> {
+                try (InputStream in = imageStorage.open(originalKey)) {
+                    return ThumbnailResizer.decode(in);
+                }
+            });
+
+            for (ThumbnailSize size : ThumbnailSize.values()) {
+                BufferedImage resized = timed("resize", () -> ThumbnailResizer.resize(original, size.getWidth()));
+                byte[] encoded = timed("encode", () -> ThumbnailResizer.encodeJpeg(resized));
+                timed("upload", () -> {
+                    imageStorage.put(size.variantPath(originalKey), encoded, ThumbnailSize.CONTENT_TYPE);
+                    return null;
+                });
+            }
+
+            // 그 사이 썸네일이 다시 바뀌었다면 표시하지 않음 (새 썸네일의 작업이 따로 처리)
+            int updated = jdbcTemplate.update(
+                "UPDATE books SET thumbnail_variants_ready = true WHERE id = ? AND thumbnail_url = ?",
+                bookId, thumbnailUrl);
+            if (updated > 0) {
+                bookCache.invalidate(bookId);
+            } else {
+                result = "stale";
+            }
+        } catch (IOException e) {
+            log.warn("[BookThumbnailPipeline] 축소본을 만들 수 없는 이미지: bookId={}, 원인={}", bookId, e.getMessage());
+            result = "unsupported";
+        } catch (Exception e) {
+            log.error("[BookThumbnailPipeline] 축소본 생성 실패: bookId={}", bookId, e);
+            result = "failed";
+        }
+        meterRegistry.counter("thumbnail.pipeline.jobs", "result", result).increment();
+    }
+
+    private <T> T timed(String stage, Callable<T> task) throws Exception {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return task.call();
+        } finally {
+            sample.stop(meterRegistry.timer("thumbnail.stage", "stage", stage));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("[BookThumbnailPipeline] 종료 시점에 남은 축소본 작업 {}건 취소", executor.shutdownNow().size());
+        }
+    }
+}
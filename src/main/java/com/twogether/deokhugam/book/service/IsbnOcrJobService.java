@@ -0,0 +1,244 @@
+package com.twogether.deokhugam.book.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.twogether.deokhugam.apiclient.NaverBookClient;
+import com.twogether.deokhugam.book.dto.response.IsbnOcrJobResponse;
+import com.twogether.deokhugam.book.exception.NaverBookException;
+import com.twogether.deokhugam.common.exception.DeokhugamException;
+import com.twogether.deokhugam.common.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 이미지 기반 ISBN 인식 작업 관리
+ * <p>
+ * 업로드 이미지를 한 번만 메모리로 읽어 고정 크기 작업 스레드 풀에서 바코드 인식/CLOVA OCR을 수행한다.
+ * 대기열이 가득 차면 즉시 OCR_QUEUE_FULL(429)로 거절해 요청 스레드가 외부 API 응답을 기다리며 쌓이지 않게 한다.
+ * <ul>
+ *   <li>이미지 내용의 SHA-256 해시별로 결과(성공 또는 ISBN 없음)를 캐시해 같은 사진은 대기열 없이 바로 응답한다.</li>
+ *   <li>같은 사진이 처리 중이면 새 작업을 만들지 않고 진행 중인 작업을 돌려준다.</li>
+ *   <li>작업 상태는 jobId로 retention 동안 조회할 수 있다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class IsbnOcrJobService {
+
+    private final NaverBookClient naverBookClient;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final Cache<UUID, OcrJob> jobs;
+    private final Cache<String, OcrJob> resultsByHash;
+    private final ConcurrentMap<String, OcrJob> inFlight = new ConcurrentHashMap<>();
+
+    public IsbnOcrJobService(
+        NaverBookClient naverBookClient,
+        MeterRegistry meterRegistry,
+        @Value("${ocr.jobs.concurrency:4}") int concurrency,
+        @Value("${ocr.jobs.queue-capacity:50}") int queueCapacity,
+        @Value("${ocr.jobs.retention:10m}") Duration retention,
+        @Value("${ocr.jobs.result-cache-size:10000}") long resultCacheSize,
+        @Value("${ocr.jobs.result-ttl:1h}") Duration resultTtl
+    ) {
+        this.naverBookClient = naverBookClient;
+        this.meterRegistry = meterRegistry;
+        this.executor = new ThreadPoolExecutor(
+            concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("isbn-ocr-")
+        );
+        this.jobs = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(retention)
+            .build();
+        this.resultsByHash = Caffeine.newBuilder()
+            .maximumSize(resultCacheSize)
+            .expireAfterWrite(resultTtl)
+            .build();
+        meterRegistry.gauge("ocr.jobs.queued", executor, e -> e.getQueue().size());
+    }
+
+    /**
+     * 작업을 등록하고 바로 반환한다. 결과는 {@link #getJob(UUID)}로 조회
+     */
+    public IsbnOcrJobResponse submit(MultipartFile image) {
+        return start(image).toResponse();
+    }
+
+    /**
+     * 작업을 등록하고 완료 시점에 ISBN을 돌려주는 future를 반환한다. (기존 동기 API용, 요청 스레드는 대기하지 않음)
+     */
+    public CompletableFuture<String> extractIsbn(MultipartFile image) {
+        return start(image).result;
+    }
+
+    public IsbnOcrJobResponse getJob(UUID jobId) {
+        OcrJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new NaverBookException(ErrorCode.OCR_JOB_NOT_FOUND);
+        }
+        return job.toResponse();
+    }
+
+    private OcrJob start(MultipartFile image) {
+        byte[] imageBytes = readImage(image);
+        String filename = image.getOriginalFilename();
+        String contentType = image.getContentType();
+        String hash = sha256(imageBytes);
+
+        OcrJob cached = resultsByHash.getIfPresent(hash);
+        if (cached != null) {
+            meterRegistry.counter("ocr.jobs", "result", "cache_hit").increment();
+            OcrJob job = cached.copy(UUID.randomUUID());
+            jobs.put(job.id, job);
+            return job;
+        }
+
+        OcrJob job = new OcrJob(UUID.randomUUID(), hash);
+        OcrJob running = inFlight.putIfAbsent(hash, job);
+        if (running != null) {
+            meterRegistry.counter("ocr.jobs", "result", "deduplicated").increment();
+            return running;
+        }
+
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job, imageBytes, filename, contentType));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(hash, job);
+            jobs.invalidate(job.id);
+            meterRegistry.counter("ocr.jobs", "result", "rejected").increment();
+            log.warn("[IsbnOcrJobService] 대기열이 가득 차 ISBN 인식 요청 거절: queued={}", executor.getQueue().size());
+            throw new NaverBookException(ErrorCode.OCR_QUEUE_FULL);
+        }
+        return job;
+    }
+
+    private void run(OcrJob job, byte[] imageBytes, String filename, String contentType) {
+        job.status = JobStatus.RUNNING;
+        try {
+            String isbn = naverBookClient.extractIsbnFromImage(imageBytes, filename, contentType);
+            if (isbn == null) {
+                throw new NaverBookException(ErrorCode.NAVER_OCR_ISBN_NOT_FOUND);
+            }
+            job.complete(isbn);
+            resultsByHash.put(job.hash, job);
+            meterRegistry.counter("ocr.jobs", "result", "completed").increment();
+        } catch (DeokhugamException e) {
+            job.fail(e);
+            // ISBN이 없는 사진은 다시 보내도 결과가 같으므로 캐시, 외부 API 오류는 재시도할 수 있도록 캐시하지 않음
+            if (e.getErrorCode() == ErrorCode.NAVER_OCR_ISBN_NOT_FOUND) {
+                resultsByHash.put(job.hash, job);
+            }
+            meterRegistry.counter("ocr.jobs", "result", "failed").increment();
+        } catch (Exception e) {
+            log.error("[IsbnOcrJobService] ISBN 인식 작업 실패: jobId={}", job.id, e);
+            job.fail(new NaverBookException(ErrorCode.NAVER_API_UNKNOWN_ERROR, e));
+            meterRegistry.counter("ocr.jobs", "result", "failed").increment();
+        } finally {
+            inFlight.remove(job.hash, job);
+        }
+    }
+
+    private byte[] readImage(MultipartFile image) {
+        String contentType = image.getContentType();
+        if (image.isEmpty() || contentType == null || !contentType.startsWith("image/")) {
+            throw new NaverBookException(ErrorCode.INVALID_IMAGE_FILE);
+        }
+        try {
+            return image.getBytes();
+        } catch (IOException e) {
+            throw new NaverBookException(ErrorCode.INVALID_IMAGE_FILE, e);
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("[IsbnOcrJobService] 종료 시점에 남은 ISBN 인식 작업 {}건 취소", executor.shutdownNow().size());
+        }
+    }
+
+    enum JobStatus {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    private static class OcrJob {
+
+        private final UUID id;
+        private final String hash;
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+        private volatile JobStatus status = JobStatus.PENDING;
+        private volatile String isbn;
+        private volatile DeokhugamException error;
+
+        OcrJob(UUID id, String hash) {
+            this.id = id;
+            this.hash = hash;
+        }
+
+        void complete(String isbn) {
+            this.isbn = isbn;
+            this.status = JobStatus.COMPLETED;
+            result.complete(isbn);
+        }
+
+        void fail(DeokhugamException error) {
+            this.error = error;
+            this.status = JobStatus.FAILED;
+            result.completeExceptionally(error);
+        }
+
+        /**
+         * 캐시된 결과로 이미 끝난 새 작업을 만든다.
+         */
+        OcrJob copy(UUID newId) {
+            OcrJob job = new OcrJob(newId, hash);
+            if (error != null) {
+                job.fail(error);
+            } else {
+                job.complete(isbn);
+            }
+            return job;
+        }
+
+        IsbnOcrJobResponse toResponse() {
+            DeokhugamException failure = error;
+            return new IsbnOcrJobResponse(
+                id,
+                status.name(),
+                isbn,
+                failure != null ? failure.getErrorCode().name() : null,
+                failure != null ? failure.getErrorCode().getMessage() : null
+            );
+        }
+    }
+}
@@ -54,7 +54,9 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
             ? COMMENT.id.asc()
             : COMMENT.id.desc();
 
+        // 응답에 작성자 닉네임이 필요하므로 작성자를 함께 조회 (댓글마다 추가 쿼리 방지)
         return query.selectFrom(COMMENT)
+            .join(COMMENT.user).fetchJoin()
             .where(where)
             .orderBy(createdOrder, idOrder)
             .limit(limit + 1)
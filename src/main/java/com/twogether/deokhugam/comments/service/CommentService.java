@@ -13,6 +13,7 @@ import com.twogether.deokhugam.notification.event.CommentCreatedEvent;
 import com.twogether.deokhugam.review.entity.Review;
 import com.twogether.deokhugam.review.exception.ReviewNotFoundException;
 import com.twogether.deokhugam.review.repository.ReviewRepository;
+import com.twogether.deokhugam.review.service.ReviewCommentCountBuffer;
 import com.twogether.deokhugam.user.entity.User;
 import com.twogether.deokhugam.user.exception.UserNotFoundException;
 import com.twogether.deokhugam.user.repository.UserRepository;
@@ -40,6 +41,7 @@ public class CommentService {
     private final CommentMapper commentMapper;
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
+    private final ReviewCommentCountBuffer reviewCommentCountBuffer;
     // 알림용
     private final ApplicationEventPublisher eventPublisher;
 
@@ -163,11 +165,12 @@ public class CommentService {
         }
     }
 
+    // 리뷰 행을 직접 갱신하지 않고 증감분 로그만 남김 (reviews.comment_count에는 일괄 반영)
     private void incrementReviewCommentCount(Review review) {
-        reviewRepository.incrementCommentCount(review.getId());
+        reviewCommentCountBuffer.record(review.getId(), 1);
     }
 
     private void decrementReviewCommentCount(Review review) {
-        reviewRepository.decrementCommentCount(review.getId());
+        reviewCommentCountBuffer.record(review.getId(), -1);
     }
 }
\ No newline at end of file
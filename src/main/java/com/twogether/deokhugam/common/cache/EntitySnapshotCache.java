@@ -0,0 +1,59 @@
+package com.twogether.deokhugam.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 단건 조회(findById) 결과를 id별로 보관하는 읽기 관통(read-through) 캐시
+ * <p>
+ * 영속성 컨텍스트에 묶인 엔티티 대신 불변 스냅샷(DTO)을 보관한다.
+ * 크기(maxSize) 초과 시 Caffeine의 사용 빈도 기반 정책으로 제거되고, TTL이 지나면 만료된다.
+ * 존재하지 않는 id는 캐시하지 않으며, 수정/삭제 시 {@link #invalidate(Object)}로 해당 항목만 비운다.
+ */
+public class EntitySnapshotCache<K, V> {
+
+    private final Cache<K, V> cache;
+
+    public EntitySnapshotCache(String name, long maxSize, Duration ttl, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        // cache.gets{result=hit|miss}, cache.evictions 등 히트율 메트릭 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    public Optional<V> get(K key, Function<K, Optional<V>> loader) {
+        // loader가 null을 반환하면 Caffeine은 값을 저장하지 않음
+        return Optional.ofNullable(cache.get(key, k -> loader.apply(k).orElse(null)));
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 직후에도 한 번 더 비워,
+     * 커밋 전 다른 요청이 옛 값을 다시 적재하는 경우를 막는다.
+     */
+    public void invalidate(K key) {
+        cache.invalidate(key);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(key);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
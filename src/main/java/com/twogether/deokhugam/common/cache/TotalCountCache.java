@@ -0,0 +1,49 @@
+package com.twogether.deokhugam.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.Function;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 목록 조회의 totalElements(COUNT 쿼리 결과)를 검색 조건별로 보관하는 캐시
+ * <p>
+ * 크기(maxSize)와 TTL로 제한되며, 쓰기 작업이 일어나면 {@link #invalidateAll()}로 전체를 비운다.
+ * 트랜잭션 안에서 호출되면 커밋 직후에도 한 번 더 비워, 커밋 전 값이 다시 캐시되는 것을 막는다.
+ */
+public class TotalCountCache<K> {
+
+    private final Cache<K, Long> cache;
+
+    public TotalCountCache(String name, long maxSize, Duration ttl, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        // cache.gets{result=hit|miss}, cache.evictions 등 히트율 메트릭 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    public long get(K key, Function<K, Long> counter) {
+        Long count = cache.get(key, counter);
+        return count != null ? count : 0L;
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidateAll();
+                }
+            });
+        }
+    }
+}
@@ -7,6 +7,6 @@ public record CursorPageResponseDto<T> (
         String nextCursor,
         String nextAfter,
         int size,
-        long totalElement,
+        Long totalElement,
         boolean hasNext
 ) { }
@@ -0,0 +1,36 @@
+package com.twogether.deokhugam.common.dto;
+
+import com.twogether.deokhugam.common.exception.DeokhugamException;
+import com.twogether.deokhugam.common.exception.ErrorCode;
+import java.util.Locale;
+
+/**
+ * 목록 API 응답 필드 범위 (view 파라미터)
+ * <p>
+ * SUMMARY는 목록 카드에 필요한 필드만 조회한다. 큰 TEXT 컬럼(도서 설명)은 조회 쿼리의 SELECT 절에서 빠지고,
+ * 리뷰 내용은 DB에서 앞부분({@link #SUMMARY_TEXT_LENGTH}자)만 잘라 읽는다.
+ */
+public enum ListView {
+    SUMMARY,
+    FULL;
+
+    public static final int SUMMARY_TEXT_LENGTH = 100;
+
+    /**
+     * 값이 없으면 기존 응답과 같은 FULL
+     */
+    public static ListView from(String view) {
+        if (view == null || view.isBlank()) {
+            return FULL;
+        }
+        try {
+            return valueOf(view.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new DeokhugamException(ErrorCode.INVALID_LIST_VIEW);
+        }
+    }
+
+    public boolean isSummary() {
+        return this == SUMMARY;
+    }
+}
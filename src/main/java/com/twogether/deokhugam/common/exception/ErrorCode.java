@@ -34,6 +34,9 @@ public enum ErrorCode {
     // Cursor 관련 에러 코드
     INVALID_CURSOR(HttpStatus.BAD_REQUEST, "커서 정보가 올바르지 않습니다."),
 
+    // 목록 응답 필드 범위 관련 에러 코드
+    INVALID_LIST_VIEW(HttpStatus.BAD_REQUEST, "view는 summary 또는 full만 가능합니다."),
+
     // Book 관련 에러 코드
     BOOK_NOT_FOUND(HttpStatus.NOT_FOUND, "등록되지 않은 도서입니다."),
     DUPLICATED_ISBN(HttpStatus.CONFLICT, "이미 사용된 ISBN 코드입니다."),
@@ -43,9 +46,19 @@ public enum ErrorCode {
     NAVER_API_CONNECTION_FAILED(HttpStatus.BAD_GATEWAY, "네이버 API 서버에 연결할 수 없습니다."),
     NAVER_API_UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "네이버 API 인증에 실패했습니다."),
     NAVER_API_THUMBNAIL_NOT_FOUND(HttpStatus.NOT_FOUND, "이미지를 찾을 수 없습니다."),
+    NAVER_API_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "네이버 API 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
     NAVER_API_UNKNOWN_ERROR(HttpStatus.EXPECTATION_FAILED, "알 수 없는 오류입니다."),
     NAVER_OCR_ISBN_NOT_FOUND(HttpStatus.NOT_FOUND, "올바른 ISBN 값을 추출하지 못했습니다."),
     NAVER_OCR_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "CLOVA OCR 내부 서버 오류입니다."),
+    OCR_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "ISBN 인식 작업을 찾을 수 없습니다."),
+    OCR_QUEUE_FULL(HttpStatus.TOO_MANY_REQUESTS, "ISBN 인식 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    INVALID_IMPORT_FILE(HttpStatus.BAD_REQUEST, "ISBN 목록 파일이 비어 있거나 읽을 수 없습니다."),
+    BOOK_IMPORT_NOT_FOUND(HttpStatus.NOT_FOUND, "도서 일괄 등록 작업을 찾을 수 없습니다."),
+    BOOK_IMPORT_NOT_RESTARTABLE(HttpStatus.CONFLICT, "실패하거나 중단된 일괄 등록 작업만 재시작할 수 있습니다."),
+
+    // Export 관련 에러 코드
+    INVALID_EXPORT_TARGET(HttpStatus.BAD_REQUEST, "지원하지 않는 내보내기 대상입니다."),
+    INVALID_EXPORT_FORMAT(HttpStatus.BAD_REQUEST, "내보내기 형식은 ndjson 또는 csv만 가능합니다."),
 
     // Comment 관련 에러 코드
     COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다."),
@@ -0,0 +1,45 @@
+package com.twogether.deokhugam.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션용 불투명(opaque) 커서 인코더
+ * <p>
+ * 여러 값을 '|'로 이어 붙여 Base64 URL-safe 문자열로 만든다.
+ * 첫 번째 값(정렬 키, 예: 도서 제목)에는 '|'가 들어갈 수 있으므로 디코딩은 뒤에서부터 분리한다.
+ */
+public final class CursorCodec {
+
+    private static final char DELIMITER = '|';
+
+    private CursorCodec() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static String encode(String... parts) {
+        String raw = String.join(String.valueOf(DELIMITER), parts);
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException Base64 형식이 아니거나 값 개수가 맞지 않는 경우
+     */
+    public static String[] decode(String cursor, int expectedParts) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+        String[] parts = new String[expectedParts];
+        int end = raw.length();
+        for (int i = expectedParts - 1; i > 0; i--) {
+            int idx = raw.lastIndexOf(DELIMITER, end - 1);
+            if (idx < 0) {
+                throw new IllegalArgumentException("커서 값 개수가 올바르지 않습니다: " + cursor);
+            }
+            parts[i] = raw.substring(idx + 1, end);
+            end = idx;
+        }
+        parts[0] = raw.substring(0, end);
+        return parts;
+    }
+}
@@ -0,0 +1,53 @@
+package com.twogether.deokhugam.common.util;
+
+import java.util.Locale;
+
+/**
+ * 검색어를 LIKE 부분일치 패턴으로 변환하는 유틸
+ * <p>
+ * 검색 대상 컬럼(search_text)은 DB에서 lower()로 정규화되어 있으므로 검색어도 소문자로 맞추고,
+ * 사용자가 입력한 와일드카드(%, _)는 이스케이프 문자('\')로 무력화한다.
+ */
+public final class SearchPatternUtil {
+
+    public static final char ESCAPE_CHAR = '\\';
+
+    /**
+     * 이 길이 이하의 검색어는 트라이그램 인덱스로 후보를 좁힐 수 없어 n-gram 배열 컬럼으로 검색한다.
+     */
+    public static final int SHORT_KEYWORD_MAX_LENGTH = 2;
+
+    private SearchPatternUtil() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * 검색어가 비어 있으면 null(검색 조건 없음)을 반환한다.
+     */
+    public static String toContainsPattern(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        String normalized = keyword.trim().toLowerCase(Locale.ROOT);
+
+        StringBuilder pattern = new StringBuilder(normalized.length() + 2).append('%');
+        for (char c : normalized.toCharArray()) {
+            if (c == '%' || c == '_' || c == ESCAPE_CHAR) {
+                pattern.append(ESCAPE_CHAR);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
+    /**
+     * 정규화한 검색어가 {@value #SHORT_KEYWORD_MAX_LENGTH}글자 이하면 그대로, 아니면(또는 비어 있으면) null을 반환한다.
+     */
+    public static String toShortKeyword(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        String normalized = keyword.trim().toLowerCase(Locale.ROOT);
+        return normalized.codePointCount(0, normalized.length()) <= SHORT_KEYWORD_MAX_LENGTH ? normalized : null;
+    }
+}
@@ -0,0 +1,147 @@
+package com.twogether.deokhugam.config;
+
+import com.twogether.deokhugam.apiclient.NaverBookClient;
+import com.twogether.deokhugam.book.batch.processor.IsbnNormalizeProcessor;
+import com.twogether.deokhugam.book.batch.writer.BookImportWriter;
+import com.twogether.deokhugam.book.batch.writer.BookThumbnailUploader;
+import com.twogether.deokhugam.book.exception.NaverBookException;
+import com.twogether.deokhugam.book.repository.BookRepository;
+import com.twogether.deokhugam.book.service.BookCountService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.batch.item.file.mapping.PassThroughLineMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.retry.backoff.ExponentialBackOffPolicy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * ISBN 파일 기반 도서 일괄 등록 Job
+ * <p>
+ * 리더는 읽은 줄 수를 청크마다 ExecutionContext에 저장하므로(saveState),
+ * 실패한 실행을 같은 JobParameters로 재시작하면 마지막으로 커밋된 청크 다음 줄부터 이어서 처리한다.
+ * 네이버 API의 일시적 오류로 청크 쓰기가 실패하면 청크를 롤백하고 간격을 늘려 가며 최대 retry-limit번까지 시도한다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class BookImportJobConfig {
+
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public Job bookImportJob(JobRepository jobRepository, Step bookImportStep) {
+        return new JobBuilder("bookImportJob", jobRepository)
+            .start(bookImportStep)
+            .listener(inputFileCleanupListener())
+            .build();
+    }
+
+    /**
+     * 완료된 실행의 업로드 파일 삭제 (실패한 실행은 재시작을 위해 남겨 둠)
+     */
+    private JobExecutionListener inputFileCleanupListener() {
+        return new JobExecutionListener() {
+            @Override
+            public void afterJob(JobExecution jobExecution) {
+                String inputFile = jobExecution.getJobParameters().getString("inputFile");
+                if (jobExecution.getStatus() != BatchStatus.COMPLETED || inputFile == null) {
+                    return;
+                }
+                try {
+                    Files.deleteIfExists(Path.of(inputFile));
+                } catch (IOException e) {
+                    log.warn("[BookImportJobConfig] ISBN 파일 삭제 실패: {}", inputFile, e);
+                }
+            }
+        };
+    }
+
+    @Bean
+    public Step bookImportStep(JobRepository jobRepository,
+        PlatformTransactionManager transactionManager,
+        FlatFileItemReader<String> isbnFileReader,
+        BookImportWriter bookImportWriter,
+        @Value("${batch.book-import.chunk-size:100}") int chunkSize,
+        @Value("${batch.book-import.retry-limit:4}") int retryLimit,
+        @Value("${batch.book-import.retry-backoff:PT5S}") Duration retryBackoff) {
+
+        return new StepBuilder("bookImportStep", jobRepository)
+            .<String, String>chunk(chunkSize, transactionManager)
+            .reader(isbnFileReader)
+            .processor(new IsbnNormalizeProcessor(meterRegistry))
+            .writer(bookImportWriter)
+            .listener((StepExecutionListener) bookImportWriter)
+            // 청크가 커밋/롤백된 뒤 라이터가 집계 건수를 확정하거나 되돌림
+            .listener((ChunkListener) bookImportWriter)
+            .faultTolerant()
+            // 라이터는 일시적 오류만 던지므로(없는 ISBN/잘못된 데이터는 건너뛰고 집계) 그 예외만 재시도
+            .retry(NaverBookException.class)
+            .retryLimit(retryLimit)
+            .backOffPolicy(retryBackOffPolicy(retryBackoff))
+            // 재시도 때 ISBN 정규화를 다시 실행하지 않고 처리 결과를 재사용
+            .processorNonTransactional()
+            .build();
+    }
+
+    /**
+     * 재시도 간격: retry-backoff부터 2배씩 늘려 최대 8배까지 (서킷이 HALF_OPEN으로 돌아올 시간을 둠)
+     */
+    private static ExponentialBackOffPolicy retryBackOffPolicy(Duration initialInterval) {
+        ExponentialBackOffPolicy backOffPolicy = new ExponentialBackOffPolicy();
+        backOffPolicy.setInitialInterval(initialInterval.toMillis());
+        backOffPolicy.setMultiplier(2.0);
+        backOffPolicy.setMaxInterval(initialInterval.toMillis() * 8);
+        return backOffPolicy;
+    }
+
+    @Bean
+    @StepScope
+    public FlatFileItemReader<String> isbnFileReader(
+        @Value("#{jobParameters['inputFile']}") String inputFile
+    ) {
+        return new FlatFileItemReaderBuilder<String>()
+            .name("isbnFileReader")
+            .resource(new FileSystemResource(inputFile))
+            .encoding(StandardCharsets.UTF_8.name())
+            .lineMapper(new PassThroughLineMapper())
+            .saveState(true)
+            .build();
+    }
+
+    @Bean
+    @StepScope
+    public BookImportWriter bookImportWriter(
+        BookRepository bookRepository,
+        NaverBookClient naverBookClient,
+        JdbcTemplate jdbcTemplate,
+        BookThumbnailUploader bookThumbnailUploader,
+        BookCountService bookCountService,
+        @Value("${batch.book-import.lookup-concurrency:4}") int lookupConcurrency
+    ) {
+        return new BookImportWriter(bookRepository, naverBookClient, jdbcTemplate,
+            bookThumbnailUploader, bookCountService, meterRegistry, lookupConcurrency);
+    }
+}
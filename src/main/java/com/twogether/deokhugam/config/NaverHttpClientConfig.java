@@ -0,0 +1,96 @@
+package com.twogether.deokhugam.config;
+
+import com.twogether.deokhugam.apiclient.http.CircuitBreaker;
+import com.twogether.deokhugam.apiclient.http.ExternalApiEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 네이버 API 호출용 HTTP 클라이언트 설정
+ * <p>
+ * 하나의 JDK HttpClient(keep-alive 커넥션 풀 내장)를 공유하고,
+ * 도서 검색/표지 이미지/OCR 엔드포인트별로 읽기 타임아웃과 동시 호출 수 제한, 서킷 브레이커를 따로 둔다.
+ */
+@Configuration
+public class NaverHttpClientConfig {
+
+    @Value("${naver.http.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${naver.http.max-wait:100ms}")
+    private Duration maxWait;
+
+    @Value("${naver.http.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${naver.http.open-duration:30s}")
+    private Duration openDuration;
+
+    @Bean
+    public HttpClient naverHttpClient() {
+        return HttpClient.newBuilder()
+            .connectTimeout(connectTimeout)
+            .followRedirects(HttpClient.Redirect.NORMAL) // 표지 이미지 CDN 리다이렉트
+            .build();
+    }
+
+    @Bean
+    public ExternalApiEndpoint naverSearchEndpoint(
+        RestTemplateBuilder restTemplateBuilder,
+        HttpClient naverHttpClient,
+        MeterRegistry meterRegistry,
+        @Value("${naver.http.search.read-timeout:3s}") Duration readTimeout,
+        @Value("${naver.http.search.max-concurrent-calls:20}") int maxConcurrentCalls
+    ) {
+        return endpoint("naver.search", restTemplateBuilder, naverHttpClient, meterRegistry, readTimeout,
+            maxConcurrentCalls);
+    }
+
+    @Bean
+    public ExternalApiEndpoint naverImageEndpoint(
+        RestTemplateBuilder restTemplateBuilder,
+        HttpClient naverHttpClient,
+        MeterRegistry meterRegistry,
+        @Value("${naver.http.image.read-timeout:5s}") Duration readTimeout,
+        @Value("${naver.http.image.max-concurrent-calls:20}") int maxConcurrentCalls
+    ) {
+        return endpoint("naver.image", restTemplateBuilder, naverHttpClient, meterRegistry, readTimeout,
+            maxConcurrentCalls);
+    }
+
+    @Bean
+    public ExternalApiEndpoint naverOcrEndpoint(
+        RestTemplateBuilder restTemplateBuilder,
+        HttpClient naverHttpClient,
+        MeterRegistry meterRegistry,
+        @Value("${naver.http.ocr.read-timeout:15s}") Duration readTimeout,
+        @Value("${naver.http.ocr.max-concurrent-calls:5}") int maxConcurrentCalls
+    ) {
+        return endpoint("naver.ocr", restTemplateBuilder, naverHttpClient, meterRegistry, readTimeout,
+            maxConcurrentCalls);
+    }
+
+    private ExternalApiEndpoint endpoint(
+        String name,
+        RestTemplateBuilder restTemplateBuilder,
+        HttpClient httpClient,
+        MeterRegistry meterRegistry,
+        Duration readTimeout,
+        int maxConcurrentCalls
+    ) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        RestTemplate restTemplate = restTemplateBuilder.requestFactory(() -> requestFactory).build();
+
+        return new ExternalApiEndpoint(name, restTemplate, maxConcurrentCalls, maxWait,
+            new CircuitBreaker(failureThreshold, openDuration, Clock.systemUTC()), meterRegistry);
+    }
+}
@@ -56,4 +56,11 @@ public class PopularRankingSearchRequest {
         defaultValue = "50"
     )
     private int limit = 50;
+
+    @Schema(
+        description = "응답 필드 범위 (summary: 인기 리뷰 내용 앞 100자만, full: 전체)",
+        example = "full",
+        allowableValues = {"summary", "full"}
+    )
+    private String view;
 }
@@ -2,7 +2,9 @@ package com.twogether.deokhugam.dashboard.repository;
 
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.twogether.deokhugam.common.dto.ListView;
 import com.twogether.deokhugam.common.exception.DeokhugamException;
 import com.twogether.deokhugam.common.exception.ErrorCode;
 import com.twogether.deokhugam.dashboard.dto.request.PopularRankingSearchRequest;
@@ -25,6 +27,10 @@ public class PopularReviewRankingCustomRepositoryImpl implements PopularReviewRa
     @Override
     public List<PopularReviewDto> findAllByPeriodWithCursor(PopularRankingSearchRequest request, Pageable pageable) {
         QPopularReviewRanking r = QPopularReviewRanking.popularReviewRanking;
+        // summary 조회는 리뷰 내용(TEXT)을 DB에서 앞부분만 잘라 읽음
+        StringExpression reviewContent = ListView.from(request.getView()).isSummary()
+            ? r.reviewContent.substring(0, ListView.SUMMARY_TEXT_LENGTH)
+            : r.reviewContent;
 
         return queryFactory
             .select(new QPopularReviewDto(
@@ -35,7 +41,7 @@ public class PopularReviewRankingCustomRepositoryImpl implements PopularReviewRa
                 r.bookThumbnailUrl,
                 r.userId,
                 r.userNickname,
-                r.reviewContent,
+                reviewContent,
                 r.reviewRating,
                 r.period,
                 r.createdAt,
@@ -1,6 +1,7 @@
 package com.twogether.deokhugam.dashboard.service;
 
 import com.twogether.deokhugam.common.dto.CursorPageResponse;
+import com.twogether.deokhugam.common.dto.ListView;
 import com.twogether.deokhugam.common.exception.DeokhugamException;
 import com.twogether.deokhugam.common.exception.ErrorCode;
 import com.twogether.deokhugam.dashboard.dto.request.PopularRankingSearchRequest;
@@ -56,5 +57,8 @@ public class PopularReviewServiceImpl implements PopularReviewService {
         if (!direction.equals("ASC") && !direction.equals("DESC")) {
             throw new DeokhugamException(ErrorCode.INVALID_DIRECTION);
         }
+
+        // view 필드 체크 (summary, full만 허용, 없으면 full)
+        ListView.from(request.getView());
     }
 }
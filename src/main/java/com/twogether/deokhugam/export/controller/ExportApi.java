@@ -0,0 +1,30 @@
+package com.twogether.deokhugam.export.controller;
+
+import com.twogether.deokhugam.common.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Tag(name = "데이터 내보내기", description = "도서, 리뷰, 대시보드 랭킹 전체 데이터를 스트리밍으로 내보내는 API")
+public interface ExportApi {
+
+	@Operation(summary = "테이블 내보내기",
+		description = "대상 테이블 전체를 NDJSON 또는 CSV로 내려받습니다. 행 단위로 바로 전송되므로 데이터 크기와 무관하게 메모리를 일정하게 사용합니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "내보내기 성공"),
+		@ApiResponse(responseCode = "400", description = "지원하지 않는 대상 또는 형식",
+			content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	ResponseEntity<StreamingResponseBody> export(
+		@Parameter(description = "내보내기 대상 (books, reviews, popular-books, popular-reviews, power-users)", required = true)
+		String target,
+		@Parameter(description = "출력 형식 (ndjson, csv)")
+		String format
+	);
+}
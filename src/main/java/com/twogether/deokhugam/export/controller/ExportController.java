@@ -0,0 +1,46 @@
+package com.twogether.deokhugam.export.controller;
+
+import com.twogether.deokhugam.export.dto.ExportFormat;
+import com.twogether.deokhugam.export.dto.ExportTarget;
+import com.twogether.deokhugam.export.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ExportController implements ExportApi {
+
+	private final ExportService exportService;
+
+	/** 테이블 내보내기
+	 * 대상/형식 검증은 스트리밍 시작 전에 처리해 잘못된 요청은 일반 오류 응답으로 반환
+	 */
+	@Override
+	@GetMapping("/{target}")
+	public ResponseEntity<StreamingResponseBody> export(
+		@PathVariable String target,
+		@RequestParam(defaultValue = "ndjson") String format
+	) {
+		ExportTarget exportTarget = ExportTarget.from(target);
+		ExportFormat exportFormat = ExportFormat.from(format);
+
+		StreamingResponseBody body = out -> exportService.export(exportTarget, exportFormat, out);
+
+		return ResponseEntity.ok()
+			.contentType(exportFormat.getMediaType())
+			.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+				.filename(exportTarget.getPath() + "." + exportFormat.getExtension())
+				.build()
+				.toString())
+			.body(body);
+	}
+}
@@ -0,0 +1,29 @@
+package com.twogether.deokhugam.export.dto;
+
+import com.twogether.deokhugam.common.exception.DeokhugamException;
+import com.twogether.deokhugam.common.exception.ErrorCode;
+import java.util.Arrays;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+@Getter
+public enum ExportFormat {
+
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+    CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public static ExportFormat from(String format) {
+        return Arrays.stream(values())
+            .filter(value -> value.extension.equalsIgnoreCase(format))
+            .findFirst()
+            .orElseThrow(() -> new DeokhugamException(ErrorCode.INVALID_EXPORT_FORMAT));
+    }
+}
@@ -0,0 +1,72 @@
+package com.twogether.deokhugam.export.dto;
+
+import com.twogether.deokhugam.common.exception.DeokhugamException;
+import com.twogether.deokhugam.common.exception.ErrorCode;
+import java.util.Arrays;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 내보내기 대상 테이블
+ * SELECT 절의 컬럼 순서와 fields(출력 필드명) 순서가 같아야 한다.
+ */
+@Getter
+public enum ExportTarget {
+
+    BOOKS("books", """
+        SELECT id, title, author, description, publisher, published_date, isbn, thumbnail_url,
+               review_count, rating, created_at, updated_at
+        FROM books
+        WHERE is_deleted = FALSE
+        """,
+        List.of("id", "title", "author", "description", "publisher", "publishedDate", "isbn", "thumbnailUrl",
+            "reviewCount", "rating", "createdAt", "updatedAt")),
+
+    REVIEWS("reviews", """
+        SELECT id, book_id, book_title, book_thumbnail_url, user_id, user_nickname, content, rating,
+               like_count, comment_count, created_at, updated_at
+        FROM reviews
+        WHERE is_deleted = FALSE
+        """,
+        List.of("id", "bookId", "bookTitle", "bookThumbnailUrl", "userId", "userNickname", "content", "rating",
+            "likeCount", "commentCount", "createdAt", "updatedAt")),
+
+    POPULAR_BOOKS("popular-books", """
+        SELECT id, book_id, period, rank, score, review_count, rating, title, author, thumbnail_url, created_at
+        FROM popular_book_ranking
+        """,
+        List.of("id", "bookId", "period", "rank", "score", "reviewCount", "rating", "title", "author",
+            "thumbnailUrl", "createdAt")),
+
+    POPULAR_REVIEWS("popular-reviews", """
+        SELECT id, review_id, period, rank, score, like_count, comment_count, user_id, user_nickname, content,
+               rating, book_id, book_title, book_thumbnail_url, created_at
+        FROM popular_review_ranking
+        """,
+        List.of("id", "reviewId", "period", "rank", "score", "likeCount", "commentCount", "userId", "userNickname",
+            "content", "rating", "bookId", "bookTitle", "bookThumbnailUrl", "createdAt")),
+
+    POWER_USERS("power-users", """
+        SELECT id, user_id, period, rank, score, review_score_sum, like_count, comment_count, nickname, created_at
+        FROM power_user_ranking
+        """,
+        List.of("id", "userId", "period", "rank", "score", "reviewScoreSum", "likeCount", "commentCount",
+            "nickname", "createdAt"));
+
+    private final String path;
+    private final String sql;
+    private final List<String> fields;
+
+    ExportTarget(String path, String sql, List<String> fields) {
+        this.path = path;
+        this.sql = sql;
+        this.fields = fields;
+    }
+
+    public static ExportTarget from(String path) {
+        return Arrays.stream(values())
+            .filter(target -> target.path.equalsIgnoreCase(path))
+            .findFirst()
+            .orElseThrow(() -> new DeokhugamException(ErrorCode.INVALID_EXPORT_TARGET));
+    }
+}
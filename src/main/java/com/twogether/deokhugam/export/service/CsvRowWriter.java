@@ -0,0 +1,62 @@
+package com.twogether.deokhugam.export.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * RFC 4180 형식의 CSV writer
+ * 쉼표, 큰따옴표, 줄바꿈이 포함된 값만 큰따옴표로 감싸고 내부 큰따옴표는 두 번 쓴다.
+ */
+class CsvRowWriter implements ExportRowWriter {
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+
+    CsvRowWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeHeader(List<String> fields) throws IOException {
+        writeLine(fields.toArray());
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        writeLine(values);
+    }
+
+    private void writeLine(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = ExportRowWriter.normalize(values[i]);
+            if (value != null) {
+                writer.write(escape(value.toString()));
+            }
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    static String escape(String value) {
+        boolean needsQuote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+            || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuote) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public void close() throws IOException {
+        // 응답 스트림은 컨테이너가 닫으므로 버퍼만 비움
+        writer.flush();
+    }
+}
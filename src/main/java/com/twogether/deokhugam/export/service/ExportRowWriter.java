@@ -0,0 +1,48 @@
+package com.twogether.deokhugam.export.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twogether.deokhugam.export.dto.ExportFormat;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 조회된 행을 한 줄씩 출력 스트림에 바로 쓰는 writer
+ * 행을 모아두지 않으므로 메모리 사용량은 테이블 크기와 무관하다.
+ */
+interface ExportRowWriter extends Closeable {
+
+    void writeHeader(List<String> fields) throws IOException;
+
+    void writeRow(Object[] values) throws IOException;
+
+    static ExportRowWriter of(ExportFormat format, OutputStream out, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonRowWriter(out, objectMapper);
+            case CSV -> new CsvRowWriter(out);
+        };
+    }
+
+    /**
+     * JDBC 값을 출력용 값으로 변환 (시간은 ISO-8601 UTC, UUID는 문자열, 나머지는 그대로)
+     */
+    static Object normalize(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant().toString();
+        }
+        if (value instanceof OffsetDateTime offsetDateTime) {
+            return offsetDateTime.toInstant().toString();
+        }
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate().toString();
+        }
+        if (value instanceof UUID uuid) {
+            return uuid.toString();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,100 @@
+package com.twogether.deokhugam.export.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twogether.deokhugam.export.dto.ExportFormat;
+import com.twogether.deokhugam.export.dto.ExportTarget;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 도서/리뷰/대시보드 랭킹 테이블 스트리밍 내보내기
+ * <p>
+ * 전방향 전용(forward-only) JDBC 커서로 fetchSize 만큼씩 읽어 곧바로 응답 스트림에 쓴다.
+ * PostgreSQL 드라이버는 autocommit이 꺼진 상태에서만 fetchSize 단위로 커서를 사용하므로
+ * 읽기 전용 트랜잭션 안에서 조회한다.
+ */
+@Slf4j
+@Service
+public class ExportService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final int fetchSize;
+
+    public ExportService(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${export.fetch-size:500}") int fetchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.fetchSize = fetchSize;
+    }
+
+    public void export(ExportTarget target, ExportFormat format, OutputStream out) throws IOException {
+        log.info("[ExportService] 내보내기 시작: target={}, format={}", target.getPath(), format.getExtension());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long[] rowCount = {0};
+
+        try (ExportRowWriter writer = ExportRowWriter.of(format, out, objectMapper)) {
+            writer.writeHeader(target.getFields());
+
+            int columnCount = target.getFields().size();
+            RowCallbackHandler rowHandler = rs -> {
+                Object[] values = new Object[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    values[i] = rs.getObject(i + 1);
+                }
+                try {
+                    writer.writeRow(values);
+                } catch (IOException e) {
+                    // 클라이언트 연결 종료 등: 커서 조회를 중단하고 트랜잭션을 롤백
+                    throw new UncheckedIOException(e);
+                }
+                rowCount[0]++;
+            };
+
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(
+                    target.getSql(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                return ps;
+            }, rowHandler));
+        } catch (UncheckedIOException e) {
+            log.warn("[ExportService] 내보내기 중단: target={}, rows={}", target.getPath(), rowCount[0]);
+            throw e.getCause();
+        } finally {
+            sample.stop(Timer.builder("export.duration")
+                .tag("target", target.getPath())
+                .tag("format", format.getExtension())
+                .register(meterRegistry));
+            Counter.builder("export.rows")
+                .tag("target", target.getPath())
+                .tag("format", format.getExtension())
+                .register(meterRegistry)
+                .increment(rowCount[0]);
+        }
+
+        log.info("[ExportService] 내보내기 완료: target={}, rows={}", target.getPath(), rowCount[0]);
+    }
+}
@@ -0,0 +1,42 @@
+package com.twogether.deokhugam.export.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * 한 행을 한 줄의 JSON 객체로 쓰는 NDJSON writer
+ */
+class NdjsonRowWriter implements ExportRowWriter {
+
+    private final JsonGenerator generator;
+    private List<String> fields;
+
+    NdjsonRowWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        // 응답 스트림은 컨테이너가 닫으므로 writer 종료 시에는 flush만 수행
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void writeHeader(List<String> fields) {
+        this.fields = fields;
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < values.length; i++) {
+            generator.writeObjectField(fields.get(i), ExportRowWriter.normalize(values[i]));
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
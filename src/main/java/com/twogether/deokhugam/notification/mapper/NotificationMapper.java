@@ -8,8 +8,7 @@ import org.springframework.stereotype.Component;
 public class NotificationMapper {
 
     public NotificationDto toDto(Notification notification) {
-        if (notification == null || notification.getReview() == null ||
-            notification.getReview().getBook() == null || notification.getUser() == null) {
+        if (notification == null || notification.getReview() == null || notification.getUser() == null) {
             throw new IllegalArgumentException("필수 엔티티가 null입니다");
         }
 
@@ -17,7 +16,8 @@ public class NotificationMapper {
             notification.getId(),
             notification.getUser().getId(),
             notification.getReview().getId(),
-            notification.getReview().getBook().getTitle(),
+            // 도서를 읽지 않도록 리뷰에 비정규화된 도서 제목 사용
+            notification.getReview().getBookTitle(),
             notification.getContent(),
             notification.isConfirmed(),
             notification.getCreatedAt(),
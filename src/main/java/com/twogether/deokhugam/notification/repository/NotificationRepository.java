@@ -12,11 +12,16 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+/**
+ * 목록/단건 조회는 응답에 쓰는 리뷰를 fetch join으로 함께 읽어 페이지 크기와 관계없이 한 번의 쿼리로 끝낸다.
+ * (작성자는 id만 쓰므로 조인하지 않음)
+ */
 public interface NotificationRepository extends JpaRepository<Notification, UUID> {
 
     // after가 있는 경우
     @Query("""
         SELECT n FROM Notification n
+        JOIN FETCH n.review
         WHERE n.user.id = :userId AND n.createdAt < :after
         ORDER BY n.createdAt DESC, n.id DESC
     """)
@@ -29,6 +34,7 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
     // cursor와 after가 모두 있는 경우
     @Query("""
         SELECT n FROM Notification n
+        JOIN FETCH n.review
         WHERE n.user.id = :userId AND n.createdAt < :after AND n.createdAt < :cursor
         ORDER BY n.createdAt DESC, n.id DESC
     """)
@@ -42,6 +48,7 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
     // cursor만 있는 경우
     @Query("""
         SELECT n FROM Notification n
+        JOIN FETCH n.review
         WHERE n.user.id = :userId AND n.createdAt < :cursor
         ORDER BY n.createdAt DESC, n.id DESC
     """)
@@ -54,6 +61,7 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
     // after가 없는 경우
     @Query("""
         SELECT n FROM Notification n
+        JOIN FETCH n.review
         WHERE n.user.id = :userId
         ORDER BY n.createdAt DESC, n.id DESC
     """)
@@ -62,7 +70,13 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
         Pageable pageable
     );
 
-    Optional<Notification> findByIdAndUserId(UUID id, UUID userId);
+    // 응답에 리뷰(도서 제목)가 필요하므로 함께 조회
+    @Query("""
+        SELECT n FROM Notification n
+        JOIN FETCH n.review
+        WHERE n.id = :id AND n.user.id = :userId
+    """)
+    Optional<Notification> findByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
 
     @Modifying
     @Transactional
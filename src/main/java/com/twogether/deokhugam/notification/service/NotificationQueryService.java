@@ -13,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +22,8 @@ public class NotificationQueryService {
     private final NotificationRepository notificationRepository;
     private final NotificationMapper notificationMapper;
 
+    // open-in-view를 끄므로 지연 로딩 연관(리뷰/도서)을 DTO로 옮길 때까지 읽기 전용 트랜잭션 유지
+    @Transactional(readOnly = true)
     public CursorPageResponse<NotificationDto> getNotifications(
         UUID userId,
         String cursor,
@@ -0,0 +1,52 @@
+package com.twogether.deokhugam.review.batch.scheduler;
+
+import com.twogether.deokhugam.review.repository.ReviewRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 리뷰 좋아요 수 복구 스케줄러
+ * <p>
+ * 좋아요 수는 증감분 로그를 주기적으로 합산해 반영하므로, 직접 수정 등으로 어긋난 값이 있으면 계속 남는다.
+ * 주기적으로 review_like 기준으로 다시 계산해 어긋난 리뷰(like_count)만 바로잡는다.
+ * 반영 전 증감분 로그가 남은 리뷰는 다음 실행으로 미룬다. 그 로그는 이미 review_like에 들어간 좋아요라, 지금 다시 계산하면
+ * 이후 반영 때 한 번 더 더해진다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "batch.review-like-count-repair.enabled", havingValue = "true")
+public class ReviewLikeCountRepairScheduler {
+
+    private final ReviewRepository reviewRepository;
+    private final Counter repairedCounter;
+
+    public ReviewLikeCountRepairScheduler(ReviewRepository reviewRepository, MeterRegistry meterRegistry) {
+        this.reviewRepository = reviewRepository;
+        this.repairedCounter = Counter.builder("review.like-count.repaired")
+            .description("좋아요 수 복구 작업에서 다시 계산된 리뷰 수")
+            .register(meterRegistry);
+    }
+
+    // review_like 개수, 증감분 로그, like_count를 한 스냅샷에서 비교한다. 계산 도중 반영 작업이 같은 리뷰를 갱신하면
+    // 직렬화 오류로 이번 실행 전체가 롤백되고 다음 실행에서 다시 계산한다. (오래된 스냅샷으로 덮어쓰지 않도록)
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    @Scheduled(cron = "${batch.review-like-count-repair.cron:0 40 3 * * *}")
+    public void repairLikeCounts() {
+        log.info("[ReviewLikeCountRepairScheduler] 리뷰 좋아요 수 복구 시작");
+
+        int repaired = reviewRepository.recalculateAllLikeCounts();
+        repairedCounter.increment(repaired);
+
+        if (repaired > 0) {
+            log.warn("[ReviewLikeCountRepairScheduler] 좋아요 수가 어긋난 리뷰 {}건 재계산", repaired);
+        } else {
+            log.info("[ReviewLikeCountRepairScheduler] 리뷰 좋아요 수 복구 완료: 불일치 없음");
+        }
+    }
+}
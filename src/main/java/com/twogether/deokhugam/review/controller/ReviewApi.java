@@ -207,7 +207,7 @@ public interface ReviewApi {
             )
             @RequestParam(defaultValue = "DESC") String direction,
             @Parameter(
-                    name = "cursor", description = "커서 페이지네이션 커서"
+                    name = "cursor", description = "커서 페이지네이션 커서 (이전 응답의 nextCursor를 그대로 전달, 형식이 잘못되면 400)"
             )
             @RequestParam(required = false) String cursor,
             @Parameter(
@@ -220,6 +220,17 @@ public interface ReviewApi {
                     example = "50"
             )
             @RequestParam(defaultValue = "50") int limit,
+            @Parameter(
+                    name = "includeTotal", description = "전체 개수(totalElement) 포함 여부. false면 COUNT 쿼리를 생략하고 null 반환",
+                    example = "true"
+            )
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @Parameter(
+                    name = "view", description = "응답 필드 범위 (summary: 리뷰 내용 앞 100자만, full: 전체)",
+                    example = "full",
+                    schema = @Schema(allowableValues = {"summary", "full"})
+            )
+            @RequestParam(required = false) String view,
             @Parameter(
                     name = "Deokhugam-Request-User-ID", description = "요청자 ID", required = true,
                     example = "123e4567-e89b-12d3-a456-426614174000"
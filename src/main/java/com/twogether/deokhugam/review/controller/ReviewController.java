@@ -1,6 +1,7 @@
 package com.twogether.deokhugam.review.controller;
 
 import com.twogether.deokhugam.common.dto.CursorPageResponseDto;
+import com.twogether.deokhugam.common.dto.ListView;
 import com.twogether.deokhugam.review.dto.ReviewDto;
 import com.twogether.deokhugam.review.dto.ReviewLikeDto;
 import com.twogether.deokhugam.review.dto.request.ReviewCreateRequest;
@@ -69,10 +70,13 @@ public class ReviewController implements ReviewApi {
             @RequestParam(required = false) String cursor,
             @RequestParam(required = false) String after,
             @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @RequestParam(required = false) String view,
             @RequestHeader(value = "Deokhugam-Request-User-ID", required = true) UUID requestUserId
     ){
         ReviewSearchRequest request = new ReviewSearchRequest(
-                userId, bookId, keyword, orderBy, direction, cursor, after, limit, requestUserId
+                userId, bookId, keyword, orderBy, direction, cursor, after, limit, requestUserId, includeTotal,
+                ListView.from(view)
         );
 
         CursorPageResponseDto<ReviewDto> searchResult = reviewService.findReviews(request);
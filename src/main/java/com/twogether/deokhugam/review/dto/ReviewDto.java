@@ -17,4 +17,15 @@ public record ReviewDto(
         boolean likedByMe,
         Instant createdAt,
         Instant updatedAt
-) {}
+) {
+
+    public ReviewDto withLikedByMe(boolean likedByMe) {
+        return new ReviewDto(id, bookId, bookTitle, bookThumbnailUrl, userId, userNickname, content, rating,
+                likeCount, commentCount, likedByMe, createdAt, updatedAt);
+    }
+
+    public ReviewDto withCommentCount(long commentCount) {
+        return new ReviewDto(id, bookId, bookTitle, bookThumbnailUrl, userId, userNickname, content, rating,
+                likeCount, commentCount, likedByMe, createdAt, updatedAt);
+    }
+}
@@ -1,5 +1,6 @@
 package com.twogether.deokhugam.review.dto.request;
 
+import com.twogether.deokhugam.common.dto.ListView;
 import jakarta.validation.constraints.NotNull;
 import java.util.UUID;
 
@@ -13,5 +14,14 @@ public record ReviewSearchRequest (
         String after,
         int limit,
         @NotNull(message = "조회 요청자의 id는 필수입니다.")
-        UUID requestUserId
-) { }
+        UUID requestUserId,
+        // false면 totalElement COUNT 쿼리를 생략
+        boolean includeTotal,
+        // SUMMARY면 리뷰 내용을 앞부분만 조회
+        ListView view
+) {
+    public ReviewSearchRequest(UUID userId, UUID bookId, String keyword, String orderBy, String direction,
+            String cursor, String after, int limit, UUID requestUserId) {
+        this(userId, bookId, keyword, orderBy, direction, cursor, after, limit, requestUserId, true, ListView.FULL);
+    }
+}
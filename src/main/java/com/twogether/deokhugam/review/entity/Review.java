@@ -5,6 +5,7 @@ import com.twogether.deokhugam.user.entity.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -15,6 +16,8 @@ import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -31,11 +34,12 @@ public class Review {
     @Column(name = "id", nullable = false, updatable = false)
     private UUID id;
 
-    @ManyToOne
+    // 목록/상세는 비정규화 컬럼(book_title 등)과 FK id만 쓰므로 지연 로딩
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "book_id", nullable = false)
     private Book book;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -54,15 +58,28 @@ public class Review {
     @Column(name = "rating", nullable = false)
     private int rating;
 
-    @Column(name = "like_count", nullable = false)
+    // 좋아요 수는 집계기의 like_count = like_count + delta UPDATE로만 바뀜: 엔티티 flush가 그 사이 반영된 증감분을 덮어쓰지 않도록 UPDATE에서 제외
+    @Column(name = "like_count", nullable = false, insertable = true, updatable = false)
     private long likeCount = 0;
 
-    @Column(name = "comment_count", nullable = false)
+    // 댓글 수도 review_comment_count_delta 일괄 반영(comment_count = comment_count + delta)으로만 바뀌므로 UPDATE에서 제외
+    @Column(name = "comment_count", nullable = false, insertable = true, updatable = false)
     private long commentCount = 0;
 
     @Column(name = "is_deleted", nullable = false)
     private boolean isDeleted = false;
 
+    // 검색 전용 컬럼: 도서 제목|작성자 닉네임|내용 을 소문자로 합친 DB 생성 컬럼 (PostgreSQL은 pg_trgm GIN 인덱스 사용)
+    @Column(name = "search_text", insertable = false, updatable = false,
+            columnDefinition = "TEXT GENERATED ALWAYS AS (LOWER(book_title || '|' || user_nickname || '|' || content))")
+    private String searchText;
+
+    // 1~2글자 키워드 검색 전용 컬럼: search_text의 1~2글자 n-gram 배열 (PostgreSQL은 GIN 인덱스 사용)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "search_grams", insertable = false, updatable = false,
+            columnDefinition = "VARCHAR ARRAY GENERATED ALWAYS AS (SEARCH_SHORT_GRAMS(LOWER(book_title || '|' || user_nickname || '|' || content)))")
+    private String[] searchGrams;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
@@ -77,6 +94,12 @@ public class Review {
     }
 
     public Review(Book book, User user, String content, int rating) {
+        this(book, user, book.getTitle(), book.getThumbnailUrl(), user.getNickname(), content, rating);
+    }
+
+    // 도서/사용자 정보를 캐시된 스냅샷에서 받는 생성자 (book, user 가 지연 로딩 프록시여도 초기화하지 않음)
+    public Review(Book book, User user, String bookTitle, String bookThumbnailUrl, String userNickName,
+                  String content, int rating) {
         this.id = UUID.randomUUID();
         this.book = book;
         this.user = user;
@@ -84,11 +107,12 @@ public class Review {
         this.rating = rating;
         this.createdAt = Instant.now();
 
-        this.bookTitle = book.getTitle();
-        this.bookThumbnailUrl = book.getThumbnailUrl();
-        this.userNickName = user.getNickname();
+        this.bookTitle = bookTitle;
+        this.bookThumbnailUrl = bookThumbnailUrl;
+        this.userNickName = userNickName;
     }
 
+    // 응답용 메모리 값만 바꿈 (like_count 컬럼은 엔티티 UPDATE 대상이 아님)
     public void updateLikeCount(long likeCount){
         this.likeCount = likeCount;
     }
@@ -0,0 +1,10 @@
+package com.twogether.deokhugam.review.exception;
+
+import com.twogether.deokhugam.common.exception.ErrorCode;
+
+public class InvalidReviewCursorException extends ReviewException {
+
+    public InvalidReviewCursorException(Throwable cause) {
+        super(ErrorCode.INVALID_CURSOR, cause);
+    }
+}
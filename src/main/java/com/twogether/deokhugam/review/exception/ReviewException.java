@@ -13,4 +13,8 @@ public abstract class ReviewException extends DeokhugamException {
     protected ReviewException(ErrorCode errorCode, Map<String, Object> details) {
         super(errorCode, details);
     }
+
+    protected ReviewException(ErrorCode errorCode, Throwable cause) {
+        super(errorCode, cause);
+    }
 }
@@ -4,11 +4,26 @@ import com.twogether.deokhugam.review.entity.ReviewLike;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ReviewLikeRepository extends JpaRepository<ReviewLike, UUID> {
 
     Optional<ReviewLike> findByUserIdAndReviewId(UUID userId, UUID reviewId);
 
     List<ReviewLike> findByUserIdAndReviewIdIn(UUID userId, List<UUID> reviewIds);
+
+    // 사용자가 좋아요한 리뷰 id 목록 (좋아요 집합 캐시 적재용, 개수 상한은 pageable로 제한)
+    @Query("SELECT l.reviewLikePK.reviewId FROM ReviewLike l WHERE l.reviewLikePK.userId = :userId AND l.liked = true")
+    List<UUID> findLikedReviewIds(@Param("userId") UUID userId, Pageable pageable);
+
+    // 좋아요 토글: 행이 없으면 좋아요로 생성, 있으면 반전하고 바뀐 상태를 반환 (조회 없이 한 번의 upsert)
+    @Query(value = """
+        INSERT INTO review_like (review_id, user_id, liked) VALUES (:reviewId, :userId, true)
+        ON CONFLICT (review_id, user_id) DO UPDATE SET liked = NOT review_like.liked
+        RETURNING liked
+        """, nativeQuery = true)
+    boolean toggleLike(@Param("reviewId") UUID reviewId, @Param("userId") UUID userId);
 }
@@ -16,11 +16,27 @@ public interface ReviewRepository extends JpaRepository<Review, UUID>, ReviewRep
 
     boolean existsByUserIdAndBookIdAndIsDeletedFalse(UUID userId, UUID bookId);
 
+    // 복구용: 좋아요 수가 review_like 기준과 어긋난 리뷰만 골라 다시 계산 (갱신된 리뷰 수 반환)
+    // 반영 전 증감분 로그가 남은 리뷰는 건너뜀 (review_like에는 이미 들어 있어 다시 계산하면 반영 시 두 번 더해짐)
     @Modifying
-    @Query("UPDATE Review r SET r.commentCount = r.commentCount + 1 WHERE r.id = :reviewId")
-    void incrementCommentCount(@Param("reviewId") UUID reviewId);
+    @Query(value = """
+        UPDATE reviews r SET like_count = (SELECT COUNT(*) FROM review_like l WHERE l.review_id = r.id AND l.liked = true)
+        WHERE r.like_count <> (SELECT COUNT(*) FROM review_like l WHERE l.review_id = r.id AND l.liked = true)
+          AND NOT EXISTS (SELECT 1 FROM review_like_count_delta d WHERE d.review_id = r.id)
+    """, nativeQuery = true)
+    int recalculateAllLikeCounts();
 
+    // 닉네임 변경 시 해당 사용자의 리뷰(논리삭제 포함)에 비정규화된 닉네임을 한 번의 UPDATE로 반영
     @Modifying
-    @Query("UPDATE Review r SET r.commentCount = r.commentCount - 1 WHERE r.id = :reviewId")
-    void decrementCommentCount(@Param("reviewId") UUID reviewId);
+    @Query("UPDATE Review r SET r.userNickName = :nickname WHERE r.user.id = :userId AND r.userNickName <> :nickname")
+    int updateUserNickname(@Param("userId") UUID userId, @Param("nickname") String nickname);
+
+    // 도서 제목/썸네일 변경 시 해당 도서의 리뷰(논리삭제 포함)에 비정규화된 값을 한 번의 UPDATE로 반영
+    @Modifying
+    @Query("""
+        UPDATE Review r SET r.bookTitle = :title, r.bookThumbnailUrl = :thumbnailUrl
+        WHERE r.book.id = :bookId
+    """)
+    int updateBookInfo(@Param("bookId") UUID bookId, @Param("title") String title,
+        @Param("thumbnailUrl") String thumbnailUrl);
 }
@@ -0,0 +1,51 @@
+package com.twogether.deokhugam.review.repository.custom;
+
+import com.twogether.deokhugam.common.util.CursorCodec;
+import com.twogether.deokhugam.review.exception.InvalidReviewCursorException;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 리뷰 목록 커서 (정렬 키, createdAt, id)
+ * 정렬 키는 평점 정렬이면 rating, 그 외에는 createdAt이다.
+ * id까지 포함하므로 평점과 생성 시각이 같은 리뷰가 여러 건이어도 페이지 경계에서 누락/중복이 없다.
+ *
+ * @param rating 평점 정렬일 때만 값이 있음
+ */
+public record ReviewCursor(
+    Integer rating,
+    Instant createdAt,
+    UUID id
+) {
+
+    public static boolean isRatingOrder(String orderBy) {
+        return "rating".equalsIgnoreCase(orderBy);
+    }
+
+    public static ReviewCursor of(int rating, Instant createdAt, UUID id, String orderBy) {
+        return new ReviewCursor(isRatingOrder(orderBy) ? rating : null, createdAt, id);
+    }
+
+    public static ReviewCursor decode(String cursor, String orderBy) {
+        try {
+            String[] parts = CursorCodec.decode(cursor, 3);
+            Instant createdAt = Instant.parse(parts[1]);
+            UUID id = UUID.fromString(parts[2]);
+            if (isRatingOrder(orderBy)) {
+                return new ReviewCursor(Integer.parseInt(parts[0]), createdAt, id);
+            }
+            // 다른 정렬에서 만든 커서를 그대로 넘긴 경우
+            if (!Instant.parse(parts[0]).equals(createdAt)) {
+                throw new IllegalArgumentException("정렬 기준과 커서가 맞지 않습니다: " + cursor);
+            }
+            return new ReviewCursor(null, createdAt, id);
+        } catch (RuntimeException e) {
+            throw new InvalidReviewCursorException(e);
+        }
+    }
+
+    public String encode() {
+        String sortValue = rating != null ? String.valueOf(rating) : createdAt.toString();
+        return CursorCodec.encode(sortValue, createdAt.toString(), id.toString());
+    }
+}
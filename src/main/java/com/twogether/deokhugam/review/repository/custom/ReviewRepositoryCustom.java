@@ -1,5 +1,6 @@
 package com.twogether.deokhugam.review.repository.custom;
 
+import com.twogether.deokhugam.review.dto.ReviewDto;
 import com.twogether.deokhugam.review.dto.request.ReviewSearchRequest;
 import com.twogether.deokhugam.review.entity.Review;
 import org.springframework.data.domain.Pageable;
@@ -10,4 +11,10 @@ public interface ReviewRepositoryCustom {
     long totalElementCount(ReviewSearchRequest reviewSearchRequest);
     Slice<Review> findReviewsWithCursor(ReviewSearchRequest request, Pageable pageable);
 
+    /**
+     * 목록 summary 조회: 엔티티 대신 필요한 컬럼만 DTO로 조회하고 리뷰 내용은 앞부분만 잘라 읽는다.
+     * likedByMe는 false로 채워지며 서비스에서 요청자 기준으로 다시 채운다.
+     */
+    Slice<ReviewDto> findReviewSummariesWithCursor(ReviewSearchRequest request, Pageable pageable);
+
 }
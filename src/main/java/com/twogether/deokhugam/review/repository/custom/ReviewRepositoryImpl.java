@@ -3,23 +3,30 @@ package com.twogether.deokhugam.review.repository.custom;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.twogether.deokhugam.common.dto.ListView;
+import com.twogether.deokhugam.common.util.SearchPatternUtil;
+import com.twogether.deokhugam.review.dto.ReviewDto;
 import com.twogether.deokhugam.review.dto.request.ReviewSearchRequest;
 import com.twogether.deokhugam.review.entity.QReview;
 import com.twogether.deokhugam.review.entity.Review;
+import com.twogether.deokhugam.review.exception.InvalidReviewCursorException;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
-@Slf4j
 @RequiredArgsConstructor
 @Repository
 public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
@@ -61,6 +68,55 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
         return new SliceImpl<>(content, pageable, hasNext);
     }
 
+    /**
+     * 리뷰 목록 요약 조회
+     */
+    @Override
+    public Slice<ReviewDto> findReviewSummariesWithCursor(ReviewSearchRequest request, Pageable pageable) {
+
+        BooleanBuilder builder = buildSearchCondition(request);
+        cursorCondition(builder, request);
+
+        int pageSize = pageable.getPageSize();
+
+        // book.id / user.id는 리뷰 테이블의 FK 컬럼이라 조인하지 않음
+        StringExpression contentPreview = review.content.substring(0, ListView.SUMMARY_TEXT_LENGTH);
+        List<ReviewDto> content = queryFactory
+                .select(review.id, review.book.id, review.bookTitle, review.bookThumbnailUrl, review.user.id,
+                        review.userNickName, contentPreview, review.rating, review.likeCount, review.commentCount,
+                        review.createdAt, review.updatedAt)
+                .from(review)
+                .where(builder.hasValue() ? builder : null)
+                .orderBy(createOrderSpecifier(request.orderBy(), request.direction()))
+                .limit(request.limit() + 1)
+                .fetch()
+                .stream()
+                .map(row -> new ReviewDto(
+                        row.get(review.id),
+                        row.get(review.book.id),
+                        row.get(review.bookTitle),
+                        row.get(review.bookThumbnailUrl),
+                        row.get(review.user.id),
+                        row.get(review.userNickName),
+                        row.get(contentPreview),
+                        row.get(review.rating),
+                        row.get(review.likeCount),
+                        row.get(review.commentCount),
+                        false,
+                        row.get(review.createdAt),
+                        row.get(review.updatedAt)
+                ))
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        boolean hasNext = false;
+        if (content.size() > pageSize){
+            content.remove(pageSize);
+            hasNext = true;
+        }
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
     /**
      * totalElement 구하기
      */
@@ -81,34 +137,18 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
 
     /**
      * @param keyword 시용자가 입력한 검색어
-     * @return 도서 제목, 리뷰 작성자 닉네임, 리류 내용에 keyword가 들어가는지 여부
-     */
-    private BooleanExpression bookTitleLike(String keyword) {
-        return StringUtils.hasText(keyword) ? review.bookTitle.contains(keyword) : null;
-    }
-
-    private BooleanExpression reviewerLike(String keyword) {
-        return StringUtils.hasText(keyword) ? review.userNickName.contains(keyword) : null;
-    }
-
-    private BooleanExpression contentLike(String keyword) {
-        return StringUtils.hasText(keyword) ? review.content.contains(keyword) : null;
-    }
-
-    /**
-     * @param keyword 시용자가 입력한 검색어
-     * @return OR로 묶인 부분일치 조건들
+     * @return 도서 제목, 리뷰 작성자 닉네임, 리뷰 내용 중 하나에 keyword가 들어가는지 여부
+     * (세 값을 합친 search_text 한 컬럼을 부분일치로 검색해 트라이그램 인덱스를 타게 함)
+     * 1~2글자 검색어는 트라이그램을 만들 수 없어 인덱스 전체를 훑게 되므로,
+     * search_text의 1~2글자 n-gram을 모아 둔 search_grams 배열에 포함되는지로 검색해 GIN 인덱스를 타게 함
      */
-    private BooleanBuilder keywordLike(String keyword){
-        if (!StringUtils.hasText(keyword)) return null;
-
-        BooleanBuilder booleanBuilder = new BooleanBuilder();
-
-        booleanBuilder.or(bookTitleLike(keyword));
-        booleanBuilder.or(reviewerLike(keyword));
-        booleanBuilder.or(contentLike(keyword));
-
-        return booleanBuilder;
+    private BooleanExpression keywordLike(String keyword){
+        String shortKeyword = SearchPatternUtil.toShortKeyword(keyword);
+        if (shortKeyword != null) {
+            return Expressions.booleanTemplate("array_contains({0}, {1})", review.searchGrams, shortKeyword);
+        }
+        String pattern = SearchPatternUtil.toContainsPattern(keyword);
+        return pattern != null ? review.searchText.like(pattern, SearchPatternUtil.ESCAPE_CHAR) : null;
     }
 
     /**
@@ -140,112 +180,77 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
 
     /**
      * 정렬 조건 메서드
+     * (정렬 키, createdAt, id) 순서로 모두 같은 방향이라 리뷰 목록 인덱스를 정방향/역방향으로 그대로 탄다.
      */
     private OrderSpecifier<?>[] createOrderSpecifier(String orderBy, String direction){
         boolean isDesc = "DESC".equalsIgnoreCase(direction);
 
-        // 사용자가 선택한 정렬 조건
-        OrderSpecifier<?> reviews;
-        if ("rating".equalsIgnoreCase(orderBy)) {
-            reviews = isDesc ? review.rating.desc() : review.rating.asc();
-        }
-        else {
-            // 기본 정렬은 createdAt
-            reviews = isDesc ? review.createdAt.desc() : review.createdAt.asc();
-        }
-
-        // createdAt 으로 2차 정렬
-        OrderSpecifier<?> secondary = isDesc ? review.createdAt.desc() : review.createdAt.asc();
+        OrderSpecifier<?> createdAt = isDesc ? review.createdAt.desc() : review.createdAt.asc();
+        // 생성 시각까지 같은 리뷰는 id로 순서 고정
+        OrderSpecifier<?> id = isDesc ? review.id.desc() : review.id.asc();
 
-        return new OrderSpecifier[]{reviews, secondary};
+        if (ReviewCursor.isRatingOrder(orderBy)) {
+            OrderSpecifier<?> rating = isDesc ? review.rating.desc() : review.rating.asc();
+            return new OrderSpecifier[]{rating, createdAt, id};
+        }
+        // 기본 정렬은 createdAt
+        return new OrderSpecifier[]{createdAt, id};
     }
 
     /**
      * 커서 조건 추가
+     * (k, t, id) > (k0, t0, id0) 를 풀어 쓴 형태이며, 앞에 k >= k0 범위 조건을 두어 인덱스 탐색 시작점으로 쓰게 한다.
+     * 커서 형식이 잘못되면 조건을 빼고 조회하지 않고 INVALID_CURSOR로 거절한다. (같은 페이지 반복 방지)
      */
     private void cursorCondition(BooleanBuilder builder, ReviewSearchRequest request){
-        // 1차 정렬에 따른 커서 값
-        String cursor = request.cursor();
-
-        // 이전 페이지 마지막 요소 생성시간
-        String after = request.after();
+        boolean isDesc = "DESC".equalsIgnoreCase(request.direction());
+        boolean byRating = ReviewCursor.isRatingOrder(request.orderBy());
 
         // 첫 페이지인 경우
-        if(after == null){
+        if (!StringUtils.hasText(request.cursor())) {
+            // 커서 없이 after만 전달된 경우: createdAt 정렬에서만 보조 커서로 사용
+            if (StringUtils.hasText(request.after()) && !byRating) {
+                Instant after = parseAfter(request.after());
+                builder.and(isDesc ? review.createdAt.lt(after) : review.createdAt.gt(after));
+            }
             return;
         }
 
-        try{
-            Instant afterTime = Instant.parse(after);
-            boolean isDesc = "DESC".equalsIgnoreCase(request.direction());
+        ReviewCursor cursor = ReviewCursor.decode(request.cursor(), request.orderBy());
+        BooleanExpression tieBreak = createdAtAndIdAfter(cursor, isDesc);
 
-            if ("rating".equalsIgnoreCase(request.orderBy())){
-                ratingCursor(builder, afterTime, cursor, isDesc);
-            }
-            else{
-                createdAtCursor(builder, cursor, isDesc);
-            }
+        if (byRating) {
+            int rating = cursor.rating();
+            BooleanExpression bound = isDesc ? review.rating.loe(rating) : review.rating.goe(rating);
+            BooleanExpression after = isDesc
+                    ? review.rating.lt(rating).or(review.rating.eq(rating).and(tieBreak))
+                    : review.rating.gt(rating).or(review.rating.eq(rating).and(tieBreak));
+            builder.and(bound.and(after));
         }
-        catch (Exception e){
-            log.warn("커서 조건을 위한 값 파싱 실패: {} ", after);
+        else {
+            BooleanExpression bound = isDesc
+                    ? review.createdAt.loe(cursor.createdAt())
+                    : review.createdAt.goe(cursor.createdAt());
+            builder.and(bound.and(tieBreak));
         }
     }
 
     /**
-     * 평점 정렬 시 커서
+     * 생성 시각, id 기준으로 커서 이후인지
      */
-    private void ratingCursor(BooleanBuilder builder, Instant afterTime, String cursor, boolean isDesc){
-        if (cursor == null){
-            if (isDesc) {
-                builder.and(review.createdAt.lt(afterTime));
-            }
-            else{
-                builder.and(review.createdAt.gt(afterTime));
-            }
-            return;
-        }
-
-        try {
-            int cursorRating = Integer.parseInt(cursor);
-
-            if (isDesc) {
-                BooleanExpression cursorCondition = review.rating.lt(cursorRating)
-                        .or(review.rating.eq(cursorRating).and(review.createdAt.lt(afterTime)));
-
-                builder.and(cursorCondition);
-            }
-            else{
-                BooleanExpression cursorCondition = review.rating.gt(cursorRating)
-                        .or(review.rating.eq(cursorRating).and(review.createdAt.gt(afterTime)));
-
-                builder.and(cursorCondition);
-            }
-        }catch (NumberFormatException e){
-            // 파싱 오류 발생 시 -> 생성 시간만으로 커서 조건 생성
-            if (isDesc) {
-                builder.and(review.createdAt.lt(afterTime));
-            }
-            else{
-                builder.and(review.createdAt.gt(afterTime));
-            }
-        }
+    private BooleanExpression createdAtAndIdAfter(ReviewCursor cursor, boolean isDesc){
+        Instant createdAt = cursor.createdAt();
+        return isDesc
+                ? review.createdAt.lt(createdAt).or(review.createdAt.eq(createdAt).and(review.id.lt(cursor.id())))
+                : review.createdAt.gt(createdAt).or(review.createdAt.eq(createdAt).and(review.id.gt(cursor.id())));
     }
 
-    /**
-     * 생성 시간 기준 커서 조건
-     */
-    private void createdAtCursor(BooleanBuilder builder, String cursor, boolean isDesc){
+    private Instant parseAfter(String after){
         try {
-            Instant cursorTime = Instant.parse(cursor);
-
-            if (isDesc) {
-                builder.and(review.createdAt.lt(cursorTime));
-            } else {
-                builder.and(review.createdAt.gt(cursorTime));
-            }
+            return Instant.parse(after);
         }
-        catch (Exception e){
-            log.warn("커서 조건을 위한 값 파싱 실패: {} ", cursor);
+        catch (DateTimeParseException e){
+            throw new InvalidReviewCursorException(e);
         }
     }
 }
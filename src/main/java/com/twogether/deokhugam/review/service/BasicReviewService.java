@@ -1,9 +1,11 @@
 package com.twogether.deokhugam.review.service;
 
-import com.twogether.deokhugam.book.entity.Book;
+import com.twogether.deokhugam.book.dto.BookDto;
 import com.twogether.deokhugam.book.exception.BookNotFoundException;
 import com.twogether.deokhugam.book.repository.BookRepository;
+import com.twogether.deokhugam.book.service.BookCache;
 import com.twogether.deokhugam.common.dto.CursorPageResponseDto;
+import com.twogether.deokhugam.common.dto.ListView;
 import com.twogether.deokhugam.notification.event.ReviewLikedEvent;
 import com.twogether.deokhugam.review.dto.ReviewDto;
 import com.twogether.deokhugam.review.dto.ReviewLikeDto;
@@ -13,20 +15,19 @@ import com.twogether.deokhugam.review.dto.request.ReviewUpdateRequest;
 import com.twogether.deokhugam.review.entity.Review;
 import com.twogether.deokhugam.review.entity.ReviewLike;
 import com.twogether.deokhugam.review.exception.ReviewExistException;
-import com.twogether.deokhugam.review.exception.ReviewLikeNotFoundException;
 import com.twogether.deokhugam.review.exception.ReviewNotFoundException;
 import com.twogether.deokhugam.review.exception.ReviewNotOwnedException;
-import com.twogether.deokhugam.review.mapper.ReviewLikeMapper;
 import com.twogether.deokhugam.review.mapper.ReviewMapper;
 import com.twogether.deokhugam.review.repository.ReviewLikeRepository;
 import com.twogether.deokhugam.review.repository.ReviewRepository;
 import com.twogether.deokhugam.review.service.util.ReviewCursorHelper;
+import com.twogether.deokhugam.user.dto.UserDto;
 import com.twogether.deokhugam.user.entity.User;
 import com.twogether.deokhugam.user.exception.UserNotFoundException;
 import com.twogether.deokhugam.user.repository.UserRepository;
+import com.twogether.deokhugam.user.service.UserCache;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -47,8 +48,13 @@ public class BasicReviewService implements ReviewService{
     private final BookRepository bookRepository;
     private final ReviewLikeRepository reviewLikeRepository;
     private final ReviewMapper reviewMapper;
-    private final ReviewLikeMapper reviewLikeMapper;
     private final ReviewCursorHelper reviewCursorHelper;
+    private final ReviewCountService reviewCountService;
+    private final ReviewLikeCountBuffer reviewLikeCountBuffer;
+    private final ReviewCommentCountBuffer reviewCommentCountBuffer;
+    private final ReviewLikeCache reviewLikeCache;
+    private final BookCache bookCache;
+    private final UserCache userCache;
     // 알림용
     private final ApplicationEventPublisher eventPublisher;
 
@@ -63,14 +69,24 @@ public class BasicReviewService implements ReviewService{
             throw new ReviewExistException(request.userId(), request.bookId());
         }
 
-        // 리뷰 작성하려는 책, 유저
-        Book reviewedBook = bookRepository.findById(request.bookId())
+        // 리뷰 작성하려는 책, 유저 (존재 확인과 비정규화 필드는 캐시 스냅샷 사용)
+        BookDto reviewedBook = bookCache.find(request.bookId())
                 .orElseThrow(BookNotFoundException::new);
 
-        User reviewer = userRepository.findById(request.userId())
+        UserDto reviewerInfo = userCache.find(request.userId())
                 .orElseThrow(() -> UserNotFoundException.withId(request.userId()));
 
-        Review review = new Review(reviewedBook, reviewer, request.content(), request.rating());
+        // 외래 키만 필요하므로 SELECT 없이 프록시 참조 사용
+        User reviewer = userRepository.getReferenceById(request.userId());
+        Review review = new Review(
+                bookRepository.getReferenceById(request.bookId()),
+                reviewer,
+                reviewedBook.title(),
+                reviewedBook.thumbnailUrl(),
+                reviewerInfo.nickname(),
+                request.content(),
+                request.rating()
+        );
         reviewRepository.save(review);
 
         ReviewLike reviewLike = new ReviewLike(
@@ -79,10 +95,12 @@ public class BasicReviewService implements ReviewService{
                 false
         );
 
-        bookRepository.updateBookReviewStats(request.bookId());
-        bookRepository.save(reviewedBook);
+        // 도서 통계는 전체 재계산 없이 증감분만 반영
+        bookRepository.applyReviewStatsDelta(request.bookId(), 1, request.rating());
+        bookCache.invalidate(request.bookId());
 
         reviewLikeRepository.save(reviewLike);
+        reviewCountService.invalidate();
         log.info("[BasicReviewService] 리뷰 등록 성공");
 
         return reviewMapper.toDto(review, false);
@@ -90,34 +108,41 @@ public class BasicReviewService implements ReviewService{
 
     /**
      * 리뷰 상세 조회
+     * 도서 제목/썸네일, 작성자 닉네임은 변경 시점에 리뷰 테이블로 일괄 반영되므로 조회 시에는 읽기만 한다.
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public ReviewDto findById(UUID reviewId, UUID requestUserId){
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(
                         () -> new ReviewNotFoundException(reviewId));
 
-        syncReview(review);
-
-        boolean likeByMe = reviewLikeRepository.findByUserIdAndReviewId(requestUserId, reviewId)
-                    .map(ReviewLike::isLiked)
-                    .orElse(false);
+        boolean likeByMe = reviewLikeCache.isLiked(requestUserId, reviewId);
 
         log.info("[BasicReviewService]: 리뷰 조회 완료");
 
-        return reviewMapper.toDto(review, likeByMe);
+        // 댓글 수는 아직 반영되지 않은 증감분까지 더해 방금 단 댓글도 바로 보이도록 함
+        ReviewDto reviewDto = reviewMapper.toDto(review, likeByMe);
+        return reviewCommentCountBuffer.currentCount(reviewId)
+                .filter(count -> count != reviewDto.commentCount())
+                .map(reviewDto::withCommentCount)
+                .orElse(reviewDto);
     }
 
     /**
      * 리뷰 목록 조회
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public CursorPageResponseDto<ReviewDto> findReviews(ReviewSearchRequest request) {
         // Pageable 생성
         Pageable pageable = PageRequest.of(0, request.limit());
 
+        // summary 조회: 엔티티 대신 필요한 컬럼만 조회
+        if (request.view() == ListView.SUMMARY) {
+            return findReviewSummaries(request, pageable);
+        }
+
         // Slice 메서드 호출
         Slice<Review> slice = reviewRepository.findReviewsWithCursor(request, pageable);
 
@@ -126,18 +151,13 @@ public class BasicReviewService implements ReviewService{
 
         // DTO 변환
         List<ReviewDto> reviewDtos = slice.getContent().stream()
-                .map(review -> {
-                    syncReview(review);
-
-                    boolean likeByMe = likeByMeMap.getOrDefault(review.getId(), false);
-                    return reviewMapper.toDto(review, likeByMe);
-                })
+                .map(review -> reviewMapper.toDto(review, likeByMeMap.getOrDefault(review.getId(), false)))
                 .toList();
 
         log.info("[BasicReviewService]: 리뷰 목록 조회 완료");
 
-        // totalElement 구하기
-        long totalElement = reviewRepository.totalElementCount(request);
+        // totalElement 구하기 (includeTotal=false면 COUNT 쿼리 생략, 캐시 우선 조회)
+        Long totalElement = request.includeTotal() ? reviewCountService.count(request) : null;
 
         // 다음 커서 생성
         String nextCursor = slice.hasNext() ? reviewCursorHelper.generateNextCursor(slice.getContent(), request.orderBy()) : null;
@@ -158,6 +178,37 @@ public class BasicReviewService implements ReviewService{
         );
     }
 
+    /**
+     * 리뷰 목록 요약 조회 (리뷰 내용은 앞부분만)
+     */
+    private CursorPageResponseDto<ReviewDto> findReviewSummaries(ReviewSearchRequest request, Pageable pageable) {
+        Slice<ReviewDto> slice = reviewRepository.findReviewSummariesWithCursor(request, pageable);
+
+        List<UUID> reviewIds = slice.getContent().stream().map(ReviewDto::id).toList();
+        Map<UUID, Boolean> likeByMeMap = reviewCursorHelper.getLikeByMeMapByIds(reviewIds, request.requestUserId());
+
+        List<ReviewDto> reviewDtos = slice.getContent().stream()
+                .map(dto -> dto.withLikedByMe(likeByMeMap.getOrDefault(dto.id(), false)))
+                .toList();
+
+        log.info("[BasicReviewService]: 리뷰 목록 요약 조회 완료");
+
+        Long totalElement = request.includeTotal() ? reviewCountService.count(request) : null;
+
+        ReviewDto last = reviewDtos.isEmpty() ? null : reviewDtos.get(reviewDtos.size() - 1);
+        String nextCursor = slice.hasNext() && last != null ? reviewCursorHelper.generateNextCursor(last, request.orderBy()) : null;
+        String after = slice.hasNext() && last != null ? reviewCursorHelper.generateAfter(last) : null;
+
+        return new CursorPageResponseDto<>(
+                reviewDtos,
+                nextCursor,
+                after,
+                request.limit(),
+                totalElement,
+                slice.hasNext()
+        );
+    }
+
     /**
      * 리뷰 수정 (리뷰 내용, 별점)
      */
@@ -170,14 +221,22 @@ public class BasicReviewService implements ReviewService{
         if (!review.getUser().getId().equals(requestUserId)){
             throw new ReviewNotOwnedException();
         }
+        int previousRating = review.getRating();
         review.updateReview(updateRequest.content(), updateRequest.rating());
         reviewRepository.save(review);
 
+        // 평점이 바뀐 경우 리뷰 수는 그대로, 평점 합계만 차이만큼 반영
+        int ratingDelta = updateRequest.rating() - previousRating;
+        if (ratingDelta != 0 && !review.isDeleted()) {
+            bookRepository.applyReviewStatsDelta(review.getBook().getId(), 0, ratingDelta);
+            bookCache.invalidate(review.getBook().getId());
+        }
+        // 내용 변경으로 키워드 검색 건수가 달라질 수 있음
+        reviewCountService.invalidate();
+
         log.info("[BasicReviewService]: 리뷰 수정 완료 newContent: {}, newRating: {}", updateRequest.content(), updateRequest.rating());
 
-        boolean likeByMe = reviewLikeRepository.findByUserIdAndReviewId(requestUserId, reviewId)
-                .map(ReviewLike::isLiked)
-                .orElse(false);
+        boolean likeByMe = reviewLikeCache.isLiked(requestUserId, reviewId);
         return reviewMapper.toDto(review, likeByMe);
     }
 
@@ -190,18 +249,19 @@ public class BasicReviewService implements ReviewService{
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new ReviewNotFoundException(reviewId));
 
-        Book reviewedBook = bookRepository.findById(review.getBook().getId())
-                .orElseThrow(BookNotFoundException::new);
-
         if (!review.getUser().getId().equals(requestUserId)){
             throw new ReviewNotOwnedException();
         }
-        review.updateIsDelete(true);
 
-        bookRepository.updateBookReviewStats(reviewedBook.getId());
-        bookRepository.save(reviewedBook);
+        // 이미 논리 삭제된 리뷰는 통계에서 빠져 있으므로 다시 차감하지 않음
+        if (!review.isDeleted()) {
+            review.updateIsDelete(true);
+            bookRepository.applyReviewStatsDelta(review.getBook().getId(), -1, -review.getRating());
+            bookCache.invalidate(review.getBook().getId());
+        }
 
         reviewRepository.save(review);
+        reviewCountService.invalidate();
 
         log.info("[BasicReviewService]: 리뷰 논리 삭제 완료");
     }
@@ -215,23 +275,25 @@ public class BasicReviewService implements ReviewService{
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new ReviewNotFoundException(reviewId));
 
-        Book reviewedBook = bookRepository.findById(review.getBook().getId())
-                .orElseThrow(BookNotFoundException::new);
-
         if (!review.getUser().getId().equals(requestUserId)){
             throw new ReviewNotOwnedException();
         }
 
         reviewRepository.delete(review);
 
-        bookRepository.updateBookReviewStats(reviewedBook.getId());
-        bookRepository.save(reviewedBook);
+        // 논리 삭제 상태였다면 이미 통계에서 차감된 리뷰
+        if (!review.isDeleted()) {
+            bookRepository.applyReviewStatsDelta(review.getBook().getId(), -1, -review.getRating());
+            bookCache.invalidate(review.getBook().getId());
+        }
+        reviewCountService.invalidate();
 
         log.info("[BasicReviewService]: 리뷰 물리 삭제 완료");
     }
 
     /**
      * 리뷰 좋아요 기능
+     * 좋아요 여부는 upsert 한 번으로 토글하고, 리뷰의 좋아요 수는 행을 잠그지 않도록 증감분만 모아 두었다가 일괄 반영한다.
      */
     @Override
     @Transactional
@@ -241,79 +303,19 @@ public class BasicReviewService implements ReviewService{
                 .orElseThrow(
                         () -> new ReviewNotFoundException(reviewId));
 
-        // 좋아요가 비어있다면
-        if (reviewLikeRepository.findByUserIdAndReviewId(userId, reviewId).isEmpty()){
-            User reviewer = userRepository.findById(userId)
-                    .orElseThrow(() -> UserNotFoundException.withId(userId));
-
-            ReviewLike newReviewLike = new ReviewLike(
-                    review,
-                    reviewer,
-                    true
-            );
-
-            review.updateLikeCount(review.getLikeCount() + 1);
-
-            reviewLikeRepository.save(newReviewLike);
-            reviewRepository.save(review);
-
-            // 리뷰 이벤트 발행
-            eventPublisher.publishEvent(new ReviewLikedEvent(reviewer, review));
-
-            return reviewLikeMapper.toDto(newReviewLike);
+        if (userCache.find(userId).isEmpty()) {
+            throw UserNotFoundException.withId(userId);
         }
-        else{
-            ReviewLike reviewLike = reviewLikeRepository.findByUserIdAndReviewId(userId, reviewId)
-                    .orElseThrow(
-                            ReviewLikeNotFoundException::new);
-
-            if (reviewLike.isLiked()){
-                // 좋아요 상태가 true 라면
-                reviewLike.updateLike(false);
-                review.updateLikeCount(review.getLikeCount() - 1);
-            }
-            else{
-                // 좋아요가 false 라면
-                reviewLike.updateLike(true);
-                review.updateLikeCount(review.getLikeCount() + 1);
-
-                // 리뷰 이벤트 발행
-                eventPublisher.publishEvent(new ReviewLikedEvent(reviewLike.getUser(), review));
-            }
-
-            reviewLikeRepository.save(reviewLike);
-            reviewRepository.save(review);
-
-            return reviewLikeMapper.toDto(reviewLike);
-        }
-    }
 
-    /**
-     *  리뷰 정보 동기화
-     */
-    private void syncReview(Review review){
-        boolean updated = false;
+        boolean liked = reviewLikeRepository.toggleLike(reviewId, userId);
+        reviewLikeCountBuffer.record(reviewId, liked ? 1 : -1);
+        reviewLikeCache.onToggle(userId);
 
-        if (!review.getUserNickName().equals(review.getUser().getNickname())) {
-            review.updateReviewerNickName(review.getUser().getNickname());
-            updated = true;
-        }
-
-        if (!review.getBookTitle().equals(review.getBook().getTitle())) {
-            review.updateBookTitle(review.getBook().getTitle());
-            updated = true;
-        }
-
-        // null-safe한 비교
-        if (!Objects.equals(review.getBookThumbnailUrl(), review.getBook().getThumbnailUrl())) {
-            review.updateBookThumbnail(review.getBook().getThumbnailUrl());
-            updated = true;
-        }
-
-        // dirty checking으로 저장되므로 save 호출 불필요
-        if (updated) {
-            log.info("[BasicReviewService]: 리뷰 메타데이터 동기화 완료");
+        if (liked) {
+            // 리뷰 이벤트 발행
+            eventPublisher.publishEvent(new ReviewLikedEvent(userRepository.getReferenceById(userId), review));
         }
 
+        return new ReviewLikeDto(reviewId, userId, liked);
     }
 }
@@ -0,0 +1,108 @@
+package com.twogether.deokhugam.review.service;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * 한 사용자가 좋아요한 리뷰 id 집합 (불변)
+ * <p>
+ * UUID를 (상위 64비트, 하위 64비트) long 쌍으로 정렬해 하나의 long[]에 담는다.
+ * 항목당 16바이트만 쓰고 객체 참조가 없으며, 포함 여부는 이진 탐색으로 확인한다.
+ * 좋아요/취소 시에는 한 칸을 넣거나 뺀 새 배열을 만들어 교체한다. (읽는 쪽은 잠금 없이 그대로 사용)
+ */
+final class LikedReviewSet {
+
+    static final LikedReviewSet EMPTY = new LikedReviewSet(new long[0]);
+
+    // 배열 헤더와 객체 자체의 대략적인 크기
+    private static final int OVERHEAD_BYTES = 48;
+
+    // [msb0, lsb0, msb1, lsb1, ...] (msb, lsb) 오름차순, 중복 없음
+    private final long[] ids;
+
+    LikedReviewSet(long[] ids) {
+        this.ids = ids;
+    }
+
+    static LikedReviewSet of(Collection<UUID> reviewIds) {
+        UUID[] sorted = reviewIds.stream().distinct().sorted().toArray(UUID[]::new);
+        if (sorted.length == 0) {
+            return EMPTY;
+        }
+        long[] ids = new long[sorted.length * 2];
+        for (int i = 0; i < sorted.length; i++) {
+            ids[2 * i] = sorted[i].getMostSignificantBits();
+            ids[2 * i + 1] = sorted[i].getLeastSignificantBits();
+        }
+        return new LikedReviewSet(ids);
+    }
+
+    boolean contains(UUID reviewId) {
+        return indexOf(reviewId.getMostSignificantBits(), reviewId.getLeastSignificantBits()) >= 0;
+    }
+
+    int size() {
+        return ids.length / 2;
+    }
+
+    LikedReviewSet with(UUID reviewId) {
+        long msb = reviewId.getMostSignificantBits();
+        long lsb = reviewId.getLeastSignificantBits();
+        int index = indexOf(msb, lsb);
+        if (index >= 0) {
+            return this;
+        }
+        int insertAt = -(index + 1) * 2;
+        long[] next = new long[ids.length + 2];
+        System.arraycopy(ids, 0, next, 0, insertAt);
+        next[insertAt] = msb;
+        next[insertAt + 1] = lsb;
+        System.arraycopy(ids, insertAt, next, insertAt + 2, ids.length - insertAt);
+        return new LikedReviewSet(next);
+    }
+
+    LikedReviewSet without(UUID reviewId) {
+        int index = indexOf(reviewId.getMostSignificantBits(), reviewId.getLeastSignificantBits());
+        if (index < 0) {
+            return this;
+        }
+        if (ids.length == 2) {
+            return EMPTY;
+        }
+        int removeAt = index * 2;
+        long[] next = new long[ids.length - 2];
+        System.arraycopy(ids, 0, next, 0, removeAt);
+        System.arraycopy(ids, removeAt + 2, next, removeAt, ids.length - removeAt - 2);
+        return new LikedReviewSet(next);
+    }
+
+    /**
+     * 메모리 사용량 근사치 (바이트)
+     */
+    int weight() {
+        return OVERHEAD_BYTES + ids.length * Long.BYTES;
+    }
+
+    /**
+     * (msb, lsb) 쌍의 순번, 없으면 -(삽입 위치 + 1) ({@link UUID#compareTo}와 같은 부호 있는 비교)
+     */
+    private int indexOf(long msb, long lsb) {
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Long.compare(ids[2 * mid], msb);
+            if (cmp == 0) {
+                cmp = Long.compare(ids[2 * mid + 1], lsb);
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+}
@@ -0,0 +1,179 @@
+package com.twogether.deokhugam.review.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 리뷰 댓글 수 증감분 버퍼 (review_comment_count_delta 테이블)
+ * <p>
+ * 댓글 등록/삭제 트랜잭션은 reviews 행을 갱신하지 않고 증감분 로그 한 행만 추가하므로, 댓글이 몰리는 리뷰에서도
+ * 부모 행 잠금을 기다리지 않는다. 로그는 댓글과 같은 트랜잭션으로 커밋되어 프로세스가 죽어도 잃지 않는다.
+ * 백그라운드 작업이 짧은 주기로 로그를 꺼내 리뷰별로 합친 뒤 comment_count에 더하고, 같은 트랜잭션에서 로그를 지운다.
+ * 정확한 값이 필요한 조회는 {@link #currentCount(UUID)}로 반영 전 증감분까지 더해 읽는다.
+ */
+@Slf4j
+@Component
+public class ReviewCommentCountBuffer {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO review_comment_count_delta (review_id, delta, created_at) VALUES (?, ?, ?)";
+
+    // 여러 인스턴스가 동시에 반영해도 같은 로그를 두 번 더하지 않도록 잠긴 행은 건너뜀
+    private static final String CLAIM_SQL = """
+        SELECT id, review_id, delta, created_at FROM review_comment_count_delta
+        ORDER BY id
+        LIMIT ?
+        FOR UPDATE SKIP LOCKED
+        """;
+
+    private static final String APPLY_SQL = "UPDATE reviews SET comment_count = comment_count + ? WHERE id = ?";
+    private static final String DELETE_SQL = "DELETE FROM review_comment_count_delta WHERE id = ?";
+
+    // 저장된 값과 반영 전 증감분을 한 문장(같은 스냅샷)에서 읽어 반영 작업과 겹쳐도 두 번 세거나 빠뜨리지 않음
+    private static final String CURRENT_COUNT_SQL = """
+        SELECT r.comment_count + COALESCE(
+            (SELECT SUM(d.delta) FROM review_comment_count_delta d WHERE d.review_id = r.id), 0)
+        FROM reviews r
+        WHERE r.id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate flushTransaction;
+    private final Clock clock;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    private final DistributionSummary flushedDeltas;
+    private final Timer flushLag;
+    private final Counter flushSuccess;
+    private final Counter flushFailure;
+
+    @Autowired
+    public ReviewCommentCountBuffer(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${review.comment-count.batch-size:1000}") int batchSize,
+        @Value("${review.comment-count.max-batches-per-run:10}") int maxBatchesPerRun
+    ) {
+        this(jdbcTemplate, transactionManager, meterRegistry, batchSize, maxBatchesPerRun, Clock.systemUTC());
+    }
+
+    ReviewCommentCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry, int batchSize, int maxBatchesPerRun, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+
+        this.flushedDeltas = DistributionSummary.builder("review.comment-count.flush.batch-size")
+            .description("한 번의 반영에서 합친 증감분 로그 수")
+            .register(meterRegistry);
+        this.flushLag = Timer.builder("review.comment-count.flush.lag")
+            .description("증감분 로그가 기록된 뒤 comment_count에 반영되기까지 걸린 시간 (가장 오래된 로그 기준)")
+            .register(meterRegistry);
+        this.flushSuccess = meterRegistry.counter("review.comment-count.flushes", "result", "success");
+        this.flushFailure = meterRegistry.counter("review.comment-count.flushes", "result", "failure");
+    }
+
+    /**
+     * 댓글 수 증감분 기록 (호출한 쪽 트랜잭션에 참여하므로 댓글이 롤백되면 함께 사라짐)
+     */
+    public void record(UUID reviewId, int delta) {
+        jdbcTemplate.update(INSERT_SQL, reviewId, delta, Timestamp.from(clock.instant()));
+    }
+
+    /**
+     * 반영 전 증감분까지 더한 현재 댓글 수 (리뷰가 없으면 empty)
+     */
+    public Optional<Long> currentCount(UUID reviewId) {
+        List<Long> counts = jdbcTemplate.queryForList(CURRENT_COUNT_SQL, Long.class, reviewId);
+        return counts.stream().findFirst();
+    }
+
+    /**
+     * 쌓인 증감분 로그를 batch-size 단위로 꺼내 반영 (한 번 실행에 최대 max-batches-per-run 묶음)
+     */
+    @Scheduled(fixedDelayString = "${review.comment-count.flush-interval:PT2S}")
+    public void flush() {
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int claimed;
+            try {
+                claimed = flushTransaction.execute(status -> flushBatch());
+            } catch (RuntimeException e) {
+                // 트랜잭션이 롤백되어 로그가 그대로 남으므로 다음 주기에 다시 반영됨
+                flushFailure.increment();
+                log.warn("[ReviewCommentCountBuffer] 댓글 수 반영 실패, 다음 주기에 재시도: 오류={}", e.getMessage());
+                return;
+            }
+            if (claimed < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private int flushBatch() {
+        List<DeltaRow> rows = jdbcTemplate.query(CLAIM_SQL,
+            (rs, rowNum) -> new DeltaRow(
+                rs.getLong("id"),
+                rs.getObject("review_id", UUID.class),
+                rs.getInt("delta"),
+                rs.getTimestamp("created_at").toInstant()),
+            batchSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // 리뷰별로 합친 뒤 id 순서로 갱신해 인스턴스 간 행 잠금 순서를 맞춤
+        Map<UUID, Long> deltas = new TreeMap<>();
+        Instant oldest = rows.get(0).createdAt();
+        for (DeltaRow row : rows) {
+            deltas.merge(row.reviewId(), (long) row.delta(), Long::sum);
+            if (row.createdAt().isBefore(oldest)) {
+                oldest = row.createdAt();
+            }
+        }
+        List<Map.Entry<UUID, Long>> updates = new ArrayList<>(deltas.entrySet());
+        updates.removeIf(entry -> entry.getValue() == 0);
+
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(APPLY_SQL, updates, updates.size(), (ps, entry) -> {
+                ps.setLong(1, entry.getValue());
+                ps.setObject(2, entry.getKey());
+            });
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, rows, rows.size(), (ps, row) -> ps.setLong(1, row.id()));
+
+        flushedDeltas.record(rows.size());
+        flushLag.record(Duration.between(oldest, clock.instant()));
+        flushSuccess.increment();
+        log.debug("[ReviewCommentCountBuffer] 댓글 수 반영 완료: 로그 {}건 → 리뷰 {}건", rows.size(), updates.size());
+        return rows.size();
+    }
+
+    record DeltaRow(long id, UUID reviewId, int delta, Instant createdAt) {
+    }
+}
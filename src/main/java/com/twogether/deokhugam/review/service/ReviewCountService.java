@@ -0,0 +1,46 @@
+package com.twogether.deokhugam.review.service;
+
+import com.twogether.deokhugam.common.cache.TotalCountCache;
+import com.twogether.deokhugam.common.util.SearchPatternUtil;
+import com.twogether.deokhugam.review.dto.request.ReviewSearchRequest;
+import com.twogether.deokhugam.review.repository.ReviewRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리뷰 목록 totalElements 캐시
+ * (keyword, userId, bookId) 조합별 COUNT 결과를 보관하고, 리뷰 작성/수정/삭제 시 무효화한다.
+ */
+@Component
+public class ReviewCountService {
+
+    private final ReviewRepository reviewRepository;
+    private final TotalCountCache<CountKey> countCache;
+
+    public ReviewCountService(
+        ReviewRepository reviewRepository,
+        MeterRegistry meterRegistry,
+        @Value("${cache.total-count.max-size:10000}") long maxSize,
+        @Value("${cache.total-count.ttl:60s}") Duration ttl
+    ) {
+        this.reviewRepository = reviewRepository;
+        this.countCache = new TotalCountCache<>("review.total-count", maxSize, ttl, meterRegistry);
+    }
+
+    public long count(ReviewSearchRequest request) {
+        // 정렬/커서/요청자는 COUNT 결과에 영향을 주지 않으므로 필터 조건만 키로 사용
+        // (검색어는 대소문자/앞뒤 공백만 다르면 같은 결과이므로 검색 패턴으로 정규화)
+        CountKey key = new CountKey(
+            SearchPatternUtil.toContainsPattern(request.keyword()), request.userId(), request.bookId());
+        return countCache.get(key, k -> reviewRepository.totalElementCount(request));
+    }
+
+    public void invalidate() {
+        countCache.invalidateAll();
+    }
+
+    private record CountKey(String keywordPattern, UUID userId, UUID bookId) { }
+}
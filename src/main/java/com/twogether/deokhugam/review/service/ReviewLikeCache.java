@@ -0,0 +1,119 @@
+package com.twogether.deokhugam.review.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.twogether.deokhugam.review.entity.ReviewLike;
+import com.twogether.deokhugam.review.repository.ReviewLikeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 사용자별 좋아요한 리뷰 집합 캐시 (likedByMe 판별용)
+ * <p>
+ * 사용자를 처음 조회할 때 좋아요한 리뷰 id를 한 번 읽어 {@link LikedReviewSet}으로 보관하고,
+ * 이후 목록/상세의 likedByMe는 SQL 없이 메모리에서 확인한다.
+ * 전체 크기는 max-memory로 제한되며 초과 시 Caffeine의 사용 빈도 기반 정책으로 자주 쓰이지 않는 사용자부터 제거된다.
+ * 좋아요/취소가 커밋되면 이 인스턴스에서는 해당 사용자 항목을 지워 다음 조회 때 DB에서 다시 읽는다.
+ * 다른 인스턴스에는 TTL이 지나 다시 읽을 때 반영되므로 TTL은 짧게(기본 30초) 둔다.
+ * 좋아요한 리뷰가 max-entries-per-user보다 많은 사용자는 캐시하지 않고 기존처럼 DB에서 조회한다.
+ */
+@Component
+public class ReviewLikeCache {
+
+    // 좋아요가 너무 많아 캐시하지 않는 사용자 표시 (DB 조회로 처리, 참조 비교로만 구분)
+    private static final LikedReviewSet UNCACHED = new LikedReviewSet(new long[0]);
+
+    private final ReviewLikeRepository reviewLikeRepository;
+    private final Cache<UUID, LikedReviewSet> cache;
+    private final int maxEntriesPerUser;
+
+    public ReviewLikeCache(
+        ReviewLikeRepository reviewLikeRepository,
+        MeterRegistry meterRegistry,
+        @Value("${cache.review-like.max-memory:32MB}") DataSize maxMemory,
+        @Value("${cache.review-like.ttl:30s}") Duration ttl,
+        @Value("${cache.review-like.max-entries-per-user:10000}") int maxEntriesPerUser
+    ) {
+        this.reviewLikeRepository = reviewLikeRepository;
+        this.maxEntriesPerUser = maxEntriesPerUser;
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxMemory.toBytes())
+            .weigher((UUID userId, LikedReviewSet likedSet) -> likedSet.weight())
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "review.liked-by-user");
+    }
+
+    public boolean isLiked(UUID userId, UUID reviewId) {
+        if (userId == null) {
+            return false;
+        }
+        LikedReviewSet likedSet = cache.get(userId, this::load);
+        if (likedSet == UNCACHED) {
+            return reviewLikeRepository.findByUserIdAndReviewId(userId, reviewId)
+                .map(ReviewLike::isLiked)
+                .orElse(false);
+        }
+        return likedSet.contains(reviewId);
+    }
+
+    /**
+     * 주어진 리뷰 각각에 대한 likedByMe
+     */
+    public Map<UUID, Boolean> likedAmong(UUID userId, List<UUID> reviewIds) {
+        if (userId == null || reviewIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, Boolean> result = new HashMap<>();
+        LikedReviewSet likedSet = cache.get(userId, this::load);
+        if (likedSet == UNCACHED) {
+            for (ReviewLike reviewLike : reviewLikeRepository.findByUserIdAndReviewIdIn(userId, reviewIds)) {
+                result.put(reviewLike.getReviewLikePK().getReviewId(), reviewLike.isLiked());
+            }
+            return result;
+        }
+        for (UUID reviewId : reviewIds) {
+            result.put(reviewId, likedSet.contains(reviewId));
+        }
+        return result;
+    }
+
+    /**
+     * 좋아요 토글 후 사용자 항목 제거 (다음 조회 때 DB에서 최신 상태로 적재)
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 지운다. 토글 결과를 집합에 덧붙이지 않고 지우기만 하므로,
+     * 여러 토글의 커밋 후 처리가 어떤 순서로 실행되어도 커밋 전 상태가 남지 않는다.
+     */
+    public void onToggle(UUID userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(userId);
+            }
+        });
+    }
+
+    private LikedReviewSet load(UUID userId) {
+        List<UUID> likedReviewIds =
+            reviewLikeRepository.findLikedReviewIds(userId, PageRequest.of(0, maxEntriesPerUser + 1));
+        if (likedReviewIds.size() > maxEntriesPerUser) {
+            return UNCACHED;
+        }
+        return LikedReviewSet.of(likedReviewIds);
+    }
+}
@@ -0,0 +1,163 @@
+package com.twogether.deokhugam.review.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 리뷰 좋아요 수 증감분 버퍼 (review_like_count_delta 테이블)
+ * <p>
+ * 좋아요/취소마다 reviews 행을 갱신하면 인기 리뷰 하나에 요청이 몰릴 때 같은 행 잠금을 기다리며 직렬화된다.
+ * 좋아요 토글 트랜잭션은 reviews 행 대신 증감분 로그 한 행만 추가하고, 로그는 review_like 변경과 같은 트랜잭션으로 커밋된다.
+ * 백그라운드 작업이 짧은 주기로 로그를 꺼내 리뷰별로 합친 뒤 like_count에 더하고, 같은 트랜잭션에서 로그를 지운다.
+ * 반영 전까지(최대 flush 주기) 목록/상세의 좋아요 수는 그만큼 늦게 보이며, 좋아요 여부(review_like)는 즉시 반영된다.
+ * 반영 전 증감분이 DB에 있으므로 좋아요 수 복구 작업은 로그가 남은 리뷰를 건너뛰어 같은 좋아요를 두 번 세지 않는다.
+ */
+@Slf4j
+@Component
+public class ReviewLikeCountBuffer {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO review_like_count_delta (review_id, delta, created_at) VALUES (?, ?, ?)";
+
+    // 여러 인스턴스가 동시에 반영해도 같은 로그를 두 번 더하지 않도록 잠긴 행은 건너뜀
+    private static final String CLAIM_SQL = """
+        SELECT id, review_id, delta, created_at FROM review_like_count_delta
+        ORDER BY id
+        LIMIT ?
+        FOR UPDATE SKIP LOCKED
+        """;
+
+    private static final String APPLY_SQL = "UPDATE reviews SET like_count = like_count + ? WHERE id = ?";
+    private static final String DELETE_SQL = "DELETE FROM review_like_count_delta WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate flushTransaction;
+    private final Clock clock;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    private final DistributionSummary flushedDeltas;
+    private final Timer flushLag;
+    private final Counter flushSuccess;
+    private final Counter flushFailure;
+
+    @Autowired
+    public ReviewLikeCountBuffer(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${review.like-count.batch-size:1000}") int batchSize,
+        @Value("${review.like-count.max-batches-per-run:10}") int maxBatchesPerRun
+    ) {
+        this(jdbcTemplate, transactionManager, meterRegistry, batchSize, maxBatchesPerRun, Clock.systemUTC());
+    }
+
+    ReviewLikeCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry, int batchSize, int maxBatchesPerRun, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+
+        this.flushedDeltas = DistributionSummary.builder("review.like-count.flush.batch-size")
+            .description("한 번의 반영에서 합친 증감분 로그 수")
+            .register(meterRegistry);
+        this.flushLag = Timer.builder("review.like-count.flush.lag")
+            .description("증감분 로그가 기록된 뒤 like_count에 반영되기까지 걸린 시간 (가장 오래된 로그 기준)")
+            .register(meterRegistry);
+        this.flushSuccess = meterRegistry.counter("review.like-count.flushes", "result", "success");
+        this.flushFailure = meterRegistry.counter("review.like-count.flushes", "result", "failure");
+    }
+
+    /**
+     * 좋아요 수 증감분 기록 (호출한 쪽 트랜잭션에 참여하므로 좋아요가 롤백되면 함께 사라짐)
+     */
+    public void record(UUID reviewId, int delta) {
+        jdbcTemplate.update(INSERT_SQL, reviewId, delta, Timestamp.from(clock.instant()));
+    }
+
+    /**
+     * 쌓인 증감분 로그를 batch-size 단위로 꺼내 반영 (한 번 실행에 최대 max-batches-per-run 묶음)
+     */
+    @Scheduled(fixedDelayString = "${review.like-count.flush-interval:PT1S}")
+    public void flush() {
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int claimed;
+            try {
+                claimed = flushTransaction.execute(status -> flushBatch());
+            } catch (RuntimeException e) {
+                // 트랜잭션이 롤백되어 로그가 그대로 남으므로 다음 주기에 다시 반영됨
+                flushFailure.increment();
+                log.warn("[ReviewLikeCountBuffer] 좋아요 수 반영 실패, 다음 주기에 재시도: 오류={}", e.getMessage());
+                return;
+            }
+            if (claimed < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private int flushBatch() {
+        List<DeltaRow> rows = jdbcTemplate.query(CLAIM_SQL,
+            (rs, rowNum) -> new DeltaRow(
+                rs.getLong("id"),
+                rs.getObject("review_id", UUID.class),
+                rs.getInt("delta"),
+                rs.getTimestamp("created_at").toInstant()),
+            batchSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // 리뷰별로 합친 뒤 id 순서로 갱신해 인스턴스 간 행 잠금 순서를 맞춤
+        Map<UUID, Long> deltas = new TreeMap<>();
+        Instant oldest = rows.get(0).createdAt();
+        for (DeltaRow row : rows) {
+            deltas.merge(row.reviewId(), (long) row.delta(), Long::sum);
+            if (row.createdAt().isBefore(oldest)) {
+                oldest = row.createdAt();
+            }
+        }
+        List<Map.Entry<UUID, Long>> updates = new ArrayList<>(deltas.entrySet());
+        updates.removeIf(entry -> entry.getValue() == 0);
+
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(APPLY_SQL, updates, updates.size(), (ps, entry) -> {
+                ps.setLong(1, entry.getValue());
+                ps.setObject(2, entry.getKey());
+            });
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, rows, rows.size(), (ps, row) -> ps.setLong(1, row.id()));
+
+        flushedDeltas.record(rows.size());
+        flushLag.record(Duration.between(oldest, clock.instant()));
+        flushSuccess.increment();
+        log.debug("[ReviewLikeCountBuffer] 좋아요 수 반영 완료: 로그 {}건 → 리뷰 {}건", rows.size(), updates.size());
+        return rows.size();
+    }
+
+    record DeltaRow(long id, UUID reviewId, int delta, Instant createdAt) {
+    }
+}
@@ -1,13 +1,13 @@
 package com.twogether.deokhugam.review.service.util;
 
+import com.twogether.deokhugam.review.dto.ReviewDto;
 import com.twogether.deokhugam.review.entity.Review;
-import com.twogether.deokhugam.review.entity.ReviewLike;
-import com.twogether.deokhugam.review.repository.ReviewLikeRepository;
+import com.twogether.deokhugam.review.repository.custom.ReviewCursor;
+import com.twogether.deokhugam.review.service.ReviewLikeCache;
 import jakarta.annotation.Generated;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -15,7 +15,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ReviewCursorHelper {
 
-    private final ReviewLikeRepository reviewLikeRepository;
+    private final ReviewLikeCache reviewLikeCache;
 
     // likeByMe 일괄 조회 메서드
     @Generated("helper-method")
@@ -29,32 +29,35 @@ public class ReviewCursorHelper {
                 .map(Review::getId)
                 .toList();
 
-        // 리뷰 Id 목록과 요청자 Id를 이용해서 ReviewLike 목록 구하기
-        List<ReviewLike> reviewLikes = reviewLikeRepository.findByUserIdAndReviewIdIn(requestUserId, reviewIds);
+        return getLikeByMeMapByIds(reviewIds, requestUserId);
+    }
 
-        // 조회 편하게 Map으로 만들기 (비정상적인 상황 (중복 키 발생)에 대비해 중복 키 처리 함수 마지막에 추가)
-        return reviewLikes.stream()
-                .collect(Collectors.toMap(
-                        reviewLike -> reviewLike.getReviewLikePK().getReviewId(),
-                        ReviewLike::isLiked,
-                        (existing, replacement) -> replacement
-                ));
+    // likeByMe 일괄 조회 메서드 (DTO로 조회한 목록용)
+    @Generated("helper-method")
+    public Map<UUID, Boolean> getLikeByMeMapByIds(List<UUID> reviewIds, UUID requestUserId){
+        if (reviewIds.isEmpty() || requestUserId == null){
+            return Map.of();
+        }
+
+        // 요청자의 좋아요 집합(캐시)에서 확인
+        return reviewLikeCache.likedAmong(requestUserId, reviewIds);
     }
 
-    // 커서 생성
+    // 커서 생성 (정렬 키, createdAt, id를 인코딩한 불투명 문자열)
     @Generated("helper-method")
     public String generateNextCursor(List<Review> reviews, String orderBy){
         if (reviews.isEmpty()) return null;
 
         Review lastReview = reviews.get(reviews.size() - 1);
+        return ReviewCursor.of(lastReview.getRating(), lastReview.getCreatedAt(), lastReview.getId(), orderBy)
+                .encode();
+    }
 
-        if ("rating".equalsIgnoreCase(orderBy)){
-
-            return String.valueOf(lastReview.getRating());
-        }
-        else{
-            return lastReview.getCreatedAt().toString();
-        }
+    // 커서 생성 (DTO로 조회한 목록용)
+    @Generated("helper-method")
+    public String generateNextCursor(ReviewDto lastReview, String orderBy){
+        return ReviewCursor.of((int) lastReview.rating(), lastReview.createdAt(), lastReview.id(), orderBy)
+                .encode();
     }
 
     // afterAt 생성
@@ -66,4 +69,10 @@ public class ReviewCursorHelper {
         return lastReview.getCreatedAt().toString();
     }
 
+    // afterAt 생성 (DTO로 조회한 목록용)
+    @Generated("helper-method")
+    public String generateAfter(ReviewDto lastReview){
+        return lastReview.createdAt().toString();
+    }
+
 }
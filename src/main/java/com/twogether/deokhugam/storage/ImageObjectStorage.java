@@ -0,0 +1,32 @@
+package com.twogether.deokhugam.storage;
+
+import java.io.InputStream;
+
+/**
+ * 키 단위 이미지 객체 저장소
+ * <p>
+ * 운영에서는 {@link S3ImageStorage}가 구현하며, 테스트에서는 메모리 기반 구현으로 대체할 수 있다.
+ */
+public interface ImageObjectStorage {
+
+    /**
+     * 정해진 키로 이미지를 저장 (같은 키가 있으면 덮어씀)
+     */
+    void put(String key, byte[] bytes, String contentType);
+
+    /**
+     * 저장된 객체를 스트림으로 읽음 (호출한 쪽에서 닫아야 함)
+     */
+    InputStream open(String key);
+
+    /**
+     * 저장소 키의 공개 URL
+     */
+    String publicUrl(String key);
+
+    /**
+     * 공개 URL에서 저장소 키 추출
+     * @throws IllegalArgumentException 이 저장소의 URL이 아닌 경우
+     */
+    String keyOf(String publicUrl);
+}
@@ -0,0 +1,19 @@
+package com.twogether.deokhugam.storage;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 클라이언트가 S3에 직접 PUT 하기 위한 서명된 업로드 정보
+ *
+ * @param key       업로드될 S3 키 (업로드 후 도서 등록/수정 요청에 그대로 전달)
+ * @param uploadUrl 서명된 PUT URL
+ * @param headers   PUT 요청에 그대로 포함해야 하는 헤더 (서명에 포함됨)
+ * @param expiresAt URL 만료 시각
+ */
+public record PresignedUpload(
+    String key,
+    String uploadUrl,
+    Map<String, String> headers,
+    Instant expiresAt
+) {}
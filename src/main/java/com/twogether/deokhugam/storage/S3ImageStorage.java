@@ -1,21 +1,64 @@
 package com.twogether.deokhugam.storage;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 
 @Slf4j
 @Component
-public class S3ImageStorage {
+public class S3ImageStorage implements ImageObjectStorage {
+    // 파일 크기 제한 (5MB)
+    private static final long MAX_IMAGE_SIZE = 5 * 1024 * 1024;
+
+    // DeleteObjects 요청 1회에 담을 수 있는 최대 키 수 (S3 제한)
+    public static final int MAX_DELETE_BATCH_SIZE = 1000;
+
+    // 존재가 확인된 키의 로컬 인덱스 크기 (넘치면 오래 쓰이지 않은 키부터 제거되고 HEAD로 다시 확인)
+    private static final int KNOWN_KEYS_MAX_SIZE = 100_000;
+
+    // 다른 인스턴스가 삭제한 키는 이 인스턴스의 인덱스에서 지워지지 않으므로, 확인한 지 오래된 키는 HEAD로 다시 확인
+    private static final Duration KNOWN_KEYS_TTL = Duration.ofMinutes(10);
+
     private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final Cache<String, Boolean> knownKeys = Caffeine.newBuilder()
+        .maximumSize(KNOWN_KEYS_MAX_SIZE)
+        .expireAfterWrite(KNOWN_KEYS_TTL)
+        .build();
 
     @Value("${AWS_S3_BUCKET}")
     private String bucketName;
@@ -23,12 +66,19 @@ public class S3ImageStorage {
     @Value("${AWS_S3_REGION}")
     private String region;
 
-    public S3ImageStorage(S3Client s3Client) {
+    // 클라이언트 직접 업로드용 presigned URL 유효 시간
+    @Value("${storage.presign-duration:10m}")
+    private Duration presignDuration = Duration.ofMinutes(10);
+
+    public S3ImageStorage(S3Client s3Client, S3Presigner s3Presigner) {
         this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
     }
 
     /**
      * 이미지 파일을 S3에 업로드
+     * 키는 파일 내용의 SHA-256(폴더경로 + 해시.확장자)이므로 같은 이미지는 한 번만 저장되고 이후에는 PUT을 생략한다.
+     * 여러 도서가 같은 객체를 가리킬 수 있으므로 삭제 전에는 다른 참조가 없는지 확인해야 한다.
      * @param imageFile 업로드할 이미지 파일
      * @param folderPath S3 내 저장 경로 (예: "thumbnail/")
      * @return S3에 저장된 이미지 URL
@@ -40,44 +90,276 @@ public class S3ImageStorage {
         // 파일 유효성 검증
         validateImageFile(imageFile);
 
-        // 고유한 파일명 생성 (UUID + 타임스탬프)
+        // 파일 내용의 SHA-256으로 키 생성: 같은 이미지는 항상 같은 키에 저장
         String originalFileName = imageFile.getOriginalFilename();
         if (originalFileName == null || originalFileName.isBlank()) {
             originalFileName = "default.jpg";
         }
-        String uniqueFileName = generateUniqueFileName(originalFileName);
 
-        // S3 저장 경로 생성 (폴더경로 + 파일명)
-        String s3Key = folderPath + uniqueFileName;
+        try {
+            ContentStreamProvider source = () -> openStream(imageFile);
+            String s3Key = folderPath + sha256Hex(source) + "." + getFileExtension(originalFileName);
+            String publicUrl = generatePublicUrl(s3Key);
+
+            // 이미 저장된 이미지면 PUT 없이 기존 객체를 그대로 사용
+            if (exists(s3Key)) {
+                log.info("이미지 업로드 생략 (동일 이미지 존재) - S3 Key: {}", s3Key);
+                return publicUrl;
+            }
+
+            // 파일 전체를 byte[]로 읽지 않고 업로드 스트림에서 바로 전송 (재시도 시 스트림을 다시 연다)
+            String eTag = upload(s3Key, source, imageFile.getSize(), imageFile.getContentType());
+            knownKeys.put(s3Key, Boolean.TRUE);
+
+            log.info("이미지 업로드 완료 - S3 Key: {}, ETag: {}", s3Key, eTag);
+            return publicUrl;
+
+        } catch (Exception e) {
+            log.error("이미지 업로드 실패 - 파일명: {}, 오류: {}", imageFile.getOriginalFilename(),
+                e.getMessage());
+            throw new RuntimeException("이미지 업로드 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 외부에서 받아 오는 이미지(예: 네이버 표지 다운로드 응답)를 메모리에 모으지 않고 S3로 바로 전송
+     * @param imageStream 이미지 본문 스트림 (호출한 쪽에서 닫음)
+     * @param contentLength 본문 길이, 모르면 -1 (이 경우에만 최대 크기까지 읽어 둔 뒤 업로드)
+     * @param contentType 이미지 MIME 타입 (예: "image/jpeg")
+     * @param folderPath S3 내 저장 경로 (예: "thumbnail/")
+     * @return S3에 저장된 이미지 URL
+     */
+    public String uploadImage(InputStream imageStream, long contentLength, String contentType, String folderPath) {
+        if (contentLength > MAX_IMAGE_SIZE) {
+            throw new IllegalArgumentException("이미지 파일 크기는 5MB를 초과할 수 없습니다. 현재 크기: " + contentLength + "바이트");
+        }
+        String extension = contentType != null && contentType.startsWith("image/") ? contentType.substring(6) : "jpg";
+        String s3Key = folderPath + generateUniqueFileName("image." + extension);
+
+        try {
+            RequestBody body;
+            if (contentLength >= 0) {
+                body = RequestBody.fromInputStream(imageStream, contentLength);
+            } else {
+                // chunked 응답: 길이를 알아야 PutObject를 보낼 수 있으므로 최대 크기 + 1바이트까지만 읽음
+                byte[] bytes = imageStream.readNBytes((int) MAX_IMAGE_SIZE + 1);
+                if (bytes.length > MAX_IMAGE_SIZE) {
+                    throw new IllegalArgumentException("이미지 파일 크기는 5MB를 초과할 수 없습니다.");
+                }
+                body = RequestBody.fromContentProvider(() -> new ByteArrayInputStream(bytes), bytes.length, contentType);
+            }
+
+            PutObjectResponse response = s3Client.putObject(PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(s3Key)
+                .contentType(contentType)
+                .contentLength(body.optionalContentLength().orElse(contentLength))
+                .build(), body);
+            log.info("이미지 업로드 완료 - S3 Key: {}, ETag: {}", s3Key, response.eTag());
+            return generatePublicUrl(s3Key);
+        } catch (IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("이미지 업로드 실패 - S3 Key: {}, 오류: {}", s3Key, e.getMessage());
+            throw new RuntimeException("이미지 업로드 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 클라이언트가 서버를 거치지 않고 S3에 직접 올릴 수 있는 PUT URL 발급
+     * 서명에 Content-Type과 Content-Length를 포함하므로 다른 타입이나 크기의 파일은 S3가 거부한다.
+     * @param folderPath S3 내 저장 경로 (예: "thumbnail/")
+     * @param contentType 업로드할 이미지 MIME 타입
+     * @param contentLength 업로드할 파일 크기
+     */
+    public PresignedUpload presignUpload(String folderPath, String contentType, long contentLength) {
+        if (contentLength <= 0) {
+            throw new IllegalArgumentException("업로드할 이미지 파일이 없습니다.");
+        }
+        validateImageMetadata(contentType, contentLength);
 
-        // S3 업로드 요청 객체 생성
+        String s3Key = folderPath + generateUniqueFileName("image." + contentType.substring(6));
         PutObjectRequest putObjectRequest = PutObjectRequest.builder()
             .bucket(bucketName)
             .key(s3Key)
-            .contentType(imageFile.getContentType())
-            .contentLength(imageFile.getSize())
+            .contentType(contentType)
+            .contentLength(contentLength)
             .build();
 
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(builder -> builder
+            .signatureDuration(presignDuration)
+            .putObjectRequest(putObjectRequest));
+
+        // Host는 HTTP 클라이언트가 붙이므로 제외 (헤더 이름은 소문자로 통일)
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name.toLowerCase(Locale.ROOT), String.join(",", values));
+            }
+        });
+        log.info("직접 업로드 URL 발급 - S3 Key: {}, 만료: {}", s3Key, presigned.expiration());
+        return new PresignedUpload(s3Key, presigned.url().toString(), headers, presigned.expiration());
+    }
+
+    /**
+     * 클라이언트가 직접 올린 객체를 확인하고 공개 URL 반환
+     * @param folderPath 업로드 URL 발급 시 사용한 저장 경로
+     * @param key {@link #presignUpload}가 발급한 S3 키
+     * @throws IllegalArgumentException 다른 경로의 키이거나, 아직 업로드되지 않았거나, 이미지 조건을 만족하지 않는 경우
+     */
+    public String confirmUpload(String folderPath, String key) {
+        if (key == null || !key.startsWith(folderPath) || key.contains("..")) {
+            throw new IllegalArgumentException("유효하지 않은 업로드 키입니다.");
+        }
+
+        HeadObjectResponse head;
         try {
-            // S3에 파일 업로드 실행
-            PutObjectResponse response = s3Client.putObject(
-                putObjectRequest,
-                RequestBody.fromBytes(imageFile.getBytes())
-            );
+            head = s3Client.headObject(HeadObjectRequest.builder().bucket(bucketName).key(key).build());
+        } catch (NoSuchKeyException e) {
+            throw new IllegalArgumentException("업로드된 이미지를 찾을 수 없습니다. 업로드를 먼저 완료해주세요.");
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new IllegalArgumentException("업로드된 이미지를 찾을 수 없습니다. 업로드를 먼저 완료해주세요.");
+            }
+            throw e;
+        }
+        validateImageMetadata(head.contentType(), head.contentLength());
+        knownKeys.put(key, Boolean.TRUE);
+        return generatePublicUrl(key);
+    }
 
-            // 업로드된 파일의 공개 URL 생성
-            String publicUrl = generatePublicUrl(s3Key);
+    @Override
+    public void put(String key, byte[] bytes, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+            .bucket(bucketName)
+            .key(key)
+            .contentType(contentType)
+            .contentLength((long) bytes.length)
+            .build();
 
-            log.info("이미지 업로드 완료 - S3 Key: {}, ETag: {}", s3Key, response.eTag());
-            return publicUrl;
+        try {
+            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(bytes));
+            log.debug("이미지 업로드 완료 - S3 Key: {}", key);
+        } catch (Exception e) {
+            log.error("이미지 업로드 실패 - S3 Key: {}, 오류: {}", key, e.getMessage());
+            throw new RuntimeException("이미지 업로드 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public String publicUrl(String key) {
+        return generatePublicUrl(key);
+    }
+
+    @Override
+    public String keyOf(String publicUrl) {
+        return extractKeyFromUrl(publicUrl);
+    }
+
+    @Override
+    public InputStream open(String key) {
+        return s3Client.getObject(builder -> builder.bucket(bucketName).key(key));
+    }
 
+    /**
+     * {@link #uploadImage(MultipartFile, String)}로 올린 이미지가 아직 S3에 있는지 로컬 인덱스 없이 HEAD로 확인하고, 없으면 다시 올린다.
+     * 같은 내용 해시 키는 삭제 대기열에 있던 키일 수 있어, 업로드(또는 PUT 생략)와 도서 저장 사이에 삭제 작업이 지웠을 수 있다.
+     * 도서 저장이 커밋된 뒤에 호출해야 한다. 커밋 이후의 삭제 작업은 도서 참조를 보고 건너뛰므로 이 확인 뒤에는 다시 지워지지 않는다.
+     * @param imageUrl 업로드 결과 URL
+     * @param imageFile 업로드한 원본 파일 (다시 올릴 때 사용)
+     * @return 다시 올렸으면 true
+     */
+    public boolean restoreIfMissing(String imageUrl, MultipartFile imageFile) {
+        String key = extractKeyFromUrl(imageUrl);
+        if (headExists(key)) {
+            return false;
+        }
+
+        log.warn("도서 저장 중 삭제된 이미지 다시 업로드 - S3 Key: {}", key);
+        try {
+            String eTag = upload(key, () -> openStream(imageFile), imageFile.getSize(), imageFile.getContentType());
+            knownKeys.put(key, Boolean.TRUE);
+            log.info("이미지 다시 업로드 완료 - S3 Key: {}, ETag: {}", key, eTag);
+            return true;
         } catch (Exception e) {
-            log.error("이미지 업로드 실패 - 파일명: {}, 오류: {}", imageFile.getOriginalFilename(),
-                e.getMessage());
+            log.error("이미지 다시 업로드 실패 - S3 Key: {}, 오류: {}", key, e.getMessage());
             throw new RuntimeException("이미지 업로드 중 오류가 발생했습니다.", e);
         }
     }
 
+    /**
+     * 키에 객체가 있는지 확인
+     * 이 인스턴스가 올렸거나 최근(KNOWN_KEYS_TTL 이내)에 확인한 키는 로컬 인덱스로 바로 판단하고, 나머지는 HEAD 요청으로 확인한다.
+     */
+    private boolean exists(String key) {
+        if (knownKeys.getIfPresent(key) != null) {
+            return true;
+        }
+        return headExists(key);
+    }
+
+    /**
+     * 로컬 인덱스를 거치지 않고 HEAD 요청으로 객체 존재 확인 (있으면 인덱스에 기록)
+     */
+    private boolean headExists(String key) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder().bucket(bucketName).key(key).build());
+            knownKeys.put(key, Boolean.TRUE);
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 스트림을 끝까지 읽으며 SHA-256 계산 (파일 전체를 메모리에 올리지 않음)
+     */
+    private static String sha256Hex(ContentStreamProvider source) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[8192];
+        try (InputStream in = source.newStream()) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 길이를 아는 재생성 가능한 스트림을 단일 PutObject로 업로드
+     * 이미지는 최대 5MB(S3 멀티파트 최소 파트 크기)라 파트로 나눠도 한 파트이므로 멀티파트 업로드를 쓰지 않는다.
+     * @return 업로드된 객체의 ETag
+     */
+    private String upload(String key, ContentStreamProvider source, long contentLength, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+            .bucket(bucketName)
+            .key(key)
+            .contentType(contentType)
+            .contentLength(contentLength)
+            .build();
+        return s3Client.putObject(putObjectRequest, RequestBody.fromContentProvider(source, contentLength, contentType))
+            .eTag();
+    }
+
+    private static InputStream openStream(MultipartFile file) {
+        try {
+            return file.getInputStream();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * 이미지 파일 유효성 검증
      */
@@ -87,16 +369,21 @@ public class S3ImageStorage {
             throw new IllegalArgumentException("업로드할 이미지 파일이 없습니다.");
         }
 
+        validateImageMetadata(file.getContentType(), file.getSize());
+    }
+
+    /**
+     * 이미지 타입과 크기 검증 (직접 업로드 URL 발급 및 업로드 확인 시에도 사용)
+     */
+    private void validateImageMetadata(String contentType, long size) {
         // 파일 타입이 이미지인지 확인
-        String contentType = file.getContentType();
         if (contentType == null || !contentType.startsWith("image/")) {
             throw new IllegalArgumentException("이미지 파일만 업로드 가능합니다. 현재 타입: " + contentType);
         }
 
         // 파일 크기 제한 (5MB)
-        long maxSizeInBytes = 5 * 1024 * 1024;
-        if (file.getSize() > maxSizeInBytes) {
-            throw new IllegalArgumentException("이미지 파일 크기는 5MB를 초과할 수 없습니다. 현재 크기: " + file.getSize() + "바이트");
+        if (size > MAX_IMAGE_SIZE) {
+            throw new IllegalArgumentException("이미지 파일 크기는 5MB를 초과할 수 없습니다. 현재 크기: " + size + "바이트");
         }
 
         // 지원하는 이미지 형식인지 확인
@@ -169,12 +456,59 @@ public class S3ImageStorage {
                 .key(key)
                 .build()
             );
+            knownKeys.invalidate(key);
             log.info("이미지 삭제 완료 - S3 Key: {}", key);
         } catch (Exception e) {
             log.error("이미지 삭제 실패 - S3 Key: {}, 오류: {}", key, e.getMessage());
             throw new RuntimeException("이미지 삭제 중 오류가 발생했습니다.", e);
         }
     }
+
+    /**
+     * 여러 객체를 DeleteObjects 요청으로 삭제 (요청 1회당 최대 1000개)
+     * 없는 키는 S3가 성공으로 처리하므로 변환본처럼 존재 여부를 모르는 키도 그대로 넘겨도 된다.
+     * @param keys 삭제할 S3 키
+     * @return 삭제하지 못한 키 (요청 자체가 실패하면 해당 묶음의 키 전체)
+     */
+    public List<String> deleteObjects(List<String> keys) {
+        List<String> failed = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_BATCH_SIZE) {
+            List<String> chunk = keys.subList(from, Math.min(from + MAX_DELETE_BATCH_SIZE, keys.size()));
+            List<ObjectIdentifier> objects = chunk.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+            try {
+                // quiet 모드: 응답에는 실패한 키만 담김
+                DeleteObjectsResponse response = s3Client.deleteObjects(builder -> builder
+                    .bucket(bucketName)
+                    .delete(delete -> delete.objects(objects).quiet(true)));
+                List<String> errors = response.errors().stream().map(S3Error::key).toList();
+                if (!errors.isEmpty()) {
+                    log.warn("이미지 일괄 삭제 일부 실패 - 요청: {}건, 실패: {}건, 첫 오류: {}",
+                        chunk.size(), errors.size(), response.errors().get(0).message());
+                }
+                failed.addAll(errors);
+            } catch (Exception e) {
+                log.error("이미지 일괄 삭제 실패 - 요청: {}건, 오류: {}", chunk.size(), e.getMessage());
+                failed.addAll(chunk);
+            }
+            chunk.forEach(knownKeys::invalidate);
+        }
+        return failed;
+    }
+
+    /**
+     * 경로 아래의 객체를 목록 페이지(최대 1000건) 단위로 전달
+     * 전체 목록을 메모리에 모으지 않고 ListObjectsV2 페이지를 받는 대로 처리한다.
+     * @param prefix 조회할 S3 경로 (예: "bookThumbnail/")
+     */
+    public void listObjects(String prefix, Consumer<List<StoredObject>> pageHandler) {
+        s3Client.listObjectsV2Paginator(builder -> builder.bucket(bucketName).prefix(prefix))
+            .forEach(page -> pageHandler.accept(page.contents().stream()
+                .map(object -> new StoredObject(object.key(), object.lastModified()))
+                .toList()));
+    }
+
     /**
      * 공개 URL에서 S3 key 경로 추출
      * 예: https://bucket-name.s3.region.amazonaws.com/folder/filename.jpg
@@ -1,23 +1,77 @@
 package com.twogether.deokhugam.storage;
 
-import java.io.File;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
+/**
+ * 로그 파일 증분 S3 업로드
+ * <p>
+ * 주기적으로(기본 매시 5분) 로그 파일에서 지난번 이후 추가된 부분만 gzip으로 압축해 세그먼트 객체로 올린다.
+ * 압축 결과는 파트 크기만큼만 메모리에 모았다가 멀티파트 업로드의 파트로 바로 전송하므로 파일 크기와 무관하게 메모리 사용량이 일정하다.
+ * 파일별 업로드 위치(offset)는 로그 디렉터리의 상태 파일에 기록해 재시작 후에도 이어서 올리며,
+ * 날짜가 바뀌어 logback이 현재 파일의 이름을 바꾸면(application.log → application.yyyy-MM-dd.log) 파일 키(inode)로 따라가
+ * 남은 부분만 올린 뒤 로컬 파일을 삭제한다.
+ * <p>
+ * gzip 세그먼트는 순서대로 이어 붙이면 원본과 같으므로 하루치 로그는 {@code cat *.gz | gunzip} 으로 복원할 수 있다.
+ */
 @Slf4j
 @Component
 @Profile("prod")
 public class S3LogStorage {
+
+    static final String STATE_FILE_NAME = ".s3-log-offsets";
+
+    // 업로드 대상 줄을 찾을 때 파일 끝에서 한 번에 읽는 크기
+    private static final int TAIL_SCAN_SIZE = 8 * 1024;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
     private final S3Client s3Client;
+    private final Counter rawBytes;
+    private final Counter compressedBytes;
+    private final Counter uploadedSegments;
+    private final Counter retriedSegments;
+    private final Counter failedSegments;
+    private final AtomicLong totalRawBytes = new AtomicLong();
+    private final AtomicLong totalCompressedBytes = new AtomicLong();
 
     @Value("${AWS_S3_BUCKET}")
     private String bucketName;
@@ -31,94 +85,428 @@ public class S3LogStorage {
     @Value("${logging.file.name}")
     private String logFileName;
 
-    public S3LogStorage(S3Client s3Client) {
+    // 압축된 세그먼트가 이 크기를 넘으면 멀티파트 업로드로 전환 (S3 최소 파트 크기 5MB 이상)
+    @Value("${storage.log-shipping.part-size:8MB}")
+    private DataSize partSize = DataSize.ofMegabytes(8);
+
+    @Value("${storage.log-shipping.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    // 재시도 간격 (시도마다 두 배)
+    @Value("${storage.log-shipping.retry-backoff:2s}")
+    private Duration retryBackoff = Duration.ofSeconds(2);
+
+    public S3LogStorage(S3Client s3Client, MeterRegistry meterRegistry) {
         this.s3Client = s3Client;
+        // log.shipping.bytes{type}: 원본/압축 후 전송량
+        this.rawBytes = meterRegistry.counter("log.shipping.bytes", "type", "raw");
+        this.compressedBytes = meterRegistry.counter("log.shipping.bytes", "type", "compressed");
+        this.uploadedSegments = meterRegistry.counter("log.shipping.segments", "result", "success");
+        this.retriedSegments = meterRegistry.counter("log.shipping.segments", "result", "retry");
+        this.failedSegments = meterRegistry.counter("log.shipping.segments", "result", "failure");
+        Gauge.builder("log.shipping.compression-ratio", this, S3LogStorage::compressionRatio)
+            .description("원본 크기 / 압축 후 크기 (애플리케이션 시작 이후 누적)")
+            .register(meterRegistry);
     }
 
     /**
-     * 매일 새벽 2시에 어제 날짜의 로그 파일을 S3에 업로드
-     * cron 표현식: 초(0) 분(0) 시(2) 일(*) 월(*) 요일(*)
+     * 로그 파일에서 아직 올리지 않은 부분을 S3에 업로드
+     * 실패한 세그먼트는 업로드 위치를 옮기지 않으므로 다음 실행에서 같은 위치부터 다시 올린다.
      */
-    @Scheduled(cron = "0 0 2 * * *")
-    public void uploadDailyLogToS3() {
-        log.info("일일 로그 파일 S3 업로드 작업 시작");
+    @Scheduled(cron = "${storage.log-shipping.cron:0 5 * * * *}")
+    public void shipLogs() {
+        log.info("로그 파일 S3 증분 업로드 작업 시작");
+        try {
+            shipPendingLogs();
+        } catch (Exception e) {
+            log.error("로그 업로드 작업 실패: {}", e.getMessage(), e);
+        }
+        log.info("로그 파일 S3 증분 업로드 작업 완료");
+    }
 
-        // 어제 날짜 계산
-        LocalDate yesterday = LocalDate.now().minusDays(1);
-        String dateString = yesterday.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+    private void shipPendingLogs() throws IOException {
+        Path dir = Path.of(logPath);
+        if (!Files.isDirectory(dir)) {
+            log.warn("로그 디렉터리가 존재하지 않습니다: {}", logPath);
+            return;
+        }
 
-        // 업로드할 로그 파일 경로 생성
-        String logFilePath = logPath + "/" + logFileName + "." + dateString + ".log";
+        ShippingState state = ShippingState.load(dir.resolve(STATE_FILE_NAME));
+        Path active = dir.resolve(logFileName + ".log");
+        List<Path> rolled = rolledFiles(dir);
+        state.followRollover(active, rolled);
 
-        try {
-            uploadLogFile(logFilePath, dateString);
-        } catch (Exception e) {
-            log.error("일일 로그 업로드 작업 실패: {}", e.getMessage(), e);
+        // 이름이 바뀐 지난 로그는 더 이상 쓰이지 않으므로 끝까지 올린 뒤 로컬에서 삭제 (오래된 날짜부터)
+        // 빈 파일은 올릴 구간이 없으므로 업로드 없이 바로 삭제
+        for (Path file : rolled) {
+            long length = Files.size(file);
+            long offset = state.offset(file);
+            if (offset < length && !shipSegment(file, offset, length, dateOf(file), state)) {
+                return;
+            }
+            Files.delete(file);
+            state.remove(file);
+            state.save();
+            if (length == 0) {
+                log.info("빈 로그 파일 삭제: {}", file);
+            } else {
+                log.info("업로드 완료 후 로컬 로그 파일 삭제: {}", file);
+            }
         }
 
-        log.info("일일 로그 파일 S3 업로드 작업 완료");
+        // 현재 로그 파일은 쓰는 중인 마지막 줄을 남기고 완성된 줄까지만 업로드
+        if (Files.exists(active)) {
+            long offset = state.offset(active);
+            long end = lastLineEnd(active, offset, Files.size(active));
+            if (end > offset) {
+                LocalDate date = LocalDate.ofInstant(Files.getLastModifiedTime(active).toInstant(), ZoneId.systemDefault());
+                shipSegment(active, offset, end, date, state);
+            }
+        }
     }
 
     /**
-     * 실제 로그 파일을 S3에 업로드하는 핵심 메서드
-     * @param logFilePath 업로드할 로그 파일의 전체 경로
-     * @param dateString 날짜 문자열 (S3 경로 생성용)
+     * 파일의 [offset, end) 구간을 하나의 gzip 세그먼트로 업로드하고 업로드 위치 기록 (실패 시 재시도)
+     * @return 업로드 성공 여부
      */
-    private void uploadLogFile(String logFilePath, String dateString) {
-        File logFile = new File(logFilePath);
+    private boolean shipSegment(Path file, long offset, long end, LocalDate date, ShippingState state)
+        throws IOException {
+        // 구조: logs/년도/월/파일명.날짜.시작위치.log.gz (같은 구간은 재시도해도 같은 키)
+        // 예시: logs/2025/07/application.2025-07-22.000000000000.log.gz
+        String s3Key = String.format("logs/%d/%02d/%s.%s.%012d.log.gz",
+            date.getYear(), date.getMonthValue(), logFileName, date, offset);
 
-        // 파일 존재 여부 확인
-        if (!logFile.exists()) {
-            log.warn("로그 파일이 존재하지 않습니다: {}", logFilePath);
-            return;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                log.info("로그 세그먼트 S3 업로드 시작 - 로컬경로: {}, 구간: {}~{}, S3경로: {}", file, offset, end, s3Key);
+                long compressed = uploadCompressed(file, offset, end, s3Key);
+                recordShipped(end - offset, compressed);
+                log.info("로그 세그먼트 S3 업로드 완료 - S3 Key: {}, 원본: {}바이트, 압축: {}바이트",
+                    s3Key, end - offset, compressed);
+                break;
+            } catch (Exception e) {
+                if (attempt >= maxAttempts) {
+                    failedSegments.increment();
+                    log.error("S3 업로드 실패 - 파일: {}, 시도: {}회, 오류: {}", file, attempt, e.getMessage(), e);
+                    return false;
+                }
+                retriedSegments.increment();
+                Duration delay = retryBackoff.multipliedBy(1L << (attempt - 1));
+                log.warn("S3 업로드 실패, {}ms 후 재시도 - 파일: {}, 시도: {}회, 오류: {}",
+                    delay.toMillis(), file, attempt, e.getMessage());
+                if (!sleep(delay)) {
+                    return false;
+                }
+            }
         }
 
-        // 파일 크기 확인 (0바이트 파일은 업로드하지 않음)
-        if (logFile.length() == 0) {
-            log.warn("빈 로그 파일입니다: {}", logFilePath);
-            return;
+        state.update(file, end);
+        state.save();
+        return true;
+    }
+
+    /**
+     * 파일 구간을 읽으며 gzip으로 압축해 업로드
+     * @return 압축된 크기
+     */
+    private long uploadCompressed(Path file, long offset, long end, String s3Key) throws IOException {
+        MultipartSink sink = new MultipartSink(s3Key, partSize.toBytes());
+        try {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+                 GZIPOutputStream gzip = new GZIPOutputStream(sink, COPY_BUFFER_SIZE)) {
+                channel.position(offset);
+                InputStream in = Channels.newInputStream(channel);
+                byte[] buffer = new byte[COPY_BUFFER_SIZE];
+                long remaining = end - offset;
+                while (remaining > 0) {
+                    int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (read < 0) {
+                        throw new IOException("로그 파일이 예상보다 짧습니다: " + file);
+                    }
+                    gzip.write(buffer, 0, read);
+                    remaining -= read;
+                }
+                gzip.finish();
+            }
+            sink.complete();
+            return sink.written();
+        } catch (IOException | RuntimeException e) {
+            sink.abort();
+            throw e;
         }
+    }
 
+    /**
+     * 마지막 줄바꿈 바로 뒤의 위치 (offset 이후 완성된 줄이 없으면 offset)
+     */
+    private static long lastLineEnd(Path file, long offset, long length) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+            byte[] buffer = new byte[TAIL_SCAN_SIZE];
+            long position = length;
+            while (position > offset) {
+                int size = (int) Math.min(buffer.length, position - offset);
+                position -= size;
+                raf.seek(position);
+                raf.readFully(buffer, 0, size);
+                for (int i = size - 1; i >= 0; i--) {
+                    if (buffer[i] == '\n') {
+                        return position + i + 1;
+                    }
+                }
+            }
+            return offset;
+        }
+    }
+
+    private List<Path> rolledFiles(Path dir) throws IOException {
+        Pattern pattern = rolledFilePattern();
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path file : stream) {
+                if (pattern.matcher(file.getFileName().toString()).matches()) {
+                    files.add(file);
+                }
+            }
+        }
+        // 파일명의 날짜(yyyy-MM-dd) 순서
+        files.sort(null);
+        return files;
+    }
+
+    private LocalDate dateOf(Path rolledFile) {
+        Matcher matcher = rolledFilePattern().matcher(rolledFile.getFileName().toString());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("날짜별 로그 파일이 아닙니다: " + rolledFile);
+        }
+        return LocalDate.parse(matcher.group(1));
+    }
+
+    private Pattern rolledFilePattern() {
+        return Pattern.compile(Pattern.quote(logFileName) + "\\.(\\d{4}-\\d{2}-\\d{2})\\.log");
+    }
+
+    private void recordShipped(long raw, long compressed) {
+        uploadedSegments.increment();
+        rawBytes.increment(raw);
+        compressedBytes.increment(compressed);
+        totalRawBytes.addAndGet(raw);
+        totalCompressedBytes.addAndGet(compressed);
+    }
+
+    private double compressionRatio() {
+        long compressed = totalCompressedBytes.get();
+        return compressed > 0 ? (double) totalRawBytes.get() / compressed : 0;
+    }
+
+    private static boolean sleep(Duration delay) {
         try {
-            // S3에 저장할 키(경로) 생성
-            // 구조: logs/년도/월/파일명
-            // 예시: logs/2025/07/application.2025-07-22.log
-            String[] dateParts = dateString.split("-");
-            String year = dateParts[0];
-            String month = dateParts[1];
-
-            String s3Key = String.format("logs/%s/%s/%s.%s.log",
-                year, month, logFileName, dateString);
-
-            // S3 업로드 요청 생성
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+            Thread.sleep(delay.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 압축 결과를 파트 크기만큼 모아 S3로 보내는 출력 스트림
+     * 전체가 한 파트보다 작으면 멀티파트 업로드 없이 PutObject 한 번으로 올린다.
+     */
+    private final class MultipartSink extends OutputStream {
+
+        private final String key;
+        private final byte[] buffer;
+        private final List<CompletedPart> parts = new ArrayList<>();
+        private int buffered;
+        private long written;
+        private String uploadId;
+
+        private MultipartSink(String key, long partSize) {
+            this.key = key;
+            this.buffer = new byte[(int) partSize];
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            while (len > 0) {
+                if (buffered == buffer.length) {
+                    uploadPart();
+                }
+                int n = Math.min(len, buffer.length - buffered);
+                System.arraycopy(b, off, buffer, buffered, n);
+                buffered += n;
+                written += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        long written() {
+            return written;
+        }
+
+        void complete() {
+            if (uploadId == null) {
+                s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType("application/gzip")
+                        .contentLength((long) buffered)
+                        .build(),
+                    RequestBody.fromBytes(Arrays.copyOf(buffer, buffered)));
+                return;
+            }
+            if (buffered > 0) {
+                uploadPart();
+            }
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
                 .bucket(bucketName)
-                .key(s3Key)
-                .contentType("text/plain")  // 로그 파일은 텍스트 타입
-                .contentLength(logFile.length())  // 파일 크기 명시
-                .build();
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(upload -> upload.parts(parts))
+                .build());
+            log.debug("로그 세그먼트 멀티파트 업로드 완료 - S3 Key: {}, 파트 수: {}", key, parts.size());
+        }
 
-            log.info("로그 파일 S3 업로드 시작 - 로컬경로: {}, S3경로: {}, 크기: {}바이트",
-                logFilePath, s3Key, logFile.length());
+        void abort() {
+            if (uploadId == null) {
+                return;
+            }
+            // 완료되지 않은 파트가 버킷에 과금되며 남지 않도록 정리
+            try {
+                s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            } catch (Exception e) {
+                log.warn("멀티파트 업로드 중단 실패 - S3 Key: {}, 오류: {}", key, e.getMessage());
+            }
+        }
 
-            // 파일을 S3에 업로드
-            PutObjectResponse response = s3Client.putObject(
-                putObjectRequest,
-                RequestBody.fromFile(logFile)
-            );
+        private void uploadPart() {
+            if (uploadId == null) {
+                uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType("application/gzip")
+                    .build()).uploadId();
+            }
+            int partNumber = parts.size() + 1;
+            String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .partNumber(partNumber)
+                    .contentLength((long) buffered)
+                    .build(),
+                RequestBody.fromByteBuffer(ByteBuffer.wrap(buffer, 0, buffered))).eTag();
+            parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+            buffered = 0;
+        }
+    }
 
-            log.info("로그 파일 S3 업로드 완료 - S3 Key: {}, ETag: {}", s3Key, response.eTag());
+    /**
+     * 파일별 업로드 위치와 파일 키(inode 등) 상태 파일
+     * 키: "{파일명}.offset", "{파일명}.file-key"
+     */
+    private static final class ShippingState {
 
-            // 업로드 성공 후 로컬 파일 삭제
-            if (logFile.delete()) {
-                log.info("업로드 완료 후 로컬 로그 파일 삭제: {}", logFilePath);
-            } else {
-                log.warn("로컬 로그 파일 삭제 실패: {}", logFilePath);
+        private final Path stateFile;
+        private final Properties properties = new Properties();
+
+        private ShippingState(Path stateFile) {
+            this.stateFile = stateFile;
+        }
+
+        static ShippingState load(Path stateFile) throws IOException {
+            ShippingState state = new ShippingState(stateFile);
+            if (Files.exists(stateFile)) {
+                try (InputStream in = Files.newInputStream(stateFile)) {
+                    state.properties.load(in);
+                }
             }
+            return state;
+        }
 
-        } catch (Exception e) {
-            log.error("S3 업로드 실패 - 파일: {}, 오류: {}", logFilePath, e.getMessage(), e);
-            throw new RuntimeException("로그 파일 S3 업로드 중 오류가 발생했습니다.", e);
+        long offset(Path file) {
+            return Long.parseLong(properties.getProperty(file.getFileName() + ".offset", "0"));
+        }
+
+        void update(Path file, long offset) throws IOException {
+            String name = file.getFileName().toString();
+            properties.setProperty(name + ".offset", Long.toString(offset));
+            String fileKey = fileKey(file);
+            if (fileKey != null) {
+                properties.setProperty(name + ".file-key", fileKey);
+            }
+        }
+
+        void remove(Path file) {
+            String name = file.getFileName().toString();
+            properties.remove(name + ".offset");
+            properties.remove(name + ".file-key");
+        }
+
+        /**
+         * 현재 로그 파일이 날짜별 파일로 이름이 바뀌었으면 업로드 위치를 그 파일로 옮긴다.
+         * 파일 키가 같은 날짜별 파일을 찾고, 파일 키를 지원하지 않는 파일 시스템에서는
+         * 현재 파일이 기록된 위치보다 작아진 경우 아직 기록이 없는 가장 최근 날짜별 파일로 판단한다.
+         */
+        void followRollover(Path active, List<Path> rolled) throws IOException {
+            String activeName = active.getFileName().toString();
+            String previousOffset = properties.getProperty(activeName + ".offset");
+            if (previousOffset == null) {
+                return;
+            }
+            String previousKey = properties.getProperty(activeName + ".file-key");
+            String currentKey = Files.exists(active) ? fileKey(active) : null;
+            boolean rotated = previousKey != null && currentKey != null
+                ? !previousKey.equals(currentKey)
+                : !Files.exists(active) || Files.size(active) < Long.parseLong(previousOffset);
+            if (!rotated) {
+                return;
+            }
+
+            Path renamed = null;
+            for (Path file : rolled) {
+                if (previousKey != null && previousKey.equals(fileKey(file))) {
+                    renamed = file;
+                }
+            }
+            if (renamed == null && previousKey == null) {
+                for (Path file : rolled) {
+                    if (!properties.containsKey(file.getFileName() + ".offset")) {
+                        renamed = file;
+                    }
+                }
+            }
+            properties.remove(activeName + ".offset");
+            properties.remove(activeName + ".file-key");
+            if (renamed != null) {
+                properties.setProperty(renamed.getFileName() + ".offset", previousOffset);
+                log.info("로그 파일 교체 감지 - {} 는 {}바이트부터 이어서 업로드", renamed, previousOffset);
+            }
+            save();
+        }
+
+        void save() throws IOException {
+            // 임시 파일에 쓴 뒤 교체해 중간에 종료되어도 이전 상태가 남도록 함
+            Path temp = Files.createTempFile(stateFile.getParent(), STATE_FILE_NAME, ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, "S3 log shipping offsets");
+            }
+            Files.move(temp, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        private static String fileKey(Path file) throws IOException {
+            Object key = Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+            return key != null ? key.toString() : null;
         }
     }
 }
@@ -0,0 +1,206 @@
+package com.twogether.deokhugam.storage;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 저장소 객체 삭제 대기열 (storage_deletion_queue 테이블)
+ * <p>
+ * 삭제할 키를 DB에 먼저 기록해 두고, 실제 S3 삭제는 백그라운드 작업이 모아서 처리한다.
+ * 등록은 호출한 쪽 트랜잭션에 참여하므로 도서 삭제가 롤백되면 삭제 요청도 함께 사라진다.
+ * 꺼낸 항목은 임대 시간(lease) 동안 다른 작업이 가져가지 않으며, 처리 결과를 기록하지 못하고 죽으면 임대가 끝난 뒤 다시 처리된다.
+ * 대기 중인 키를 다시 참조하게 된 도서 저장은 같은 트랜잭션에서 그 키를 취소하고({@link #cancel}),
+ * 삭제 작업은 S3 삭제 직전에 남아 있는 행을 잠가 다시 확인하므로({@link #withLocked}) 둘이 겹쳐도 참조 중인 객체를 지우지 않는다.
+ */
+@Slf4j
+@Component
+public class StorageDeletionQueue {
+
+    // 같은 키가 이미 대기 중이면 무시 (object_key UNIQUE)
+    private static final String INSERT_SQL = """
+        INSERT INTO storage_deletion_queue (object_key, enqueued_at, next_attempt_at, attempts)
+        VALUES (?, ?, ?, 0)
+        ON CONFLICT DO NOTHING
+        """;
+
+    // 여러 인스턴스가 동시에 꺼내도 같은 행을 가져가지 않도록 잠긴 행은 건너뜀
+    private static final String CLAIM_SQL = """
+        SELECT id, object_key, attempts FROM storage_deletion_queue
+        WHERE next_attempt_at <= ?
+        ORDER BY next_attempt_at, id
+        LIMIT ?
+        FOR UPDATE SKIP LOCKED
+        """;
+
+    private static final String LEASE_SQL =
+        "UPDATE storage_deletion_queue SET attempts = attempts + 1, next_attempt_at = ? WHERE id = ?";
+    private static final String RESCHEDULE_SQL = "UPDATE storage_deletion_queue SET next_attempt_at = ? WHERE id = ?";
+    private static final String DELETE_SQL = "DELETE FROM storage_deletion_queue WHERE id = ?";
+    private static final String CANCEL_SQL = "DELETE FROM storage_deletion_queue WHERE object_key = ?";
+
+    // 삭제 직전 재확인: 그 사이 취소된 행(없음)과 도서 저장 트랜잭션이 취소 중인 행(잠김)은 가져오지 않음
+    private static final String LOCK_SQL =
+        "SELECT id FROM storage_deletion_queue WHERE id IN (%s) FOR UPDATE SKIP LOCKED";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM storage_deletion_queue";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate claimTransaction;
+    private final Duration lease;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+
+    public StorageDeletionQueue(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${storage.deletion.lease:5m}") Duration lease,
+        @Value("${storage.deletion.retry-backoff:1m}") Duration retryBackoff,
+        @Value("${storage.deletion.max-retry-backoff:1h}") Duration maxRetryBackoff
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.claimTransaction = new TransactionTemplate(transactionManager);
+        this.claimTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.lease = lease;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+    }
+
+    /**
+     * 삭제할 키 등록 (호출한 쪽 트랜잭션이 커밋되어야 반영됨)
+     */
+    public void enqueue(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, keys, keys.size(), (ps, key) -> {
+            ps.setString(1, key);
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+        });
+        log.debug("[StorageDeletionQueue] 삭제 대기열 등록: {}건", keys.size());
+    }
+
+    /**
+     * 다시 참조하게 된 키의 삭제 요청 취소 (호출한 쪽 트랜잭션에 참여)
+     * 삭제 작업이 같은 행을 잠그고 있으면 그 작업이 끝날 때까지 기다리고, 먼저 잠그면 삭제 작업이 이 행을 건너뛴다.
+     */
+    public void cancel(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(CANCEL_SQL, keys, keys.size(), (ps, key) -> ps.setString(1, key));
+        int cancelled = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                cancelled += Math.max(count, 0);
+            }
+        }
+        if (cancelled > 0) {
+            log.debug("[StorageDeletionQueue] 삭제 대기열 취소: {}건", cancelled);
+        }
+    }
+
+    /**
+     * 처리할 차례가 된 항목을 최대 limit건 꺼내 임대 시간 동안 점유
+     * 짧은 별도 트랜잭션으로 커밋하므로 이후 S3 삭제 중에는 커넥션이나 행 잠금을 붙잡지 않는다.
+     */
+    public List<Entry> claim(int limit) {
+        return claimTransaction.execute(status -> {
+            Instant now = Instant.now();
+            List<Entry> entries = jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new Entry(rs.getLong("id"), rs.getString("object_key"), rs.getInt("attempts") + 1),
+                Timestamp.from(now), limit);
+            if (!entries.isEmpty()) {
+                Timestamp leaseUntil = Timestamp.from(now.plus(lease));
+                jdbcTemplate.batchUpdate(LEASE_SQL, entries, entries.size(), (ps, entry) -> {
+                    ps.setTimestamp(1, leaseUntil);
+                    ps.setLong(2, entry.id());
+                });
+            }
+            return entries;
+        });
+    }
+
+    /**
+     * 꺼낸 항목 중 아직 대기열에 남아 있는 것만 잠근 채 action 실행
+     * 잠금은 action이 끝나고 커밋할 때까지 유지되므로, 그동안 같은 키를 취소하려는 도서 저장은 기다린다.
+     * action 안에서 부른 {@link #complete}/{@link #retryLater}도 이 트랜잭션으로 함께 커밋된다.
+     */
+    public void withLocked(List<Entry> entries, Consumer<List<Entry>> action) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        claimTransaction.executeWithoutResult(status -> {
+            String sql = String.format(LOCK_SQL, String.join(", ", Collections.nCopies(entries.size(), "?")));
+            Set<Long> lockedIds = new HashSet<>(
+                jdbcTemplate.queryForList(sql, Long.class, entries.stream().map(Entry::id).toArray()));
+            List<Entry> locked = entries.stream().filter(entry -> lockedIds.contains(entry.id())).toList();
+            if (locked.size() < entries.size()) {
+                log.debug("[StorageDeletionQueue] 취소되었거나 취소 중인 항목 제외: {}건", entries.size() - locked.size());
+            }
+            if (!locked.isEmpty()) {
+                action.accept(locked);
+            }
+        });
+    }
+
+    /**
+     * 처리가 끝난(삭제했거나 삭제할 필요가 없어진) 항목 제거
+     */
+    public void complete(Collection<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, entries, entries.size(), (ps, entry) -> ps.setLong(1, entry.id()));
+    }
+
+    /**
+     * 삭제에 실패한 항목을 시도 횟수에 따라 늘어나는 간격 뒤에 다시 처리하도록 예약
+     */
+    public void retryLater(Collection<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        jdbcTemplate.batchUpdate(RESCHEDULE_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setTimestamp(1, Timestamp.from(now.plus(backoff(entry.attempts()))));
+            ps.setLong(2, entry.id());
+        });
+    }
+
+    /**
+     * 대기 중인 전체 항목 수 (재시도 대기 포함)
+     */
+    public long backlog() {
+        Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        return count != null ? count : 0;
+    }
+
+    // 1m, 2m, 4m ... 최대 maxRetryBackoff
+    Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration delay = retryBackoff.multipliedBy(1L << exponent);
+        return delay.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : delay;
+    }
+
+    /**
+     * @param id        대기열 행 id
+     * @param objectKey 삭제할 S3 키
+     * @param attempts  이번 처리를 포함한 시도 횟수
+     */
+    public record Entry(long id, String objectKey, int attempts) {}
+}
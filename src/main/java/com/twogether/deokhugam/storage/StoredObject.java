@@ -0,0 +1,14 @@
+package com.twogether.deokhugam.storage;
+
+import java.time.Instant;
+
+/**
+ * 저장소 목록 조회 결과의 객체 한 건
+ *
+ * @param key          S3 키
+ * @param lastModified 마지막 수정(업로드) 시각
+ */
+public record StoredObject(
+    String key,
+    Instant lastModified
+) {}
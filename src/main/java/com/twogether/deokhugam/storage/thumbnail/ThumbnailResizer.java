@@ -0,0 +1,130 @@
+package com.twogether.deokhugam.storage.thumbnail;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * 원본 이미지를 디코딩해 고정 너비 JPEG 변환본으로 축소한다.
+ * <p>
+ * JDK ImageIO에는 WebP 인코더가 없으므로 변환본은 품질 {@link #JPEG_QUALITY}의 JPEG로 만든다.
+ * 원본보다 큰 크기로 확대하지 않으며, 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 마지막에 맞춘다.
+ */
+public final class ThumbnailResizer {
+
+    static final float JPEG_QUALITY = 0.8f;
+
+    // 5MB 이하 파일이라도 픽셀 수가 매우 큰 이미지는 디코딩 시 메모리를 과도하게 사용하므로 거부
+    private static final long MAX_PIXELS = 40_000_000L;
+
+    private ThumbnailResizer() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * @throws IOException 지원하지 않는 형식(WebP 등)이거나 손상된 이미지, 픽셀 수 초과
+     */
+    public static BufferedImage decode(byte[] imageBytes) throws IOException {
+        return decode(new ByteArrayInputStream(imageBytes));
+    }
+
+    /**
+     * 스트림에서 바로 디코딩 (원본 전체를 byte[]로 읽어 두지 않음, 스트림은 호출한 쪽에서 닫음)
+     * @throws IOException 지원하지 않는 형식(WebP 등)이거나 손상된 이미지, 픽셀 수 초과
+     */
+    public static BufferedImage decode(InputStream imageStream) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(imageStream)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                // 헤더의 크기만 먼저 읽어 디코딩 전에 검사
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_PIXELS) {
+                    throw new IOException("이미지 픽셀 수가 너무 큽니다: " + pixels);
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    public static BufferedImage resize(BufferedImage source, int targetWidth) {
+        int width = Math.min(targetWidth, source.getWidth());
+        int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+
+        BufferedImage current = toRgb(source);
+        int currentWidth = current.getWidth();
+        int currentHeight = current.getHeight();
+        while (currentWidth / 2 >= width) {
+            currentWidth /= 2;
+            currentHeight = Math.max(height, currentHeight / 2);
+            current = draw(current, currentWidth, currentHeight);
+        }
+        return currentWidth == width && currentHeight == height ? current : draw(current, width, height);
+    }
+
+    public static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * JPEG는 알파 채널이 없으므로 투명 배경(PNG)을 흰색으로 채운 RGB 이미지로 변환
+     */
+    private static BufferedImage toRgb(BufferedImage source) {
+        if (source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, source.getWidth(), source.getHeight());
+            g.drawImage(source, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return rgb;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,63 @@
+package com.twogether.deokhugam.storage.thumbnail;
+
+/**
+ * 썸네일 변환본 크기 (가로 픽셀 기준, 세로는 원본 비율 유지)
+ * <p>
+ * 변환본의 경로는 원본 경로에서 결정적으로 만들어진다.
+ * 예: bookThumbnail/ab12cd34_20250711_103022.png → bookThumbnail/ab12cd34_20250711_103022_w240.jpg
+ */
+public enum ThumbnailSize {
+    SMALL(96),
+    MEDIUM(240),
+    LARGE(480);
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    private final int width;
+
+    ThumbnailSize(int width) {
+        this.width = width;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * 원본 S3 키 또는 공개 URL로 변환본 경로를 만든다.
+     */
+    public String variantPath(String originalPath) {
+        int slash = originalPath.lastIndexOf('/');
+        int dot = originalPath.lastIndexOf('.');
+        String base = dot > slash ? originalPath.substring(0, dot) : originalPath;
+        return base + "_w" + width + ".jpg";
+    }
+
+    /**
+     * 변환본 경로인지 여부 (크기 접미사가 붙은 .jpg)
+     */
+    public static boolean isVariantPath(String path) {
+        return !basePath(path).equals(stripExtension(path));
+    }
+
+    /**
+     * 원본 또는 변환본 경로에서 확장자와 크기 접미사를 뺀 공통 경로
+     * 예: .../ab12cd34.png, .../ab12cd34_w240.jpg → .../ab12cd34
+     */
+    public static String basePath(String path) {
+        String base = stripExtension(path);
+        for (ThumbnailSize size : values()) {
+            String suffix = "_w" + size.width;
+            if (base.endsWith(suffix) && path.endsWith(".jpg")) {
+                return base.substring(0, base.length() - suffix.length());
+            }
+        }
+        return base;
+    }
+
+    private static String stripExtension(String path) {
+        int slash = path.lastIndexOf('/');
+        int dot = path.lastIndexOf('.');
+        return dot > slash ? path.substring(0, dot) : path;
+    }
+}
@@ -1,5 +1,6 @@
 package com.twogether.deokhugam.user.service;
 
+import com.twogether.deokhugam.review.repository.ReviewRepository;
 import com.twogether.deokhugam.user.dto.UserDto;
 import com.twogether.deokhugam.user.dto.UserLoginRequest;
 import com.twogether.deokhugam.user.dto.UserRegisterRequest;
@@ -26,6 +27,8 @@ public class BasicUserService implements UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final UserCache userCache;
+    private final ReviewRepository reviewRepository;
 
     @Transactional
     @Override
@@ -77,8 +80,7 @@ public class BasicUserService implements UserService {
     @Override
     public UserDto find(UUID userId) {
         log.debug("사용자 조회 시작: id={}", userId);
-        UserDto userDto = userRepository.findById(userId)
-            .map(userMapper::toDto)
+        UserDto userDto = userCache.find(userId)
             .orElseThrow(() -> UserNotFoundException.withId(userId));
         log.info("사용자 조회 완료: id={}", userId);
         return userDto;
@@ -102,8 +104,12 @@ public class BasicUserService implements UserService {
         }
 
         user.update(newNickname);
+        userCache.invalidate(userId);
 
-        log.info("사용자 수정 완료: id={}", userId);
+        // 리뷰에 비정규화된 작성자 닉네임을 같은 트랜잭션에서 일괄 갱신
+        int updatedReviews = reviewRepository.updateUserNickname(userId, newNickname);
+
+        log.info("사용자 수정 완료: id={}, 닉네임 반영 리뷰 수={}", userId, updatedReviews);
 
         return userMapper.toDto(user);
     }
@@ -117,6 +123,7 @@ public class BasicUserService implements UserService {
             .orElseThrow(() -> UserNotFoundException.withId(userId));
 
         user.softDelete(); // isDeleted = true로 설정
+        userCache.invalidate(userId);
 
         log.info("사용자 논리 삭제 완료: id={}", userId);
     }
@@ -130,6 +137,7 @@ public class BasicUserService implements UserService {
             .orElseThrow(() -> UserNotFoundException.withId(userId));
 
         userRepository.delete(user);
+        userCache.invalidate(userId);
 
         log.info("사용자 물리 삭제 완료: id={}", userId);
     }
@@ -0,0 +1,44 @@
+package com.twogether.deokhugam.user.service;
+
+import com.twogether.deokhugam.common.cache.EntitySnapshotCache;
+import com.twogether.deokhugam.user.dto.UserDto;
+import com.twogether.deokhugam.user.mapper.UserMapper;
+import com.twogether.deokhugam.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 단건 조회 캐시
+ * 사용자 id별 UserDto 스냅샷을 보관하고, 닉네임 수정/탈퇴 시 해당 사용자만 무효화한다.
+ */
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final EntitySnapshotCache<UUID, UserDto> cache;
+
+    public UserCache(
+        UserRepository userRepository,
+        UserMapper userMapper,
+        MeterRegistry meterRegistry,
+        @Value("${cache.entity.user.max-size:10000}") long maxSize,
+        @Value("${cache.entity.user.ttl:10m}") Duration ttl
+    ) {
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.cache = new EntitySnapshotCache<>("user.by-id", maxSize, ttl, meterRegistry);
+    }
+
+    public Optional<UserDto> find(UUID userId) {
+        return cache.get(userId, id -> userRepository.findById(id).map(userMapper::toDto));
+    }
+
+    public void invalidate(UUID userId) {
+        cache.invalidate(userId);
+    }
+}
@@ -16,6 +16,9 @@ DROP TABLE IF EXISTS power_user_ranking CASCADE;
 DROP TABLE IF EXISTS popular_book_ranking CASCADE;
 DROP TYPE IF EXISTS ranking_period;
 DROP TABLE IF EXISTS notifications CASCADE;
+DROP TABLE IF EXISTS storage_deletion_queue CASCADE;
+DROP TABLE IF EXISTS review_comment_count_delta CASCADE;
+DROP TABLE IF EXISTS review_like_count_delta CASCADE;
 
 -- 도서관리 테이블
 CREATE TABLE books
@@ -28,13 +31,43 @@ CREATE TABLE books
     published_date DATE                 NOT NULL,
     isbn VARCHAR(13)                    UNIQUE,
     thumbnail_url TEXT,
+    thumbnail_variants_ready BOOLEAN    NOT NULL DEFAULT false,
     review_count INTEGER                NOT NULL,
     rating REAL                         NOT NULL,
+    rating_sum BIGINT                   NOT NULL DEFAULT 0,
     created_at TIMESTAMPTZ              NOT NULL,
     updated_at TIMESTAMPTZ,
-    is_deleted BOOLEAN                  NOT NULL
+    is_deleted BOOLEAN                  NOT NULL,
+    -- 키워드 검색용 생성 컬럼 (title|author|isbn 소문자 결합)
+    search_text TEXT GENERATED ALWAYS AS (
+        lower(title::text || '|' || author::text || '|' || coalesce(isbn, '')::text)
+    ) STORED
 );
 
+-- 도서 키워드 검색 인덱스 (부분일치 LIKE '%kw%'를 트라이그램 GIN 인덱스로 처리)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX idx_books_search_text_trgm
+    ON books USING GIN (search_text gin_trgm_ops)
+    WHERE is_deleted = FALSE;
+
+-- 도서 목록 키셋 페이지네이션 인덱스 (정렬 키, created_at, id) - 논리 삭제되지 않은 도서만 포함
+CREATE INDEX idx_books_title_seek
+    ON books (title, created_at, id) WHERE is_deleted = FALSE;
+CREATE INDEX idx_books_published_date_seek
+    ON books (published_date, created_at, id) WHERE is_deleted = FALSE;
+CREATE INDEX idx_books_rating_seek
+    ON books (rating, created_at, id) WHERE is_deleted = FALSE;
+CREATE INDEX idx_books_review_count_seek
+    ON books (review_count, created_at, id) WHERE is_deleted = FALSE;
+CREATE INDEX idx_books_created_at_seek
+    ON books (created_at, id) WHERE is_deleted = FALSE;
+
+-- 썸네일 삭제 전 참조 확인용 (원본은 URL 전체로, 축소본(_w240.jpg 등)은 확장자를 뺀 경로로 비교)
+CREATE INDEX idx_books_thumbnail_url
+    ON books (thumbnail_url) WHERE thumbnail_url IS NOT NULL;
+CREATE INDEX idx_books_thumbnail_base
+    ON books (regexp_replace(thumbnail_url, '\.[^./]*$', '')) WHERE thumbnail_url IS NOT NULL;
+
 -- 사용자 테이블
 CREATE TABLE users
 (
@@ -47,6 +80,16 @@ CREATE TABLE users
     is_deleted boolean                  NOT NULL
 );
 
+-- 1~2글자 검색어용 n-gram 추출 (트라이그램 인덱스는 3글자 미만 검색어로는 후보를 좁히지 못함)
+-- 문자열의 모든 1글자/2글자 부분 문자열 집합. 생성 컬럼에서 쓰므로 IMMUTABLE
+CREATE OR REPLACE FUNCTION search_short_grams(t TEXT) RETURNS TEXT[]
+    LANGUAGE SQL IMMUTABLE PARALLEL SAFE
+AS $$
+    SELECT coalesce(array_agg(DISTINCT substr(t, i, g.n)), '{}')
+    FROM generate_series(1, coalesce(length(t), 0)) AS i, (VALUES (1), (2)) AS g(n)
+    WHERE i + g.n - 1 <= length(t)
+$$;
+
 -- 리뷰 테이블
 CREATE TABLE reviews
 (
@@ -65,6 +108,14 @@ CREATE TABLE reviews
     created_at TIMESTAMPTZ              NOT NULL,
     updated_at TIMESTAMPTZ,
     is_deleted BOOLEAN                  NOT NULL,
+    -- 키워드 검색용 생성 컬럼 (도서 제목|작성자 닉네임|내용 소문자 결합)
+    search_text TEXT GENERATED ALWAYS AS (
+        lower(book_title::text || '|' || user_nickname::text || '|' || content)
+    ) STORED,
+    -- 1~2글자 키워드 검색용 생성 컬럼 (search_text의 1~2글자 n-gram 배열)
+    search_grams TEXT[] GENERATED ALWAYS AS (
+        search_short_grams(lower(book_title::text || '|' || user_nickname::text || '|' || content))
+    ) STORED,
 
     CONSTRAINT fk_reviews_book_id FOREIGN KEY (book_id) REFERENCES books (id) ON DELETE CASCADE,
     CONSTRAINT fk_reviews_user_id FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
@@ -75,6 +126,35 @@ CREATE UNIQUE INDEX uq_reviews_book_user_partial
     ON reviews (book_id, user_id)
     WHERE is_deleted = FALSE;
 
+-- 닉네임/도서 정보 변경 시 비정규화 컬럼 일괄 갱신용 (논리삭제된 리뷰 포함)
+CREATE INDEX idx_reviews_user_id ON reviews (user_id);
+CREATE INDEX idx_reviews_book_id ON reviews (book_id);
+
+-- 리뷰 키워드 검색 인덱스 (부분일치 LIKE '%kw%'를 트라이그램 GIN 인덱스로 처리)
+CREATE INDEX idx_reviews_search_text_trgm
+    ON reviews USING GIN (search_text gin_trgm_ops)
+    WHERE is_deleted = FALSE;
+
+-- 리뷰 1~2글자 키워드 검색 인덱스 (search_grams @> ARRAY['kw'] 포함 검색)
+CREATE INDEX idx_reviews_search_grams
+    ON reviews USING GIN (search_grams)
+    WHERE is_deleted = FALSE;
+
+-- 리뷰 목록 키셋 페이지네이션 인덱스 (정렬 키, created_at, id) - 논리 삭제되지 않은 리뷰만 포함
+-- 전체 / 도서별 / 작성자별 목록 × 최신순 / 평점순
+CREATE INDEX idx_reviews_created_at_seek
+    ON reviews (created_at, id) WHERE is_deleted = FALSE;
+CREATE INDEX idx_reviews_rating_seek
+    ON reviews (rating, created_at, id) WHERE is_deleted = FALSE;
+CREATE INDEX idx_reviews_book_created_at_seek
+    ON reviews (book_id, created_at, id) WHERE is_deleted = FALSE;
+CREATE INDEX idx_reviews_book_rating_seek
+    ON reviews (book_id, rating, created_at, id) WHERE is_deleted = FALSE;
+CREATE INDEX idx_reviews_user_created_at_seek
+    ON reviews (user_id, created_at, id) WHERE is_deleted = FALSE;
+CREATE INDEX idx_reviews_user_rating_seek
+    ON reviews (user_id, rating, created_at, id) WHERE is_deleted = FALSE;
+
 -- 리뷰_좋아요 테이블
 CREATE TABLE review_like
 (
@@ -86,6 +166,8 @@ CREATE TABLE review_like
     CONSTRAINT fk_review_like_review_id FOREIGN KEY (review_id) REFERENCES reviews (id) ON DELETE CASCADE,
     CONSTRAINT fk_review_like_user_id FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
 );
+-- 사용자별 좋아요한 리뷰 목록 조회 (좋아요 집합 캐시 적재)
+CREATE INDEX idx_review_like_user_liked ON review_like (user_id, review_id) WHERE liked = true;
 
 -- 댓글 테이블
 CREATE TABLE comments
@@ -170,4 +252,42 @@ CREATE TABLE power_user_ranking (
     created_at TIMESTAMPTZ              NOT NULL DEFAULT now(),
 
     FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE SET NULL
-);
\ No newline at end of file
+);
+
+-- S3 객체 삭제 대기열 (도서 삭제/썸네일 교체 시 등록, 백그라운드 작업이 DeleteObjects로 일괄 삭제)
+CREATE TABLE storage_deletion_queue (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    object_key TEXT                     NOT NULL UNIQUE,
+    enqueued_at TIMESTAMPTZ             NOT NULL,
+    next_attempt_at TIMESTAMPTZ         NOT NULL,
+    attempts INT                        NOT NULL DEFAULT 0
+);
+
+CREATE INDEX idx_storage_deletion_queue_next_attempt
+    ON storage_deletion_queue (next_attempt_at, id);
+
+-- 리뷰 댓글 수 증감분 로그 (댓글 등록/삭제 트랜잭션에서 기록, 백그라운드 작업이 comment_count에 합산 후 삭제)
+CREATE TABLE review_comment_count_delta (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    review_id UUID                      NOT NULL,
+    delta INT                           NOT NULL,
+    created_at TIMESTAMPTZ              NOT NULL,
+
+    CONSTRAINT fk_review_comment_count_delta_review_id FOREIGN KEY (review_id) REFERENCES reviews (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_review_comment_count_delta_review_id
+    ON review_comment_count_delta (review_id);
+
+-- 리뷰 좋아요 수 증감분 로그 (좋아요 토글 트랜잭션에서 기록, 백그라운드 작업이 like_count에 합산 후 삭제)
+CREATE TABLE review_like_count_delta (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    review_id UUID                      NOT NULL,
+    delta INT                           NOT NULL,
+    created_at TIMESTAMPTZ              NOT NULL,
+
+    CONSTRAINT fk_review_like_count_delta_review_id FOREIGN KEY (review_id) REFERENCES reviews (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_review_like_count_delta_review_id
+    ON review_like_count_delta (review_id);
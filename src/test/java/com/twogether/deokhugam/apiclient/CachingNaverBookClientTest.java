@@ -0,0 +1,241 @@
+package com.twogether.deokhugam.apiclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twogether.deokhugam.book.dto.NaverBookDto;
+import com.twogether.deokhugam.book.exception.NaverBookException;
+import com.twogether.deokhugam.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class CachingNaverBookClientTest {
+
+    private static final String ISBN = "9788960773431";
+    private static final NaverBookDto BOOK = new NaverBookDto(
+        "테스트 도서", "테스트 저자", "테스트 설명", "테스트 출판사", LocalDate.of(2023, 1, 1), ISBN, "aW1hZ2U=");
+
+    @TempDir
+    Path cacheDir;
+
+    private final NaverBookClient delegate = mock(NaverBookClient.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CachingNaverBookClient newClient(Clock clock) {
+        return newClient(clock, DataSize.ofMegabytes(10), 1000);
+    }
+
+    private CachingNaverBookClient newClient(Clock clock, DataSize diskMaxSize, int diskMaxEntries) {
+        return new CachingNaverBookClient(delegate, objectMapper, meterRegistry, DataSize.ofMegabytes(1),
+            Duration.ofDays(7), Duration.ofHours(1), cacheDir, diskMaxSize, diskMaxEntries, clock);
+    }
+
+    @Test
+    @DisplayName("같은 ISBN은 메모리 캐시에서 반환하고 네이버 API는 한 번만 호출")
+    void fetch_sameIsbn_callsUpstreamOnce() {
+        given(delegate.fetchInfoByIsbn(ISBN)).willReturn(BOOK);
+        CachingNaverBookClient client = newClient(Clock.systemUTC());
+
+        assertThat(client.fetchInfoByIsbn(ISBN)).isEqualTo(BOOK);
+        assertThat(client.fetchInfoByIsbn(ISBN)).isEqualTo(BOOK);
+
+        verify(delegate, times(1)).fetchInfoByIsbn(ISBN);
+        assertThat(lookups("memory")).isEqualTo(1.0);
+        assertThat(lookups("upstream")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재시작 후에도 디스크 캐시에서 반환")
+    void fetch_afterRestart_servedFromDisk() {
+        given(delegate.fetchInfoByIsbn(ISBN)).willReturn(BOOK);
+        newClient(Clock.systemUTC()).fetchInfoByIsbn(ISBN);
+
+        NaverBookDto result = newClient(Clock.systemUTC()).fetchInfoByIsbn(ISBN);
+
+        assertThat(result).isEqualTo(BOOK);
+        verify(delegate, times(1)).fetchInfoByIsbn(ISBN);
+        assertThat(lookups("disk")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("검색 결과가 없는 ISBN은 음성 TTL 동안만 캐시")
+    void fetch_notFound_cachedForNegativeTtl() {
+        given(delegate.fetchInfoByIsbn(ISBN)).willReturn(null);
+        Instant now = Instant.parse("2025-07-01T00:00:00Z");
+        newClient(Clock.fixed(now, ZoneOffset.UTC)).fetchInfoByIsbn(ISBN);
+
+        assertThat(newClient(Clock.fixed(now.plusSeconds(60), ZoneOffset.UTC)).fetchInfoByIsbn(ISBN)).isNull();
+        verify(delegate, times(1)).fetchInfoByIsbn(ISBN);
+
+        assertThat(newClient(Clock.fixed(now.plus(Duration.ofHours(2)), ZoneOffset.UTC)).fetchInfoByIsbn(ISBN)).isNull();
+        verify(delegate, times(2)).fetchInfoByIsbn(ISBN);
+    }
+
+    @Test
+    @DisplayName("조회 실패는 캐시하지 않음")
+    void fetch_upstreamFailure_notCached() {
+        given(delegate.fetchInfoByIsbn(ISBN))
+            .willThrow(new NaverBookException(ErrorCode.NAVER_API_CONNECTION_FAILED))
+            .willReturn(BOOK);
+        CachingNaverBookClient client = newClient(Clock.systemUTC());
+
+        assertThrows(NaverBookException.class, () -> client.fetchInfoByIsbn(ISBN));
+        assertThat(client.fetchInfoByIsbn(ISBN)).isEqualTo(BOOK);
+        verify(delegate, times(2)).fetchInfoByIsbn(ISBN);
+    }
+
+    @Test
+    @DisplayName("같은 ISBN 동시 조회는 네이버 API 호출 하나를 공유")
+    void fetch_concurrent_singleFlight() throws Exception {
+        CountDownLatch upstreamStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(delegate.fetchInfoByIsbn(ISBN)).willAnswer(invocation -> {
+            upstreamStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return BOOK;
+        });
+        CachingNaverBookClient client = newClient(Clock.systemUTC());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<NaverBookDto>> results = new ArrayList<>();
+            results.add(executor.submit(() -> client.fetchInfoByIsbn(ISBN)));
+            assertThat(upstreamStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> client.fetchInfoByIsbn(ISBN)));
+            }
+            // 나머지 요청이 진행 중인 조회를 기다리기 시작할 때까지 대기
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (lookups("shared") < 3 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            for (Future<NaverBookDto> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(BOOK);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(delegate, times(1)).fetchInfoByIsbn(ISBN);
+        assertThat(lookups("shared")).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("주기 정리는 만료된 디스크 캐시 파일을 삭제")
+    void sweepDisk_removesExpiredFiles() throws IOException {
+        String notFoundIsbn = "9788960773448";
+        given(delegate.fetchInfoByIsbn(ISBN)).willReturn(BOOK);
+        given(delegate.fetchInfoByIsbn(notFoundIsbn)).willReturn(null);
+        MutableClock clock = new MutableClock(Instant.parse("2025-07-01T00:00:00Z"));
+        CachingNaverBookClient client = newClient(clock);
+        client.fetchInfoByIsbn(ISBN);
+        client.fetchInfoByIsbn(notFoundIsbn);
+
+        clock.advance(Duration.ofHours(2));
+        client.sweepDisk();
+
+        // 음성 TTL(1시간)이 지난 "없음" 항목만 삭제
+        assertThat(cachedFiles()).containsExactly(ISBN + ".json");
+    }
+
+    @Test
+    @DisplayName("파일 수 상한을 넘으면 먼저 만료될(가장 오래된) 파일부터 삭제")
+    void sweepDisk_overEntryLimit_evictsOldest() throws IOException {
+        List<String> isbns = List.of("9788960773431", "9788960773448", "9788960773455");
+        isbns.forEach(isbn -> given(delegate.fetchInfoByIsbn(isbn)).willReturn(BOOK));
+        MutableClock clock = new MutableClock(Instant.parse("2025-07-01T00:00:00Z"));
+        CachingNaverBookClient client = newClient(clock, DataSize.ofMegabytes(10), 2);
+        for (String isbn : isbns) {
+            client.fetchInfoByIsbn(isbn);
+            clock.advance(Duration.ofMinutes(1));
+        }
+
+        client.sweepDisk();
+
+        assertThat(cachedFiles()).containsExactlyInAnyOrder(isbns.get(1) + ".json", isbns.get(2) + ".json");
+        assertThat(meterRegistry.get("naver.book.disk-cache.entries").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("전체 크기 상한을 넘으면 상한 안으로 들어올 때까지 오래된 파일부터 삭제")
+    void sweepDisk_overSizeLimit_evictsOldest() throws IOException {
+        List<String> isbns = List.of("9788960773431", "9788960773448", "9788960773455");
+        isbns.forEach(isbn -> given(delegate.fetchInfoByIsbn(isbn)).willReturn(BOOK));
+        MutableClock clock = new MutableClock(Instant.parse("2025-07-01T00:00:00Z"));
+        CachingNaverBookClient client = newClient(clock);
+        for (String isbn : isbns) {
+            client.fetchInfoByIsbn(isbn);
+            clock.advance(Duration.ofMinutes(1));
+        }
+        long fileSize = Files.size(cacheDir.resolve(isbns.get(2) + ".json"));
+        newClient(clock, DataSize.ofBytes(fileSize), 1000);
+
+        // 새 인스턴스 시작 시 정리도 같은 상한을 적용
+        assertThat(cachedFiles()).containsExactly(isbns.get(2) + ".json");
+    }
+
+    private List<String> cachedFiles() throws IOException {
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            return files.map(file -> file.getFileName().toString()).toList();
+        }
+    }
+
+    private double lookups(String source) {
+        return meterRegistry.get("naver.book.lookups").tag("source", source).counter().count();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.twogether.deokhugam.apiclient;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twogether.deokhugam.apiclient.barcode.Ean13BarcodeDecoderTest;
 import com.twogether.deokhugam.apiclient.dto.NaverBookItem;
 import com.twogether.deokhugam.apiclient.dto.NaverBookSearchResponse;
+import com.twogether.deokhugam.apiclient.http.CircuitBreaker;
+import com.twogether.deokhugam.apiclient.http.ExternalApiEndpoint;
 import com.twogether.deokhugam.book.dto.NaverBookDto;
 import com.twogether.deokhugam.book.exception.NaverBookException;
 import com.twogether.deokhugam.common.exception.ErrorCode;
@@ -11,19 +14,27 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.*;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.DefaultResponseErrorHandler;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import javax.imageio.ImageIO;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -34,23 +45,20 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 public class NaverBookClientTest {
 
-    @InjectMocks // 테스트 대상인 NaverBookClientImpl에 Mock 객체 주입
     private NaverBookClientImpl naverBookClient;
 
-    @Mock // RestTemplateBuilder를 Mock 객체로 생성
-    private RestTemplateBuilder restTemplateBuilder;
-
     @Mock // RestTemplate을 Mock 객체로 생성
     private RestTemplate restTemplate;
 
     private ObjectMapper objectMapper = new ObjectMapper(); // JSON 처리를 위한 ObjectMapper
 
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @BeforeEach // 각 테스트 메서드 실행 전 초기화
     void setUp() {
-        // restTemplateBuilder.build() 호출 시 mock restTemplate 반환하도록 설정
-        given(restTemplateBuilder.build()).willReturn(restTemplate);
-        // NaverBookClientImpl의 생성자를 수동으로 호출하여 의존성 주입
-        naverBookClient = new NaverBookClientImpl(restTemplateBuilder);
+        // 엔드포인트별 호출 보호막이 mock restTemplate을 사용하도록 설정
+        naverBookClient = new NaverBookClientImpl(
+                endpoint("naver.search"), endpoint("naver.image"), endpoint("naver.ocr"), objectMapper, meterRegistry);
 
         // @Value로 주입되는 필드들을 ReflectionTestUtils를 사용하여 설정
         ReflectionTestUtils.setField(naverBookClient, "clientId", "testClientId");
@@ -92,6 +100,31 @@ public class NaverBookClientTest {
         assertThat(result.thumbnailImage()).isEqualTo(java.util.Base64.getEncoder().encodeToString("image_data".getBytes()));
     }
 
+    @Test
+    @DisplayName("메타데이터 조회는 표지를 내려받지 않고 원본 URL만 전달")
+    void fetchMetadataByIsbn_skipsImageDownload() {
+        // given
+        String isbn = "978896077343";
+        NaverBookItem item = new NaverBookItem(
+                "테스트 도서", "테스트 저자", "테스트 설명", "테스트 출판사", "20230101", isbn, "http://test-image.com/book.jpg"
+        );
+        given(restTemplate.exchange(
+                anyString(),
+                eq(HttpMethod.GET),
+                any(HttpEntity.class),
+                eq(NaverBookSearchResponse.class)
+        )).willReturn(new ResponseEntity<>(new NaverBookSearchResponse(List.of(item)), HttpStatus.OK));
+
+        // when
+        NaverBookDto result = naverBookClient.fetchMetadataByIsbn(isbn);
+
+        // then
+        assertThat(result.title()).isEqualTo("테스트 도서");
+        assertThat(result.thumbnailImage()).isNull();
+        assertThat(result.thumbnailSourceUrl()).isEqualTo("http://test-image.com/book.jpg");
+        verify(restTemplate, never()).getForEntity(anyString(), eq(byte[].class));
+    }
+
     @Test
     @DisplayName("ISBN으로 도서 정보 조회 실패 테스트 - 유효하지 않은 ISBN")
     void fetchInfoByIsbnFail_InvalidIsbn() {
@@ -119,6 +152,30 @@ public class NaverBookClientTest {
         NaverBookException exception = assertThrows(NaverBookException.class,
                 () -> naverBookClient.fetchInfoByIsbn("1234567890"));
         assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.NAVER_API_CONNECTION_FAILED);
+        assertThat(exception.getCause()).isInstanceOf(RestClientException.class);
+    }
+
+    @Test
+    @DisplayName("ISBN으로 도서 정보 조회 실패 테스트 - 표지 다운로드 실패는 연결 실패로 바꾸지 않고 그대로 전달")
+    void fetchInfoByIsbnFail_ThumbnailNotFound() {
+        // given: 검색은 성공했지만 표지 이미지 다운로드 실패
+        NaverBookItem item = new NaverBookItem(
+                "테스트 도서", "테스트 저자", "테스트 설명", "테스트 출판사", "20230101", "978896077343", "http://test-image.com/book.jpg"
+        );
+        given(restTemplate.exchange(
+                anyString(),
+                eq(HttpMethod.GET),
+                any(HttpEntity.class),
+                eq(NaverBookSearchResponse.class)
+        )).willReturn(new ResponseEntity<>(new NaverBookSearchResponse(List.of(item)), HttpStatus.OK));
+        RestClientException imageFailure = new RestClientException("Image download failed");
+        given(restTemplate.getForEntity(anyString(), eq(byte[].class))).willThrow(imageFailure);
+
+        // when & then
+        NaverBookException exception = assertThrows(NaverBookException.class,
+                () -> naverBookClient.fetchInfoByIsbn("978896077343"));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.NAVER_API_THUMBNAIL_NOT_FOUND);
+        assertThat(exception.getCause()).isSameAs(imageFailure);
     }
 
     @Test
@@ -167,8 +224,9 @@ public class NaverBookClientTest {
         // when: OCR로 ISBN 추출
         String extractedIsbn = naverBookClient.extractIsbnFromImage(image);
 
-        // then: 추출된 ISBN 검증
+        // then: 추출된 ISBN 검증 (이미지가 아니므로 바코드 인식은 실패하고 OCR로 처리)
         assertThat(extractedIsbn).isEqualTo("9791197693007");
+        assertThat(meterRegistry.get("isbn.extract.barcode").tag("result", "miss").counter().count()).isEqualTo(1.0);
 
         // HttpEntity의 body가 올바르게 구성되었는지 확인
         ArgumentCaptor<HttpEntity> httpEntityCaptor = ArgumentCaptor.forClass(HttpEntity.class);
@@ -178,6 +236,23 @@ public class NaverBookClientTest {
         assertThat(capturedEntity.getHeaders().getFirst("X-OCR-SECRET")).isEqualTo("testOcrSecret");
     }
 
+    @Test
+    @DisplayName("바코드가 보이는 사진은 OCR 호출 없이 ISBN 추출 성공 테스트")
+    void extractIsbnFromImage_Barcode() throws Exception {
+        // given: EAN-13 바코드가 그려진 PNG 이미지
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(Ean13BarcodeDecoderTest.render("9791197693007", 3), "png", png);
+        MockMultipartFile image = new MockMultipartFile("image", "barcode.png", "image/png", png.toByteArray());
+
+        // when: ISBN 추출
+        String extractedIsbn = naverBookClient.extractIsbnFromImage(image);
+
+        // then: 바코드에서 읽고 OCR API는 호출하지 않음
+        assertThat(extractedIsbn).isEqualTo("9791197693007");
+        verifyNoInteractions(restTemplate);
+        assertThat(meterRegistry.get("isbn.extract.barcode").tag("result", "hit").counter().count()).isEqualTo(1.0);
+    }
+
     @Test
     @DisplayName("OCR로 ISBN 추출 실패 테스트 - OCR 서버 에러")
     void extractIsbnFromImageFail_OcrServerError() throws Exception {
@@ -232,4 +307,84 @@ public class NaverBookClientTest {
                 () -> naverBookClient.extractIsbnFromImage(image));
         assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.NAVER_OCR_ISBN_NOT_FOUND);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("표지 스트리밍 성공 - 본문과 헤더를 handler에 넘기고 응답을 닫음")
+    void streamCoverImageSuccess() throws Exception {
+        // given
+        List<MockClientHttpResponse> responses = stubImageResponses(HttpStatus.OK);
+
+        // when
+        String result = naverBookClient.streamCoverImage("http://test-image.com/book.jpg",
+                (body, contentLength, contentType) -> new String(body.readAllBytes()) + "|" + contentType);
+
+        // then
+        assertThat(result).isEqualTo("image_data|image/jpeg");
+        assertThat(responses).singleElement().matches(MockClientHttpResponse::isClosed);
+    }
+
+    @Test
+    @DisplayName("표지 스트리밍 - handler(저장소 업로드) 실패는 그대로 전달하고 이미지 서킷 브레이커 실패로 세지 않음")
+    void streamCoverImage_handlerFailure_notCountedByCircuitBreaker() throws Exception {
+        // given: 서킷 실패 임계치(5회)만큼 handler 실패
+        List<MockClientHttpResponse> responses = stubImageResponses(HttpStatus.OK);
+        IllegalStateException uploadFailure = new IllegalStateException("S3 upload failed");
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                    () -> naverBookClient.streamCoverImage("http://test-image.com/book.jpg",
+                            (body, contentLength, contentType) -> {
+                                throw uploadFailure;
+                            }));
+            assertThat(thrown).isSameAs(uploadFailure);
+        }
+
+        // then
+        ExternalApiEndpoint imageEndpoint =
+                (ExternalApiEndpoint) ReflectionTestUtils.getField(naverBookClient, "imageEndpoint");
+        assertThat(imageEndpoint.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(responses).hasSize(5).allMatch(MockClientHttpResponse::isClosed);
+    }
+
+    @Test
+    @DisplayName("표지 스트리밍 실패 - 이미지 서버 5xx 응답은 표지 없음으로 변환하고 handler를 호출하지 않음")
+    @SuppressWarnings("unchecked")
+    void streamCoverImageFail_ServerError() throws Exception {
+        // given
+        List<MockClientHttpResponse> responses = stubImageResponses(HttpStatus.INTERNAL_SERVER_ERROR);
+        NaverBookClient.CoverImageHandler<String> handler = mock(NaverBookClient.CoverImageHandler.class);
+
+        // when & then
+        NaverBookException exception = assertThrows(NaverBookException.class,
+                () -> naverBookClient.streamCoverImage("http://test-image.com/book.jpg", handler));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.NAVER_API_THUMBNAIL_NOT_FOUND);
+        assertThat(responses).singleElement().matches(MockClientHttpResponse::isClosed);
+        verifyNoInteractions(handler);
+    }
+
+    /**
+     * mock restTemplate이 요청마다 지정한 상태 코드의 이미지 응답을 새로 만들어 돌려주도록 설정
+     *
+     * @return 지금까지 만든 응답 목록
+     */
+    private List<MockClientHttpResponse> stubImageResponses(HttpStatus status) {
+        List<MockClientHttpResponse> responses = new ArrayList<>();
+        given(restTemplate.getUriTemplateHandler()).willReturn(new DefaultUriBuilderFactory());
+        given(restTemplate.getErrorHandler()).willReturn(new DefaultResponseErrorHandler());
+        given(restTemplate.getRequestFactory()).willReturn((uri, method) -> {
+            MockClientHttpResponse response = new MockClientHttpResponse("image_data".getBytes(), status);
+            response.getHeaders().setContentType(MediaType.IMAGE_JPEG);
+            responses.add(response);
+            MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+            request.setResponse(response);
+            return request;
+        });
+        return responses;
+    }
+
+    private ExternalApiEndpoint endpoint(String name) {
+        return new ExternalApiEndpoint(name, restTemplate, 10, Duration.ofMillis(100),
+                new CircuitBreaker(5, Duration.ofSeconds(30), Clock.systemUTC()), new SimpleMeterRegistry());
+    }
+}
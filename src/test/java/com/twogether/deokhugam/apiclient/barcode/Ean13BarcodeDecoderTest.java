@@ -0,0 +1,149 @@
+package com.twogether.deokhugam.apiclient.barcode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class Ean13BarcodeDecoderTest {
+
+    private static final String ISBN = "9791197693007";
+
+    // L 코드 비트열 (1 = 막대). R 코드는 L 코드의 반전, G 코드는 R 코드를 뒤집은 것
+    private static final String[] L_CODES = {
+        "0001101", "0011001", "0010011", "0111101", "0100011",
+        "0110001", "0101111", "0111011", "0110111", "0001011"
+    };
+    private static final String[] PARITY = {
+        "LLLLLL", "LLGLGG", "LLGGLG", "LLGGGL", "LGLLGG", "LGGLLG", "LGGGLL", "LGLGLG", "LGLGGL", "LGGLGL"
+    };
+
+    @Test
+    @DisplayName("정방향 바코드 이미지에서 ISBN 추출")
+    void decode_upright() {
+        assertThat(Ean13BarcodeDecoder.decode(render(ISBN, 3))).contains(ISBN);
+    }
+
+    @Test
+    @DisplayName("모듈 폭이 정수가 아닌 축소 이미지에서도 추출")
+    void decode_scaledDown() {
+        BufferedImage scaled = transform(render("9788960773431", 3), AffineTransform.getScaleInstance(0.73, 0.73));
+
+        assertThat(Ean13BarcodeDecoder.decode(scaled)).contains("9788960773431");
+    }
+
+    @Test
+    @DisplayName("뒤집히거나 90도 회전된 이미지에서도 추출")
+    void decode_rotated() {
+        BufferedImage original = render(ISBN, 3);
+
+        BufferedImage upsideDown = transform(original,
+            AffineTransform.getRotateInstance(Math.PI, original.getWidth() / 2.0, original.getHeight() / 2.0));
+        BufferedImage quarterTurn = rotate90(original);
+
+        assertThat(Ean13BarcodeDecoder.decode(upsideDown)).contains(ISBN);
+        assertThat(Ean13BarcodeDecoder.decode(quarterTurn)).contains(ISBN);
+    }
+
+    @Test
+    @DisplayName("잡음이 섞인 이미지에서도 추출")
+    void decode_noisy() {
+        BufferedImage image = render(ISBN, 4);
+        Random random = new Random(42);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                int gray = image.getRGB(x, y) & 0xFF;
+                int noisy = Math.min(255, Math.max(0, gray + (int) (random.nextGaussian() * 20)));
+                image.setRGB(x, y, new Color(noisy, noisy, noisy).getRGB());
+            }
+        }
+
+        assertThat(Ean13BarcodeDecoder.decode(image)).contains(ISBN);
+    }
+
+    @Test
+    @DisplayName("바코드가 없거나 체크섬이 맞지 않으면 빈 값")
+    void decode_noBarcode_empty() {
+        BufferedImage blank = new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = blank.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, 400, 300);
+        g.setColor(Color.BLACK);
+        g.drawString("ISBN 979-11-976930-0-7", 50, 150);
+        g.dispose();
+
+        assertThat(Ean13BarcodeDecoder.decode(blank)).isEmpty();
+        assertThat(Ean13BarcodeDecoder.decode(render("9791197693008", 3))).isEmpty();
+    }
+
+    /**
+     * 흰 여백(양쪽 11모듈) 위에 EAN-13 막대를 그린다. (체크섬은 검증하지 않고 주어진 그대로 인코딩)
+     * ISBN 추출 테스트에서도 바코드 사진 대신 사용한다.
+     */
+    public static BufferedImage render(String digits, int moduleWidth) {
+        StringBuilder bits = new StringBuilder("101");
+        String parity = PARITY[digits.charAt(0) - '0'];
+        for (int i = 1; i <= 6; i++) {
+            String l = L_CODES[digits.charAt(i) - '0'];
+            bits.append(parity.charAt(i - 1) == 'L' ? l : new StringBuilder(invert(l)).reverse());
+        }
+        bits.append("01010");
+        for (int i = 7; i <= 12; i++) {
+            bits.append(invert(L_CODES[digits.charAt(i) - '0']));
+        }
+        bits.append("101");
+
+        int quietZone = 11 * moduleWidth;
+        int width = bits.length() * moduleWidth + quietZone * 2;
+        int height = 60 * moduleWidth;
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, width, height);
+        g.setColor(Color.BLACK);
+        for (int i = 0; i < bits.length(); i++) {
+            if (bits.charAt(i) == '1') {
+                g.fillRect(quietZone + i * moduleWidth, moduleWidth * 5, moduleWidth, height - moduleWidth * 10);
+            }
+        }
+        g.dispose();
+        return image;
+    }
+
+    private static String invert(String bits) {
+        StringBuilder inverted = new StringBuilder(bits.length());
+        for (char c : bits.toCharArray()) {
+            inverted.append(c == '1' ? '0' : '1');
+        }
+        return inverted.toString();
+    }
+
+    private static BufferedImage transform(BufferedImage source, AffineTransform transform) {
+        int width = (int) Math.ceil(source.getWidth() * Math.abs(transform.getScaleX()) + 0.5);
+        int height = (int) Math.ceil(source.getHeight() * Math.abs(transform.getScaleY()) + 0.5);
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, width, height);
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(source, transform, null);
+        g.dispose();
+        return target;
+    }
+
+    private static BufferedImage rotate90(BufferedImage source) {
+        BufferedImage target = new BufferedImage(source.getHeight(), source.getWidth(), BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < source.getHeight(); y++) {
+            for (int x = 0; x < source.getWidth(); x++) {
+                target.setRGB(source.getHeight() - 1 - y, x, source.getRGB(x, y));
+            }
+        }
+        return target;
+    }
+}
@@ -0,0 +1,130 @@
+package com.twogether.deokhugam.apiclient.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+class ExternalApiEndpointTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExternalApiEndpoint endpoint = new ExternalApiEndpoint("naver.search", mock(RestTemplate.class), 1,
+        Duration.ofMillis(50), new CircuitBreaker(3, Duration.ofSeconds(30), clock), meterRegistry);
+
+    @Test
+    @DisplayName("연속 실패가 기준에 도달하면 서킷이 열리고 호출 없이 즉시 거절")
+    void call_consecutiveFailures_opensCircuit() {
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> endpoint.call(rt -> { throw new ResourceAccessException("timeout"); }))
+                .isInstanceOf(ResourceAccessException.class);
+        }
+
+        assertThat(endpoint.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> endpoint.call(rt -> "호출되면 안 됨"))
+            .isInstanceOf(ExternalApiRejectedException.class)
+            .extracting("reason").isEqualTo("circuit_open");
+        assertThat(rejected("circuit_open")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("external.api.latency").tag("outcome", "failure").timer().count())
+            .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("OPEN 시간이 지나면 시험 호출 한 건으로 서킷을 닫음")
+    void call_afterOpenDuration_probeClosesCircuit() {
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> endpoint.call(rt -> { throw new ResourceAccessException("timeout"); }));
+        }
+
+        clock.advance(Duration.ofSeconds(31));
+
+        assertThat(endpoint.call(rt -> "ok")).isEqualTo("ok");
+        assertThat(endpoint.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 서킷 실패로 세지 않음")
+    void call_clientError_doesNotOpenCircuit() {
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> endpoint.call(rt -> {
+                throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+            })).isInstanceOf(HttpClientErrorException.class);
+        }
+
+        assertThat(endpoint.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("동시 호출 수를 넘으면 대기 시간 후 거절")
+    void call_bulkheadFull_rejects() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> slowCall = CompletableFuture.supplyAsync(() -> endpoint.call(rt -> {
+            started.countDown();
+            await(release);
+            return "slow";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> endpoint.call(rt -> "fast"))
+            .isInstanceOf(ExternalApiRejectedException.class)
+            .extracting("reason").isEqualTo("bulkhead");
+        assertThat(rejected("bulkhead")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("external.api.in_flight").gauge().value()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(slowCall.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        assertThat(endpoint.call(rt -> "fast")).isEqualTo("fast");
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("external.api.rejected").tag("reason", reason).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-07-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.twogether.deokhugam.book.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.twogether.deokhugam.apiclient.NaverBookClient;
+import com.twogether.deokhugam.book.batch.writer.BookImportWriter;
+import com.twogether.deokhugam.book.batch.writer.BookThumbnailUploader;
+import com.twogether.deokhugam.book.dto.NaverBookDto;
+import com.twogether.deokhugam.book.exception.NaverBookException;
+import com.twogether.deokhugam.book.repository.BookRepository;
+import com.twogether.deokhugam.book.service.BookCountService;
+import com.twogether.deokhugam.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+@ExtendWith(MockitoExtension.class)
+class BookImportWriterTest {
+
+    private static final String COVER_URL = "https://shopping-phinf.pstatic.net/cover.jpg";
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private NaverBookClient naverBookClient;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private BookThumbnailUploader thumbnailUploader;
+
+    @Mock
+    private BookCountService bookCountService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private StepExecution stepExecution;
+    private BookImportWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new BookImportWriter(bookRepository, naverBookClient, jdbcTemplate,
+            thumbnailUploader, bookCountService, meterRegistry, 2);
+        stepExecution = MetaDataInstanceFactory.createStepExecution();
+        writer.beforeStep(stepExecution);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.afterStep(stepExecution);
+    }
+
+    @Test
+    @DisplayName("등록된 ISBN은 한 번에 걸러내고 나머지만 조회해 배치 INSERT (없는 ISBN과 잘못된 데이터는 건너뜀)")
+    @SuppressWarnings("unchecked")
+    void write_skipsExistingAndBatchInsertsFound() {
+        // given
+        given(bookRepository.findExistingIsbns(any())).willReturn(List.of("9780000000001"));
+        given(naverBookClient.fetchMetadataByIsbn("9780000000002")).willReturn(naverBook("9780000000002", COVER_URL));
+        given(naverBookClient.fetchMetadataByIsbn("9780000000003")).willReturn(null);
+        given(naverBookClient.fetchMetadataByIsbn("9780000000004"))
+            .willThrow(new NaverBookException(ErrorCode.INVALID_ISBN));
+        given(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(),
+            any(ParameterizedPreparedStatementSetter.class)))
+            .willReturn(new int[][]{{1}});
+
+        // when
+        writer.write(new Chunk<>(List.of(
+            "9780000000001", "9780000000002", "9780000000002", "9780000000003", "9780000000004")));
+
+        // then
+        ArgumentCaptor<Collection<?>> rows = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture(), eq(1),
+            any(ParameterizedPreparedStatementSetter.class));
+        assertThat(rows.getValue()).hasSize(1);
+        verify(naverBookClient, never()).fetchMetadataByIsbn("9780000000001");
+        verify(bookCountService).invalidate();
+        verify(thumbnailUploader).uploadAsync(any(UUID.class), eq(COVER_URL));
+
+        ExecutionContext context = stepExecution.getExecutionContext();
+        assertThat(context.getLong(BookImportWriter.IMPORTED)).isEqualTo(1);
+        assertThat(context.getLong(BookImportWriter.DUPLICATE)).isEqualTo(2);
+        assertThat(context.getLong(BookImportWriter.NOT_FOUND)).isEqualTo(1);
+        assertThat(context.getLong(BookImportWriter.FAILED)).isEqualTo(1);
+
+        // 메트릭은 청크가 커밋된 뒤에 반영
+        writer.afterChunk(null);
+        assertThat(meterRegistry.get("batch.book_import.items").tag("result", "imported").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("쓰기 후 청크가 롤백되면 더한 건수를 되돌려, 같은 청크를 다시 처리해도 한 번만 집계")
+    void write_rolledBackChunk_countedOnce() {
+        // given
+        given(bookRepository.findExistingIsbns(any())).willReturn(List.of("9780000000001"));
+        Chunk<String> chunk = new Chunk<>(List.of("9780000000001"));
+
+        // when: 첫 시도는 커밋 단계에서 롤백, 재시도는 커밋
+        writer.write(chunk);
+        writer.afterChunkError(null);
+        assertThat(stepExecution.getExecutionContext().getLong(BookImportWriter.DUPLICATE)).isZero();
+
+        writer.write(chunk);
+        writer.afterChunk(null);
+
+        // then
+        assertThat(stepExecution.getExecutionContext().getLong(BookImportWriter.DUPLICATE)).isEqualTo(1);
+        assertThat(meterRegistry.get("batch.book_import.items").tag("result", "duplicate").counter().count())
+            .isEqualTo(1.0);
+
+        // 이미 확정된 청크는 이후 다른 청크의 롤백에 영향받지 않음
+        writer.afterChunkError(null);
+        assertThat(stepExecution.getExecutionContext().getLong(BookImportWriter.DUPLICATE)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("네이버 API 일시적 오류(서킷 OPEN 등)는 건너뛰지 않고 청크를 실패시켜 재시도")
+    @SuppressWarnings("unchecked")
+    void write_transientFailure_failsChunk() {
+        // given
+        given(bookRepository.findExistingIsbns(any())).willReturn(List.of());
+        given(naverBookClient.fetchMetadataByIsbn("9780000000002")).willReturn(naverBook("9780000000002", COVER_URL));
+        given(naverBookClient.fetchMetadataByIsbn("9780000000003"))
+            .willThrow(new NaverBookException(ErrorCode.NAVER_API_UNAVAILABLE));
+        Chunk<String> chunk = new Chunk<>(List.of("9780000000002", "9780000000003"));
+
+        // when & then
+        assertThatThrownBy(() -> writer.write(chunk))
+            .isInstanceOf(NaverBookException.class)
+            .extracting(e -> ((NaverBookException) e).getErrorCode())
+            .isEqualTo(ErrorCode.NAVER_API_UNAVAILABLE);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(Collection.class), anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+        assertThat(stepExecution.getExecutionContext().containsKey(BookImportWriter.FAILED)).isFalse();
+    }
+
+    @Test
+    @DisplayName("모든 ISBN이 이미 등록되어 있으면 네이버 조회와 INSERT를 하지 않음")
+    void write_allDuplicates_noLookup() {
+        // given
+        given(bookRepository.findExistingIsbns(any())).willReturn(List.of("9780000000001"));
+
+        // when
+        writer.write(new Chunk<>(List.of("9780000000001")));
+
+        // then
+        verify(naverBookClient, never()).fetchMetadataByIsbn(anyString());
+        verify(bookCountService, never()).invalidate();
+        assertThat(stepExecution.getExecutionContext().getLong(BookImportWriter.DUPLICATE)).isEqualTo(1);
+    }
+
+    private NaverBookDto naverBook(String isbn, String coverUrl) {
+        return new NaverBookDto("제목", "저자", "설명", "출판사", LocalDate.of(2024, 1, 1), isbn, null, coverUrl);
+    }
+}
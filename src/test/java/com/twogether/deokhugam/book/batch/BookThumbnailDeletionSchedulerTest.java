@@ -0,0 +1,194 @@
+package com.twogether.deokhugam.book.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.twogether.deokhugam.book.batch.scheduler.BookThumbnailDeletionScheduler;
+import com.twogether.deokhugam.book.batch.scheduler.BookThumbnailOrphanSweepScheduler;
+import com.twogether.deokhugam.book.repository.BookRepository;
+import com.twogether.deokhugam.storage.S3ImageStorage;
+import com.twogether.deokhugam.storage.StorageDeletionQueue;
+import com.twogether.deokhugam.storage.StorageDeletionQueue.Entry;
+import com.twogether.deokhugam.storage.StoredObject;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BookThumbnailDeletionSchedulerTest {
+
+    private static final String BASE_URL = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/";
+
+    @Mock
+    private StorageDeletionQueue deletionQueue;
+
+    @Mock
+    private S3ImageStorage s3ImageStorage;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        given(s3ImageStorage.publicUrl(anyString())).willAnswer(invocation -> BASE_URL + invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("아직 참조 중인 썸네일은 건너뛰고 나머지는 한 번에 삭제, 실패한 키만 재시도 예약")
+    void drain_skipsReferencedAndRetriesFailed() {
+        // given: shared.png는 다른 도서가 사용 중, old_w96.jpg는 S3 삭제 실패
+        Entry shared = new Entry(1, "bookThumbnail/shared.png", 1);
+        Entry sharedVariant = new Entry(2, "bookThumbnail/shared_w240.jpg", 1);
+        Entry old = new Entry(3, "bookThumbnail/old.png", 1);
+        Entry oldVariant = new Entry(4, "bookThumbnail/old_w96.jpg", 1);
+        given(deletionQueue.claim(anyInt())).willReturn(List.of(shared, sharedVariant, old, oldVariant));
+        givenLocked(List.of(shared, sharedVariant, old, oldVariant));
+        given(bookRepository.findReferencedThumbnailUrls(anyCollection()))
+            .willReturn(List.of(BASE_URL + "bookThumbnail/shared.png"));
+        given(bookRepository.findReferencedThumbnailBases(anyCollection()))
+            .willReturn(List.of(BASE_URL + "bookThumbnail/shared"));
+        given(s3ImageStorage.deleteObjects(List.of("bookThumbnail/old.png", "bookThumbnail/old_w96.jpg")))
+            .willReturn(List.of("bookThumbnail/old_w96.jpg"));
+        given(deletionQueue.backlog()).willReturn(1L);
+
+        // when
+        scheduler(1000).drain();
+
+        // then
+        verify(deletionQueue).complete(List.of(shared, sharedVariant, old));
+        verify(deletionQueue).retryLater(List.of(oldVariant));
+        assertThat(meterRegistry.get("storage.deletion.objects").tag("result", "deleted").counter().count())
+            .isEqualTo(1.0);
+        assertThat(meterRegistry.get("storage.deletion.objects").tag("result", "failed").counter().count())
+            .isEqualTo(1.0);
+        assertThat(meterRegistry.get("storage.deletion.objects").tag("result", "referenced").counter().count())
+            .isEqualTo(2.0);
+        assertThat(meterRegistry.get("storage.deletion.backlog").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("모두 참조 중이면 S3 삭제 요청을 보내지 않음")
+    void drain_allReferenced_noDeleteRequest() {
+        // given
+        Entry entry = new Entry(1, "bookThumbnail/shared.png", 1);
+        given(deletionQueue.claim(anyInt())).willReturn(List.of(entry));
+        givenLocked(List.of(entry));
+        given(bookRepository.findReferencedThumbnailUrls(anyCollection()))
+            .willReturn(List.of(BASE_URL + "bookThumbnail/shared.png"));
+
+        // when
+        scheduler(1000).drain();
+
+        // then
+        verify(s3ImageStorage, never()).deleteObjects(anyList());
+        verify(deletionQueue).complete(List.of(entry));
+    }
+
+    @Test
+    @DisplayName("원본은 확장자까지 비교: 같은 해시의 다른 확장자 원본이 참조 중이어도 이 원본은 삭제하고 공유 축소본은 남김")
+    void drain_sameHashDifferentExtension_deletesOnlyUnreferencedOriginal() {
+        // given: 도서는 abc.png를 참조, 대기열에는 더 이상 쓰지 않는 abc.jpg와 공유 축소본 abc_w96.jpg
+        Entry jpg = new Entry(1, "bookThumbnail/abc.jpg", 1);
+        Entry variant = new Entry(2, "bookThumbnail/abc_w96.jpg", 1);
+        given(deletionQueue.claim(anyInt())).willReturn(List.of(jpg, variant));
+        givenLocked(List.of(jpg, variant));
+        given(bookRepository.findReferencedThumbnailUrls(Set.of(BASE_URL + "bookThumbnail/abc.jpg")))
+            .willReturn(List.of());
+        given(bookRepository.findReferencedThumbnailBases(Set.of(BASE_URL + "bookThumbnail/abc")))
+            .willReturn(List.of(BASE_URL + "bookThumbnail/abc"));
+        given(s3ImageStorage.deleteObjects(List.of("bookThumbnail/abc.jpg"))).willReturn(List.of());
+
+        // when
+        scheduler(1000).drain();
+
+        // then
+        verify(s3ImageStorage).deleteObjects(List.of("bookThumbnail/abc.jpg"));
+        verify(deletionQueue).complete(List.of(variant, jpg));
+    }
+
+    @Test
+    @DisplayName("꺼낸 뒤 도서 저장으로 삭제가 취소된 키는 잠금 재확인에서 빠져 S3에서 지우지 않음")
+    void drain_cancelledAfterClaim_notDeleted() {
+        // given: reused.png는 꺼낸 뒤 같은 이미지로 도서가 저장되어 대기열에서 취소됨
+        Entry reused = new Entry(1, "bookThumbnail/reused.png", 1);
+        Entry old = new Entry(2, "bookThumbnail/old.png", 1);
+        given(deletionQueue.claim(anyInt())).willReturn(List.of(reused, old));
+        givenLocked(List.of(old));
+        given(bookRepository.findReferencedThumbnailUrls(anyCollection())).willReturn(List.of());
+        given(s3ImageStorage.deleteObjects(List.of("bookThumbnail/old.png"))).willReturn(List.of());
+
+        // when
+        scheduler(1000).drain();
+
+        // then
+        verify(s3ImageStorage).deleteObjects(List.of("bookThumbnail/old.png"));
+        verify(deletionQueue).complete(List.of(old));
+    }
+
+    @Test
+    @DisplayName("고아 썸네일 정리는 유예 시간이 지났고 참조되지 않는 객체만 삭제 대기열에 등록")
+    void sweep_enqueuesOnlyOldUnreferencedObjects() {
+        // given
+        Instant old = Instant.now().minus(Duration.ofDays(3));
+        List<StoredObject> page = List.of(
+            new StoredObject("bookThumbnail/used.png", old),
+            new StoredObject("bookThumbnail/used_w96.jpg", old),
+            new StoredObject("bookThumbnail/orphan.png", old),
+            new StoredObject("bookThumbnail/orphan_w480.jpg", old),
+            new StoredObject("bookThumbnail/just-uploaded.png", Instant.now()));
+        doAnswer(invocation -> {
+            Consumer<List<StoredObject>> handler = invocation.getArgument(1);
+            handler.accept(page);
+            return null;
+        }).when(s3ImageStorage).listObjects(eq("bookThumbnail/"), any());
+        given(bookRepository.findReferencedThumbnailUrls(anyCollection()))
+            .willReturn(List.of(BASE_URL + "bookThumbnail/used.png"));
+        given(bookRepository.findReferencedThumbnailBases(anyCollection()))
+            .willReturn(List.of(BASE_URL + "bookThumbnail/used"));
+
+        // when
+        new BookThumbnailOrphanSweepScheduler(s3ImageStorage, bookRepository, deletionQueue, meterRegistry,
+            Duration.ofDays(1)).sweep();
+
+        // then
+        verify(deletionQueue).enqueue(List.of("bookThumbnail/orphan.png", "bookThumbnail/orphan_w480.jpg"));
+        assertThat(meterRegistry.get("storage.orphan-sweep.objects").tag("result", "scanned").counter().count())
+            .isEqualTo(5.0);
+        assertThat(meterRegistry.get("storage.orphan-sweep.objects").tag("result", "orphan").counter().count())
+            .isEqualTo(2.0);
+    }
+
+    // 대기열 재확인에서 locked 항목만 남은 것으로 보고 처리 작업 실행
+    private void givenLocked(List<Entry> locked) {
+        doAnswer(invocation -> {
+            Consumer<List<Entry>> action = invocation.getArgument(1);
+            action.accept(locked);
+            return null;
+        }).when(deletionQueue).withLocked(anyList(), any());
+    }
+
+    private BookThumbnailDeletionScheduler scheduler(int batchSize) {
+        return new BookThumbnailDeletionScheduler(deletionQueue, s3ImageStorage, bookRepository, meterRegistry,
+            batchSize, 20);
+    }
+}
@@ -0,0 +1,32 @@
+package com.twogether.deokhugam.book.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.twogether.deokhugam.book.batch.processor.IsbnNormalizeProcessor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IsbnNormalizeProcessorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IsbnNormalizeProcessor processor = new IsbnNormalizeProcessor(meterRegistry);
+
+    @Test
+    @DisplayName("하이픈과 공백을 제거하고 ISBN-10의 x는 대문자로 정규화")
+    void process_normalizesIsbn() {
+        assertThat(processor.process(" 978-89-6077-733-0 ")).isEqualTo("9788960777330");
+        assertThat(processor.process("89 6077 733 x")).isEqualTo("896077733X");
+    }
+
+    @Test
+    @DisplayName("빈 줄과 주석은 집계 없이 제외하고, 잘못된 형식만 invalid로 집계")
+    void process_filtersInvalidLines() {
+        assertThat(processor.process("")).isNull();
+        assertThat(processor.process("# 출판사 카탈로그")).isNull();
+        assertThat(processor.process("12345")).isNull();
+
+        assertThat(meterRegistry.get("batch.book_import.items").tag("result", "invalid").counter().count())
+            .isEqualTo(1.0);
+    }
+}
@@ -7,6 +7,7 @@ import com.twogether.deokhugam.book.dto.request.BookCreateRequest;
 import com.twogether.deokhugam.book.dto.request.BookUpdateRequest;
 import com.twogether.deokhugam.book.dto.response.BookPageResponse;
 import com.twogether.deokhugam.book.service.BookService;
+import com.twogether.deokhugam.common.dto.ListView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -291,7 +292,7 @@ public class BookControllerTest {
             true                   // hasNext
         );
         // Mocking: bookService.getAllSorted 호출 시 expectedResponse 반환하도록 설정
-        given(bookService.getAllSorted(anyString(), anyString(), anyString(), anyString(), any(Instant.class), anyInt()))
+        given(bookService.getAllSorted(anyString(), anyString(), anyString(), anyString(), any(Instant.class), anyInt(), anyBoolean(), eq(ListView.SUMMARY)))
                 .willReturn(expectedResponse);
 
         // when & then: HTTP GET 요청 수행 및 결과 검증
@@ -302,6 +303,7 @@ public class BookControllerTest {
                         .param("cursor", "someCursor")
                         .param("after", Instant.now().toString())
                         .param("limit", "10")
+                        .param("view", "summary")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk()) // HTTP 상태 코드가 200 OK인지 확인
                 .andExpect(jsonPath("$.content.length()").value(bookList.size())) // 응답 리스트 크기 검증
@@ -1,18 +1,25 @@
 package com.twogether.deokhugam.book.controller;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.any;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.twogether.deokhugam.apiclient.NaverBookClient;
 import com.twogether.deokhugam.book.dto.NaverBookDto;
+import com.twogether.deokhugam.book.dto.response.IsbnOcrJobResponse;
+import com.twogether.deokhugam.book.service.IsbnOcrJobService;
 import java.time.LocalDate;
+import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -25,6 +32,9 @@ class BookInfoControllerTest {
   @MockitoBean
   private NaverBookClient naverBookClient;
 
+  @MockitoBean
+  private IsbnOcrJobService isbnOcrJobService;
+
   @Test
   @DisplayName("ISBN으로 도서 정보 조회")
   void getBookInfoByIsbn() throws Exception {
@@ -55,4 +65,36 @@ class BookInfoControllerTest {
         .andExpect(jsonPath("$.publisher").value("이북리더즈"))
         .andExpect(jsonPath("$.isbn").value(isbn));
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("ISBN 인식 작업 등록 시 202와 작업 ID 반환")
+  void submitOcrJob() throws Exception {
+    // given
+    UUID jobId = UUID.randomUUID();
+    MockMultipartFile image = new MockMultipartFile("image", "cover.jpg", "image/jpeg", "image".getBytes());
+    given(isbnOcrJobService.submit(any(MultipartFile.class)))
+        .willReturn(new IsbnOcrJobResponse(jobId, "PENDING", null, null, null));
+
+    // when & then
+    mockMvc.perform(multipart("/api/books/isbn/ocr/jobs").file(image))
+        .andExpect(status().isAccepted())
+        .andExpect(jsonPath("$.jobId").value(jobId.toString()))
+        .andExpect(jsonPath("$.status").value("PENDING"))
+        .andExpect(jsonPath("$.isbn").doesNotExist());
+  }
+
+  @Test
+  @DisplayName("ISBN 인식 작업 조회")
+  void getOcrJob() throws Exception {
+    // given
+    UUID jobId = UUID.randomUUID();
+    given(isbnOcrJobService.getJob(jobId))
+        .willReturn(new IsbnOcrJobResponse(jobId, "COMPLETED", "9788960777330", null, null));
+
+    // when & then
+    mockMvc.perform(get("/api/books/isbn/ocr/jobs/{jobId}", jobId))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("COMPLETED"))
+        .andExpect(jsonPath("$.isbn").value("9788960777330"));
+  }
+}
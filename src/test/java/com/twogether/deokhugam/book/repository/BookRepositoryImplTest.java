@@ -0,0 +1,131 @@
+package com.twogether.deokhugam.book.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.twogether.deokhugam.book.dto.BookDto;
+import com.twogether.deokhugam.book.entity.Book;
+import com.twogether.deokhugam.book.repository.custom.BookCursor;
+import com.twogether.deokhugam.book.repository.custom.BookSearchCondition;
+import com.twogether.deokhugam.book.repository.custom.BookSortField;
+import com.twogether.deokhugam.common.dto.ListView;
+import com.twogether.deokhugam.common.util.SearchPatternUtil;
+import com.twogether.deokhugam.config.AppConfig;
+import com.twogether.deokhugam.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, AppConfig.class})
+class BookRepositoryImplTest {
+
+    private static final Instant SAME_CREATED_AT = Instant.parse("2025-07-01T00:00:00Z");
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        // 제목/평점/리뷰 수/출간일/생성 시각이 모두 같은 도서 7권 + 다른 값의 도서 2권
+        for (int i = 0; i < 7; i++) {
+            em.persist(new Book("동일 제목", "저자" + i, "설명", "출판사", LocalDate.of(2024, 1, 1)));
+        }
+        em.persist(new Book("가나다", "김작가", "설명", "출판사", LocalDate.of(2023, 1, 1)));
+        em.persist(new Book("하하하", "이작가", "설명", "출판사", LocalDate.of(2025, 1, 1)));
+        em.flush();
+
+        em.createQuery("UPDATE Book b SET b.createdAt = :createdAt")
+            .setParameter("createdAt", SAME_CREATED_AT)
+            .executeUpdate();
+        em.clear();
+    }
+
+    @ParameterizedTest(name = "{0} {1} 정렬")
+    @CsvSource({
+        "TITLE, true", "TITLE, false",
+        "PUBLISHED_DATE, true", "PUBLISHED_DATE, false",
+        "RATING, true", "RATING, false",
+        "REVIEW_COUNT, true", "REVIEW_COUNT, false",
+        "CREATED_AT, true", "CREATED_AT, false"
+    })
+    @DisplayName("정렬 키와 생성 시각이 같은 도서가 많아도 페이지를 넘기며 누락/중복 없이 모두 조회된다")
+    void findBooksWithCursor_tiedRows_stablePaging(BookSortField sortField, boolean ascending) {
+        int limit = 2;
+        List<BookDto> collected = new ArrayList<>();
+        BookCursor cursor = null;
+
+        while (true) {
+            List<BookDto> page = bookRepository.findBooksWithCursor(
+                new BookSearchCondition(null, sortField, ascending, cursor, null, limit, ListView.FULL));
+            boolean hasNext = page.size() > limit;
+            List<BookDto> content = hasNext ? page.subList(0, limit) : page;
+            collected.addAll(content);
+            if (!hasNext) {
+                break;
+            }
+            // 커서 인코딩/디코딩 왕복까지 검증
+            String encoded = BookCursor.of(content.get(content.size() - 1), sortField).encode();
+            cursor = BookCursor.decode(encoded, sortField);
+        }
+
+        List<UUID> ids = collected.stream().map(BookDto::id).toList();
+        assertThat(ids).hasSize(9).doesNotHaveDuplicates();
+        assertThat(ids).containsExactlyInAnyOrderElementsOf(
+            bookRepository.findAll().stream().map(Book::getId).toList());
+    }
+
+    @Test
+    @DisplayName("동점인 도서는 id 순서로 이어서 조회된다 (DB의 UUID 정렬 = 문자열 정렬)")
+    void findBooksWithCursor_tiedRows_orderedById() {
+        List<BookDto> page = bookRepository.findBooksWithCursor(
+            new BookSearchCondition(null, BookSortField.TITLE, true, null, null, 20, ListView.FULL));
+
+        List<BookDto> tied = page.stream().filter(b -> b.title().equals("동일 제목")).toList();
+        assertThat(tied).hasSize(7)
+            .isSortedAccordingTo(Comparator.comparing(b -> b.id().toString()));
+    }
+
+    @Test
+    @DisplayName("검색 패턴은 제목/저자를 대소문자 구분 없이 부분일치로 찾는다")
+    void findBooksWithCursor_searchPattern() {
+        List<BookDto> result = bookRepository.findBooksWithCursor(new BookSearchCondition(
+            SearchPatternUtil.toContainsPattern("작가"), BookSortField.TITLE, true, null, null, 10, ListView.FULL));
+
+        assertThat(result).extracting(BookDto::title).containsExactly("가나다", "하하하");
+        assertThat(bookRepository.countBySearchPattern(SearchPatternUtil.toContainsPattern("저자"))).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("summary 조회는 설명을 읽지 않고 나머지 필드는 full 조회와 같다")
+    void findBooksWithCursor_summaryView_omitsDescription() {
+        List<BookDto> full = bookRepository.findBooksWithCursor(
+            new BookSearchCondition(null, BookSortField.TITLE, true, null, null, 20, ListView.FULL));
+        List<BookDto> summary = bookRepository.findBooksWithCursor(
+            new BookSearchCondition(null, BookSortField.TITLE, true, null, null, 20, ListView.SUMMARY));
+
+        assertThat(full).extracting(BookDto::description).containsOnly("설명");
+        assertThat(summary).extracting(BookDto::description).containsOnlyNulls();
+        assertThat(summary).extracting(BookDto::id, BookDto::title, BookDto::author)
+            .containsExactlyElementsOf(full.stream().map(b -> tuple(b.id(), b.title(), b.author())).toList());
+    }
+}
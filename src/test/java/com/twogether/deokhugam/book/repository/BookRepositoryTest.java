@@ -0,0 +1,144 @@
+package com.twogether.deokhugam.book.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.twogether.deokhugam.book.entity.Book;
+import com.twogether.deokhugam.config.AppConfig;
+import com.twogether.deokhugam.config.QueryDslConfig;
+import com.twogether.deokhugam.review.entity.Review;
+import com.twogether.deokhugam.user.entity.User;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, AppConfig.class})
+class BookRepositoryTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 4; i++) {
+            User user = new User("user" + i + "@test.com", "사용자" + i, "password1!");
+            em.persist(user);
+            users.add(user);
+        }
+    }
+
+    @Test
+    @DisplayName("리뷰 작성/평점 수정/삭제 증감분을 반영하면 리뷰 수, 평점 합계, 평균이 함께 갱신되고 리뷰가 0건이면 평균은 0")
+    void applyReviewStatsDelta_createUpdateDeleteToZero() {
+        Book book = persistBook("도서");
+        UUID bookId = book.getId();
+
+        // 작성: 4점, 2점
+        bookRepository.applyReviewStatsDelta(bookId, 1, 4);
+        assertStats(bookId, 1, 4, 4.0);
+        bookRepository.applyReviewStatsDelta(bookId, 1, 2);
+        assertStats(bookId, 2, 6, 3.0);
+
+        // 평점 수정: 2점 → 5점 (리뷰 수는 그대로)
+        bookRepository.applyReviewStatsDelta(bookId, 0, 3);
+        assertStats(bookId, 2, 9, 4.5);
+
+        // 삭제: 4점, 5점 차례로 삭제해 리뷰 0건
+        bookRepository.applyReviewStatsDelta(bookId, -1, -4);
+        assertStats(bookId, 1, 5, 5.0);
+        bookRepository.applyReviewStatsDelta(bookId, -1, -5);
+        assertStats(bookId, 0, 0, 0.0);
+    }
+
+    @Test
+    @DisplayName("증감분 반영은 대상 도서만 갱신")
+    void applyReviewStatsDelta_updatesOnlyTargetBook() {
+        Book target = persistBook("대상");
+        Book other = persistBook("다른 도서");
+
+        int updated = bookRepository.applyReviewStatsDelta(target.getId(), 1, 3);
+
+        assertThat(updated).isEqualTo(1);
+        assertStats(target.getId(), 1, 3, 3.0);
+        assertStats(other.getId(), 0, 0, 0.0);
+    }
+
+    @Test
+    @DisplayName("전체 재계산은 어긋난 도서만 갱신하고, 결과는 리뷰 테이블을 처음부터 집계한 값과 같음 (논리삭제 제외)")
+    void recalculateAllReviewStats_matchesFromScratchAggregate() {
+        Book drifted = persistBook("어긋난 도서");
+        Book deletedOnly = persistBook("삭제된 리뷰만 있는 도서");
+        Book consistent = persistBook("맞는 도서");
+        persistReview(drifted, users.get(0), 5, false);
+        persistReview(drifted, users.get(1), 2, false);
+        persistReview(drifted, users.get(2), 1, true);
+        persistReview(deletedOnly, users.get(0), 4, true);
+        persistReview(consistent, users.get(0), 3, false);
+        persistReview(consistent, users.get(3), 4, false);
+
+        // 증분 반영이 누락/중복된 상태를 흉내 냄
+        bookRepository.applyReviewStatsDelta(drifted.getId(), 1, 5);
+        bookRepository.applyReviewStatsDelta(deletedOnly.getId(), 1, 4);
+        bookRepository.applyReviewStatsDelta(consistent.getId(), 2, 7);
+
+        int updated = bookRepository.recalculateAllReviewStats();
+
+        assertThat(updated).isEqualTo(2);
+        for (Book book : List.of(drifted, deletedOnly, consistent)) {
+            Object[] aggregate = em.createQuery("""
+                    SELECT COUNT(r), COALESCE(SUM(r.rating), 0) FROM Review r
+                    WHERE r.book.id = :bookId AND r.isDeleted = false
+                    """, Object[].class)
+                .setParameter("bookId", book.getId())
+                .getSingleResult();
+            long count = ((Number) aggregate[0]).longValue();
+            long sum = ((Number) aggregate[1]).longValue();
+            assertStats(book.getId(), count, sum, count > 0 ? (double) sum / count : 0.0);
+        }
+        assertStats(drifted.getId(), 2, 7, 3.5);
+        assertStats(deletedOnly.getId(), 0, 0, 0.0);
+
+        // 바로잡은 뒤에는 갱신할 도서가 없음
+        assertThat(bookRepository.recalculateAllReviewStats()).isZero();
+    }
+
+    private Book persistBook(String title) {
+        Book book = new Book(title, "저자", "설명", "출판사", LocalDate.of(2024, 1, 1));
+        em.persist(book);
+        em.flush();
+        return book;
+    }
+
+    private void persistReview(Book book, User user, int rating, boolean deleted) {
+        Review review = new Review(book, user, "내용", rating);
+        review.updateIsDelete(deleted);
+        em.persist(review);
+        em.flush();
+    }
+
+    private void assertStats(UUID bookId, long reviewCount, long ratingSum, double rating) {
+        em.clear();
+        Book book = em.find(Book.class, bookId);
+        assertThat(book.getReviewCount().longValue()).isEqualTo(reviewCount);
+        assertThat(book.getRatingSum()).isEqualTo(ratingSum);
+        assertThat(book.getRating().doubleValue()).isCloseTo(rating, within(1e-6));
+    }
+}
@@ -1,11 +1,13 @@
 package com.twogether.deokhugam.book.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -17,9 +19,17 @@ import com.twogether.deokhugam.book.dto.response.BookPageResponse;
 import com.twogether.deokhugam.book.entity.Book;
 import com.twogether.deokhugam.book.exception.BookNotFoundException;
 import com.twogether.deokhugam.book.exception.DuplicatedIsbnException;
+import com.twogether.deokhugam.book.exception.InvalidBookCursorException;
 import com.twogether.deokhugam.book.repository.BookRepository;
+import com.twogether.deokhugam.book.repository.custom.BookCursor;
+import com.twogether.deokhugam.book.repository.custom.BookSearchCondition;
+import com.twogether.deokhugam.book.repository.custom.BookSortField;
+import com.twogether.deokhugam.common.dto.ListView;
+import com.twogether.deokhugam.review.repository.ReviewRepository;
 import com.twogether.deokhugam.storage.S3ImageStorage;
+import com.twogether.deokhugam.storage.StorageDeletionQueue;
 import java.io.IOException;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -29,11 +39,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Pageable;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,6 +62,24 @@ public class BookServiceTest {
   @Mock // BookServiceImpl이 의존하는 S3ImageStorage를 Mock 객체로 생성
   private S3ImageStorage s3ImageStorage;
 
+  @Mock // 목록 totalElements 캐시
+  private BookCountService bookCountService;
+
+  @Mock // 도서 단건 조회 캐시
+  private BookCache bookCache;
+
+  @Mock // 썸네일 축소본 생성
+  private BookThumbnailPipeline bookThumbnailPipeline;
+
+  @Mock // 더 이상 쓰지 않는 썸네일 삭제 대기열
+  private StorageDeletionQueue storageDeletionQueue;
+
+  @Mock // 리뷰에 비정규화된 도서 정보 반영
+  private ReviewRepository reviewRepository;
+
+  @Mock // 도서 저장과 리뷰 반영을 한 트랜잭션으로 묶음
+  private TransactionTemplate transactionTemplate;
+
   private Book book; // 테스트에 사용될 Book 엔티티
   private BookCreateRequest createRequest; // 테스트에 사용될 BookCreateRequest
   private BookCreateRequest createRequestWithIsbn; // 테스트에 사용될 BookCreateRequest
@@ -92,12 +124,96 @@ public class BookServiceTest {
     );
   }
 
+  @Test
+  @DisplayName("직접 업로드한 썸네일 키로 도서 등록 - 업로드 확인 후 URL 기록")
+  void registerBookWithUploadedThumbnailKey() {
+    // given: 클라이언트가 presigned URL로 업로드를 마친 키
+    BookCreateRequest request = new BookCreateRequest(
+        "더쿠의 심리학", "박인규", "더쿠에 대한 심도깊은 해설", "이북리더즈", LocalDate.of(1989, 5, 12), null,
+        "bookThumbnail/abc_20250711.jpeg");
+    given(s3ImageStorage.confirmUpload("bookThumbnail/", "bookThumbnail/abc_20250711.jpeg"))
+        .willReturn("http://uploaded-thumbnail.url");
+    given(s3ImageStorage.keyOf("http://uploaded-thumbnail.url")).willReturn("bookThumbnail/abc_20250711.jpeg");
+    given(bookRepository.save(any(Book.class))).willReturn(book);
+    runInTransaction();
+
+    // when
+    bookService.registerBook(request);
+
+    // then: 서버는 파일을 받지 않고 업로드 여부만 확인
+    ArgumentCaptor<Book> saved = ArgumentCaptor.forClass(Book.class);
+    verify(bookRepository).save(saved.capture());
+    assertThat(saved.getValue().getThumbnailUrl()).isEqualTo("http://uploaded-thumbnail.url");
+    verify(s3ImageStorage, never()).uploadImage(any(MultipartFile.class), anyString());
+    verify(bookThumbnailPipeline).submit(book.getId(), "http://uploaded-thumbnail.url");
+  }
+
+  @Test
+  @DisplayName("삭제 대기 중인 썸네일(같은 내용 해시 키)로 도서를 저장하면 같은 트랜잭션에서 삭제를 취소")
+  void registerBook_cancelsPendingThumbnailDeletion() {
+    // given: 삭제된 도서와 같은 이미지를 올려 PUT 없이 기존 키를 재사용
+    MockMultipartFile thumbnail = new MockMultipartFile("thumbnail", "same.png", "image/png", "same data".getBytes());
+    String url = "https://bucket.s3.ap-northeast-2.amazonaws.com/bookThumbnail/abc.png";
+    given(s3ImageStorage.uploadImage(any(MultipartFile.class), anyString())).willReturn(url);
+    given(s3ImageStorage.keyOf(url)).willReturn("bookThumbnail/abc.png");
+    given(bookRepository.save(any(Book.class))).willReturn(book);
+    given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+      // 취소는 도서 저장 트랜잭션 안에서 실행
+      verify(storageDeletionQueue, never()).cancel(any());
+      TransactionCallback<?> callback = invocation.getArgument(0);
+      return callback.doInTransaction(null);
+    });
+
+    // when
+    bookService.registerBook(createRequest, thumbnail);
+
+    // then
+    verify(storageDeletionQueue, times(1)).cancel(List.of(
+        "bookThumbnail/abc.png",
+        "bookThumbnail/abc_w96.jpg",
+        "bookThumbnail/abc_w240.jpg",
+        "bookThumbnail/abc_w480.jpg"));
+    verify(bookRepository, times(1)).save(any(Book.class));
+  }
+
+  @Test
+  @DisplayName("업로드와 도서 저장 사이에 삭제 작업이 재사용 키를 지웠으면 저장 커밋 후 요청 파일로 다시 업로드")
+  void registerBook_restoresThumbnailDeletedBeforeSave() {
+    // given: 업로드는 기존 키를 재사용했지만, 삭제 작업이 먼저 행을 잠가 취소가 삭제 완료 후에 실행됨
+    MockMultipartFile thumbnail = new MockMultipartFile("thumbnail", "same.png", "image/png", "same data".getBytes());
+    String url = "https://bucket.s3.ap-northeast-2.amazonaws.com/bookThumbnail/abc.png";
+    given(s3ImageStorage.uploadImage(any(MultipartFile.class), anyString())).willReturn(url);
+    given(s3ImageStorage.keyOf(url)).willReturn("bookThumbnail/abc.png");
+    given(bookRepository.save(any(Book.class))).willReturn(book);
+    given(s3ImageStorage.restoreIfMissing(url, thumbnail)).willReturn(true);
+    given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+      TransactionCallback<?> callback = invocation.getArgument(0);
+      Object result = callback.doInTransaction(null);
+      // 커밋 전에는 존재 확인을 하지 않음 (커밋 전 확인은 이후 삭제를 막지 못함)
+      verify(s3ImageStorage, never()).restoreIfMissing(anyString(), any(MultipartFile.class));
+      return result;
+    });
+
+    // when
+    BookDto result = bookService.registerBook(createRequest, thumbnail);
+
+    // then: 업로드 → 삭제 취소·저장 → 커밋 후 확인/재업로드 순서
+    assertThat(result).isNotNull();
+    InOrder inOrder = inOrder(s3ImageStorage, storageDeletionQueue, bookRepository, bookThumbnailPipeline);
+    inOrder.verify(s3ImageStorage).uploadImage(thumbnail, "bookThumbnail/");
+    inOrder.verify(storageDeletionQueue).cancel(any());
+    inOrder.verify(bookRepository).save(any(Book.class));
+    inOrder.verify(s3ImageStorage).restoreIfMissing(url, thumbnail);
+    inOrder.verify(bookThumbnailPipeline).submit(book.getId(), url);
+  }
+
   @Test
   @DisplayName("도서 등록 성공 테스트 - 썸네일 이미지 없음,ISBN 없음")
   void registerBookWithoutThumbnailSuccess() throws IOException {
     // given: ISBN 중복 없음, bookRepository.save 호출 시 book 반환
     // given(bookRepository.existsByIsbn(anyString())).willReturn(false);
     given(bookRepository.save(any(Book.class))).willReturn(book);
+    runInTransaction();
 
     // when: 썸네일 이미지 없이 도서 등록
     BookDto result = bookService.registerBook(createRequest);
@@ -109,6 +225,7 @@ public class BookServiceTest {
 //    verify(bookRepository, times(1)).existsByIsbn(anyString()); // existsByIsbn 호출 확인
     verify(bookRepository, times(1)).save(any(Book.class)); // save 호출 확인
     verify(s3ImageStorage, never()).uploadImage(any(), anyString()); // uploadImage 호출 안됨 확인
+    verify(storageDeletionQueue, never()).cancel(any()); // 썸네일 없으므로 취소할 삭제 요청 없음
   }
 
   @Test
@@ -121,6 +238,8 @@ public class BookServiceTest {
         .willReturn("http://new-thumbnail.url");
     given(bookRepository.save(any(Book.class)))
         .willAnswer(invocation -> invocation.getArgument(0)); // 핵심
+    givenExternalThumbnailUrl("http://new-thumbnail.url");
+    runInTransaction();
 
     // when
     BookDto result = bookService.registerBook(createRequest, thumbnail);
@@ -143,104 +262,157 @@ public class BookServiceTest {
     verify(bookRepository, never()).save(any(Book.class)); // save 호출 안됨 확인
   }
 
-  @Test
-  @DisplayName("모든 도서 조회 성공 테스트")
-  void getAllBooksSuccess() {
-    // given: 삭제되지 않은 도서 목록 반환
-    List<Book> books = Arrays.asList(book, new Book("도서2", "", "", "", LocalDate.now()));
-    given(bookRepository.findAll()).willReturn(books);
-
-    // when: 모든 도서 조회
-    List<BookDto> result = bookService.getAllBooks();
-
-    // then: 결과 검증
-    assertThat(result).hasSize(2);
-    assertThat(result.get(0).title()).isEqualTo(book.getTitle());
-    verify(bookRepository, times(1)).findAll();
-  }
-
   @Test
   @DisplayName("정렬 옵션별 도서 목록 조회 성공 테스트 - 모든 분기 커버")
   void getAllSorted_AllSortOptions_Success() {
     // given
-    List<Book> books = Arrays.asList(
-        new Book("가나다", "", "", "", LocalDate.now()),
-        new Book("마바사", "", "", "", LocalDate.now()),
-        new Book("추가책", "", "", "", LocalDate.now())
+    List<BookDto> books = Arrays.asList(
+        bookWithCreatedAt("가나다").toDto(),
+        bookWithCreatedAt("마바사").toDto(),
+        bookWithCreatedAt("추가책").toDto()
     );
 
     // 공통 Mock 설정
-    given(bookRepository.countByKeyword(anyString())).willReturn(3L);
-
-    // 각 정렬별 Mock 설정
-    given(bookRepository.findPageByTitleAsc(anyString(), any(), any(), any(Pageable.class))).willReturn(books);
-    given(bookRepository.findPageByTitleDesc(anyString(), any(), any(), any(Pageable.class))).willReturn(books);
-    given(bookRepository.findPageByReviewCountAsc(anyString(), any(), any(), any(Pageable.class))).willReturn(books);
-    given(bookRepository.findPageByReviewCountDesc(anyString(), any(), any(), any(Pageable.class))).willReturn(books);
-    given(bookRepository.findPageByRatingAsc(anyString(), any(), any(), any(Pageable.class))).willReturn(books);
-    given(bookRepository.findPageByRatingDesc(anyString(), any(), any(), any(Pageable.class))).willReturn(books);
-    given(bookRepository.findPageByPublishedDateAsc(anyString(), any(), any(), any(Pageable.class))).willReturn(books);
-    given(bookRepository.findPageByPublishedDateDesc(anyString(), any(), any(), any(Pageable.class))).willReturn(books);
-    given(bookRepository.findBooksByKeywordAndAfterAsc(anyString(), any(), any(Pageable.class))).willReturn(books);
-    given(bookRepository.findBooksByKeywordAndAfter(anyString(), any(), any(Pageable.class))).willReturn(books);
+    given(bookCountService.count(any())).willReturn(3L);
+    given(bookRepository.findBooksWithCursor(any(BookSearchCondition.class))).willReturn(books);
 
     // when
-    BookPageResponse<BookDto> resultReviewAsc = bookService.getAllSorted("", "reviewCount", "ASC", null, null, 2);
-    BookPageResponse<BookDto> resultReviewDesc = bookService.getAllSorted("", "reviewCount", "DESC", null, null, 2);
-    BookPageResponse<BookDto> resultRatingAsc = bookService.getAllSorted("", "rating", "ASC", null, null, 2);
-    BookPageResponse<BookDto> resultRatingDesc = bookService.getAllSorted("", "rating", "DESC", null, null, 2);
-    BookPageResponse<BookDto> resultPubDateAsc = bookService.getAllSorted("", "publishedDate", "ASC", null, null, 2);
-    BookPageResponse<BookDto> resultPubDateDesc = bookService.getAllSorted("", "publishedDate", "DESC", null, null, 2);
-    BookPageResponse<BookDto> resultTitleAsc = bookService.getAllSorted("", "title", "ASC", null, null, 2);
-    BookPageResponse<BookDto> resultTitleDesc = bookService.getAllSorted("", "title", "DESC", null, null, 2);
-    BookPageResponse<BookDto> resultDefaultAsc = bookService.getAllSorted("", "", "ASC", null, null, 2);
-    BookPageResponse<BookDto> resultDefaultDesc = bookService.getAllSorted("", "", "DESC", null, null, 2);
+    bookService.getAllSorted("", "reviewCount", "ASC", null, null, 2, true, ListView.FULL);
+    bookService.getAllSorted("", "reviewCount", "DESC", null, null, 2, true, ListView.FULL);
+    bookService.getAllSorted("", "rating", "ASC", null, null, 2, true, ListView.FULL);
+    bookService.getAllSorted("", "rating", "DESC", null, null, 2, true, ListView.FULL);
+    bookService.getAllSorted("", "publishedDate", "ASC", null, null, 2, true, ListView.FULL);
+    bookService.getAllSorted("", "publishedDate", "DESC", null, null, 2, true, ListView.FULL);
+    BookPageResponse<BookDto> resultTitleAsc = bookService.getAllSorted("", "title", "ASC", null, null, 2, true, ListView.FULL);
+    bookService.getAllSorted("", "title", "DESC", null, null, 2, true, ListView.FULL);
+    bookService.getAllSorted("", "", "ASC", null, null, 2, true, ListView.FULL);
+    bookService.getAllSorted("", "", "DESC", null, null, 2, true, ListView.FULL);
 
     // then: 공통 검증
     assertThat(resultTitleAsc.content()).hasSize(2);
     assertThat(resultTitleAsc.content().get(0).title()).isEqualTo("가나다");
-    assertThat(resultTitleAsc.nextCursor()).isEqualTo("마바사");
+    assertThat(resultTitleAsc.hasNext()).isTrue();
     assertThat(resultTitleAsc.totalElements()).isEqualTo(3L);
 
-    // then: 분기별 메서드 호출 검증
-    verify(bookRepository, times(1)).findPageByReviewCountAsc(anyString(), any(), any(), any(Pageable.class));
-    verify(bookRepository, times(1)).findPageByReviewCountDesc(anyString(), any(), any(), any(Pageable.class));
-    verify(bookRepository, times(1)).findPageByRatingAsc(anyString(), any(), any(), any(Pageable.class));
-    verify(bookRepository, times(1)).findPageByRatingDesc(anyString(), any(), any(), any(Pageable.class));
-    verify(bookRepository, times(1)).findPageByPublishedDateAsc(anyString(), any(), any(), any(Pageable.class));
-    verify(bookRepository, times(1)).findPageByPublishedDateDesc(anyString(), any(), any(), any(Pageable.class));
-    verify(bookRepository, times(1)).findPageByTitleAsc(anyString(), any(), any(), any(Pageable.class));
-    verify(bookRepository, times(1)).findPageByTitleDesc(anyString(), any(), any(), any(Pageable.class));
-    verify(bookRepository, times(1)).findBooksByKeywordAndAfterAsc(anyString(), any(), any(Pageable.class));
-    verify(bookRepository, times(1)).findBooksByKeywordAndAfter(anyString(), any(), any(Pageable.class));
+    // 다음 커서는 마지막 도서의 (정렬 키, createdAt, id)를 담은 불투명 문자열
+    BookCursor nextCursor = BookCursor.decode(resultTitleAsc.nextCursor(), BookSortField.TITLE);
+    assertThat(nextCursor.sortValue()).isEqualTo("마바사");
+    assertThat(nextCursor.createdAt()).isEqualTo(books.get(1).createdAt());
+    assertThat(nextCursor.id()).isEqualTo(books.get(1).id());
+    assertThat(resultTitleAsc.nextAfter()).isEqualTo(books.get(1).createdAt());
+
+    // then: 정렬 기준/방향이 단일 조회 엔진 조건으로 전달되는지 검증
+    ArgumentCaptor<BookSearchCondition> captor = ArgumentCaptor.forClass(BookSearchCondition.class);
+    verify(bookRepository, times(10)).findBooksWithCursor(captor.capture());
+    assertThat(captor.getAllValues())
+        .extracting(BookSearchCondition::sortField, BookSearchCondition::ascending)
+        .containsExactly(
+            tuple(BookSortField.REVIEW_COUNT, true), tuple(BookSortField.REVIEW_COUNT, false),
+            tuple(BookSortField.RATING, true), tuple(BookSortField.RATING, false),
+            tuple(BookSortField.PUBLISHED_DATE, true), tuple(BookSortField.PUBLISHED_DATE, false),
+            tuple(BookSortField.TITLE, true), tuple(BookSortField.TITLE, false),
+            tuple(BookSortField.CREATED_AT, true), tuple(BookSortField.CREATED_AT, false)
+        );
+    assertThat(captor.getAllValues()).allSatisfy(condition -> {
+      assertThat(condition.searchPattern()).isNull();
+      assertThat(condition.cursor()).isNull();
+      assertThat(condition.limit()).isEqualTo(2);
+    });
+  }
+
+  @Test
+  @DisplayName("도서 목록 조회 - 전달받은 커서를 디코딩해 다음 페이지 조건으로 사용")
+  void getAllSorted_WithCursor_DecodesCursor() {
+    // given
+    Book last = bookWithCreatedAt("마바사");
+    String cursor = BookCursor.of(last.toDto(), BookSortField.TITLE).encode();
+    given(bookRepository.findBooksWithCursor(any(BookSearchCondition.class))).willReturn(List.of());
+
+    // when
+    bookService.getAllSorted(null, "title", "DESC", cursor, null, 10, false, ListView.FULL);
+
+    // then
+    ArgumentCaptor<BookSearchCondition> captor = ArgumentCaptor.forClass(BookSearchCondition.class);
+    verify(bookRepository).findBooksWithCursor(captor.capture());
+    assertThat(captor.getValue().cursor())
+        .isEqualTo(new BookCursor("마바사", last.getCreatedAt(), last.getId()));
+  }
+
+  @Test
+  @DisplayName("도서 목록 조회 - 커서 형식이 잘못되면 INVALID_CURSOR 예외")
+  void getAllSorted_InvalidCursor_ThrowsException() {
+    String titleCursor = BookCursor.of(bookWithCreatedAt("가나다").toDto(), BookSortField.TITLE).encode();
+
+    assertThrows(InvalidBookCursorException.class,
+        () -> bookService.getAllSorted(null, "title", "DESC", "not-a-cursor", null, 10, true, ListView.FULL));
+    // 제목 커서를 평점 정렬에 사용하는 경우
+    assertThrows(InvalidBookCursorException.class,
+        () -> bookService.getAllSorted(null, "rating", "DESC", titleCursor, null, 10, true, ListView.FULL));
+    verify(bookRepository, never()).findBooksWithCursor(any());
+  }
+
+  @Test
+  @DisplayName("도서 목록 키워드 검색 - 검색어를 search_text 부분일치 패턴으로 변환해 조회")
+  void getAllSorted_WithKeyword_UsesSearchPattern() {
+    // given
+    given(bookCountService.count("%심리학%")).willReturn(1L);
+    given(bookRepository.findBooksWithCursor(any(BookSearchCondition.class))).willReturn(List.of(book.toDto()));
+
+    // when
+    BookPageResponse<BookDto> result = bookService.getAllSorted(" 심리학 ", "title", "DESC", null, null, 10, true, ListView.FULL);
+
+    // then
+    assertThat(result.content()).hasSize(1);
+    assertThat(result.totalElements()).isEqualTo(1L);
+    ArgumentCaptor<BookSearchCondition> captor = ArgumentCaptor.forClass(BookSearchCondition.class);
+    verify(bookRepository).findBooksWithCursor(captor.capture());
+    assertThat(captor.getValue().searchPattern()).isEqualTo("%심리학%");
+  }
+
+  @Test
+  @DisplayName("도서 목록 조회 - includeTotal=false면 COUNT 조회 생략")
+  void getAllSorted_WithoutTotal_SkipsCount() {
+    // given
+    given(bookRepository.findBooksWithCursor(any(BookSearchCondition.class))).willReturn(List.of(book.toDto()));
+
+    // when
+    BookPageResponse<BookDto> result = bookService.getAllSorted(null, "title", "DESC", null, null, 10, false, ListView.FULL);
+
+    // then
+    assertThat(result.totalElements()).isNull();
+    verify(bookCountService, never()).count(any());
   }
 
+  private Book bookWithCreatedAt(String title) {
+    Book target = new Book(UUID.randomUUID(), title, "", "", "", LocalDate.now());
+    ReflectionTestUtils.setField(target, "createdAt", Instant.now());
+    return target;
+  }
 
   @Test
   @DisplayName("단일 도서 조회 성공 테스트")
   void getBookByIdSuccess() {
     // given: bookId로 도서 조회 시 book 반환
 
-    given(bookRepository.findById(any(UUID.class))).willReturn(Optional.of(book));
+    given(bookCache.find(book.getId())).willReturn(Optional.of(book.toDto()));
 
     // when: 단일 도서 조회
     BookDto result = bookService.getBookbyId(book.getId());
 
-    // then: 결과 검증
+    // then: 결과 검증 (캐시를 통해 조회하므로 저장소를 직접 호출하지 않음)
     assertThat(result).isNotNull();
     assertThat(result.id()).isEqualTo(book.getId());
-    verify(bookRepository, times(1)).findById(any(UUID.class));
+    verify(bookRepository, never()).findById(any(UUID.class));
   }
 
   @Test
   @DisplayName("단일 도서 조회 실패 테스트 - 도서 없음")
   void getBookByIdFail_BookNotFound() {
     // given: bookId로 도서 조회 시 Optional.empty 반환
-    given(bookRepository.findById(any(UUID.class))).willReturn(Optional.empty());
+    given(bookCache.find(any(UUID.class))).willReturn(Optional.empty());
 
     // when & then: BookNotFoundException 발생 확인
     assertThrows(BookNotFoundException.class, () -> bookService.getBookbyId(UUID.randomUUID()));
-    verify(bookRepository, times(1)).findById(any(UUID.class));
   }
 
   @Test
@@ -250,7 +422,9 @@ public class BookServiceTest {
     MockMultipartFile thumbnail = new MockMultipartFile("thumbnail", "updated.jpg", "image/jpeg", "updated data".getBytes());
     given(bookRepository.findById(any(UUID.class))).willReturn(Optional.of(book));
     given(s3ImageStorage.uploadImage(any(MockMultipartFile.class), anyString())).willReturn("http://updated-thumbnail.url");
-    given(bookRepository.save(any(Book.class))).willReturn(book);
+    givenExternalThumbnailUrl("http://updated-thumbnail.url");
+    given(bookRepository.findByIdForUpdate(book.getId())).willReturn(Optional.of(book));
+    runInTransaction();
 
     // when: 썸네일 이미지와 함께 도서 정보 업데이트
     BookDto result = bookService.updateBook(book.getId(), updateRequest, thumbnail);
@@ -261,7 +435,10 @@ public class BookServiceTest {
     assertThat(result.thumbnailUrl()).isEqualTo("http://updated-thumbnail.url");
     verify(bookRepository, times(1)).findById(any(UUID.class));
     verify(s3ImageStorage, times(1)).uploadImage(any(MockMultipartFile.class), anyString());
-    verify(bookRepository, times(1)).save(any(Book.class));
+    verify(bookRepository, times(1)).findByIdForUpdate(book.getId());
+    verify(reviewRepository, times(1))
+        .updateBookInfo(book.getId(), updateRequest.title(), "http://updated-thumbnail.url");
+    verify(s3ImageStorage, times(1)).restoreIfMissing("http://updated-thumbnail.url", thumbnail);
   }
 
   @Test
@@ -269,7 +446,8 @@ public class BookServiceTest {
   void updateBookWithoutThumbnailSuccess() throws IOException {
     // given: bookId로 도서 조회 시 book 반환
     given(bookRepository.findById(any(UUID.class))).willReturn(Optional.of(book));
-    given(bookRepository.save(any(Book.class))).willReturn(book);
+    given(bookRepository.findByIdForUpdate(book.getId())).willReturn(Optional.of(book));
+    runInTransaction();
 
     // when: 썸네일 이미지 없이 도서 정보 업데이트
     BookDto result = bookService.updateBook(book.getId(), updateRequest, null);
@@ -280,7 +458,32 @@ public class BookServiceTest {
     assertThat(result.thumbnailUrl()).isEqualTo(book.getThumbnailUrl()); // 기존 썸네일 유지
     verify(bookRepository, times(1)).findById(any(UUID.class));
     verify(s3ImageStorage, never()).uploadImage(any(), anyString()); // uploadImage 호출 안됨 확인
-    verify(bookRepository, times(1)).save(any(Book.class));
+    verify(bookRepository, times(1)).findByIdForUpdate(book.getId());
+    verify(bookCache, times(1)).invalidate(book.getId());
+    verify(reviewRepository, times(1)).updateBookInfo(book.getId(), updateRequest.title(), book.getThumbnailUrl());
+  }
+
+  @Test
+  @DisplayName("제목과 썸네일이 그대로면 리뷰의 도서 정보를 갱신하지 않음")
+  void updateBookWithSameTitle_doesNotUpdateReviews() {
+    // given: 제목은 그대로 두고 나머지 정보만 수정
+    BookUpdateRequest sameTitleRequest = new BookUpdateRequest(
+        book.getTitle(),
+        "업데이트된 저자",
+        "업데이트된 설명",
+        "업데이트된 출판사",
+        LocalDate.of(2024, 1, 1)
+    );
+    given(bookRepository.findById(any(UUID.class))).willReturn(Optional.of(book));
+    given(bookRepository.findByIdForUpdate(book.getId())).willReturn(Optional.of(book));
+    runInTransaction();
+
+    // when
+    bookService.updateBook(book.getId(), sameTitleRequest, null);
+
+    // then
+    verify(bookRepository, times(1)).findByIdForUpdate(book.getId());
+    verify(reviewRepository, never()).updateBookInfo(any(), any(), any());
   }
 
   @Test
@@ -292,6 +495,35 @@ public class BookServiceTest {
     // when & then: BookNotFoundException 발생 확인
     assertThrows(BookNotFoundException.class, () -> bookService.updateBook(UUID.randomUUID(), updateRequest, null));
     verify(bookRepository, times(1)).findById(any(UUID.class));
+    verify(bookRepository, never()).findByIdForUpdate(any());
+    verify(reviewRepository, never()).updateBookInfo(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("업로드 중 리뷰 통계가 바뀌어도 수정 시 최신 값을 유지하고 수정한 필드만 반영")
+  void updateBook_keepsReviewStatsChangedDuringUpload() {
+    // given: 업로드 전에 읽은 도서(리뷰 0건)와, 업로드 중 리뷰가 달려 통계가 바뀐 최신 도서
+    MockMultipartFile thumbnail = new MockMultipartFile("thumbnail", "updated.jpg", "image/jpeg", "updated data".getBytes());
+    Book latest = new Book(book.getId(), book.getTitle(), book.getAuthor(), book.getDescription(),
+        book.getPublisher(), book.getPublishedDate());
+    latest.setReviewCount(3);
+    latest.setRating(4.0f);
+    given(bookRepository.findById(book.getId())).willReturn(Optional.of(book));
+    given(s3ImageStorage.uploadImage(any(MockMultipartFile.class), anyString())).willReturn("http://updated-thumbnail.url");
+    givenExternalThumbnailUrl("http://updated-thumbnail.url");
+    given(bookRepository.findByIdForUpdate(book.getId())).willReturn(Optional.of(latest));
+    runInTransaction();
+
+    // when
+    BookDto result = bookService.updateBook(book.getId(), updateRequest, thumbnail);
+
+    // then: 업로드 전에 읽은 엔티티는 저장(병합)하지 않음
+    assertThat(result.reviewCount()).isEqualTo(3);
+    assertThat(result.rating()).isEqualTo(4.0);
+    assertThat(result.title()).isEqualTo(updateRequest.title());
+    assertThat(latest.getTitle()).isEqualTo(updateRequest.title());
+    assertThat(latest.getThumbnailUrl()).isEqualTo("http://updated-thumbnail.url");
+    assertThat(book.getTitle()).isNotEqualTo(updateRequest.title());
     verify(bookRepository, never()).save(any(Book.class));
   }
 
@@ -309,6 +541,7 @@ public class BookServiceTest {
     assertThat(book.getIsDeleted()).isTrue();
     verify(bookRepository, times(1)).findById(any(UUID.class));
     verify(bookRepository, times(1)).save(any(Book.class));
+    verify(bookCache, times(1)).invalidate(book.getId());
   }
 
   @Test
@@ -327,18 +560,72 @@ public class BookServiceTest {
   @DisplayName("도서 물리 삭제 성공 테스트 - 썸네일 이미지 포함")
   void deleteBookHardWithThumbnailSuccess() {
     // given: bookId로 도서 조회 시 book 반환, 썸네일 URL 존재
-    book.setThumbnailUrl("http://updated-thumbnail.url");
+    book.setThumbnailUrl("https://bucket.s3.ap-northeast-2.amazonaws.com/bookThumbnail/abc.png");
     given(bookRepository.findById(any(UUID.class))).willReturn(Optional.of(book));
-    doNothing().when(s3ImageStorage).deleteImage(anyString());
+    given(s3ImageStorage.keyOf(book.getThumbnailUrl())).willReturn("bookThumbnail/abc.png");
     doNothing().when(bookRepository).deleteById(any(UUID.class));
 
     // when: 도서 물리 삭제
     bookService.deleteBookHard(book.getId());
 
-    // then: S3 이미지 삭제 및 도서 삭제 메서드 호출 확인
+    // then: S3는 바로 호출하지 않고 원본과 축소본 키를 삭제 대기열에 등록
     verify(bookRepository, times(1)).findById(any(UUID.class));
-    verify(s3ImageStorage, times(1)).deleteImage(anyString());
     verify(bookRepository, times(1)).deleteById(any(UUID.class));
+    verify(storageDeletionQueue, times(1)).enqueue(List.of(
+        "bookThumbnail/abc.png",
+        "bookThumbnail/abc_w96.jpg",
+        "bookThumbnail/abc_w240.jpg",
+        "bookThumbnail/abc_w480.jpg"));
+    verify(s3ImageStorage, never()).deleteImage(anyString());
+  }
+
+  @Test
+  @DisplayName("도서 물리 삭제 시 이 저장소의 URL이 아닌 썸네일은 삭제 대기열에 등록하지 않음")
+  void deleteBookHard_externalThumbnail_notEnqueued() {
+    // given: 외부 URL을 썸네일로 쓰는 도서
+    book.setThumbnailUrl("http://external-thumbnail.url");
+    given(bookRepository.findById(any(UUID.class))).willReturn(Optional.of(book));
+    given(s3ImageStorage.keyOf("http://external-thumbnail.url"))
+        .willThrow(new IllegalArgumentException("유효한 S3 공개 URL이 아닙니다."));
+
+    // when
+    bookService.deleteBookHard(book.getId());
+
+    // then
+    verify(bookRepository, times(1)).deleteById(any(UUID.class));
+    verify(storageDeletionQueue, never()).enqueue(any());
+  }
+
+  @Test
+  @DisplayName("썸네일을 교체하면 이전 썸네일을 삭제 대기열에 등록")
+  void updateBookWithThumbnail_enqueuesReplacedThumbnail() {
+    // given: 기존 썸네일이 있는 도서
+    book.setThumbnailUrl("https://bucket.s3.ap-northeast-2.amazonaws.com/bookThumbnail/old.png");
+    MockMultipartFile thumbnail = new MockMultipartFile("thumbnail", "new.jpg", "image/jpeg", "new data".getBytes());
+    given(bookRepository.findById(any(UUID.class))).willReturn(Optional.of(book));
+    given(s3ImageStorage.uploadImage(any(MockMultipartFile.class), anyString()))
+        .willReturn("https://bucket.s3.ap-northeast-2.amazonaws.com/bookThumbnail/new.jpg");
+    given(bookRepository.findByIdForUpdate(book.getId())).willReturn(Optional.of(book));
+    runInTransaction();
+    given(s3ImageStorage.keyOf("https://bucket.s3.ap-northeast-2.amazonaws.com/bookThumbnail/old.png"))
+        .willReturn("bookThumbnail/old.png");
+    given(s3ImageStorage.keyOf("https://bucket.s3.ap-northeast-2.amazonaws.com/bookThumbnail/new.jpg"))
+        .willReturn("bookThumbnail/new.jpg");
+
+    // when
+    bookService.updateBook(book.getId(), updateRequest, thumbnail);
+
+    // then
+    verify(storageDeletionQueue, times(1)).enqueue(List.of(
+        "bookThumbnail/old.png",
+        "bookThumbnail/old_w96.jpg",
+        "bookThumbnail/old_w240.jpg",
+        "bookThumbnail/old_w480.jpg"));
+    verify(storageDeletionQueue, times(1)).cancel(List.of(
+        "bookThumbnail/new.jpg",
+        "bookThumbnail/new_w96.jpg",
+        "bookThumbnail/new_w240.jpg",
+        "bookThumbnail/new_w480.jpg"));
   }
 
   @Test
@@ -352,9 +639,9 @@ public class BookServiceTest {
     // when: 도서 물리 삭제
     bookService.deleteBookHard(book.getId());
 
-    // then: S3 이미지 삭제 메서드 호출 안됨 및 도서 삭제 메서드 호출 확인
+    // then: 삭제 대기열 등록 안됨 및 도서 삭제 메서드 호출 확인
     verify(bookRepository, times(1)).findById(any(UUID.class));
-    verify(s3ImageStorage, never()).deleteImage(anyString()); // 썸네일 없으므로 호출 안됨
+    verify(storageDeletionQueue, never()).enqueue(any()); // 썸네일 없으므로 호출 안됨
     verify(bookRepository, times(1)).deleteById(any(UUID.class));
   }
 
@@ -369,4 +656,17 @@ public class BookServiceTest {
     verify(bookRepository, times(1)).findById(any(UUID.class));
     verify(bookRepository, never()).deleteById(any(UUID.class));
   }
+
+  // 이 저장소의 URL이 아닌 썸네일 (삭제 대기열 취소/등록 대상 아님)
+  private void givenExternalThumbnailUrl(String url) {
+    given(s3ImageStorage.keyOf(url)).willThrow(new IllegalArgumentException("유효한 S3 공개 URL이 아닙니다."));
+  }
+
+  // TransactionTemplate mock이 전달받은 작업을 그대로 실행하도록 설정
+  private void runInTransaction() {
+    given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+      TransactionCallback<?> callback = invocation.getArgument(0);
+      return callback.doInTransaction(null);
+    });
+  }
 }
@@ -0,0 +1,120 @@
+package com.twogether.deokhugam.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.twogether.deokhugam.storage.ImageObjectStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class BookThumbnailPipelineTest {
+
+    private static final String BASE_URL = "https://bucket.s3.amazonaws.com/";
+    private static final String ORIGINAL_KEY = "bookThumbnail/abc_20250711.png";
+    private static final String THUMBNAIL_URL = BASE_URL + ORIGINAL_KEY;
+
+    private final InMemoryImageStorage storage = new InMemoryImageStorage();
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final BookCache bookCache = mock(BookCache.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BookThumbnailPipeline pipeline =
+        new BookThumbnailPipeline(storage, jdbcTemplate, bookCache, meterRegistry, 1, 10);
+
+    @Test
+    @DisplayName("크기별 변환본을 올린 뒤 준비 완료로 표시")
+    void submit_uploadsVariantsAndMarksReady() throws Exception {
+        UUID bookId = UUID.randomUUID();
+        when(jdbcTemplate.update(anyString(), eq(bookId), eq(THUMBNAIL_URL))).thenReturn(1);
+
+        storage.put(ORIGINAL_KEY, png(1000, 1500), "image/png");
+
+        pipeline.submit(bookId, THUMBNAIL_URL);
+        pipeline.shutdown();
+
+        assertThat(storage.objects).containsOnlyKeys(
+            ORIGINAL_KEY,
+            "bookThumbnail/abc_20250711_w96.jpg",
+            "bookThumbnail/abc_20250711_w240.jpg",
+            "bookThumbnail/abc_20250711_w480.jpg");
+        verify(bookCache).invalidate(bookId);
+        assertThat(meterRegistry.get("thumbnail.pipeline.jobs").tag("result", "completed").counter().count())
+            .isEqualTo(1.0);
+        assertThat(meterRegistry.get("thumbnail.stage").tag("stage", "resize").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("thumbnail.stage").tag("stage", "upload").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("그 사이 썸네일이 바뀌었다면 준비 완료로 표시하지 않음")
+    void process_thumbnailChanged_stale() throws Exception {
+        UUID bookId = UUID.randomUUID();
+        when(jdbcTemplate.update(anyString(), eq(bookId), eq(THUMBNAIL_URL))).thenReturn(0);
+
+        storage.put(ORIGINAL_KEY, png(300, 400), "image/png");
+
+        pipeline.process(bookId, THUMBNAIL_URL);
+
+        verify(bookCache, never()).invalidate(bookId);
+        assertThat(meterRegistry.get("thumbnail.pipeline.jobs").tag("result", "stale").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 이미지는 변환본 없이 건너뜀")
+    void process_unsupportedImage_skipped() {
+        storage.put(ORIGINAL_KEY, "RIFF....WEBP".getBytes(StandardCharsets.US_ASCII), "image/webp");
+
+        pipeline.process(UUID.randomUUID(), THUMBNAIL_URL);
+
+        assertThat(storage.objects).containsOnlyKeys(ORIGINAL_KEY);
+        assertThat(meterRegistry.get("thumbnail.pipeline.jobs").tag("result", "unsupported").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+
+    private static class InMemoryImageStorage implements ImageObjectStorage {
+
+        private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+        @Override
+        public void put(String key, byte[] bytes, String contentType) {
+            objects.put(key, bytes);
+        }
+
+        @Override
+        public InputStream open(String key) {
+            return new ByteArrayInputStream(objects.get(key));
+        }
+
+        @Override
+        public String publicUrl(String key) {
+            return BASE_URL + key;
+        }
+
+        @Override
+        public String keyOf(String publicUrl) {
+            return publicUrl.substring(BASE_URL.length());
+        }
+    }
+}
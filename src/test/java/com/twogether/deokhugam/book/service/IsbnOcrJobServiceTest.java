@@ -0,0 +1,115 @@
+package com.twogether.deokhugam.book.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.twogether.deokhugam.apiclient.NaverBookClient;
+import com.twogether.deokhugam.book.dto.response.IsbnOcrJobResponse;
+import com.twogether.deokhugam.book.exception.NaverBookException;
+import com.twogether.deokhugam.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+class IsbnOcrJobServiceTest {
+
+    private static final String ISBN = "9791197693007";
+
+    private final NaverBookClient naverBookClient = mock(NaverBookClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IsbnOcrJobService service = new IsbnOcrJobService(
+        naverBookClient, meterRegistry, 1, 1, Duration.ofMinutes(10), 100, Duration.ofHours(1));
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("작업을 등록하면 바로 반환하고 완료 후 jobId로 ISBN 조회")
+    void submit_thenPoll_completed() throws Exception {
+        given(naverBookClient.extractIsbnFromImage(any(byte[].class), anyString(), anyString())).willReturn(ISBN);
+
+        IsbnOcrJobResponse submitted = service.submit(image("photo-1"));
+        service.extractIsbn(image("photo-1")).get(5, TimeUnit.SECONDS);
+
+        IsbnOcrJobResponse polled = service.getJob(submitted.jobId());
+        assertThat(polled.status()).isEqualTo("COMPLETED");
+        assertThat(polled.isbn()).isEqualTo(ISBN);
+    }
+
+    @Test
+    @DisplayName("같은 이미지는 캐시된 결과로 바로 응답하고 OCR은 한 번만 호출")
+    void submit_sameImage_answeredFromCache() throws Exception {
+        given(naverBookClient.extractIsbnFromImage(any(byte[].class), anyString(), anyString())).willReturn(ISBN);
+        service.extractIsbn(image("photo-1")).get(5, TimeUnit.SECONDS);
+
+        IsbnOcrJobResponse second = service.submit(image("photo-1"));
+
+        assertThat(second.status()).isEqualTo("COMPLETED");
+        assertThat(second.isbn()).isEqualTo(ISBN);
+        verify(naverBookClient, times(1)).extractIsbnFromImage(any(byte[].class), anyString(), anyString());
+        assertThat(meterRegistry.get("ocr.jobs").tag("result", "cache_hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("ISBN을 찾지 못한 작업은 실패 사유와 함께 FAILED")
+    void submit_isbnNotFound_failed() throws Exception {
+        given(naverBookClient.extractIsbnFromImage(any(byte[].class), anyString(), anyString()))
+            .willThrow(new NaverBookException(ErrorCode.NAVER_OCR_ISBN_NOT_FOUND));
+
+        IsbnOcrJobResponse submitted = service.submit(image("no-isbn"));
+        service.extractIsbn(image("no-isbn")).handle((isbn, e) -> isbn).get(5, TimeUnit.SECONDS);
+
+        IsbnOcrJobResponse polled = service.getJob(submitted.jobId());
+        assertThat(polled.status()).isEqualTo("FAILED");
+        assertThat(polled.errorCode()).isEqualTo(ErrorCode.NAVER_OCR_ISBN_NOT_FOUND.name());
+    }
+
+    @Test
+    @DisplayName("작업 스레드와 대기열이 모두 차면 429로 거절")
+    void submit_queueFull_rejected() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(naverBookClient.extractIsbnFromImage(any(byte[].class), anyString(), anyString())).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return ISBN;
+        });
+
+        service.submit(image("running"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        service.submit(image("queued"));
+
+        NaverBookException exception = assertThrows(NaverBookException.class, () -> service.submit(image("rejected")));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.OCR_QUEUE_FULL);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일과 없는 작업 조회는 예외")
+    void invalidRequests() {
+        MockMultipartFile text = new MockMultipartFile("image", "a.txt", "text/plain", "text".getBytes());
+
+        assertThat(assertThrows(NaverBookException.class, () -> service.submit(text)).getErrorCode())
+            .isEqualTo(ErrorCode.INVALID_IMAGE_FILE);
+        assertThat(assertThrows(NaverBookException.class, () -> service.getJob(UUID.randomUUID())).getErrorCode())
+            .isEqualTo(ErrorCode.OCR_JOB_NOT_FOUND);
+    }
+
+    private MockMultipartFile image(String content) {
+        return new MockMultipartFile("image", content + ".jpg", "image/jpeg", content.getBytes());
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -24,6 +25,7 @@ import com.twogether.deokhugam.comments.repository.CommentRepository;
 import com.twogether.deokhugam.notification.event.CommentCreatedEvent;
 import com.twogether.deokhugam.review.entity.Review;
 import com.twogether.deokhugam.review.repository.ReviewRepository;
+import com.twogether.deokhugam.review.service.ReviewCommentCountBuffer;
 import com.twogether.deokhugam.user.entity.User;
 import com.twogether.deokhugam.user.repository.UserRepository;
 import jakarta.validation.Validator;
@@ -56,6 +58,9 @@ class CommentServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ReviewCommentCountBuffer reviewCommentCountBuffer;
+
     private Validator validator;
 
     // 알림 이벤트
@@ -182,7 +187,7 @@ class CommentServiceTest {
         verify(reviewRepository, times(1)).findById(any());
         verify(userRepository, times(1)).findById(any());
         verify(commentRepository, times(1)).save(any(Comment.class));
-        verify(reviewRepository, times(1)).incrementCommentCount(mockReview.getId());
+        verify(reviewCommentCountBuffer, times(1)).record(reviewId, 1);
         verify(commentMapper, times(1)).toResponse(any(Comment.class));
         verify(eventPublisher).publishEvent(any(CommentCreatedEvent.class));
     }
@@ -339,7 +344,7 @@ class CommentServiceTest {
         commentService.deleteLogical(commentId, userId);
 
         // then
-        verify(reviewRepository).decrementCommentCount(reviewId);
+        verify(reviewCommentCountBuffer).record(reviewId, -1);
         verify(commentRepository).logicalDeleteById(commentId);
     }
 
@@ -415,7 +420,7 @@ class CommentServiceTest {
 
         commentService.deletePhysical(commentId, userId);
 
-        verify(reviewRepository).decrementCommentCount(reviewId);
+        verify(reviewCommentCountBuffer).record(reviewId, -1);
         verify(commentRepository).deleteById(commentId);
     }
 
@@ -437,7 +442,7 @@ class CommentServiceTest {
 
         commentService.deletePhysical(commentId, userId);
 
-        verify(reviewRepository, never()).decrementCommentCount(reviewId);
+        verify(reviewCommentCountBuffer, never()).record(any(), anyInt());
         verify(commentRepository).deleteById(commentId);
     }
 
@@ -0,0 +1,55 @@
+package com.twogether.deokhugam.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EntitySnapshotCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EntitySnapshotCache<String, String> cache =
+        new EntitySnapshotCache<>("test.by-id", 100, Duration.ofMinutes(1), meterRegistry);
+
+    @Test
+    @DisplayName("같은 id는 한 번만 조회하고 이후 캐시에서 반환")
+    void get_sameKey_loadsOnce() {
+        AtomicInteger calls = new AtomicInteger();
+
+        Optional<String> first = cache.get("a", key -> { calls.incrementAndGet(); return Optional.of("도서"); });
+        Optional<String> second = cache.get("a", key -> { calls.incrementAndGet(); return Optional.of("다른 값"); });
+
+        assertThat(first).contains("도서");
+        assertThat(second).contains("도서");
+        assertThat(calls).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 id는 캐시하지 않음")
+    void get_missingKey_notCached() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(cache.get("none", key -> { calls.incrementAndGet(); return Optional.empty(); })).isEmpty();
+        assertThat(cache.get("none", key -> { calls.incrementAndGet(); return Optional.of("생성됨"); }))
+            .contains("생성됨");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("무효화한 id만 다시 조회")
+    void invalidate_reloadsOnlyThatKey() {
+        cache.get("a", key -> Optional.of("a-1"));
+        cache.get("b", key -> Optional.of("b-1"));
+
+        cache.invalidate("a");
+
+        assertThat(cache.get("a", key -> Optional.of("a-2"))).contains("a-2");
+        assertThat(cache.get("b", key -> Optional.of("b-2"))).contains("b-1");
+    }
+}
@@ -0,0 +1,41 @@
+package com.twogether.deokhugam.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TotalCountCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TotalCountCache<String> cache =
+        new TotalCountCache<>("test.total-count", 100, Duration.ofMinutes(1), meterRegistry);
+
+    @Test
+    @DisplayName("같은 조건의 COUNT는 캐시에서 반환")
+    void get_sameKey_countsOnce() {
+        AtomicInteger calls = new AtomicInteger();
+
+        long first = cache.get("%자바%", key -> { calls.incrementAndGet(); return 42L; });
+        long second = cache.get("%자바%", key -> { calls.incrementAndGet(); return 0L; });
+
+        assertThat(first).isEqualTo(42L);
+        assertThat(second).isEqualTo(42L);
+        assertThat(calls).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 COUNT를 다시 조회")
+    void invalidateAll_recounts() {
+        cache.get("", key -> 10L);
+
+        cache.invalidateAll();
+
+        assertThat(cache.get("", key -> 11L)).isEqualTo(11L);
+    }
+}
@@ -0,0 +1,163 @@
+package com.twogether.deokhugam.common.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.twogether.deokhugam.book.entity.Book;
+import com.twogether.deokhugam.comments.dto.CommentResponse;
+import com.twogether.deokhugam.comments.entity.Comment;
+import com.twogether.deokhugam.comments.mapper.CommentMapper;
+import com.twogether.deokhugam.comments.repository.CommentRepository;
+import com.twogether.deokhugam.config.AppConfig;
+import com.twogether.deokhugam.config.QueryDslConfig;
+import com.twogether.deokhugam.notification.dto.NotificationDto;
+import com.twogether.deokhugam.notification.entity.Notification;
+import com.twogether.deokhugam.notification.mapper.NotificationMapper;
+import com.twogether.deokhugam.notification.repository.NotificationRepository;
+import com.twogether.deokhugam.review.dto.ReviewDto;
+import com.twogether.deokhugam.review.dto.request.ReviewSearchRequest;
+import com.twogether.deokhugam.review.entity.Review;
+import com.twogether.deokhugam.review.entity.ReviewLike;
+import com.twogether.deokhugam.review.mapper.ReviewMapper;
+import com.twogether.deokhugam.review.repository.ReviewLikeRepository;
+import com.twogether.deokhugam.review.repository.ReviewRepository;
+import com.twogether.deokhugam.user.entity.User;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 목록 한 페이지를 응답 DTO로 바꾸기까지 실행되는 SQL 수가 페이지 크기와 관계없이 일정한지 확인
+ * (연관 엔티티는 지연 로딩, 응답에 필요한 연관만 조회 쿼리에서 함께 읽음)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, AppConfig.class})
+class FetchPlanStatementCountTest {
+
+    private static final int ROWS = 10;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewLikeRepository reviewLikeRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    private Statistics statistics;
+    private Book book;
+    private User owner;
+    private Review ownerReview;
+    private final List<UUID> reviewIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        book = new Book("도서", "저자", "설명", "출판사", LocalDate.of(2024, 1, 1));
+        em.persist(book);
+        owner = new User("owner@test.com", "작성자", "password1!");
+        em.persist(owner);
+        ownerReview = new Review(book, owner, "내 리뷰", 5);
+        em.persist(ownerReview);
+
+        // 사용자마다 리뷰/좋아요/댓글 한 건, 작성자에게 알림 한 건
+        for (int i = 0; i < ROWS; i++) {
+            User user = new User("user" + i + "@test.com", "사용자" + i, "password1!");
+            em.persist(user);
+            Review review = new Review(book, user, "내용" + i, 3);
+            em.persist(review);
+            reviewIds.add(review.getId());
+            em.persist(new ReviewLike(review, owner, true));
+            em.persist(new Comment(user, ownerReview, "댓글" + i));
+            em.persist(Notification.of(owner, review, "알림" + i));
+        }
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @ParameterizedTest(name = "페이지 크기 {0}")
+    @ValueSource(ints = {2, ROWS})
+    @DisplayName("리뷰 목록은 도서/작성자를 읽지 않고 쿼리 한 번으로 DTO까지 만든다")
+    void reviewPage_singleStatement(int pageSize) {
+        ReviewMapper reviewMapper = new ReviewMapper(reviewRepository);
+        ReviewSearchRequest request = new ReviewSearchRequest(null, book.getId(), null, "createdAt", "DESC",
+            null, null, pageSize, owner.getId());
+
+        List<ReviewDto> page = reviewRepository.findReviewsWithCursor(request, PageRequest.of(0, pageSize))
+            .getContent().stream()
+            .map(review -> reviewMapper.toDto(review, false))
+            .toList();
+
+        assertThat(page).hasSize(pageSize).allSatisfy(dto -> assertThat(dto.bookTitle()).isEqualTo("도서"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest(name = "페이지 크기 {0}")
+    @ValueSource(ints = {2, ROWS})
+    @DisplayName("좋아요 목록은 리뷰/사용자를 함께 읽지 않는다")
+    void reviewLikes_singleStatement(int pageSize) {
+        List<ReviewLike> likes =
+            reviewLikeRepository.findByUserIdAndReviewIdIn(owner.getId(), reviewIds.subList(0, pageSize));
+
+        assertThat(likes).hasSize(pageSize).allMatch(ReviewLike::isLiked);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest(name = "페이지 크기 {0}")
+    @ValueSource(ints = {2, ROWS})
+    @DisplayName("댓글 목록은 작성자 닉네임까지 쿼리 한 번으로 읽는다")
+    void commentPage_singleStatement(int pageSize) {
+        CommentMapper commentMapper = Mappers.getMapper(CommentMapper.class);
+
+        List<CommentResponse> page = commentRepository.findSlice(ownerReview.getId(), null, null, pageSize, false)
+            .stream()
+            .map(commentMapper::toResponse)
+            .toList();
+
+        // findSlice는 다음 페이지 확인용으로 한 건 더(limit + 1) 읽지만, 댓글은 ROWS건뿐이라 그보다 많을 수 없음
+        assertThat(page).hasSize(Math.min(pageSize + 1, ROWS)).allSatisfy(c -> assertThat(c.userNickname()).startsWith("사용자"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest(name = "페이지 크기 {0}")
+    @ValueSource(ints = {2, ROWS})
+    @DisplayName("알림 목록은 리뷰의 도서 제목까지 쿼리 한 번으로 읽는다")
+    void notificationPage_singleStatement(int pageSize) {
+        NotificationMapper notificationMapper = new NotificationMapper();
+        PageRequest pageable = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+
+        List<NotificationDto> page = notificationRepository.findByUserIdWithoutAfter(owner.getId(), pageable)
+            .stream()
+            .map(notificationMapper::toDto)
+            .toList();
+
+        assertThat(page).hasSize(pageSize).allSatisfy(n -> assertThat(n.reviewTitle()).isEqualTo("도서"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
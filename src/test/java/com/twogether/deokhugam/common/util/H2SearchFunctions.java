@@ -0,0 +1,32 @@
+package com.twogether.deokhugam.common.util;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 테스트용 H2 사용자 정의 함수 (schema-test.sql의 CREATE ALIAS)
+ */
+public final class H2SearchFunctions {
+
+    private H2SearchFunctions() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * SCHEMA.sql의 search_short_grams와 같이 문자열의 모든 1글자/2글자 부분 문자열 집합을 반환한다.
+     */
+    public static String[] shortGrams(String text) {
+        if (text == null) {
+            return new String[0];
+        }
+        int[] codePoints = text.codePoints().toArray();
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 1));
+            if (i + 1 < codePoints.length) {
+                grams.add(new String(codePoints, i, 2));
+            }
+        }
+        return grams.toArray(String[]::new);
+    }
+}
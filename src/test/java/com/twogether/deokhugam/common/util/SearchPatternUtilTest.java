@@ -0,0 +1,41 @@
+package com.twogether.deokhugam.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SearchPatternUtilTest {
+
+    @Test
+    @DisplayName("검색어가 null 또는 blank이면 null 반환")
+    void toContainsPattern_nullOrBlank_returnNull() {
+        assertNull(SearchPatternUtil.toContainsPattern(null));
+        assertNull(SearchPatternUtil.toContainsPattern(""));
+        assertNull(SearchPatternUtil.toContainsPattern("   "));
+    }
+
+    @Test
+    @DisplayName("검색어는 trim 후 소문자로 정규화되어 부분일치 패턴으로 변환")
+    void toContainsPattern_normalizesKeyword() {
+        assertEquals("%clean code%", SearchPatternUtil.toContainsPattern("  Clean Code "));
+        assertEquals("%자바의 정석%", SearchPatternUtil.toContainsPattern("자바의 정석"));
+    }
+
+    @Test
+    @DisplayName("검색어의 와일드카드 문자는 이스케이프 처리")
+    void toContainsPattern_escapesWildcards() {
+        assertEquals("%100\\%\\_off\\\\%", SearchPatternUtil.toContainsPattern("100%_off\\"));
+    }
+
+    @Test
+    @DisplayName("trim/소문자 정규화 후 2글자 이하인 검색어만 짧은 검색어로 반환")
+    void toShortKeyword_onlyOneOrTwoCharacters() {
+        assertEquals("자", SearchPatternUtil.toShortKeyword(" 자 "));
+        assertEquals("ab", SearchPatternUtil.toShortKeyword("AB"));
+        assertNull(SearchPatternUtil.toShortKeyword("자바의"));
+        assertNull(SearchPatternUtil.toShortKeyword("   "));
+        assertNull(SearchPatternUtil.toShortKeyword(null));
+    }
+}
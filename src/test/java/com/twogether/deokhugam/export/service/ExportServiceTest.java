@@ -0,0 +1,120 @@
+package com.twogether.deokhugam.export.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.twogether.deokhugam.book.entity.Book;
+import com.twogether.deokhugam.export.dto.ExportFormat;
+import com.twogether.deokhugam.export.dto.ExportTarget;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ExportService.class, ExportServiceTest.Config.class})
+class ExportServiceTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        em.persist(new Book("자바의 정석", "남궁성", "설명", "도우출판", LocalDate.of(2016, 1, 27)));
+        em.persist(new Book("쉼표, \"따옴표\" 제목", "김작가", "여러 줄\n설명", "출판사", LocalDate.of(2024, 3, 1)));
+        Book deleted = new Book("삭제된 도서", "이작가", "설명", "출판사", LocalDate.of(2020, 1, 1));
+        deleted.setIsDeleted(true);
+        em.persist(deleted);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("NDJSON 내보내기는 삭제되지 않은 도서를 한 줄에 하나씩 쓴다")
+    void export_books_ndjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(ExportTarget.BOOKS, ExportFormat.NDJSON, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(2);
+
+        List<String> titles = lines.stream().map(this::readTree).map(node -> node.get("title").asText()).toList();
+        assertThat(titles).containsExactlyInAnyOrder("자바의 정석", "쉼표, \"따옴표\" 제목");
+
+        JsonNode first = readTree(lines.get(0));
+        assertThat(first.fieldNames()).toIterable().containsExactlyElementsOf(ExportTarget.BOOKS.getFields());
+        assertThat(first.get("publishedDate").isTextual()).isTrue();
+        assertThat(meterRegistry.get("export.rows").tag("target", "books").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기는 헤더를 쓰고 쉼표/따옴표/줄바꿈이 든 값을 감싼다")
+    void export_books_csv() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(ExportTarget.BOOKS, ExportFormat.CSV, out);
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith(String.join(",", ExportTarget.BOOKS.getFields()) + "\r\n");
+        assertThat(csv).contains(",\"쉼표, \"\"따옴표\"\" 제목\",");
+        assertThat(csv).contains(",\"여러 줄\n설명\",");
+        assertThat(csv).doesNotContain("삭제된 도서");
+    }
+
+    @Test
+    @DisplayName("비어 있는 랭킹 테이블도 형식에 맞게 내보낸다")
+    void export_emptyRanking() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(ExportTarget.POWER_USERS, ExportFormat.CSV, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8))
+            .isEqualTo(String.join(",", ExportTarget.POWER_USERS.getFields()) + "\r\n");
+    }
+
+    private JsonNode readTree(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.twogether.deokhugam.review.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.twogether.deokhugam.book.entity.Book;
+import com.twogether.deokhugam.config.AppConfig;
+import com.twogether.deokhugam.config.QueryDslConfig;
+import com.twogether.deokhugam.review.entity.Review;
+import com.twogether.deokhugam.user.entity.User;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 좋아요 토글(upsert)과 좋아요 수 복구 쿼리는 PostgreSQL 전용 문법이라 H2 대신 실제 PostgreSQL(운영 스키마)로 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+    "spring.sql.init.schema-locations=classpath:SCHEMA.sql",
+    "spring.jpa.hibernate.ddl-auto=none"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@Import({QueryDslConfig.class, AppConfig.class})
+class ReviewLikeRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ReviewLikeRepository reviewLikeRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    private Review review;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        Book book = new Book("도서", "저자", "설명", "출판사", LocalDate.of(2024, 1, 1));
+        em.persist(book);
+        User author = new User("author@test.com", "작성자", "password1!");
+        em.persist(author);
+        user = new User("liker@test.com", "좋아요", "password1!");
+        em.persist(user);
+        review = new Review(book, author, "내용", 4);
+        em.persist(review);
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("좋아요 → 취소 → 좋아요 토글마다 바뀐 상태를 반환하고, 행은 하나만 유지한 채 liked만 반전")
+    void toggleLike_likeUnlikeLike() {
+        boolean first = reviewLikeRepository.toggleLike(review.getId(), user.getId());
+        assertThat(first).isTrue();
+        assertThat(likedRows()).containsExactly(true);
+
+        boolean second = reviewLikeRepository.toggleLike(review.getId(), user.getId());
+        assertThat(second).isFalse();
+        assertThat(likedRows()).containsExactly(false);
+
+        boolean third = reviewLikeRepository.toggleLike(review.getId(), user.getId());
+        assertThat(third).isTrue();
+        assertThat(likedRows()).containsExactly(true);
+    }
+
+    @Test
+    @DisplayName("좋아요 수 복구는 어긋난 리뷰만 다시 계산하고, 반영 전 증감분 로그가 남은 리뷰는 건너뜀")
+    void recalculateAllLikeCounts_skipsReviewsWithPendingDeltas() {
+        reviewLikeRepository.toggleLike(review.getId(), user.getId());
+
+        // 반영 전 증감분이 남아 있으면 like_count(0)가 review_like(1)와 달라도 그대로 둠
+        jdbcTemplate.update("INSERT INTO review_like_count_delta (review_id, delta, created_at) VALUES (?, 1, now())",
+            review.getId());
+        assertThat(reviewRepository.recalculateAllLikeCounts()).isZero();
+        assertThat(likeCount()).isZero();
+
+        // 로그가 반영되어 사라진 뒤에는 어긋난 값만 바로잡음
+        jdbcTemplate.update("DELETE FROM review_like_count_delta WHERE review_id = ?", review.getId());
+        assertThat(reviewRepository.recalculateAllLikeCounts()).isEqualTo(1);
+        assertThat(likeCount()).isEqualTo(1);
+        assertThat(reviewRepository.recalculateAllLikeCounts()).isZero();
+    }
+
+    private List<Boolean> likedRows() {
+        return jdbcTemplate.queryForList("SELECT liked FROM review_like WHERE review_id = ? AND user_id = ?",
+            Boolean.class, review.getId(), user.getId());
+    }
+
+    private long likeCount() {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM reviews WHERE id = ?", Long.class, review.getId());
+    }
+}
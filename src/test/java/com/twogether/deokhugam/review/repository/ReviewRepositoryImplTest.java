@@ -0,0 +1,199 @@
+package com.twogether.deokhugam.review.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.twogether.deokhugam.book.entity.Book;
+import com.twogether.deokhugam.common.util.CursorCodec;
+import com.twogether.deokhugam.config.AppConfig;
+import com.twogether.deokhugam.config.QueryDslConfig;
+import com.twogether.deokhugam.review.dto.request.ReviewSearchRequest;
+import com.twogether.deokhugam.review.entity.Review;
+import com.twogether.deokhugam.review.exception.InvalidReviewCursorException;
+import com.twogether.deokhugam.review.repository.custom.ReviewCursor;
+import com.twogether.deokhugam.user.entity.User;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, AppConfig.class})
+class ReviewRepositoryImplTest {
+
+    private static final Instant SAME_CREATED_AT = Instant.parse("2025-07-01T00:00:00Z");
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Book book;
+
+    @BeforeEach
+    void setUp() {
+        book = new Book("도서", "저자", "설명", "출판사", LocalDate.of(2024, 1, 1));
+        em.persist(book);
+
+        // 평점/생성 시각이 모두 같은 리뷰 7건 + 다른 평점의 리뷰 2건 (사용자마다 한 건)
+        int[] ratings = {3, 3, 3, 3, 3, 3, 3, 5, 1};
+        for (int i = 0; i < ratings.length; i++) {
+            User user = new User("user" + i + "@test.com", "사용자" + i, "password1!");
+            em.persist(user);
+            em.persist(new Review(book, user, i == 7 ? "Great Book" : "내용" + i, ratings[i]));
+        }
+        em.flush();
+
+        em.createQuery("UPDATE Review r SET r.createdAt = :createdAt")
+            .setParameter("createdAt", SAME_CREATED_AT)
+            .executeUpdate();
+        em.clear();
+    }
+
+    @ParameterizedTest(name = "{0} {1} 정렬")
+    @CsvSource({
+        "createdAt, ASC", "createdAt, DESC",
+        "rating, ASC", "rating, DESC"
+    })
+    @DisplayName("정렬 키와 생성 시각이 같은 리뷰가 많아도 페이지를 넘기며 누락/중복 없이 모두 조회된다")
+    void findReviewsWithCursor_tiedRows_stablePaging(String orderBy, String direction) {
+        int limit = 2;
+        List<Review> collected = new ArrayList<>();
+        String cursor = null;
+
+        while (true) {
+            Slice<Review> page = reviewRepository.findReviewsWithCursor(
+                request(orderBy, direction, cursor, limit), PageRequest.of(0, limit));
+            collected.addAll(page.getContent());
+            if (!page.hasNext()) {
+                break;
+            }
+            Review last = page.getContent().get(page.getContent().size() - 1);
+            cursor = ReviewCursor.of(last.getRating(), last.getCreatedAt(), last.getId(), orderBy).encode();
+        }
+
+        List<UUID> ids = collected.stream().map(Review::getId).toList();
+        assertThat(ids).hasSize(9).doesNotHaveDuplicates();
+        assertThat(ids).containsExactlyInAnyOrderElementsOf(
+            reviewRepository.findAll().stream().map(Review::getId).toList());
+    }
+
+    @Test
+    @DisplayName("동점인 리뷰는 id 순서로 이어서 조회된다 (DB의 UUID 정렬 = 문자열 정렬)")
+    void findReviewsWithCursor_tiedRows_orderedById() {
+        Slice<Review> page = reviewRepository.findReviewsWithCursor(
+            request("rating", "ASC", null, 20), PageRequest.of(0, 20));
+
+        assertThat(page.getContent()).extracting(Review::getRating).containsExactly(1, 3, 3, 3, 3, 3, 3, 3, 5);
+        assertThat(page.getContent().stream().filter(r -> r.getRating() == 3).toList())
+            .isSortedAccordingTo(Comparator.comparing(r -> r.getId().toString()));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못되었거나 다른 정렬에서 만든 커서는 조건 없이 조회하지 않고 거절한다")
+    void findReviewsWithCursor_invalidCursor_rejected() {
+        String createdAtCursor = ReviewCursor.of(3, SAME_CREATED_AT, UUID.randomUUID(), "createdAt").encode();
+
+        assertThatThrownBy(() -> reviewRepository.findReviewsWithCursor(
+            request("rating", "DESC", "not-a-cursor", 2), PageRequest.of(0, 2)))
+            .isInstanceOf(InvalidReviewCursorException.class);
+        assertThatThrownBy(() -> reviewRepository.findReviewsWithCursor(
+            request("rating", "DESC", createdAtCursor, 2), PageRequest.of(0, 2)))
+            .isInstanceOf(InvalidReviewCursorException.class);
+        assertThatThrownBy(() -> reviewRepository.findReviewsWithCursor(
+            request("createdAt", "DESC", CursorCodec.encode("3", SAME_CREATED_AT.toString(), UUID.randomUUID().toString()), 2),
+            PageRequest.of(0, 2)))
+            .isInstanceOf(InvalidReviewCursorException.class);
+    }
+
+    @Test
+    @DisplayName("키워드는 도서 제목/작성자 닉네임/내용 중 하나에 대소문자 구분 없이 부분일치하면 찾는다")
+    void findReviewsWithCursor_keywordSearch() {
+        assertThat(search("내용1")).extracting(Review::getContent).containsExactly("내용1");
+        assertThat(search("사용자")).hasSize(9);
+        assertThat(search("도서")).hasSize(9);
+        assertThat(search("  great BOOK ")).extracting(Review::getContent).containsExactly("Great Book");
+        // 사용자가 입력한 와일드카드는 글자 그대로 검색
+        assertThat(search("%")).isEmpty();
+
+        ReviewSearchRequest keywordRequest = new ReviewSearchRequest(null, book.getId(), "내용", "createdAt", "DESC",
+            null, null, 20, UUID.randomUUID());
+        assertThat(reviewRepository.totalElementCount(keywordRequest)).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("트라이그램 인덱스를 쓸 수 없는 1~2글자 키워드도 n-gram 컬럼으로 같은 부분일치 결과를 찾는다")
+    void findReviewsWithCursor_shortKeywordSearch() {
+        assertThat(search("내")).hasSize(8);
+        assertThat(search("용1")).extracting(Review::getContent).containsExactly("내용1");
+        // 작성자 닉네임(사용자5)에 걸친 2글자
+        assertThat(search("자5")).extracting(Review::getContent).containsExactly("내용5");
+        assertThat(search(" G ")).extracting(Review::getContent).containsExactly("Great Book");
+        assertThat(search("없음")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("좋아요 증감분이 반영된 뒤 리뷰 내용을 수정해도 like_count를 덮어쓰지 않는다")
+    void updateReview_doesNotOverwriteLikeCountDelta() {
+        Review review = reviewRepository.findAll().get(0);
+
+        // 집계기 flush와 같은 증감 UPDATE
+        em.createNativeQuery("UPDATE reviews SET like_count = like_count + 3 WHERE id = :id")
+            .setParameter("id", review.getId())
+            .executeUpdate();
+        review.updateReview("수정된 내용", 4);
+        em.flush();
+        em.clear();
+
+        Review reloaded = em.find(Review.class, review.getId());
+        assertThat(reloaded.getContent()).isEqualTo("수정된 내용");
+        assertThat(reloaded.getLikeCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("댓글 수 증감분이 반영된 뒤 리뷰를 수정해도 comment_count를 덮어쓰지 않는다")
+    void updateReview_doesNotOverwriteCommentCountDelta() {
+        Review review = reviewRepository.findAll().get(0);
+
+        // 댓글 수 로그 flush와 같은 증감 UPDATE
+        em.createNativeQuery("UPDATE reviews SET comment_count = comment_count + 2 WHERE id = :id")
+            .setParameter("id", review.getId())
+            .executeUpdate();
+        review.updateReview("수정된 내용", 4);
+        em.flush();
+        em.clear();
+
+        Review reloaded = em.find(Review.class, review.getId());
+        assertThat(reloaded.getContent()).isEqualTo("수정된 내용");
+        assertThat(reloaded.getCommentCount()).isEqualTo(2L);
+    }
+
+    private List<Review> search(String keyword) {
+        ReviewSearchRequest request = new ReviewSearchRequest(null, null, keyword, "createdAt", "DESC", null, null,
+            20, UUID.randomUUID());
+        return reviewRepository.findReviewsWithCursor(request, PageRequest.of(0, 20)).getContent();
+    }
+
+    private ReviewSearchRequest request(String orderBy, String direction, String cursor, int limit) {
+        return new ReviewSearchRequest(null, book.getId(), null, orderBy, direction, cursor, null, limit,
+            UUID.randomUUID());
+    }
+}
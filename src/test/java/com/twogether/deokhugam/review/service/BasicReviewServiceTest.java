@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -18,10 +19,14 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.twogether.deokhugam.book.dto.BookDto;
 import com.twogether.deokhugam.book.entity.Book;
 import com.twogether.deokhugam.book.exception.BookNotFoundException;
 import com.twogether.deokhugam.book.repository.BookRepository;
+import com.twogether.deokhugam.book.service.BookCache;
 import com.twogether.deokhugam.common.dto.CursorPageResponseDto;
+import com.twogether.deokhugam.common.dto.ListView;
+import com.twogether.deokhugam.notification.event.ReviewLikedEvent;
 import com.twogether.deokhugam.review.dto.ReviewDto;
 import com.twogether.deokhugam.review.dto.ReviewLikeDto;
 import com.twogether.deokhugam.review.dto.request.ReviewCreateRequest;
@@ -32,17 +37,21 @@ import com.twogether.deokhugam.review.entity.ReviewLike;
 import com.twogether.deokhugam.review.exception.ReviewExistException;
 import com.twogether.deokhugam.review.exception.ReviewNotFoundException;
 import com.twogether.deokhugam.review.exception.ReviewNotOwnedException;
-import com.twogether.deokhugam.review.mapper.ReviewLikeMapper;
 import com.twogether.deokhugam.review.mapper.ReviewMapper;
 import com.twogether.deokhugam.review.repository.ReviewLikeRepository;
 import com.twogether.deokhugam.review.repository.ReviewRepository;
+import com.twogether.deokhugam.review.repository.custom.ReviewCursor;
 import com.twogether.deokhugam.review.service.util.ReviewCursorHelper;
+import com.twogether.deokhugam.user.dto.UserDto;
 import com.twogether.deokhugam.user.entity.User;
 import com.twogether.deokhugam.user.exception.UserNotFoundException;
 import com.twogether.deokhugam.user.repository.UserRepository;
+import com.twogether.deokhugam.user.service.UserCache;
 import jakarta.validation.Validator;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -81,10 +90,25 @@ public class BasicReviewServiceTest {
     private ReviewMapper reviewMapper;
 
     @Mock
-    private ReviewLikeMapper reviewLikeMapper;
+    private ReviewCursorHelper reviewCursorHelper;
 
     @Mock
-    private ReviewCursorHelper reviewCursorHelper;
+    private ReviewCountService reviewCountService;
+
+    @Mock
+    private ReviewLikeCountBuffer reviewLikeCountBuffer;
+
+    @Mock
+    private ReviewCommentCountBuffer reviewCommentCountBuffer;
+
+    @Mock
+    private ReviewLikeCache reviewLikeCache;
+
+    @Mock
+    private BookCache bookCache;
+
+    @Mock
+    private UserCache userCache;
 
     // 알림 이벤트
     @Mock
@@ -119,8 +143,8 @@ public class BasicReviewServiceTest {
         assertNotNull(basicReviewService);
         assertNotNull(eventPublisher);
 
-        // verify 검증을 위해 ReviewCursorHelper를 진짜 객체로 대체함 (내부에는 mock된 reviewLikeRepository 주입)
-        reviewCursorHelper = new ReviewCursorHelper(reviewLikeRepository);
+        // verify 검증을 위해 ReviewCursorHelper를 진짜 객체로 대체함 (내부에는 mock된 reviewLikeCache 주입)
+        reviewCursorHelper = new ReviewCursorHelper(reviewLikeCache);
         ReflectionTestUtils.setField(basicReviewService, "reviewCursorHelper", reviewCursorHelper);
 
         bookId = UUID.randomUUID();
@@ -244,8 +268,10 @@ public class BasicReviewServiceTest {
         Review review = new Review(mockBook, mockUser, "재밌는 책이다.", 4);
 
         when(reviewRepository.existsByUserIdAndBookIdAndIsDeletedFalse(userId, bookId)).thenReturn(false);
-        when(bookRepository.findById(bookId)).thenReturn(Optional.of(mockBook));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
+        when(bookCache.find(bookId)).thenReturn(Optional.of(testBook.toDto()));
+        when(userCache.find(userId)).thenReturn(Optional.of(new UserDto(userId, "test@test.com", "테스트", Instant.now())));
+        when(bookRepository.getReferenceById(bookId)).thenReturn(mockBook);
+        when(userRepository.getReferenceById(userId)).thenReturn(mockUser);
         when(reviewRepository.save(any(Review.class))).thenReturn(review);
         when(reviewLikeRepository.save(any(ReviewLike.class))).thenReturn(mockReviewLike);
         when(reviewMapper.toDto(any(Review.class), anyBoolean())).thenReturn(expectedDto);
@@ -257,8 +283,13 @@ public class BasicReviewServiceTest {
         assertEquals(expectedDto, result);
 
         verify(reviewRepository).save(any(Review.class));
-        verify(bookRepository).updateBookReviewStats(bookId);
-        verify(bookRepository).save(any(Book.class));
+        verify(bookRepository).applyReviewStatsDelta(bookId, 1, 4);
+        verify(bookRepository, never()).save(any(Book.class));
+        // 리뷰 수/평점이 바뀌므로 도서 단건 캐시 무효화
+        verify(bookCache).invalidate(bookId);
+        // 캐시 스냅샷을 사용하므로 도서/사용자 엔티티를 다시 조회하지 않음
+        verify(bookRepository, never()).findById(any());
+        verify(userRepository, never()).findById(any());
         verify(reviewLikeRepository).save(any(ReviewLike.class));
     }
 
@@ -280,7 +311,7 @@ public class BasicReviewServiceTest {
     @DisplayName("도서를 찾을 수 없는 경우 예외가 발생한다.")
     void book_notFound() {
         when(reviewRepository.existsByUserIdAndBookIdAndIsDeletedFalse(userId, bookId)).thenReturn(false);
-        when(bookRepository.findById(bookId)).thenReturn(Optional.empty());
+        when(bookCache.find(bookId)).thenReturn(Optional.empty());
 
         // when & then
         assertThrows(BookNotFoundException.class, () -> {
@@ -294,12 +325,10 @@ public class BasicReviewServiceTest {
     @Test
     @DisplayName("사용자를 찾을 수 없는 경우 예외가 발생한다.")
     void user_notFound() {
-        Book mockBook = mock(Book.class);
-
         when(reviewRepository.existsByUserIdAndBookIdAndIsDeletedFalse(userId, bookId)).thenReturn(false);
-        when(bookRepository.findById(bookId)).thenReturn(Optional.of(mockBook));
+        when(bookCache.find(bookId)).thenReturn(Optional.of(testBook.toDto()));
 
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userCache.find(userId)).thenReturn(Optional.empty());
 
         // when & then
         assertThrows(UserNotFoundException.class, () -> {
@@ -344,7 +373,7 @@ public class BasicReviewServiceTest {
 
             when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(testReview));
             when(reviewMapper.toDto(testReview, true)).thenReturn(expectedDto);
-            when(reviewLikeRepository.findByUserIdAndReviewId(userId, reviewId)).thenReturn(Optional.of(testReviewLike));
+            when(reviewLikeCache.isLiked(userId, reviewId)).thenReturn(true);
 
             // When
             ReviewDto result = basicReviewService.findById(reviewId, userId);
@@ -354,6 +383,29 @@ public class BasicReviewServiceTest {
             assertEquals(expectedDto, result);
         }
 
+        @Test
+        @DisplayName("아직 반영되지 않은 댓글 수 증감분이 있으면 상세 조회 결과에 더해져야 한다.")
+        void shouldIncludePendingCommentCount_whenFindById() {
+
+            // Given
+            ReviewDto storedDto = new ReviewDto(
+                    testReview.getId(), testBook.getId(), testBook.getTitle(), testBook.getThumbnailUrl(),
+                    testUser.getId(), testUser.getNickname(), testReview.getContent(), testReview.getRating(),
+                    0L, 3L, false, testReview.getCreatedAt(), testReview.getUpdatedAt()
+            );
+
+            when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(testReview));
+            when(reviewMapper.toDto(testReview, false)).thenReturn(storedDto);
+            when(reviewCommentCountBuffer.currentCount(reviewId)).thenReturn(Optional.of(4L));
+
+            // When
+            ReviewDto result = basicReviewService.findById(reviewId, userId);
+
+            // Then
+            assertEquals(4L, result.commentCount());
+            assertEquals(storedDto.withCommentCount(4L), result);
+        }
+
         @Test
         @DisplayName("리뷰 목록을 검색하면 조건에 맞는 목록이 조회되어야 한다.")
         void shouldReturnReviewList_whenGivenValidFilter(){
@@ -378,34 +430,14 @@ public class BasicReviewServiceTest {
             when(expectedReview1.getId()).thenReturn(reviewId1);
             when(expectedReview2.getId()).thenReturn(reviewId2);
 
-            // 리뷰 정보 동기화 용
-            User mockUser = mock(User.class);
-            when(mockUser.getNickname()).thenReturn("닉네임");
-            when(expectedReview1.getUser()).thenReturn(mockUser);
-            when(expectedReview2.getUser()).thenReturn(mockUser);
-
-            when(expectedReview1.getUserNickName()).thenReturn("닉네임");
-            when(expectedReview2.getUserNickName()).thenReturn("닉네임");
-
-            Book mockBook = mock(Book.class);
-            when(mockBook.getTitle()).thenReturn("책 제목");
-            when(mockBook.getThumbnailUrl()).thenReturn("http://thumbnail.url");
-            when(expectedReview1.getBook()).thenReturn(mockBook);
-            when(expectedReview2.getBook()).thenReturn(mockBook);
-
-            when(expectedReview1.getBookTitle()).thenReturn("책 제목");
-            when(expectedReview2.getBookTitle()).thenReturn("책 제목");
-            when(expectedReview1.getBookThumbnailUrl()).thenReturn("http://thumbnail.url");
-            when(expectedReview2.getBookThumbnailUrl()).thenReturn("http://thumbnail.url");
-
             Pageable pageable = PageRequest.of(0, 50);
             Slice<Review> mockSlice = new SliceImpl<>(expectedResult, pageable, false);
 
             when(reviewRepository.findReviewsWithCursor(request, pageable)).thenReturn(mockSlice);
-            when(reviewRepository.totalElementCount(request)).thenReturn(10L);
+            when(reviewCountService.count(request)).thenReturn(10L);
 
             // 좋아요 없음
-            when(reviewLikeRepository.findByUserIdAndReviewIdIn(request.requestUserId(), List.of(reviewId1, reviewId2))).thenReturn(List.of());
+            when(reviewLikeCache.likedAmong(request.requestUserId(), List.of(reviewId1, reviewId2))).thenReturn(Map.of());
 
             // List<ReviewDto> 생성 부분
             ReviewDto reviewDto1 = mock(ReviewDto.class);
@@ -428,13 +460,47 @@ public class BasicReviewServiceTest {
 
             // 호출 검증
             verify(reviewRepository).findReviewsWithCursor(request, pageable);
-            verify(reviewRepository).totalElementCount(request);
-            verify(reviewLikeRepository).findByUserIdAndReviewIdIn(request.requestUserId(), List.of(reviewId1, reviewId2));
+            verify(reviewCountService).count(request);
+            verify(reviewLikeCache).likedAmong(request.requestUserId(), List.of(reviewId1, reviewId2));
 
             verify(reviewMapper).toDto(expectedReview1, false);
             verify(reviewMapper).toDto(expectedReview2, false);
         }
 
+        @Test
+        @DisplayName("summary 목록 조회는 엔티티 대신 DTO로 조회하고 likedByMe만 채운다.")
+        void shouldReturnSummaryList_whenViewIsSummary(){
+            // Given
+            UUID requestUserId = UUID.randomUUID();
+            ReviewSearchRequest request = new ReviewSearchRequest(
+                    null, null, null, "rating", "DESC", null, null,
+                    1, requestUserId, false, ListView.SUMMARY
+            );
+            Pageable pageable = PageRequest.of(0, 1);
+
+            Instant createdAt = Instant.parse("2025-07-01T00:00:00Z");
+            ReviewDto summary = new ReviewDto(reviewId, bookId, "책 제목", null, userId, "닉네임",
+                    "앞부분", 4, 3, 1, false, createdAt, createdAt);
+            when(reviewRepository.findReviewSummariesWithCursor(request, pageable))
+                    .thenReturn(new SliceImpl<>(List.of(summary), pageable, true));
+
+            when(reviewLikeCache.likedAmong(requestUserId, List.of(reviewId))).thenReturn(Map.of(reviewId, true));
+
+            // When
+            CursorPageResponseDto<ReviewDto> responseDto = basicReviewService.findReviews(request);
+
+            // Then
+            assertAll(
+                    () -> assertEquals(summary.withLikedByMe(true), responseDto.content().get(0)),
+                    () -> assertEquals(new ReviewCursor(4, createdAt, reviewId),
+                            ReviewCursor.decode(responseDto.nextCursor(), "rating")),
+                    () -> assertEquals(createdAt.toString(), responseDto.nextAfter()),
+                    () -> assertNull(responseDto.totalElement())
+            );
+            verify(reviewRepository, never()).findReviewsWithCursor(any(), any());
+            verify(reviewMapper, never()).toDto(any(), anyBoolean());
+        }
+
         @Test
         @DisplayName("리뷰가 없다면 예외를 반환해야한다.")
         void shouldReturnException_whenReviewNotFound() {
@@ -463,12 +529,6 @@ public class BasicReviewServiceTest {
                 3
         );
 
-        ReviewLike reviewLike = new ReviewLike(
-                testReview,
-                testUser,
-                true
-        );
-
         // 기대하는 Dto
         ReviewDto expectedDto = new ReviewDto(
                 testReview.getId(),
@@ -486,13 +546,19 @@ public class BasicReviewServiceTest {
                 testReview.getUpdatedAt()
         );
 
+        Book mockBook = mock(Book.class);
+        UUID mockBookId = UUID.randomUUID();
+
         when(mockReview.getId()).thenReturn(reviewId1);
         when(mockReview.getUser()).thenReturn(mockUser);
         when(mockUser.getId()).thenReturn(requestUserId);
+        when(mockReview.getRating()).thenReturn(5);
+        when(mockReview.getBook()).thenReturn(mockBook);
+        when(mockBook.getId()).thenReturn(mockBookId);
 
         when(reviewRepository.findById(reviewId1)).thenReturn(Optional.of(mockReview));
 
-        when(reviewLikeRepository.findByUserIdAndReviewId(requestUserId, reviewId1)).thenReturn(Optional.of(reviewLike));
+        when(reviewLikeCache.isLiked(requestUserId, reviewId1)).thenReturn(true);
         when(reviewMapper.toDto(any(Review.class), anyBoolean())).thenReturn(expectedDto);
 
         // When
@@ -501,6 +567,8 @@ public class BasicReviewServiceTest {
         // Then
         verify(mockReview).updateReview("수정했습니다.", 3);
         verify(reviewRepository).save(mockReview);
+        // 5점 -> 3점: 리뷰 수 변화 없이 평점 합계만 -2
+        verify(bookRepository).applyReviewStatsDelta(mockBookId, 0, -2);
     }
 
     @Test
@@ -531,6 +599,7 @@ public class BasicReviewServiceTest {
         // Then - 수정 메서드가 진짜 호출 안 됐는지?
         verify(mockReview, never()).updateReview(anyString(), anyInt());
         verify(reviewRepository, never()).save(any());
+        verify(bookRepository, never()).applyReviewStatsDelta(any(), anyInt(), anyLong());
     }
 
     @Test
@@ -570,8 +639,6 @@ public class BasicReviewServiceTest {
         when(spyReview.getBook()).thenReturn(mockBook);
         when(mockBook.getId()).thenReturn(mockBookId);
 
-        when(bookRepository.findById(mockBookId)).thenReturn(Optional.of(mockBook));
-
         when(spyReview.getUser()).thenReturn(mockUser);
         when(mockUser.getId()).thenReturn(requestUserId);
 
@@ -580,9 +647,9 @@ public class BasicReviewServiceTest {
 
         // Then
         assertTrue(spyReview.isDeleted());
-        verify(bookRepository).updateBookReviewStats(mockBookId);
+        verify(bookRepository).applyReviewStatsDelta(mockBookId, -1, -5);
         verify(reviewRepository).save(spyReview);
-        verify(bookRepository).save(mockBook);
+        verify(bookRepository, never()).save(mockBook);
 
         // mock으로 만든 Review는 가짜 객체라서 내부 필드를 변경하지 않음
     }
@@ -604,17 +671,12 @@ public class BasicReviewServiceTest {
         when(mockReview.getUser()).thenReturn(mockUser);
         when(mockUser.getId()).thenReturn(mockUserId);
 
-        when(mockReview.getBook()).thenReturn(mockBook);
-        when(mockBook.getId()).thenReturn(mockBookId);
-
-        when(bookRepository.findById(mockBookId)).thenReturn(Optional.of(mockBook));
-
         assertThrows(ReviewNotOwnedException.class, () -> {
             basicReviewService.deleteReviewSoft(mockReviewId, requestUserId);
         });
 
         verify(mockReview, never()).updateIsDelete(true);
-        verify(bookRepository, never()).updateBookReviewStats(mockBookId);
+        verify(bookRepository, never()).applyReviewStatsDelta(any(), anyInt(), anyLong());
         verify(reviewRepository, never()).save(mockReview);
         verify(bookRepository, never()).save(mockBook);
     }
@@ -649,20 +711,44 @@ public class BasicReviewServiceTest {
         Review review = mock(Review.class);
         when(review.getBook()).thenReturn(mockBook);
         when(review.getUser()).thenReturn(mockUser);
+        when(review.getRating()).thenReturn(4);
 
         when(reviewRepository.findById(mockReviewId)).thenReturn(Optional.of(review));
-        when(bookRepository.findById(mockBookId)).thenReturn(Optional.of(mockBook));
 
         // When
         basicReviewService.deleteReviewHard(mockReviewId, requestUserId);
 
         // Then
-        verify(bookRepository).updateBookReviewStats(mockBookId);
+        verify(bookRepository).applyReviewStatsDelta(mockBookId, -1, -4);
         verify(reviewRepository).delete(review);
-        verify(bookRepository).save(mockBook);
+        verify(bookRepository, never()).save(mockBook);
 
     }
 
+    @Test
+    @DisplayName("논리 삭제된 리뷰를 물리 삭제하면 도서 통계를 다시 차감하지 않는다.")
+    void shouldNotApplyStatsDelta_whenHardDeletingSoftDeletedReview(){
+        // Given
+        UUID mockReviewId = UUID.randomUUID();
+        UUID requestUserId = UUID.randomUUID();
+
+        User mockUser = mock(User.class);
+        when(mockUser.getId()).thenReturn(requestUserId);
+
+        Review review = mock(Review.class);
+        when(review.getUser()).thenReturn(mockUser);
+        when(review.isDeleted()).thenReturn(true);
+
+        when(reviewRepository.findById(mockReviewId)).thenReturn(Optional.of(review));
+
+        // When
+        basicReviewService.deleteReviewHard(mockReviewId, requestUserId);
+
+        // Then
+        verify(reviewRepository).delete(review);
+        verify(bookRepository, never()).applyReviewStatsDelta(any(), anyInt(), anyLong());
+    }
+
     @Test
     @DisplayName("작성자가 아닌 사람은 리뷰를 물리 삭제 할 수 없다.")
     void cannotHardDelete_whenUserIsNotAuthor() {
@@ -676,20 +762,17 @@ public class BasicReviewServiceTest {
         when(mockUser.getId()).thenReturn(mockUserId);
 
         Book mockBook = mock(Book.class);
-        when(mockBook.getId()).thenReturn(mockBookId);
 
         Review mockReview = mock(Review.class);
         when(mockReview.getUser()).thenReturn(mockUser);
-        when(mockReview.getBook()).thenReturn(mockBook);
 
         when(reviewRepository.findById(mockReviewId)).thenReturn(Optional.of(mockReview));
-        when(bookRepository.findById(mockBookId)).thenReturn(Optional.of(mockBook));
 
         assertThrows(ReviewNotOwnedException.class, () -> {
             basicReviewService.deleteReviewHard(mockReviewId, requestUserId);
         });
 
-        verify(bookRepository, never()).updateBookReviewStats(mockBookId);
+        verify(bookRepository, never()).applyReviewStatsDelta(any(), anyInt(), anyLong());
         verify(reviewRepository, never()).delete(mockReview);
         verify(bookRepository, never()).save(mockBook);
     }
@@ -716,268 +799,77 @@ public class BasicReviewServiceTest {
     @DisplayName("리뷰 좋아요를 취소할 수 있어야 한다.")
     void shouldUpdate_ReviewLike_Unlike(){
         // Given
-        testReview.updateLikeCount(3L);  // 초기 좋아요 개수
-
-        ReviewLike reviewLike = new ReviewLike(
-                testReview,
-                testUser,
-                true
-        );
-
-        ReviewLikeDto expectedDto = new ReviewLikeDto(
-                reviewId,
-                userId,
-                false
-        );
-
-        when(reviewLikeRepository.findByUserIdAndReviewId(userId, reviewId)).thenReturn(Optional.of(reviewLike));
         when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(testReview));
-        when(reviewLikeMapper.toDto(reviewLike)).thenReturn(expectedDto);
+        when(userCache.find(userId)).thenReturn(Optional.of(new UserDto(userId, "test@test.com", "테스트", Instant.now())));
+        when(reviewLikeRepository.toggleLike(reviewId, userId)).thenReturn(false);
 
         // When
         ReviewLikeDto result = basicReviewService.reviewLike(reviewId, userId);
 
         // Then
-        assertEquals(false, result.liked());
-        assertEquals(2L, testReview.getLikeCount());
-        verify(reviewLikeRepository).save(reviewLike);
-        verify(reviewRepository).save(testReview);
+        assertEquals(new ReviewLikeDto(reviewId, userId, false), result);
+        verify(reviewLikeCountBuffer).record(reviewId, -1);
+        verify(reviewLikeCache).onToggle(userId);
+        verify(reviewRepository, never()).save(any(Review.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
     @DisplayName("리뷰 좋아요를 추가할 수 있어야 한다.")
     void shouldUpdate_ReviewLike_like(){
         // Given
-        testReview.updateLikeCount(3L);
-
-        ReviewLike reviewLike = new ReviewLike(
-                testReview,
-                testUser,
-                false
-        );
-
-        ReviewLikeDto expectedDto = new ReviewLikeDto(
-                reviewId,
-                userId,
-                true
-        );
-
-        when(reviewLikeRepository.findByUserIdAndReviewId(userId, reviewId)).thenReturn(Optional.of(reviewLike));
         when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(testReview));
-        when(reviewLikeMapper.toDto(reviewLike)).thenReturn(expectedDto);
+        when(userCache.find(userId)).thenReturn(Optional.of(new UserDto(userId, "test@test.com", "테스트", Instant.now())));
+        when(reviewLikeRepository.toggleLike(reviewId, userId)).thenReturn(true);
+        when(userRepository.getReferenceById(userId)).thenReturn(testUser);
 
         // When
         ReviewLikeDto result = basicReviewService.reviewLike(reviewId, userId);
 
         // Then
-        assertEquals(true, result.liked());
-        assertEquals(4L, testReview.getLikeCount());
-        verify(reviewLikeRepository).save(reviewLike);
-        verify(reviewRepository).save(testReview);
+        assertEquals(new ReviewLikeDto(reviewId, userId, true), result);
+        verify(reviewLikeCountBuffer).record(reviewId, 1);
+        verify(reviewLikeCache).onToggle(userId);
+        verify(reviewRepository, never()).save(any(Review.class));
+        verify(eventPublisher).publishEvent(any(ReviewLikedEvent.class));
     }
 
     @Test
-    @DisplayName("리뷰에 좋아요 정보가 없는 경우 생성되어야 한다.")
-    void shouldCreate_ReviewLike_whenIsEmpty(){
-        testReview.updateLikeCount(3L);
-
-        when(reviewLikeRepository.findByUserIdAndReviewId(userId, reviewId)).thenReturn(Optional.empty());
+    @DisplayName("존재하지 않는 사용자는 좋아요를 누를 수 없다.")
+    void shouldThrow_ReviewLike_whenUserNotFound(){
         when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(testReview));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+        when(userCache.find(userId)).thenReturn(Optional.empty());
 
-        ReviewLike reviewLike = new ReviewLike(
-                testReview,
-                testUser,
-                true
-        );
-
-        ReviewLikeDto expectedDto = new ReviewLikeDto(
-                reviewId,
-                userId,
-                true
-        );
-
-        when(reviewLikeMapper.toDto(any(ReviewLike.class))).thenReturn(expectedDto);
-
-        ReviewLikeDto result = basicReviewService.reviewLike(reviewId, userId);
-
-        // Then
-        assertEquals(true, result.liked());
-        assertEquals(4L, testReview.getLikeCount());
-        verify(reviewLikeRepository).save(any(ReviewLike.class));
-        verify(reviewRepository).save(any(Review.class));
-        verify(reviewLikeMapper).toDto(any(ReviewLike.class));
+        assertThrows(UserNotFoundException.class, () -> basicReviewService.reviewLike(reviewId, userId));
+        verify(reviewLikeRepository, never()).toggleLike(any(), any());
+        verify(reviewLikeCountBuffer, never()).record(any(), anyInt());
     }
 
     @Nested
-    @DisplayName("리뷰 서비스의 syncReview() 메서드 브랜치 테스트")
-    class SyncReviewBranchTest {
+    @DisplayName("리뷰 조회는 비정규화 필드를 갱신하지 않는 읽기 전용 조회")
+    class ReadOnlyReviewTest {
 
         @Test
-        @DisplayName("리뷰 조회 시 사용자 닉네임이 변경된 경우 동기화")
-        void findById_WhenUserNicknameChanged_ShouldSyncNickname() {
-            // when
-            String oldNickname = "oldNick";
-            String newNickname = "newNick";
-
-            // 기대하는 Dto
-            ReviewDto expectedDto = new ReviewDto(
-                    testReview.getId(),
-                    testBook.getId(),
-                    testBook.getTitle(),
-                    testBook.getThumbnailUrl(),
-                    testUser.getId(),
-                    testUser.getNickname(),
-                    testReview.getContent(),
-                    testReview.getRating(),
-                    testReview.getLikeCount(),
-                    testReview.getCommentCount(),
-                    true, // likedByMe
-                    testReview.getCreatedAt(),
-                    testReview.getUpdatedAt()
-            );
-
-            // Mock 객체들 생성
+        @DisplayName("리뷰 상세 조회 시 리뷰 엔티티를 수정하지 않고 도서/작성자도 읽지 않음")
+        void findById_ShouldNotModifyReview() {
+            // given
             Review mockReview = mock(Review.class);
-            User mockUser = mock(User.class);
-            Book mockBook = mock(Book.class);
-
-            // Mock 설정 (닉네임이 다른 경우)
-            when(mockReview.getUserNickName()).thenReturn(oldNickname);
-            when(mockReview.getUser()).thenReturn(mockUser);
-            when(mockUser.getNickname()).thenReturn(newNickname);
-
-            // 책 제목과 썸네일은 동일하게 설정 (다른 브랜치는 실행되지 않도록)
-            when(mockReview.getBookTitle()).thenReturn("sameTitle");
-            when(mockReview.getBook()).thenReturn(mockBook);
-            when(mockBook.getTitle()).thenReturn("sameTitle");
-            when(mockReview.getBookThumbnailUrl()).thenReturn("sameThumbnail");
-            when(mockBook.getThumbnailUrl()).thenReturn("sameThumbnail");
-
-            // Repository와 Mapper 설정
-            when(reviewRepository.findById(eq(reviewId))).thenReturn(Optional.of(mockReview));
-            when(reviewLikeRepository.findByUserIdAndReviewId(eq(userId), eq(reviewId)))
-                    .thenReturn(Optional.empty());
-            when(reviewMapper.toDto(any(Review.class), anyBoolean())).thenReturn(expectedDto);
-
-            // then
-            basicReviewService.findById(reviewId, userId);
-
-            // verify
-            verify(mockReview).updateReviewerNickName(eq(newNickname));
-            verify(mockReview, never()).updateBookTitle(any());
-            verify(mockReview, never()).updateBookThumbnail(any());
-        }
-
-        @Test
-        @DisplayName("리뷰 조회 시 책 제목이 변경된 경우 동기화")
-        void findById_WhenBookTitleChanged_ShouldSyncTitle() {
-            // when
-            String oldTitle = "Old Title";
-            String newTitle = "New Title";
+            ReviewDto expectedDto = mock(ReviewDto.class);
 
-            // 기대하는 Dto
-            ReviewDto expectedDto = new ReviewDto(
-                    testReview.getId(),
-                    testBook.getId(),
-                    testBook.getTitle(),
-                    testBook.getThumbnailUrl(),
-                    testUser.getId(),
-                    testUser.getNickname(),
-                    testReview.getContent(),
-                    testReview.getRating(),
-                    testReview.getLikeCount(),
-                    testReview.getCommentCount(),
-                    true, // likedByMe
-                    testReview.getCreatedAt(),
-                    testReview.getUpdatedAt()
-            );
-
-            // Mock 객체들 생성
-            Review mockReview = mock(Review.class);
-            User mockUser = mock(User.class);
-            Book mockBook = mock(Book.class);
-
-            // Mock 설정 (책 제목이 다른 경우)
-            when(mockReview.getBookTitle()).thenReturn(oldTitle);
-            when(mockReview.getBook()).thenReturn(mockBook);
-            when(mockBook.getTitle()).thenReturn(newTitle);
-
-            // 닉네임과 썸네일은 동일하게 설정
-            when(mockReview.getUserNickName()).thenReturn("sameNick");
-            when(mockReview.getUser()).thenReturn(mockUser);
-            when(mockUser.getNickname()).thenReturn("sameNick");
-            when(mockReview.getBookThumbnailUrl()).thenReturn("sameThumbnail");
-            when(mockBook.getThumbnailUrl()).thenReturn("sameThumbnail");
-
-            // Repository와 Mapper 설정
             when(reviewRepository.findById(eq(reviewId))).thenReturn(Optional.of(mockReview));
-            when(reviewLikeRepository.findByUserIdAndReviewId(eq(userId), eq(reviewId)))
-                    .thenReturn(Optional.empty());
-            when(reviewMapper.toDto(any(Review.class), anyBoolean())).thenReturn(expectedDto);
-
-            // then
-            basicReviewService.findById(reviewId, userId);
-
-            // verify
-            verify(mockReview).updateBookTitle(eq(newTitle)); // 책 제목 업데이트 호출 확인
-            verify(mockReview, never()).updateReviewerNickName(any());
-            verify(mockReview, never()).updateBookThumbnail(any());
-        }
+            when(reviewMapper.toDto(mockReview, false)).thenReturn(expectedDto);
 
-        @Test
-        @DisplayName("리뷰 조회 시 썸네일이 null에서 값으로 변경된 경우 동기화")
-        void findById_WhenThumbnailFromNullToValue_ShouldSyncThumbnail() {
             // when
-            String newThumbnailUrl = "http://new-thumbnail.jpg";
-
-            // 기대하는 Dto
-            ReviewDto expectedDto = new ReviewDto(
-                    testReview.getId(),
-                    testBook.getId(),
-                    testBook.getTitle(),
-                    testBook.getThumbnailUrl(),
-                    testUser.getId(),
-                    testUser.getNickname(),
-                    testReview.getContent(),
-                    testReview.getRating(),
-                    testReview.getLikeCount(),
-                    testReview.getCommentCount(),
-                    true, // likedByMe
-                    testReview.getCreatedAt(),
-                    testReview.getUpdatedAt()
-            );
-
-            // Mock 객체들 생성
-            Review mockReview = mock(Review.class);
-            User mockUser = mock(User.class);
-            Book mockBook = mock(Book.class);
-
-            // Mock 설정 (썸네일이 null에서 값으로 변경)
-            when(mockReview.getBookThumbnailUrl()).thenReturn(null);
-            when(mockReview.getBook()).thenReturn(mockBook);
-            when(mockBook.getThumbnailUrl()).thenReturn(newThumbnailUrl);
-
-            // 닉네임과 책 제목은 동일하게 설정
-            when(mockReview.getUserNickName()).thenReturn("sameNick");
-            when(mockReview.getUser()).thenReturn(mockUser);
-            when(mockUser.getNickname()).thenReturn("sameNick");
-            when(mockReview.getBookTitle()).thenReturn("sameTitle");
-            when(mockBook.getTitle()).thenReturn("sameTitle");
-
-            // Repository와 Mapper 설정
-            when(reviewRepository.findById(eq(reviewId))).thenReturn(Optional.of(mockReview));
-            when(reviewLikeRepository.findByUserIdAndReviewId(eq(userId), eq(reviewId)))
-                    .thenReturn(Optional.empty());
-            when(reviewMapper.toDto(any(Review.class), anyBoolean())).thenReturn(expectedDto);
+            ReviewDto result = basicReviewService.findById(reviewId, userId);
 
             // then
-            basicReviewService.findById(reviewId, userId);
-
-            // verify
-            verify(mockReview).updateBookThumbnail(eq(newThumbnailUrl));
+            assertEquals(expectedDto, result);
+            verify(mockReview, never()).getUser();
+            verify(mockReview, never()).getBook();
             verify(mockReview, never()).updateReviewerNickName(any());
             verify(mockReview, never()).updateBookTitle(any());
+            verify(mockReview, never()).updateBookThumbnail(any());
+            verify(reviewRepository, never()).save(any(Review.class));
         }
     }
 }
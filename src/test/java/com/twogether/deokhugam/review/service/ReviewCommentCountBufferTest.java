@@ -0,0 +1,112 @@
+package com.twogether.deokhugam.review.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class ReviewCommentCountBufferTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:10Z");
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<UUID, Long> applied = new LinkedHashMap<>();
+    private final List<Long> deletedIds = new ArrayList<>();
+    private ReviewCommentCountBuffer buffer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        buffer = new ReviewCommentCountBuffer(jdbcTemplate, mock(PlatformTransactionManager.class), meterRegistry,
+            100, 10, Clock.fixed(NOW, ZoneOffset.UTC));
+        doAnswer(invocation -> {
+            Collection<Map.Entry<UUID, Long>> batch = invocation.getArgument(1);
+            batch.forEach(entry -> applied.put(entry.getKey(), entry.getValue()));
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(startsWith("UPDATE reviews"), anyCollection(), anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+        doAnswer(invocation -> {
+            Collection<Object> rows = invocation.getArgument(1);
+            rows.forEach(row -> deletedIds.add(((ReviewCommentCountBuffer.DeltaRow) row).id()));
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(startsWith("DELETE FROM review_comment_count_delta"), anyCollection(), anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("증감분 로그를 리뷰별로 합쳐 한 번씩만 갱신하고, 반영한 로그는 삭제")
+    void flush_mergesDeltasPerReview() {
+        UUID busyReview = UUID.randomUUID();
+        UUID deletedReview = UUID.randomUUID();
+        UUID unchangedReview = UUID.randomUUID();
+        claimRows(List.of(
+            row(1, busyReview, 1, NOW.minusSeconds(3)),
+            row(2, busyReview, 1, NOW.minusSeconds(2)),
+            row(3, deletedReview, -1, NOW.minusSeconds(2)),
+            row(4, unchangedReview, 1, NOW.minusSeconds(1)),
+            row(5, unchangedReview, -1, NOW.minusSeconds(1))
+        ));
+
+        buffer.flush();
+
+        // 합계가 0인 리뷰는 UPDATE 대상에서 빠지지만 로그는 함께 정리
+        assertThat(applied).containsOnly(Map.entry(busyReview, 2L), Map.entry(deletedReview, -1L));
+        assertThat(deletedIds).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(meterRegistry.get("review.comment-count.flush.batch-size").summary().totalAmount()).isEqualTo(5);
+        assertThat(meterRegistry.get("review.comment-count.flush.lag").timer().max(TimeUnit.SECONDS))
+            .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 로그를 지우지 않고 다음 주기로 넘김")
+    @SuppressWarnings("unchecked")
+    void flush_keepsLogOnFailure() {
+        claimRows(List.of(row(1, UUID.randomUUID(), 1, NOW)));
+        doThrow(new CannotAcquireLockException("deadlock"))
+            .when(jdbcTemplate).batchUpdate(startsWith("UPDATE reviews"), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+
+        buffer.flush();
+
+        assertThat(deletedIds).isEmpty();
+        assertThat(meterRegistry.get("review.comment-count.flushes").tag("result", "failure").counter().count())
+            .isEqualTo(1);
+    }
+
+    private static ReviewCommentCountBuffer.DeltaRow row(long id, UUID reviewId, int delta, Instant createdAt) {
+        return new ReviewCommentCountBuffer.DeltaRow(id, reviewId, delta, createdAt);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void claimRows(List<ReviewCommentCountBuffer.DeltaRow> rows) {
+        when(jdbcTemplate.query(startsWith("SELECT id, review_id"), any(RowMapper.class), eq(100)))
+            .thenReturn((List) rows);
+    }
+}
@@ -0,0 +1,147 @@
+package com.twogether.deokhugam.review.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.twogether.deokhugam.review.entity.ReviewLike;
+import com.twogether.deokhugam.review.entity.ReviewLikePK;
+import com.twogether.deokhugam.review.repository.ReviewLikeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+class ReviewLikeCacheTest {
+
+    private final ReviewLikeRepository reviewLikeRepository = mock(ReviewLikeRepository.class);
+    private final UUID userId = UUID.randomUUID();
+    private ReviewLikeCache reviewLikeCache;
+
+    @BeforeEach
+    void setUp() {
+        reviewLikeCache = new ReviewLikeCache(reviewLikeRepository, new SimpleMeterRegistry(),
+            DataSize.ofMegabytes(1), Duration.ofMinutes(10), 3);
+    }
+
+    @Test
+    @DisplayName("사용자의 좋아요 집합은 한 번만 읽고 이후 likedByMe는 메모리에서 판별")
+    void likedAmong_loadsOncePerUser() {
+        UUID liked = UUID.randomUUID();
+        UUID notLiked = UUID.randomUUID();
+        when(reviewLikeRepository.findLikedReviewIds(eq(userId), any(Pageable.class))).thenReturn(List.of(liked));
+
+        assertThat(reviewLikeCache.likedAmong(userId, List.of(liked, notLiked)))
+            .isEqualTo(Map.of(liked, true, notLiked, false));
+        assertThat(reviewLikeCache.isLiked(userId, liked)).isTrue();
+        assertThat(reviewLikeCache.isLiked(null, liked)).isFalse();
+
+        verify(reviewLikeRepository, times(1)).findLikedReviewIds(eq(userId), any(Pageable.class));
+        verify(reviewLikeRepository, never()).findByUserIdAndReviewIdIn(any(), any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 좋아요/취소는 커밋된 뒤에 사용자 항목을 지워 DB에서 다시 적재")
+    void onToggle_invalidatesAfterCommit() {
+        UUID reviewId = UUID.randomUUID();
+        when(reviewLikeRepository.findLikedReviewIds(eq(userId), any(Pageable.class)))
+            .thenReturn(List.of())
+            .thenReturn(List.of(reviewId));
+        assertThat(reviewLikeCache.isLiked(userId, reviewId)).isFalse();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            reviewLikeCache.onToggle(userId);
+            assertThat(reviewLikeCache.isLiked(userId, reviewId)).isFalse();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(reviewLikeCache.isLiked(userId, reviewId)).isTrue();
+        verify(reviewLikeRepository, times(2)).findLikedReviewIds(eq(userId), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("두 토글의 커밋 후 처리가 역순으로 실행되어도 마지막으로 커밋된 DB 상태를 보여줌")
+    void onToggle_outOfOrderAfterCommit_showsCommittedState() {
+        UUID reviewId = UUID.randomUUID();
+        // 좋아요 → 취소가 차례로 커밋되어 DB에는 취소 상태
+        when(reviewLikeRepository.findLikedReviewIds(eq(userId), any(Pageable.class)))
+            .thenReturn(List.of(reviewId))
+            .thenReturn(List.of());
+        assertThat(reviewLikeCache.isLiked(userId, reviewId)).isTrue();
+
+        List<TransactionSynchronization> hooks = new ArrayList<>();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            reviewLikeCache.onToggle(userId);
+            reviewLikeCache.onToggle(userId);
+            hooks.addAll(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        hooks.get(1).afterCommit();
+        hooks.get(0).afterCommit();
+
+        assertThat(reviewLikeCache.isLiked(userId, reviewId)).isFalse();
+    }
+
+    @Test
+    @DisplayName("좋아요가 상한보다 많은 사용자는 캐시하지 않고 DB에서 조회")
+    void likedAmong_fallsBackToQueryForHeavyUser() {
+        List<UUID> manyLikes = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            manyLikes.add(UUID.randomUUID());
+        }
+        UUID reviewId = manyLikes.get(0);
+        ReviewLike reviewLike = mock(ReviewLike.class);
+        when(reviewLike.getReviewLikePK()).thenReturn(new ReviewLikePK(reviewId, userId));
+        when(reviewLike.isLiked()).thenReturn(true);
+        when(reviewLikeRepository.findLikedReviewIds(eq(userId), any(Pageable.class))).thenReturn(manyLikes);
+        when(reviewLikeRepository.findByUserIdAndReviewIdIn(userId, List.of(reviewId))).thenReturn(List.of(reviewLike));
+
+        assertThat(reviewLikeCache.likedAmong(userId, List.of(reviewId))).isEqualTo(Map.of(reviewId, true));
+        assertThat(reviewLikeCache.likedAmong(userId, List.of(reviewId))).isEqualTo(Map.of(reviewId, true));
+
+        // 상한 초과 여부는 한 번만 확인하고 이후에는 바로 DB 조회
+        verify(reviewLikeRepository, times(1)).findLikedReviewIds(eq(userId), any(Pageable.class));
+        verify(reviewLikeRepository, times(2)).findByUserIdAndReviewIdIn(userId, List.of(reviewId));
+    }
+
+    @Test
+    @DisplayName("좋아요 집합은 UUID 정렬 순서(부호 있는 비교)를 유지하며 추가/삭제")
+    void likedReviewSet_keepsOrderOnWithAndWithout() {
+        UUID negative = new UUID(-1L, 5L);
+        UUID small = new UUID(1L, 2L);
+        UUID large = new UUID(1L, 3L);
+        LikedReviewSet likedSet = LikedReviewSet.of(List.of(large, negative));
+
+        LikedReviewSet added = likedSet.with(small).with(small);
+        assertThat(added.size()).isEqualTo(3);
+        assertThat(added.contains(negative)).isTrue();
+        assertThat(added.contains(small)).isTrue();
+        assertThat(added.contains(large)).isTrue();
+        assertThat(added.contains(new UUID(1L, 4L))).isFalse();
+
+        LikedReviewSet removed = added.without(negative).without(large);
+        assertThat(removed.size()).isEqualTo(1);
+        assertThat(removed.contains(small)).isTrue();
+        assertThat(removed.without(small)).isSameAs(LikedReviewSet.EMPTY);
+        assertThat(likedSet.size()).isEqualTo(2);
+    }
+}
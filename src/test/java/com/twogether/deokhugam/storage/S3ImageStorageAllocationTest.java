@@ -0,0 +1,171 @@
+package com.twogether.deokhugam.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * 업로드 1회당 힙 할당량 비교 (기존 byte[] 방식 vs 스트리밍 방식)
+ * <p>
+ * 실제 요청과 같이 디스크에 임시 저장된 멀티파트 파일을 올리고,
+ * S3 클라이언트 대신 요청 본문을 끝까지 읽기만 하는 mock으로 전송 과정의 할당량을 스레드 단위로 측정한다.
+ */
+class S3ImageStorageAllocationTest {
+
+    private static final int FILE_SIZE = 4 * 1024 * 1024;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 5;
+
+    @TempDir
+    Path tempDir;
+
+    private final S3Client s3Client = mock(S3Client.class);
+    private final S3ImageStorage s3ImageStorage = new S3ImageStorage(s3Client, mock(S3Presigner.class));
+    private final com.sun.management.ThreadMXBean threadMXBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(s3ImageStorage, "bucketName", "test-bucket");
+        ReflectionTestUtils.setField(s3ImageStorage, "region", "ap-northeast-2");
+        // 내용 해시 키 중복 확인에서 항상 새 이미지로 판단되도록 설정 (PUT 경로 측정)
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenThrow(NoSuchKeyException.builder().build());
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            drain(invocation.getArgument(1));
+            return PutObjectResponse.builder().eTag("mock-etag").build();
+        });
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드는 파일 크기만큼의 힙 복사본을 만들지 않음")
+    void streamingUpload_allocatesFarLessThanByteArrayUpload() throws IOException {
+        // 같은 내용은 업로드를 생략하므로 회차마다 내용이 다른 파일을 사용
+        List<MultipartFile> files = diskBackedFiles(WARMUP + ITERATIONS, FILE_SIZE);
+
+        long before = allocatedPerUpload(i -> {
+            // 변경 전 방식: 파일 전체를 읽은 뒤 RequestBody.fromBytes가 한 번 더 복사
+            PutObjectRequest request = PutObjectRequest.builder().bucket("test-bucket").key("before.jpg").build();
+            s3Client.putObject(request, RequestBody.fromBytes(files.get(i).getBytes()));
+        });
+        long after = allocatedPerUpload(i -> s3ImageStorage.uploadImage(files.get(i), "bookThumbnail/"));
+
+        // 측정값은 실패 메시지로만 남김: byte[] 방식은 파일 크기의 두 배 이상, 스트리밍은 1/4 미만이어야 함
+        assertThat(before)
+            .as("byte[] 방식 업로드 1회당 할당량: %d바이트 (파일 %d바이트)", before, FILE_SIZE)
+            .isGreaterThanOrEqualTo(2L * FILE_SIZE);
+        assertThat(after)
+            .as("업로드 1회당 할당량: byte[] %d바이트, 스트리밍 %d바이트", before, after)
+            .isLessThan(FILE_SIZE / 4);
+    }
+
+    private long allocatedPerUpload(Upload upload) throws IOException {
+        for (int i = 0; i < WARMUP; i++) {
+            upload.run(i);
+        }
+        long threadId = Thread.currentThread().getId();
+        long start = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = WARMUP; i < WARMUP + ITERATIONS; i++) {
+            upload.run(i);
+        }
+        return (threadMXBean.getThreadAllocatedBytes(threadId) - start) / ITERATIONS;
+    }
+
+    private static void drain(RequestBody body) throws IOException {
+        byte[] buffer = new byte[8192];
+        try (InputStream in = body.contentStreamProvider().newStream()) {
+            while (in.read(buffer) != -1) {
+                // 전송된 것으로 간주
+            }
+        }
+    }
+
+    private List<MultipartFile> diskBackedFiles(int count, int size) throws IOException {
+        byte[] content = new byte[size];
+        new Random(42).nextBytes(content);
+        List<MultipartFile> files = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            content[0] = (byte) i;
+            files.add(new DiskMultipartFile(Files.write(tempDir.resolve("cover" + i + ".jpg"), content)));
+        }
+        return files;
+    }
+
+    @FunctionalInterface
+    private interface Upload {
+        void run(int index) throws IOException;
+    }
+
+    /**
+     * 서블릿 컨테이너가 임시 파일로 받아 둔 업로드 파일과 같이 getBytes() 호출 시 디스크에서 새로 읽음
+     */
+    private record DiskMultipartFile(Path file) implements MultipartFile {
+
+        @Override
+        public String getName() {
+            return "thumbnailImage";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return file.getFileName().toString();
+        }
+
+        @Override
+        public String getContentType() {
+            return "image/jpeg";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getSize() == 0;
+        }
+
+        @Override
+        public long getSize() {
+            try {
+                return Files.size(file);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public byte[] getBytes() throws IOException {
+            return Files.readAllBytes(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(file);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.copy(file, dest.toPath());
+        }
+    }
+}
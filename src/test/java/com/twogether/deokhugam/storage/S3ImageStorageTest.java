@@ -3,11 +3,21 @@ package com.twogether.deokhugam.storage;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,10 +26,21 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 /**
  * S3ImageStorage 클래스 테스트
@@ -33,6 +54,12 @@ class S3ImageStorageTest {
     @Mock  // Mock 객체 생성
     private S3Client s3Client;
 
+    // presigned URL 서명은 네트워크 없이 로컬에서 계산되므로 실제 presigner 사용
+    private final S3Presigner s3Presigner = S3Presigner.builder()
+        .region(Region.AP_NORTHEAST_2)
+        .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test-access", "test-secret")))
+        .build();
+
     private S3ImageStorage s3ImageStorage;
 
     // 테스트용 상수들
@@ -41,10 +68,11 @@ class S3ImageStorageTest {
 
     @BeforeEach  // 각 테스트 실행 전에 호출
     void setUp() {
-        s3ImageStorage = new S3ImageStorage(s3Client);  // Mock 객체 주입해서 서비스 생성
+        s3ImageStorage = new S3ImageStorage(s3Client, s3Presigner);  // Mock 객체 주입해서 서비스 생성
 
         // private 필드에 테스트 값 설정 (ReflectionTestUtils 사용)
         ReflectionTestUtils.setField(s3ImageStorage, "bucketName", TEST_BUCKET_NAME);
+        ReflectionTestUtils.setField(s3ImageStorage, "region", "ap-northeast-2");
     }
 
     @Test
@@ -54,6 +82,7 @@ class S3ImageStorageTest {
             "test-image", "test.jpg", "image/jpeg", "test-content".getBytes()
         );
 
+        givenNoExistingObject();
         // S3Client에서 예외 발생하도록 설정
         when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
             .thenThrow(new RuntimeException("S3 연결 실패"));
@@ -124,6 +153,7 @@ class S3ImageStorageTest {
         String[] extensions = {"jpg", "jpg", "png", "webp"};
 
         // S3Client mock 응답 설정
+        givenNoExistingObject();
         PutObjectResponse mockResponse = PutObjectResponse.builder()
             .eTag("mock-etag")
             .build();
@@ -136,7 +166,7 @@ class S3ImageStorageTest {
                 "test-image",
                 "test." + extensions[i],
                 supportedTypes[i],
-                "test content".getBytes()
+                ("test content " + i).getBytes()
             );
 
             String result = s3ImageStorage.uploadImage(imageFile, TEST_FOLDER_PATH);
@@ -157,6 +187,7 @@ class S3ImageStorageTest {
         );
 
         // S3Client mock 응답 설정
+        givenNoExistingObject();
         PutObjectResponse mockResponse = PutObjectResponse.builder()
             .eTag("mock-etag")
             .build();
@@ -182,6 +213,7 @@ class S3ImageStorageTest {
         );
 
         // S3Client mock 응답 설정
+        givenNoExistingObject();
         PutObjectResponse mockResponse = PutObjectResponse.builder()
             .eTag("mock-etag")
             .build();
@@ -197,4 +229,171 @@ class S3ImageStorageTest {
         assertThat(result1).contains(TEST_FOLDER_PATH);
         assertThat(result2).contains(TEST_FOLDER_PATH);
     }
+
+    @Test
+    void 같은_내용의_이미지는_같은_키로_한번만_업로드() throws IOException {
+        // Given: 파일명은 다르지만 내용이 같은 이미지 2개
+        MultipartFile first = new MockMultipartFile("a", "cover.jpg", "image/jpeg", "same content".getBytes());
+        MultipartFile second = new MockMultipartFile("b", "other.jpg", "image/jpeg", "same content".getBytes());
+        givenNoExistingObject();
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+            .thenReturn(PutObjectResponse.builder().eTag("mock-etag").build());
+
+        // When
+        String result1 = s3ImageStorage.uploadImage(first, TEST_FOLDER_PATH);
+        String result2 = s3ImageStorage.uploadImage(second, TEST_FOLDER_PATH);
+
+        // Then: 두 번째는 로컬 인덱스로 판단해 HEAD/PUT 모두 생략
+        assertThat(result1).isEqualTo(result2).contains(TEST_FOLDER_PATH + sha256("same content"));
+        verify(s3Client, times(1)).headObject(any(HeadObjectRequest.class));
+        verify(s3Client, times(1)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @Test
+    void 다른_인스턴스가_올린_이미지는_HEAD로_확인해_업로드_생략() throws IOException {
+        // Given: 버킷에 이미 같은 내용의 객체가 있음
+        MultipartFile imageFile = new MockMultipartFile("a", "cover.png", "image/png", "stored content".getBytes());
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder().build());
+
+        // When
+        String result = s3ImageStorage.uploadImage(imageFile, TEST_FOLDER_PATH);
+
+        // Then
+        assertThat(result).endsWith(TEST_FOLDER_PATH + sha256("stored content") + ".png");
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @Test
+    void 업로드를_생략한_이미지가_저장_전에_삭제되면_인덱스를_거치지_않고_다시_업로드() throws IOException {
+        // Given: 업로드 시점에는 객체가 있어 PUT을 생략했지만, 도서 저장 전에 삭제 작업이 지움
+        MultipartFile imageFile = new MockMultipartFile("a", "cover.png", "image/png", "stored content".getBytes());
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+            .thenReturn(HeadObjectResponse.builder().build())
+            .thenThrow(NoSuchKeyException.builder().build());
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+            .thenReturn(PutObjectResponse.builder().eTag("mock-etag").build());
+        String url = s3ImageStorage.uploadImage(imageFile, TEST_FOLDER_PATH);
+
+        // When: 로컬 인덱스에는 키가 남아 있어도 HEAD로 다시 확인
+        boolean restored = s3ImageStorage.restoreIfMissing(url, imageFile);
+
+        // Then
+        assertThat(restored).isTrue();
+        verify(s3Client, times(2)).headObject(any(HeadObjectRequest.class));
+        verify(s3Client, times(1)).putObject(
+            argThat((PutObjectRequest req) -> req.key().equals(TEST_FOLDER_PATH + sha256("stored content") + ".png")),
+            any(RequestBody.class));
+    }
+
+    @Test
+    void 저장_후에도_객체가_있으면_다시_업로드하지_않음() throws IOException {
+        // Given
+        MultipartFile imageFile = new MockMultipartFile("a", "cover.png", "image/png", "stored content".getBytes());
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder().build());
+        String url = s3ImageStorage.uploadImage(imageFile, TEST_FOLDER_PATH);
+
+        // When
+        boolean restored = s3ImageStorage.restoreIfMissing(url, imageFile);
+
+        // Then
+        assertThat(restored).isFalse();
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @Test
+    void 직접_업로드_URL_발급_시_타입과_크기를_서명에_포함() {
+        // When
+        PresignedUpload upload = s3ImageStorage.presignUpload(TEST_FOLDER_PATH, "image/png", 2048);
+
+        // Then
+        assertThat(upload.key()).startsWith(TEST_FOLDER_PATH).endsWith(".png");
+        assertThat(upload.uploadUrl()).contains(upload.key()).contains("X-Amz-Signature=");
+        assertThat(upload.headers()).containsEntry("content-type", "image/png").doesNotContainKey("host");
+        assertThat(upload.expiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    void 지원하지_않는_형식은_직접_업로드_URL_발급_거부() {
+        assertThatThrownBy(() -> s3ImageStorage.presignUpload(TEST_FOLDER_PATH, "image/gif", 2048))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("지원하지 않는 이미지 형식입니다. 지원 형식: JPEG, JPG, PNG, WebP");
+    }
+
+    @Test
+    void 직접_업로드된_이미지_확인_후_공개_URL_반환() {
+        // Given
+        String key = TEST_FOLDER_PATH + "abc_20250711.png";
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+            .thenReturn(HeadObjectResponse.builder().contentType("image/png").contentLength(2048L).build());
+
+        // When
+        String result = s3ImageStorage.confirmUpload(TEST_FOLDER_PATH, key);
+
+        // Then
+        assertThat(result).isEqualTo("https://test-bucket.s3.ap-northeast-2.amazonaws.com/" + key);
+    }
+
+    @Test
+    void 다른_경로의_키나_업로드되지_않은_키는_거부() {
+        // Given
+        givenNoExistingObject();
+
+        // When & Then: 발급 경로 밖의 키는 HEAD 없이 거부
+        assertThatThrownBy(() -> s3ImageStorage.confirmUpload(TEST_FOLDER_PATH, "profile/abc.png"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("유효하지 않은 업로드 키입니다.");
+        assertThatThrownBy(() -> s3ImageStorage.confirmUpload(TEST_FOLDER_PATH, TEST_FOLDER_PATH + "missing.png"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("업로드된 이미지를 찾을 수 없습니다. 업로드를 먼저 완료해주세요.");
+        verify(s3Client, times(1)).headObject(any(HeadObjectRequest.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 여러_객체는_1000개씩_나눠_일괄_삭제하고_실패한_키만_반환() {
+        // Given: 1500개 중 마지막 키만 S3가 삭제 실패로 응답
+        List<String> keys = IntStream.range(0, 1500).mapToObj(i -> TEST_FOLDER_PATH + i + ".png").toList();
+        List<Integer> batchSizes = new ArrayList<>();
+        when(s3Client.deleteObjects(any(Consumer.class))).thenAnswer(invocation -> {
+            DeleteObjectsRequest.Builder builder = DeleteObjectsRequest.builder();
+            ((Consumer<DeleteObjectsRequest.Builder>) invocation.getArgument(0)).accept(builder);
+            DeleteObjectsRequest request = builder.build();
+            assertThat(request.delete().quiet()).isTrue();
+            batchSizes.add(request.delete().objects().size());
+            List<S3Error> errors = batchSizes.size() == 2
+                ? List.of(S3Error.builder().key(keys.get(1499)).code("AccessDenied").message("Access Denied").build())
+                : List.of();
+            return DeleteObjectsResponse.builder().errors(errors).build();
+        });
+
+        // When
+        List<String> failed = s3ImageStorage.deleteObjects(keys);
+
+        // Then
+        assertThat(batchSizes).containsExactly(1000, 500);
+        assertThat(failed).containsExactly(keys.get(1499));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 일괄_삭제_요청이_실패하면_묶음의_키_전체를_실패로_반환() {
+        // Given
+        List<String> keys = List.of(TEST_FOLDER_PATH + "a.png", TEST_FOLDER_PATH + "a_w96.jpg");
+        when(s3Client.deleteObjects(any(Consumer.class))).thenThrow(SdkClientException.create("connection reset"));
+
+        // When & Then
+        assertThat(s3ImageStorage.deleteObjects(keys)).containsExactlyElementsOf(keys);
+    }
+
+    private void givenNoExistingObject() {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenThrow(NoSuchKeyException.builder().build());
+    }
+
+    private static String sha256(String content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content.getBytes()));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -1,33 +1,48 @@
 package com.twogether.deokhugam.storage;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
-import java.io.File;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
-import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import org.springframework.util.unit.DataSize;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
 /**
  * S3LogStorage 클래스의 단위 테스트
@@ -40,9 +55,14 @@ class S3LogStorageTest {
     @Mock
     private S3Client s3Client;  // S3Client를 모킹
 
-    @InjectMocks
     private S3LogStorage s3LogStorage;  // 테스트 대상 객체
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // PutObject로 올라간 세그먼트 (키, 압축된 본문)
+    private final List<String> uploadedKeys = new ArrayList<>();
+    private final List<byte[]> uploadedBodies = new ArrayList<>();
+
     @TempDir
     Path tempDir;  // 임시 디렉토리 (로그 파일 생성용)
 
@@ -52,109 +72,207 @@ class S3LogStorageTest {
 
     @BeforeEach  // 각 테스트 실행 전에 호출
     void setUp() {
-        // @Value로 주입되는 필드들을 수동으로 설정
-        ReflectionTestUtils.setField(s3LogStorage, "bucketName", TEST_BUCKET);
-        ReflectionTestUtils.setField(s3LogStorage, "region", TEST_REGION);
-        ReflectionTestUtils.setField(s3LogStorage, "logPath", tempDir.toString());
-        ReflectionTestUtils.setField(s3LogStorage, "logFileName", TEST_LOG_FILE_NAME);
+        s3LogStorage = newStorage();
     }
 
     @Test
     @DisplayName("로그 파일이 존재하지 않을 때 업로드가 스킵되는지 테스트")
-    void uploadDailyLogToS3_파일없음_스킵() {
+    void shipLogs_파일없음_스킵() {
         // Given: 로그 파일을 생성하지 않음 (존재하지 않는 상태)
 
         // When: 업로드 메서드 실행
-        assertDoesNotThrow(() -> s3LogStorage.uploadDailyLogToS3());
+        assertDoesNotThrow(() -> s3LogStorage.shipLogs());
 
         // Then: S3Client가 호출되지 않았는지 확인
         verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
     }
 
     @Test
-    @DisplayName("빈 로그 파일(0바이트)일 때 업로드가 스킵되는지 테스트")
-    void uploadDailyLogToS3_빈파일_스킵() throws IOException {
+    @DisplayName("빈 지난 로그 파일(0바이트)은 업로드하지 않고 로컬에서 삭제")
+    void shipLogs_빈파일_업로드없이_삭제() throws IOException {
         // Given: 빈 로그 파일 생성
-        LocalDate yesterday = LocalDate.now().minusDays(1);
-        String dateString = yesterday.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        String logFileName = TEST_LOG_FILE_NAME + "." + dateString + ".log";
-
-        Path logFile = tempDir.resolve(logFileName);
+        Path logFile = tempDir.resolve(rolledFileName(LocalDate.now().minusDays(1)));
         Files.createFile(logFile);  // 빈 파일 생성 (0바이트)
 
         // When: 업로드 메서드 실행
-        assertDoesNotThrow(() -> s3LogStorage.uploadDailyLogToS3());
+        assertDoesNotThrow(() -> s3LogStorage.shipLogs());
 
         // Then: S3Client가 호출되지 않았는지 확인
         verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
 
-        // 빈 파일은 삭제되지 않고 그대로 남아있어야 함
-        assertTrue(Files.exists(logFile), "빈 파일은 업로드되지 않아 삭제되지 않아야 함");
+        // 이름이 바뀐 지난 로그는 더 이상 쓰이지 않으므로 빈 파일도 남기지 않음
+        assertFalse(Files.exists(logFile), "빈 지난 로그 파일은 삭제되어야 함");
     }
 
     @Test
-    @DisplayName("S3 업로드 실패 시 예외가 발생하는지 테스트")
-    void uploadDailyLogToS3_S3업로드실패_예외발생() throws IOException {
+    @DisplayName("S3 업로드 실패 시 정해진 횟수만큼 재시도하고 로컬 파일을 보존하는지 테스트")
+    void shipLogs_S3업로드실패_재시도후_보존() throws IOException {
         // Given: 테스트 로그 파일 생성
-        LocalDate yesterday = LocalDate.now().minusDays(1);
-        String dateString = yesterday.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        String logFileName = TEST_LOG_FILE_NAME + "." + dateString + ".log";
-
-        Path logFile = tempDir.resolve(logFileName);
-        String logContent = "테스트 로그 내용";
-        Files.write(logFile, logContent.getBytes());
+        Path logFile = tempDir.resolve(rolledFileName(LocalDate.now().minusDays(1)));
+        Files.write(logFile, "테스트 로그 내용\n".getBytes());
 
         // S3Client 모킹 - putObject 호출 시 예외 발생
         when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
             .thenThrow(new RuntimeException("S3 연결 실패"));
 
         // When & Then: 예외가 발생하지만 메서드는 정상적으로 완료되어야 함
-        // (uploadDailyLogToS3 메서드 내부에서 예외를 catch하고 로그로 남김)
-        assertDoesNotThrow(() -> s3LogStorage.uploadDailyLogToS3());
+        assertDoesNotThrow(() -> s3LogStorage.shipLogs());
 
-        // S3Client 호출 확인
-        verify(s3Client, times(1)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        // 최대 시도 횟수(3회)만큼 호출
+        verify(s3Client, times(3)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
 
         // 업로드 실패 시 로컬 파일은 삭제되지 않아야 함
         assertTrue(Files.exists(logFile), "업로드 실패 시 로컬 파일이 보존되어야 함");
+        assertThat(meterRegistry.get("log.shipping.segments").tag("result", "failure").counter().count())
+            .isEqualTo(1.0);
     }
 
     @Test
-    @DisplayName("대용량 로그 파일 업로드 테스트")
-    void 대용량_로그파일_업로드() throws IOException {
+    @DisplayName("지난 로그 파일은 gzip으로 압축해 업로드한 뒤 로컬에서 삭제")
+    void 대용량_로그파일_압축_업로드() throws IOException {
         // Given: 큰 로그 파일 생성 (1MB)
         LocalDate yesterday = LocalDate.now().minusDays(1);
-        String dateString = yesterday.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        String logFileName = TEST_LOG_FILE_NAME + "." + dateString + ".log";
+        Path logFile = tempDir.resolve(rolledFileName(yesterday));
+        byte[] content = repeatedLogLines(1024 * 1024);
+        Files.write(logFile, content);
+        givenPutObjectCaptured();
 
-        Path logFile = tempDir.resolve(logFileName);
+        // When: 업로드 실행
+        assertDoesNotThrow(() -> s3LogStorage.shipLogs());
+
+        // Then: 압축된 본문을 풀면 원본과 같고, 압축 후 크기는 원본보다 훨씬 작음
+        assertThat(uploadedKeys).containsExactly(String.format("logs/%d/%02d/application.%s.000000000000.log.gz",
+            yesterday.getYear(), yesterday.getMonthValue(), yesterday));
+        assertThat(gunzip(uploadedBodies.get(0))).isEqualTo(content);
+        assertThat(uploadedBodies.get(0).length).isLessThan(content.length / 10);
+        assertFalse(Files.exists(logFile), "업로드가 끝난 지난 로그 파일은 삭제되어야 함");
+        assertThat(meterRegistry.get("log.shipping.bytes").tag("type", "raw").counter().count())
+            .isEqualTo(content.length);
+        assertThat(meterRegistry.get("log.shipping.compression-ratio").gauge().value()).isGreaterThan(10.0);
+    }
 
-        // 1MB 크기의 로그 내용 생성
-        StringBuilder largeContent = new StringBuilder();
-        String logLine = "2025-07-23 10:00:00.000 [main] INFO - 대용량 테스트 로그 메시지입니다.\n";
-        int targetSize = 1024 * 1024;  // 1MB
-        while (largeContent.length() < targetSize) {
-            largeContent.append(logLine);
-        }
+    @Test
+    @DisplayName("현재 로그 파일은 지난번 이후 추가된 완성된 줄만 올리고, 재시작 후에도 이어서 올림")
+    void 현재_로그파일_증분_업로드() throws IOException {
+        // Given: 두 줄과 쓰는 중인 줄
+        Path active = tempDir.resolve(TEST_LOG_FILE_NAME + ".log");
+        Files.write(active, "line-1\nline-2\npartial".getBytes());
+        givenPutObjectCaptured();
+
+        // When: 첫 업로드 → 줄 추가 → 재시작한 인스턴스로 다시 업로드
+        s3LogStorage.shipLogs();
+        Files.write(active, "-done\nline-4\n".getBytes(), StandardOpenOption.APPEND);
+        newStorage().shipLogs();
+        newStorage().shipLogs();
+
+        // Then: 각 구간이 한 번씩만 업로드되고, 이어 붙이면 원본과 같음
+        assertThat(uploadedKeys).hasSize(2);
+        assertThat(uploadedKeys.get(0)).endsWith(".000000000000.log.gz");
+        assertThat(uploadedKeys.get(1)).endsWith(".000000000014.log.gz");
+        assertThat(new String(gunzip(uploadedBodies.get(0)))).isEqualTo("line-1\nline-2\n");
+        assertThat(new String(gunzip(uploadedBodies.get(1)))).isEqualTo("partial-done\nline-4\n");
+        assertTrue(Files.exists(active), "현재 로그 파일은 삭제하지 않아야 함");
+    }
 
-        Files.write(logFile, largeContent.toString().getBytes());
+    @Test
+    @DisplayName("날짜가 바뀌어 현재 로그 파일 이름이 바뀌면 남은 부분만 올리고 삭제")
+    void 로그파일_교체시_이어서_업로드() throws IOException {
+        // Given: 현재 로그 파일 일부를 이미 업로드
+        Path active = tempDir.resolve(TEST_LOG_FILE_NAME + ".log");
+        Files.write(active, "day-1 a\n".getBytes());
+        givenPutObjectCaptured();
+        s3LogStorage.shipLogs();
+
+        // logback과 같이 이름을 바꾸고 새 파일 생성
+        Files.write(active, "day-1 b\n".getBytes(), StandardOpenOption.APPEND);
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        Path rolled = tempDir.resolve(rolledFileName(yesterday));
+        Files.move(active, rolled);
+        Files.write(active, "day-2 a\n".getBytes());
+
+        // When
+        s3LogStorage.shipLogs();
+
+        // Then: 지난 파일은 업로드되지 않은 부분만, 새 파일은 처음부터
+        assertThat(uploadedKeys).hasSize(3);
+        assertThat(uploadedKeys.get(1)).endsWith("application." + yesterday + ".000000000008.log.gz");
+        assertThat(new String(gunzip(uploadedBodies.get(1)))).isEqualTo("day-1 b\n");
+        assertThat(new String(gunzip(uploadedBodies.get(2)))).isEqualTo("day-2 a\n");
+        assertFalse(Files.exists(rolled));
+    }
 
-        // S3Client 모킹
-        PutObjectResponse mockResponse = PutObjectResponse.builder()
-            .eTag("large-file-etag")
-            .build();
-        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
-            .thenReturn(mockResponse);
+    @Test
+    @DisplayName("압축 결과가 파트 크기를 넘으면 멀티파트 업로드로 나눠 전송")
+    void 파트크기_초과시_멀티파트_업로드() throws IOException {
+        // Given: 압축이 거의 되지 않는 내용, 파트 크기 64KB
+        ReflectionTestUtils.setField(s3LogStorage, "partSize", DataSize.ofKilobytes(64));
+        byte[] content = new byte[200 * 1024];
+        new Random(7).nextBytes(content);
+        Path logFile = tempDir.resolve(rolledFileName(LocalDate.now().minusDays(1)));
+        Files.write(logFile, content);
+
+        ByteArrayOutputStream parts = new ByteArrayOutputStream();
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+            .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            parts.write(read(invocation.getArgument(1)));
+            return UploadPartResponse.builder().eTag("etag").build();
+        });
+        when(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+            .thenReturn(CompleteMultipartUploadResponse.builder().build());
+
+        // When
+        s3LogStorage.shipLogs();
+
+        // Then
+        verify(s3Client, times(4)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verify(s3Client, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        assertThat(gunzip(parts.toByteArray())).isEqualTo(content);
+    }
 
-        // When: 업로드 실행
-        assertDoesNotThrow(() -> s3LogStorage.uploadDailyLogToS3());
+    private S3LogStorage newStorage() {
+        S3LogStorage storage = new S3LogStorage(s3Client, meterRegistry);
+        // @Value로 주입되는 필드들을 수동으로 설정
+        ReflectionTestUtils.setField(storage, "bucketName", TEST_BUCKET);
+        ReflectionTestUtils.setField(storage, "region", TEST_REGION);
+        ReflectionTestUtils.setField(storage, "logPath", tempDir.toString());
+        ReflectionTestUtils.setField(storage, "logFileName", TEST_LOG_FILE_NAME);
+        ReflectionTestUtils.setField(storage, "retryBackoff", Duration.ofMillis(1));
+        return storage;
+    }
+
+    private void givenPutObjectCaptured() {
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            uploadedKeys.add(request.key());
+            uploadedBodies.add(read(invocation.getArgument(1)));
+            return PutObjectResponse.builder().eTag("etag").build();
+        });
+    }
 
-        // Then: 파일 크기가 올바르게 전송되었는지 확인
-        ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
-        verify(s3Client).putObject(requestCaptor.capture(), any(RequestBody.class));
+    private static String rolledFileName(LocalDate date) {
+        return TEST_LOG_FILE_NAME + "." + date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) + ".log";
+    }
 
-        PutObjectRequest request = requestCaptor.getValue();
-        assertTrue(request.contentLength() >= targetSize,
-            "대용량 파일의 크기가 올바르게 설정되어야 함");
+    private static byte[] repeatedLogLines(int targetSize) {
+        StringBuilder content = new StringBuilder();
+        String logLine = "2025-07-23 10:00:00.000 [main] INFO - 대용량 테스트 로그 메시지입니다.\n";
+        while (content.length() < targetSize) {
+            content.append(logLine);
+        }
+        return content.toString().getBytes();
+    }
+
+    private static byte[] read(RequestBody body) throws IOException {
+        try (InputStream in = body.contentStreamProvider().newStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
     }
-}
\ No newline at end of file
+}
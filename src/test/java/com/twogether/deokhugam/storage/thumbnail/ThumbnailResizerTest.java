@@ -0,0 +1,80 @@
+package com.twogether.deokhugam.storage.thumbnail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ThumbnailResizerTest {
+
+    @Test
+    @DisplayName("크기별 너비로 줄이고 원본 비율을 유지")
+    void resize_keepsAspectRatio() throws IOException {
+        BufferedImage original = ThumbnailResizer.decode(png(1000, 1500));
+
+        for (ThumbnailSize size : ThumbnailSize.values()) {
+            BufferedImage resized = ThumbnailResizer.resize(original, size.getWidth());
+
+            assertThat(resized.getWidth()).isEqualTo(size.getWidth());
+            assertThat(resized.getHeight()).isEqualTo(size.getWidth() * 3 / 2);
+        }
+    }
+
+    @Test
+    @DisplayName("원본보다 큰 크기로 확대하지 않음")
+    void resize_smallerOriginal_notUpscaled() throws IOException {
+        BufferedImage original = ThumbnailResizer.decode(png(200, 300));
+
+        BufferedImage resized = ThumbnailResizer.resize(original, ThumbnailSize.LARGE.getWidth());
+
+        assertThat(resized.getWidth()).isEqualTo(200);
+        assertThat(resized.getHeight()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("인코딩한 JPEG는 다시 읽을 수 있음")
+    void encodeJpeg_decodable() throws IOException {
+        BufferedImage resized = ThumbnailResizer.resize(ThumbnailResizer.decode(png(1000, 1500)), 240);
+
+        byte[] jpeg = ThumbnailResizer.encodeJpeg(resized);
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(jpeg));
+
+        assertThat(decoded.getWidth()).isEqualTo(240);
+        assertThat(decoded.getHeight()).isEqualTo(360);
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 데이터는 IOException")
+    void decode_notImage_throws() {
+        assertThatThrownBy(() -> ThumbnailResizer.decode("not an image".getBytes(StandardCharsets.UTF_8)))
+            .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("변환본 경로는 원본 경로에서 확장자만 바꿔 만듦")
+    void variantPath() {
+        assertThat(ThumbnailSize.MEDIUM.variantPath("https://bucket.s3.amazonaws.com/bookThumbnail/abc_1.png"))
+            .isEqualTo("https://bucket.s3.amazonaws.com/bookThumbnail/abc_1_w240.jpg");
+        assertThat(ThumbnailSize.SMALL.variantPath("bookThumbnail/abc")).isEqualTo("bookThumbnail/abc_w96.jpg");
+    }
+
+    static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.BLUE);
+        g.fillRect(0, 0, width, height / 2);
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
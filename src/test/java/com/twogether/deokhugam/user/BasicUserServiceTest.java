@@ -5,8 +5,10 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.twogether.deokhugam.review.repository.ReviewRepository;
 import com.twogether.deokhugam.user.dto.UserDto;
 import com.twogether.deokhugam.user.dto.UserLoginRequest;
 import com.twogether.deokhugam.user.dto.UserRegisterRequest;
@@ -20,6 +22,7 @@ import com.twogether.deokhugam.user.exception.UserWithdrawnException;
 import com.twogether.deokhugam.user.mapper.UserMapper;
 import com.twogether.deokhugam.user.repository.UserRepository;
 import com.twogether.deokhugam.user.service.BasicUserService;
+import com.twogether.deokhugam.user.service.UserCache;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
@@ -41,6 +44,12 @@ public class BasicUserServiceTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
     @InjectMocks
     private BasicUserService userService;
 
@@ -170,8 +179,7 @@ public class BasicUserServiceTest {
     @DisplayName("사용자 조회 성공")
     void findUser_Success() {
         // given
-        given(userRepository.findById(eq(userId))).willReturn(Optional.of(user));
-        given(userMapper.toDto(any(User.class))).willReturn(userDto);
+        given(userCache.find(eq(userId))).willReturn(Optional.of(userDto));
 
         // when
         UserDto result = userService.find(userId);
@@ -184,7 +192,7 @@ public class BasicUserServiceTest {
     @DisplayName("존재하지 않는 사용자 조회 시 실패")
     void findUser_WithNonExistentId_ThrowsException() {
         // given
-        given(userRepository.findById(eq(userId))).willReturn(Optional.empty());
+        given(userCache.find(eq(userId))).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> userService.find(userId))
@@ -207,6 +215,8 @@ public class BasicUserServiceTest {
 
         // then
         assertThat(result).isEqualTo(userDto);
+        verify(userCache).invalidate(eq(userId));
+        verify(reviewRepository).updateUserNickname(eq(userId), eq(newNickname));
     }
 
     @Test
@@ -238,6 +248,7 @@ public class BasicUserServiceTest {
         // verify 호출 검증
         verify(userRepository).findById(eq(userId));
         verify(userRepository).existsByNickname(eq(existingNickname));
+        verify(reviewRepository, never()).updateUserNickname(any(), any());
     }
 
     @Test
@@ -251,6 +262,7 @@ public class BasicUserServiceTest {
 
         // then
         verify(userRepository).findById(eq(userId));
+        verify(userCache).invalidate(eq(userId));
         // softDelete() 메소드가 호출되었는지는 user 객체의 상태로 확인
     }
 
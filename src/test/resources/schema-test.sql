@@ -6,6 +6,9 @@
 -- ALTER ROLE twogether SET search_path TO deokhugam;
 
 -- 테이블 초기화
+DROP TABLE IF EXISTS storage_deletion_queue;
+DROP TABLE IF EXISTS review_comment_count_delta;
+DROP TABLE IF EXISTS review_like_count_delta;
 DROP TABLE IF EXISTS notifications;
 DROP TABLE IF EXISTS comments;
 DROP TABLE IF EXISTS review_like;
@@ -26,11 +29,14 @@ CREATE TABLE books (
                        published_date DATE NOT NULL,
                        isbn VARCHAR(13),
                        thumbnail_url TEXT,
+                       thumbnail_variants_ready BOOLEAN NOT NULL DEFAULT false,
                        review_count INTEGER NOT NULL,
                        rating REAL NOT NULL,
+                       rating_sum BIGINT NOT NULL DEFAULT 0,
                        created_at TIMESTAMP NOT NULL,
                        updated_at TIMESTAMP,
-                       is_deleted BOOLEAN NOT NULL
+                       is_deleted BOOLEAN NOT NULL,
+                       search_text TEXT GENERATED ALWAYS AS (LOWER(title || '|' || author || '|' || COALESCE(isbn, '')))
 );
 
 -- 사용자 테이블
@@ -44,6 +50,9 @@ CREATE TABLE users (
                        is_deleted BOOLEAN NOT NULL
 );
 
+-- 1~2글자 검색어용 n-gram 추출 (SCHEMA.sql의 search_short_grams와 같은 결과)
+CREATE ALIAS IF NOT EXISTS SEARCH_SHORT_GRAMS DETERMINISTIC FOR 'com.twogether.deokhugam.common.util.H2SearchFunctions.shortGrams';
+
 -- 리뷰 테이블
 CREATE TABLE reviews (
                          id UUID PRIMARY KEY,
@@ -61,6 +70,8 @@ CREATE TABLE reviews (
                          created_at TIMESTAMP NOT NULL,
                          updated_at TIMESTAMP,
                          is_deleted BOOLEAN NOT NULL,
+                         search_text TEXT GENERATED ALWAYS AS (LOWER(book_title || '|' || user_nickname || '|' || content)),
+                         search_grams VARCHAR ARRAY GENERATED ALWAYS AS (SEARCH_SHORT_GRAMS(LOWER(book_title || '|' || user_nickname || '|' || content))),
 
                          CONSTRAINT fk_reviews_book_id FOREIGN KEY (book_id) REFERENCES books (id),
                          CONSTRAINT fk_reviews_user_id FOREIGN KEY (user_id) REFERENCES users (id)
@@ -163,4 +174,33 @@ CREATE TABLE power_user_ranking (
                                     created_at TIMESTAMP NOT NULL,
 
                                     CONSTRAINT fk_power_user_user_id FOREIGN KEY (user_id) REFERENCES users (id)
-);
\ No newline at end of file
+);
+
+-- S3 객체 삭제 대기열
+CREATE TABLE storage_deletion_queue (
+                                        id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                                        object_key VARCHAR(1024) NOT NULL UNIQUE,
+                                        enqueued_at TIMESTAMP NOT NULL,
+                                        next_attempt_at TIMESTAMP NOT NULL,
+                                        attempts INT NOT NULL DEFAULT 0
+);
+
+-- 리뷰 댓글 수 증감분 로그
+CREATE TABLE review_comment_count_delta (
+                                            id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                                            review_id UUID NOT NULL,
+                                            delta INT NOT NULL,
+                                            created_at TIMESTAMP NOT NULL,
+
+                                            CONSTRAINT fk_review_comment_count_delta_review_id FOREIGN KEY (review_id) REFERENCES reviews (id) ON DELETE CASCADE
+);
+
+-- 리뷰 좋아요 수 증감분 로그
+CREATE TABLE review_like_count_delta (
+                                         id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                                         review_id UUID NOT NULL,
+                                         delta INT NOT NULL,
+                                         created_at TIMESTAMP NOT NULL,
+
+                                         CONSTRAINT fk_review_like_count_delta_review_id FOREIGN KEY (review_id) REFERENCES reviews (id) ON DELETE CASCADE
+);